@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models;
+
+/**
+ * Settings influencing the categorization and binding of the domain model.
+ */
+public interface ModelsSettings {
+	/**
+	 * Whether {@linkplain org.hibernate.models.spi.ClassDetails} and annotation descriptors
+	 * should be created on demand rather than eagerly for every class known to the Jandex index.
+	 * <p/>
+	 * Useful when the supplied index covers large jars of which only a small fraction is managed.
+	 * <p/>
+	 * Default is {@code false}
+	 */
+	String LAZY_CLASS_DETAILS = "hibernate.models.lazy_class_details";
+
+	/**
+	 * Whether managed classes (and {@code package-info} classes) should be loaded in parallel,
+	 * in the background, while the rest of categorization proceeds.
+	 * <p/>
+	 * Useful when class loading from large jars is a significant part of startup time.
+	 * <p/>
+	 * Cannot be combined with bytecode enhancement, as the classes would be loaded before they
+	 * could be enhanced.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see #CLASS_PREFETCH_PARALLELISM
+	 * @see org.hibernate.cfg.BytecodeSettings#ENHANCER_ENABLE_DIRTY_TRACKING
+	 * @see org.hibernate.cfg.BytecodeSettings#ENHANCER_ENABLE_LAZY_INITIALIZATION
+	 * @see org.hibernate.cfg.BytecodeSettings#ENHANCER_ENABLE_ASSOCIATION_MANAGEMENT
+	 */
+	String PREFETCH_CLASSES = "hibernate.models.prefetch_classes";
+
+	/**
+	 * The maximum number of classes loaded concurrently when {@linkplain #PREFETCH_CLASSES prefetching}.
+	 * <p/>
+	 * Default is the number of available processors, capped at 8
+	 */
+	String CLASS_PREFETCH_PARALLELISM = "hibernate.models.class_prefetch_parallelism";
+
+	/**
+	 * Whether a Jandex index of all managed classes should be built during categorization.  The built
+	 * index is combined with the one supplied through {@linkplain org.hibernate.boot.spi.BootstrapContext#getJandexView()},
+	 * if one.
+	 * <p/>
+	 * Indexing is performed in parallel - see {@linkplain #JANDEX_INDEXING_PARALLELISM}.
+	 * <p/>
+	 * Default is {@code false}
+	 */
+	String BUILD_JANDEX_INDEX = "hibernate.models.build_jandex_index";
+
+	/**
+	 * The number of threads used when {@linkplain #BUILD_JANDEX_INDEX building} a Jandex index.
+	 * <p/>
+	 * Default is the number of available processors
+	 */
+	String JANDEX_INDEXING_PARALLELISM = "hibernate.models.jandex_indexing_parallelism";
+
+	/**
+	 * Whether all HQL named queries should be parsed, in parallel, as part of categorization.
+	 * Syntax errors are then reported at boot, and the parse trees are made available
+	 * through {@linkplain org.hibernate.boot.models.categorize.spi.CategorizedDomainModel#getPreparsedNamedQueries()}.
+	 * <p/>
+	 * Default is {@code false}
+	 */
+	String PREPARSE_NAMED_QUERIES = "hibernate.models.preparse_named_queries";
+
+	/**
+	 * The allocation size to use for sequence and table generators which do not specify one.  Since
+	 * an annotation cannot tell us whether {@code allocationSize} was specified, generators whose
+	 * allocation size is the JPA default ({@code 50}) are considered as not specifying one.
+	 * <p/>
+	 * Default is to use the configured (or JPA default) value
+	 *
+	 * @see org.hibernate.boot.models.bind.spi.AllocationSizePolicy
+	 */
+	String DEFAULT_ALLOCATION_SIZE = "hibernate.models.id.default_allocation_size";
+
+	/**
+	 * The minimum allocation size for sequence and table generators.  Smaller configured values,
+	 * such as the legacy {@code allocationSize=1} which prevents JDBC insert batching, are raised
+	 * to this value.  Does not apply to {@linkplain #ALLOCATION_SIZE_OVERRIDES overrides}.
+	 * <p/>
+	 * Default is {@code 1}
+	 */
+	String MINIMUM_ALLOCATION_SIZE = "hibernate.models.id.minimum_allocation_size";
+
+	/**
+	 * Allocation sizes for specific generators, as a comma-separated list of {@code name=size} pairs.
+	 * The name may be the generator name or the sequence (or table) name.  Overrides take precedence
+	 * over any other configuration.
+	 * <p/>
+	 * Default is no overrides
+	 */
+	String ALLOCATION_SIZE_OVERRIDES = "hibernate.models.id.allocation_size_overrides";
+
+	/**
+	 * Whether sequence and table generators with an allocation size greater than 1 should use the
+	 * {@linkplain org.hibernate.id.enhanced.StandardOptimizerDescriptor#POOLED_LO pooled-lo} optimizer.
+	 * <p/>
+	 * Default is {@code false}, leaving the choice to Hibernate
+	 */
+	String PREFER_POOLED_LO_OPTIMIZER = "hibernate.models.id.prefer_pooled_lo";
+
+	/**
+	 * Whether to log the batch sizes {@linkplain org.hibernate.boot.models.categorize.spi.AssociationGraphAnalysis recommended}
+	 * for entities and collections based on the association graph of the domain model.
+	 * <p/>
+	 * Default is {@code false}
+	 */
+	String LOG_BATCH_SIZE_RECOMMENDATIONS = "hibernate.models.batch_size.log_recommendations";
+
+	/**
+	 * Whether to apply the batch sizes {@linkplain org.hibernate.boot.models.categorize.spi.AssociationGraphAnalysis recommended}
+	 * for entities and collections as defaults.  Entities and collections which specify a batch size are not affected.
+	 * <p/>
+	 * Default is {@code false}
+	 */
+	String APPLY_RECOMMENDED_BATCH_SIZES = "hibernate.models.batch_size.apply_recommended";
+
+	/**
+	 * The largest batch size to recommend.
+	 * <p/>
+	 * Default is {@value org.hibernate.boot.models.categorize.spi.AssociationGraphAnalysis#DEFAULT_MAXIMUM_BATCH_SIZE}
+	 */
+	String MAXIMUM_RECOMMENDED_BATCH_SIZE = "hibernate.models.batch_size.max_recommended";
+
+	/**
+	 * The number of threads used by {@linkplain org.hibernate.boot.models.bind.spi.ParallelSchemaCreator}
+	 * to create the tables of each wave concurrently.
+	 * <p/>
+	 * Default is the number of available processors
+	 */
+	String SCHEMA_CREATION_THREADS = "hibernate.models.schema.creation_threads";
+
+	/**
+	 * Whether to {@linkplain org.hibernate.boot.models.profile.spi.BootCostProfile profile} the time
+	 * and allocations spent categorizing and binding each entity hierarchy and managed type, logging
+	 * the most expensive ones once binding completes.
+	 * <p/>
+	 * Default is {@code false}
+	 */
+	String PROFILE_BOOT_COST = "hibernate.models.profile.boot_cost";
+
+	/**
+	 * The number of types and hierarchies listed in the {@linkplain #PROFILE_BOOT_COST boot cost} report.
+	 * <p/>
+	 * Default is {@value org.hibernate.boot.models.profile.spi.BootCostProfile#DEFAULT_REPORT_SIZE}
+	 */
+	String BOOT_COST_REPORT_SIZE = "hibernate.models.profile.report_size";
+}
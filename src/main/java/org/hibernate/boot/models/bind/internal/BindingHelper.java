@@ -15,6 +15,7 @@ import org.hibernate.boot.models.bind.spi.BindingContext;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.models.ModelsException;
 import org.hibernate.boot.models.bind.spi.BindingOptions;
+import org.hibernate.boot.models.bind.spi.IdentifierInterner;
 import org.hibernate.boot.models.bind.spi.QuotedIdentifierTarget;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.AnnotationUsage;
@@ -99,6 +100,19 @@ public class BindingHelper {
 		return jdbcEnvironment.getIdentifierHelper().toIdentifier( name, globallyQuoted );
 	}
 
+	/**
+	 * Form of {@linkplain #toIdentifier(String, QuotedIdentifierTarget, BindingOptions, JdbcEnvironment)}
+	 * handing out the binding's shared instance for each name
+	 */
+	public static Identifier toIdentifier(
+			String name,
+			QuotedIdentifierTarget target,
+			BindingOptions options,
+			IdentifierInterner identifierInterner) {
+		final boolean globallyQuoted = options.getGloballyQuotedIdentifierTargets().contains( target );
+		return identifierInterner.toIdentifier( name, globallyQuoted );
+	}
+
 	public static <T,A extends Annotation> T getValue(AnnotationUsage<A> ann, String attributeName, T defaultValue) {
 		if ( ann == null ) {
 			return defaultValue;
@@ -139,4 +153,35 @@ public class BindingHelper {
 			processSecondPassQueue( secondPasses );
 		}
 	}
+
+	/**
+	 * Form of {@linkplain #processSecondPassQueue} which leaves the second passes which cannot (yet) be
+	 * processed in the queue, rather than failing - they depend on something not bound yet, e.g.
+	 *
+	 * @return {@code true} if the queue is now empty
+	 */
+	public static boolean processAvailableSecondPasses(List<? extends SecondPass> secondPasses) {
+		if ( secondPasses == null ) {
+			return true;
+		}
+
+		boolean progress = true;
+		while ( progress && !secondPasses.isEmpty() ) {
+			progress = false;
+			final Iterator<? extends SecondPass> secondPassItr = secondPasses.iterator();
+			while ( secondPassItr.hasNext() ) {
+				final SecondPass secondPass = secondPassItr.next();
+				try {
+					if ( secondPass.process() ) {
+						secondPassItr.remove();
+						progress = true;
+					}
+				}
+				catch (Exception e) {
+					MODEL_BINDING_LOGGER.debug( "Error processing second pass", e );
+				}
+			}
+		}
+		return secondPasses.isEmpty();
+	}
 }
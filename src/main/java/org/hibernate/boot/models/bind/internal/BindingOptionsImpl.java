@@ -10,6 +10,7 @@ import java.lang.annotation.Annotation;
 import java.util.EnumSet;
 
 import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.models.bind.spi.AllocationSizePolicy;
 import org.hibernate.boot.models.bind.spi.QuotedIdentifierTarget;
 import org.hibernate.boot.spi.MetadataBuildingContext;
 import org.hibernate.cfg.AvailableSettings;
@@ -25,18 +26,19 @@ public class BindingOptionsImpl implements BindingOptions {
 	private final Identifier defaultCatalogName;
 	private final Identifier defaultSchemaName;
 	private final EnumSet<QuotedIdentifierTarget> globallyQuotedIdentifierTargets;
+	private final AllocationSizePolicy allocationSizePolicy;
 
 	public BindingOptionsImpl(MetadataBuildingContext metadataBuildingContext) {
 		final boolean globallyQuote = metadataBuildingContext.getMappingDefaults().shouldImplicitlyQuoteIdentifiers();
-		final boolean skipColumnDefinitions = metadataBuildingContext
+		final ConfigurationService configurationService = metadataBuildingContext
 				.getBootstrapContext()
 				.getServiceRegistry()
-				.getService( ConfigurationService.class )
-				.getSetting(
-						AvailableSettings.GLOBALLY_QUOTED_IDENTIFIERS_SKIP_COLUMN_DEFINITIONS,
-						StandardConverters.BOOLEAN,
-						false
-				);
+				.getService( ConfigurationService.class );
+		final boolean skipColumnDefinitions = configurationService.getSetting(
+				AvailableSettings.GLOBALLY_QUOTED_IDENTIFIERS_SKIP_COLUMN_DEFINITIONS,
+				StandardConverters.BOOLEAN,
+				false
+		);
 
 		if ( !globallyQuote ) {
 			globallyQuotedIdentifierTargets = EnumSet.noneOf( QuotedIdentifierTarget.class );
@@ -64,6 +66,8 @@ public class BindingOptionsImpl implements BindingOptions {
 				globallyQuotedIdentifierTargets,
 				jdbcEnvironment
 		);
+
+		allocationSizePolicy = AllocationSizePolicy.from( configurationService );
 	}
 
 	public static <A extends Annotation> Identifier toIdentifier(
@@ -86,6 +90,7 @@ public class BindingOptionsImpl implements BindingOptions {
 		this.defaultCatalogName = defaultCatalogName;
 		this.defaultSchemaName = defaultSchemaName;
 		this.globallyQuotedIdentifierTargets = globallyQuotedIdentifierTargets;
+		this.allocationSizePolicy = AllocationSizePolicy.NONE;
 	}
 
 	@Override
@@ -102,4 +107,9 @@ public class BindingOptionsImpl implements BindingOptions {
 	public EnumSet<QuotedIdentifierTarget> getGloballyQuotedIdentifierTargets() {
 		return globallyQuotedIdentifierTargets;
 	}
+
+	@Override
+	public AllocationSizePolicy getAllocationSizePolicy() {
+		return allocationSizePolicy;
+	}
 }
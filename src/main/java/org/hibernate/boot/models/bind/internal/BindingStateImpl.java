@@ -6,8 +6,10 @@
  */
 package org.hibernate.boot.models.bind.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
@@ -17,6 +19,7 @@ import org.hibernate.boot.models.bind.internal.binders.IdentifiableTypeBinder;
 import org.hibernate.boot.models.bind.internal.binders.ManagedTypeBinder;
 import org.hibernate.boot.models.bind.internal.binders.MappedSuperTypeBinder;
 import org.hibernate.boot.models.bind.spi.BindingState;
+import org.hibernate.boot.models.bind.spi.IdentifierInterner;
 import org.hibernate.boot.models.bind.spi.TableOwner;
 import org.hibernate.boot.models.bind.spi.TableReference;
 import org.hibernate.boot.models.categorize.spi.FilterDefRegistration;
@@ -38,12 +41,23 @@ public class BindingStateImpl implements BindingState {
 
 	private final Map<String, TableReference> tableMap = new HashMap<>();
 	private final Map<TableOwner, TableReference> tableByOwnerMap = new HashMap<>();
+	private final Map<TableOwner, List<SecondaryTable>> secondaryTablesByOwnerMap = new HashMap<>();
 
 	private final Map<ClassDetails, ManagedTypeBinder> typeBinders = new HashMap<>();
 	private final Map<ClassDetails, IdentifiableTypeBinder> typeBindersBySuper = new HashMap<>();
 
+	private final IdentifierInterner identifierInterner;
+
+	private final Map<Class<?>, JdbcMapping> filterParameterTypes = new HashMap<>();
+
 	public BindingStateImpl(MetadataBuildingContext metadataBuildingContext) {
 		this.metadataBuildingContext = metadataBuildingContext;
+		this.identifierInterner = new IdentifierInterner(
+				metadataBuildingContext.getMetadataCollector()
+						.getDatabase()
+						.getJdbcEnvironment()
+						.getIdentifierHelper()
+		);
 	}
 
 	@Override
@@ -51,6 +65,11 @@ public class BindingStateImpl implements BindingState {
 		return metadataBuildingContext;
 	}
 
+	@Override
+	public IdentifierInterner getIdentifierInterner() {
+		return identifierInterner;
+	}
+
 	@Override
 	public void registerTypeBinder(ManagedTypeMetadata type, ManagedTypeBinder binder) {
 		typeBinders.put( type.getClassDetails(), binder );
@@ -116,12 +135,21 @@ public class BindingStateImpl implements BindingState {
 	@Override
 	public void addTable(TableOwner owner, TableReference table) {
 		tableMap.put( table.logicalName().getCanonicalName(), table );
+		// later lookups by the mapped name then need no normalization
+		identifierInterner.registerCanonicalName( table.logicalName() );
 		tableByOwnerMap.put( owner, table );
 	}
 
 	@Override
-	public void addSecondaryTable(SecondaryTable table) {
+	public void addSecondaryTable(TableOwner owner, SecondaryTable table) {
 		tableMap.put( table.logicalName().getCanonicalName(), table );
+		identifierInterner.registerCanonicalName( table.logicalName() );
+		secondaryTablesByOwnerMap.computeIfAbsent( owner, (o) -> new ArrayList<>() ).add( table );
+	}
+
+	@Override
+	public List<SecondaryTable> getSecondaryTables(TableOwner owner) {
+		return secondaryTablesByOwnerMap.getOrDefault( owner, Collections.emptyList() );
 	}
 
 	private String resolveSchemaName(Identifier explicit) {
@@ -165,6 +193,11 @@ public class BindingStateImpl implements BindingState {
 
 	@Override
 	public void apply(FilterDefRegistration registration) {
+		if ( registration.getDefaultCondition() != null ) {
+			FilterConditionTemplate.parse( registration.getDefaultCondition() )
+					.checkParameters( registration.getName(), registration.getParameters() );
+		}
+
 		metadataBuildingContext.getMetadataCollector().addFilterDefinition( new FilterDefinition(
 				registration.getName(),
 				registration.getDefaultCondition(),
@@ -178,11 +211,21 @@ public class BindingStateImpl implements BindingState {
 			return Collections.emptyMap();
 		}
 
-		final TypeConfiguration typeConfiguration = metadataBuildingContext.getBootstrapContext().getTypeConfiguration();
 		final Map<String, JdbcMapping> result = new HashMap<>();
 		parameters.forEach( (name, typeDetails) -> {
-			result.put( name, typeConfiguration.getBasicTypeForJavaType( typeDetails.toJavaClass() ) );
+			result.put( name, resolveFilterParameterType( typeDetails.toJavaClass() ) );
 		} );
 		return result;
 	}
+
+	private JdbcMapping resolveFilterParameterType(Class<?> javaType) {
+		// filters tend to share a handful of parameter types
+		return filterParameterTypes.computeIfAbsent(
+				javaType,
+				(type) -> {
+					final TypeConfiguration typeConfiguration = metadataBuildingContext.getBootstrapContext().getTypeConfiguration();
+					return typeConfiguration.getBasicTypeForJavaType( type );
+				}
+		);
+	}
 }
@@ -0,0 +1,234 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.hibernate.Version;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+
+/**
+ * Computes the fingerprint of the inputs to binding, used to decide whether a
+ * {@linkplain org.hibernate.boot.models.bind.spi.BoundModelSnapshot snapshot} is still valid.
+ * <p/>
+ * Covers the bytes of the listed classes and {@code package-info} classes, the XML mappings
+ * (origin and content), the naming strategies, the Dialect, all simple-valued settings and the versions of
+ * Hibernate ORM and hibernate-models.
+ * <p/>
+ * Classes which are not listed - mapped-superclasses and embeddables discovered through the listed
+ * classes, e.g. - only become known during categorization.  They are covered by the
+ * {@linkplain #dependencyDigest dependency digest}, computed over the classes
+ * {@linkplain #collectDependencies collected} from the categorized model when the snapshot is captured,
+ * and re-computed over those same classes before it is restored.
+ */
+public class BoundModelFingerprint {
+	/**
+	 * Fingerprint of the managed-resources and environment
+	 *
+	 * @return The fingerprint, or {@code null} if the content of an XML mapping cannot be read again
+	 * (it was supplied as a stream or DOM, e.g.), in which case no snapshot should be used
+	 */
+	public static String fingerprint(ManagedResources managedResources, BootstrapContext bootstrapContext, int formatVersion) {
+		final BoundModelFingerprint fingerprint = new BoundModelFingerprint( bootstrapContext );
+		fingerprint.update( "format", Integer.toString( formatVersion ) );
+		fingerprint.updateLibraries();
+		fingerprint.updateClasses( managedResources );
+		fingerprint.updatePackages( managedResources );
+		if ( !fingerprint.updateXml( managedResources ) ) {
+			return null;
+		}
+		fingerprint.updateEnvironment( bootstrapContext );
+		return fingerprint.finish();
+	}
+
+	/**
+	 * The versions of Hibernate ORM and hibernate-models, whose mapping objects a snapshot is restored into
+	 */
+	private void updateLibraries() {
+		update( "hibernate-orm", Version.getVersionString() );
+		final String modelsVersion = ClassDetailsRegistry.class.getPackage().getImplementationVersion();
+		update( "hibernate-models", modelsVersion == null ? "<unknown>" : modelsVersion );
+	}
+
+	/**
+	 * The names of all classes known to the categorized model, other than JDK classes, sorted
+	 */
+	public static List<String> collectDependencies(ClassDetailsRegistry classDetailsRegistry) {
+		final TreeSet<String> names = new TreeSet<>();
+		classDetailsRegistry.forEachClassDetails( (classDetails) -> {
+			if ( !classDetails.getName().startsWith( "java." ) ) {
+				names.add( classDetails.getName() );
+			}
+		} );
+		return new ArrayList<>( names );
+	}
+
+	/**
+	 * Digest of the names and bytes of the given classes.  Classes without bytecode (dynamic entities, e.g.)
+	 * contribute only their name.
+	 */
+	public static String dependencyDigest(Collection<String> classNames, BootstrapContext bootstrapContext) {
+		final BoundModelFingerprint fingerprint = new BoundModelFingerprint( bootstrapContext );
+		classNames.forEach( (name) -> {
+			fingerprint.update( "class", name );
+			fingerprint.updateContent( fingerprint.classLoaderService.locateResourceStream( name.replace( '.', '/' ) + ".class" ) );
+		} );
+		return fingerprint.finish();
+	}
+
+	private final ClassLoaderService classLoaderService;
+	private final MessageDigest digest;
+
+	private BoundModelFingerprint(BootstrapContext bootstrapContext) {
+		this.classLoaderService = bootstrapContext.getServiceRegistry().getService( ClassLoaderService.class );
+		try {
+			this.digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new ModelsException( "Unable to create bound model fingerprint", e );
+		}
+	}
+
+	private void updateClasses(ManagedResources managedResources) {
+		final TreeMap<String, Class<?>> classes = new TreeMap<>();
+		managedResources.getAnnotatedClassReferences().forEach( (reference) -> classes.put( reference.getName(), reference ) );
+		managedResources.getAnnotatedClassNames().forEach( (name) -> classes.putIfAbsent( name, null ) );
+
+		classes.forEach( (name, reference) -> {
+			final String resourceName = name.replace( '.', '/' ) + ".class";
+			update( "class", name );
+			if ( reference != null ) {
+				updateContent( reference.getResourceAsStream( "/" + resourceName ) );
+			}
+			else {
+				updateContent( classLoaderService.locateResourceStream( resourceName ) );
+			}
+		} );
+	}
+
+	private void updatePackages(ManagedResources managedResources) {
+		new TreeSet<>( managedResources.getAnnotatedPackageNames() ).forEach( (name) -> {
+			update( "package", name );
+			updateContent( classLoaderService.locateResourceStream( name.replace( '.', '/' ) + "/package-info.class" ) );
+		} );
+	}
+
+	private boolean updateXml(ManagedResources managedResources) {
+		final TreeMap<String, Origin> origins = new TreeMap<>();
+		for ( Binding<?> binding : managedResources.getXmlMappingBindings() ) {
+			final Origin origin = binding.getOrigin();
+			origins.put( origin.getType() + ":" + origin.getName(), origin );
+		}
+		for ( Map.Entry<String, Origin> entry : origins.entrySet() ) {
+			final InputStream content = openXml( entry.getValue() );
+			if ( content == null ) {
+				return false;
+			}
+			update( "xml", entry.getKey() );
+			updateContent( content );
+		}
+		return true;
+	}
+
+	/**
+	 * Open the content of an XML mapping
+	 *
+	 * @return The content, or {@code null} if the origin does not allow reading it again
+	 */
+	private InputStream openXml(Origin origin) {
+		try {
+			return switch ( origin.getType() ) {
+				case RESOURCE -> {
+					final InputStream stream = classLoaderService.locateResourceStream( origin.getName() );
+					yield stream == null ? InputStream.nullInputStream() : stream;
+				}
+				case FILE -> {
+					final Path file = Path.of( origin.getName() );
+					yield Files.isRegularFile( file ) ? Files.newInputStream( file ) : InputStream.nullInputStream();
+				}
+				case URL -> new URL( origin.getName() ).openStream();
+				default -> null;
+			};
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to read XML mapping for bound model fingerprint - " + origin.getName(), e );
+		}
+	}
+
+	private void updateEnvironment(BootstrapContext bootstrapContext) {
+		update( "implicit-naming", bootstrapContext.getMetadataBuildingOptions().getImplicitNamingStrategy().getClass().getName() );
+		update( "physical-naming", bootstrapContext.getMetadataBuildingOptions().getPhysicalNamingStrategy().getClass().getName() );
+
+		final Dialect dialect = bootstrapContext.getServiceRegistry().getService( JdbcEnvironment.class ).getDialect();
+		update( "dialect", dialect.getClass().getName() + ":" + dialect.getVersion() );
+
+		final Map<String, Object> settings = bootstrapContext.getServiceRegistry()
+				.getService( ConfigurationService.class )
+				.getSettings();
+		new TreeMap<>( settings ).forEach( (name, value) -> {
+			// skip values without a stable textual form (e.g. object instances)
+			if ( value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Enum ) {
+				update( "setting", name + "=" + value );
+			}
+			else if ( value instanceof Class<?> classValue ) {
+				update( "setting", name + "=" + classValue.getName() );
+			}
+		} );
+	}
+
+	private String finish() {
+		return HexFormat.of().formatHex( digest.digest() );
+	}
+
+	private void update(String kind, String value) {
+		digest.update( kind.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	private void updateContent(InputStream stream) {
+		if ( stream == null ) {
+			update( "content", "<none>" );
+			return;
+		}
+
+		try (stream) {
+			final byte[] buffer = new byte[8192];
+			int read;
+			while ( ( read = stream.read( buffer ) ) != -1 ) {
+				digest.update( buffer, 0, read );
+			}
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to read resource for bound model fingerprint", e );
+		}
+	}
+}
@@ -0,0 +1,494 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.annotations.Nationalized;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+import org.hibernate.annotations.SoftDelete;
+import org.hibernate.annotations.TimeZoneStorage;
+import org.hibernate.annotations.TimeZoneStorageType;
+import org.hibernate.boot.model.IdentifierGeneratorDefinition;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.ColumnData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.FilterData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.FilterDefData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.GeneratorData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.PropertyData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.SoftDeleteData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.TableData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.TypeData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.TypeKind;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.ValueData;
+import org.hibernate.boot.models.bind.internal.binders.EntityTypeBinder;
+import org.hibernate.boot.models.bind.internal.binders.IdentifiableTypeBinder;
+import org.hibernate.boot.models.bind.internal.binders.MappedSuperTypeBinder;
+import org.hibernate.boot.models.bind.spi.BindingContext;
+import org.hibernate.boot.models.bind.spi.BindingState;
+import org.hibernate.boot.models.bind.spi.PersistentTableReference;
+import org.hibernate.boot.models.bind.spi.TableReference;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.CacheRegion;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.GlobalRegistrations;
+import org.hibernate.boot.models.categorize.spi.NaturalIdCacheRegion;
+import org.hibernate.boot.spi.InFlightMetadataCollector;
+import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.DenormalizedTable;
+import org.hibernate.mapping.JoinedSubclass;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.RootClass;
+import org.hibernate.mapping.Selectable;
+import org.hibernate.mapping.SingleTableSubclass;
+import org.hibernate.mapping.Table;
+import org.hibernate.mapping.UnionSubclass;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Temporal;
+
+import static jakarta.persistence.EnumType.ORDINAL;
+import static org.hibernate.annotations.TimeZoneStorageType.AUTO;
+import static org.hibernate.boot.models.bind.ModelBindingLogging.MODEL_BINDING_LOGGER;
+
+/**
+ * Captures the {@linkplain BoundModelSnapshotData state} of a bound model.
+ * <p/>
+ * Binding-time decisions are read back the same way the binders make them (annotations, categorized
+ * metadata), while the results of binding - names, columns, flags - are read from the bound model.
+ * Capture is declined (returns {@code null}) for models using anything a snapshot cannot reproduce.
+ */
+public class BoundModelSnapshotCapture {
+	public static BoundModelSnapshotData capture(BindingState bindingState, BindingContext bindingContext) {
+		final BoundModelSnapshotCapture capture = new BoundModelSnapshotCapture( bindingState, bindingContext );
+		try {
+			capture.captureTables();
+			capture.captureTypes();
+			capture.captureGlobals();
+		}
+		catch (UnsupportedSnapshotException e) {
+			MODEL_BINDING_LOGGER.debugf( "Bound model snapshot not captured : %s", e.getMessage() );
+			return null;
+		}
+		return new BoundModelSnapshotData( capture.tables, capture.types, capture.generators, capture.filterDefs );
+	}
+
+	private final BindingState bindingState;
+	private final BindingContext bindingContext;
+	private final InFlightMetadataCollector metadataCollector;
+
+	private final Map<Table, TableReference> tableReferences = new IdentityHashMap<>();
+	private final Map<Table, Integer> tableIndexes = new IdentityHashMap<>();
+
+	private final List<TableData> tables = new ArrayList<>();
+	private final List<TypeData> types = new ArrayList<>();
+	private final List<GeneratorData> generators = new ArrayList<>();
+	private final List<FilterDefData> filterDefs = new ArrayList<>();
+
+	private BoundModelSnapshotCapture(BindingState bindingState, BindingContext bindingContext) {
+		this.bindingState = bindingState;
+		this.bindingContext = bindingContext;
+		this.metadataCollector = bindingState.getMetadataBuildingContext().getMetadataCollector();
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// tables
+
+	private void captureTables() {
+		final List<TableReference> references = new ArrayList<>();
+		bindingState.forEachTable( (name, reference) -> {
+			references.add( reference );
+			tableReferences.put( reference.binding(), reference );
+		} );
+		references.sort( Comparator.comparing( (reference) -> reference.logicalName().getCanonicalName() ) );
+		references.forEach( (reference) -> tableIndex( reference.binding() ) );
+	}
+
+	/**
+	 * The index of the table, capturing it (and any table it includes) first if needed
+	 */
+	private int tableIndex(Table table) {
+		if ( table == null ) {
+			return BoundModelSnapshotData.NO_TABLE;
+		}
+
+		final Integer existing = tableIndexes.get( table );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final TableReference reference = tableReferences.get( table );
+		if ( reference == null ) {
+			throw new UnsupportedSnapshotException( "Table not known to the binding - " + table.getName() );
+		}
+
+		final TableData tableData;
+		if ( table instanceof DenormalizedTable denormalizedTable ) {
+			final Table includedTable = denormalizedTable.getIncludedTable();
+			final int included = tableReferences.containsKey( includedTable )
+					? tableIndex( includedTable )
+					: BoundModelSnapshotData.UNION_ROOT_PLACEHOLDER;
+			if ( table.getSchema() != null || table.getCatalog() != null ) {
+				throw new UnsupportedSnapshotException( "Union table with explicit schema or catalog - " + table.getName() );
+			}
+			tableData = new TableData(
+					null,
+					null,
+					reference.logicalName().getCanonicalName(),
+					null,
+					table.isAbstract(),
+					table.getComment(),
+					true,
+					included
+			);
+		}
+		else {
+			final Identifier catalog;
+			final Identifier schema;
+			if ( reference instanceof PersistentTableReference persistentTableReference ) {
+				catalog = persistentTableReference.getLogicalCatalogName();
+				schema = persistentTableReference.getLogicalSchemaName();
+			}
+			else {
+				catalog = null;
+				schema = null;
+			}
+			tableData = new TableData(
+					catalog == null ? null : catalog.getCanonicalName(),
+					schema == null ? null : schema.getCanonicalName(),
+					reference.logicalName().getCanonicalName(),
+					table.getSubselect(),
+					table.isAbstract(),
+					table.getComment(),
+					false,
+					BoundModelSnapshotData.NO_TABLE
+			);
+		}
+
+		final int index = tables.size();
+		tables.add( tableData );
+		tableIndexes.put( table, index );
+		return index;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// types
+
+	private void captureTypes() {
+		final List<IdentifiableTypeBinder> binders = new ArrayList<>();
+		bindingState.forEachType( (name, binder) -> binders.add( (IdentifiableTypeBinder) binder ) );
+		// super types first, so they can be referenced when restoring
+		binders.sort( Comparator
+				.comparingInt( BoundModelSnapshotCapture::depth )
+				.thenComparing( (binder) -> binder.getManagedType().getClassDetails().getName() ) );
+
+		for ( IdentifiableTypeBinder binder : binders ) {
+			if ( binder instanceof EntityTypeBinder entityBinder ) {
+				types.add( captureEntity( entityBinder ) );
+			}
+			else {
+				types.add( captureMappedSuperclass( (MappedSuperTypeBinder) binder ) );
+			}
+		}
+	}
+
+	private static int depth(IdentifiableTypeBinder binder) {
+		int depth = 0;
+		IdentifiableTypeBinder superBinder = binder.getSuperTypeBinder();
+		while ( superBinder != null ) {
+			depth++;
+			superBinder = superBinder.getSuperTypeBinder();
+		}
+		return depth;
+	}
+
+	private TypeData captureEntity(EntityTypeBinder binder) {
+		final EntityTypeMetadata type = binder.getManagedType();
+		final ClassDetails classDetails = type.getClassDetails();
+		final PersistentClass binding = binder.getTypeBinding();
+
+		if ( CollectionHelper.isNotEmpty( type.getCompleteJpaEventListeners() ) ) {
+			throw new UnsupportedSnapshotException( "JPA callbacks - " + binding.getEntityName() );
+		}
+
+		final TypeKind kind;
+		if ( binding instanceof RootClass ) {
+			kind = TypeKind.ROOT;
+		}
+		else if ( binding instanceof JoinedSubclass ) {
+			kind = TypeKind.JOINED_SUBCLASS;
+		}
+		else if ( binding instanceof UnionSubclass ) {
+			kind = TypeKind.UNION_SUBCLASS;
+		}
+		else if ( binding instanceof SingleTableSubclass ) {
+			kind = TypeKind.SINGLE_TABLE_SUBCLASS;
+		}
+		else {
+			throw new UnsupportedSnapshotException( "Unexpected entity binding - " + binding );
+		}
+
+		final IdentifiableTypeBinder superTypeBinder = binder.getSuperTypeBinder();
+		final EntityTypeBinder superEntityBinder = binder.getSuperEntityBinder();
+		final String superMappedSuperclass = superTypeBinder != null && superTypeBinder != superEntityBinder
+				? superTypeBinder.getManagedType().getClassDetails().getName()
+				: null;
+
+		final AnnotationUsage<Cacheable> cacheableAnn = classDetails.getAnnotationUsage( Cacheable.class );
+
+		final OptimisticLockType optimisticLockType;
+		String cacheRegionName = null;
+		String cacheConcurrencyStrategy = null;
+		boolean lazyPropertiesCacheable = true;
+		String naturalIdCacheRegionName = null;
+		SoftDeleteData softDelete = null;
+		if ( binding instanceof RootClass rootClass ) {
+			final AnnotationUsage<OptimisticLocking> optimisticLocking = classDetails.getAnnotationUsage( OptimisticLocking.class );
+			optimisticLockType = optimisticLocking == null
+					? null
+					: optimisticLocking.getEnum( "type", OptimisticLockType.VERSION );
+
+			final EntityHierarchy hierarchy = type.getHierarchy();
+			final CacheRegion cacheRegion = hierarchy.getCacheRegion();
+			if ( cacheRegion != null ) {
+				cacheRegionName = cacheRegion.getRegionName();
+				cacheConcurrencyStrategy = cacheRegion.getAccessType().getExternalName();
+				lazyPropertiesCacheable = cacheRegion.isCacheLazyProperties();
+			}
+			final NaturalIdCacheRegion naturalIdCacheRegion = hierarchy.getNaturalIdCacheRegion();
+			if ( naturalIdCacheRegion != null ) {
+				naturalIdCacheRegionName = naturalIdCacheRegion.getRegionName();
+			}
+
+			final AnnotationUsage<SoftDelete> softDeleteAnn = classDetails.getAnnotationUsage( SoftDelete.class );
+			if ( softDeleteAnn != null ) {
+				softDelete = new SoftDeleteData(
+						softDeleteAnn.getEnum( "strategy" ),
+						softDeleteAnn.getClassDetails( "converter" ).getClassName(),
+						captureColumn( rootClass.getSoftDeleteColumn(), binding.getTable() )
+				);
+			}
+		}
+		else {
+			optimisticLockType = null;
+		}
+
+		final List<FilterData> filters = new ArrayList<>();
+		classDetails.getRepeatedAnnotationUsages( Filter.class ).forEach( (filter) -> filters.add( new FilterData(
+				filter.getString( "name" ),
+				filter.getString( "condition", null ),
+				filter.getAttributeValue( "deduceAliasInjectionPoints", true )
+		) ) );
+
+		return new TypeData(
+				kind,
+				classDetails.getClassName(),
+				binding.getEntityName(),
+				binding.getJpaEntityName(),
+				superEntityBinder == null ? null : superEntityBinder.getTypeBinding().getEntityName(),
+				superMappedSuperclass,
+				binding instanceof org.hibernate.mapping.TableOwner ? tableIndex( binding.getTable() ) : BoundModelSnapshotData.NO_TABLE,
+				cacheableAnn == null ? null : cacheableAnn.getBoolean( "value", true ),
+				optimisticLockType == null ? null : OptimisticLockStyle.valueOf( optimisticLockType.name() ),
+				cacheRegionName,
+				cacheConcurrencyStrategy,
+				lazyPropertiesCacheable,
+				naturalIdCacheRegionName,
+				softDelete,
+				filters,
+				captureProperties( binder )
+		);
+	}
+
+	private TypeData captureMappedSuperclass(MappedSuperTypeBinder binder) {
+		final IdentifiableTypeBinder superTypeBinder = binder.getSuperTypeBinder();
+		final EntityTypeBinder superEntityBinder = binder.getSuperEntityBinder();
+
+		// mirrors the choice made by MappedSuperTypeBinder
+		final String superEntity;
+		final String superMappedSuperclass;
+		if ( superTypeBinder != null && superTypeBinder == superEntityBinder ) {
+			superEntity = superEntityBinder.getTypeBinding().getEntityName();
+			superMappedSuperclass = null;
+		}
+		else if ( superTypeBinder != null ) {
+			superEntity = null;
+			superMappedSuperclass = superTypeBinder.getManagedType().getClassDetails().getName();
+		}
+		else if ( superEntityBinder != null ) {
+			superEntity = superEntityBinder.getTypeBinding().getEntityName();
+			superMappedSuperclass = null;
+		}
+		else {
+			superEntity = null;
+			superMappedSuperclass = null;
+		}
+
+		return new TypeData(
+				TypeKind.MAPPED_SUPERCLASS,
+				binder.getManagedType().getClassDetails().getClassName(),
+				null,
+				null,
+				superEntity,
+				superMappedSuperclass,
+				tableIndex( binder.getTable() ),
+				null,
+				null,
+				null,
+				null,
+				true,
+				null,
+				null,
+				List.of(),
+				captureProperties( binder )
+		);
+	}
+
+	private List<PropertyData> captureProperties(IdentifiableTypeBinder binder) {
+		final List<Property> declaredProperties = binder.getTypeBinding().getDeclaredProperties();
+		final List<PropertyData> properties = new ArrayList<>( declaredProperties.size() );
+		for ( Property property : declaredProperties ) {
+			if ( !( property.getValue() instanceof BasicValue basicValue ) ) {
+				throw new UnsupportedSnapshotException( "Non-basic attribute - " + property.getName() );
+			}
+			final AttributeMetadata attribute = binder.getManagedType().findAttribute( property.getName() );
+			if ( attribute == null ) {
+				throw new UnsupportedSnapshotException( "Unknown attribute - " + property.getName() );
+			}
+
+			properties.add( new PropertyData(
+					property.getName(),
+					property.isInsertable(),
+					property.isUpdateable(),
+					property.isOptimisticLocked(),
+					property.isNaturalIdentifier(),
+					captureValue( attribute.getMember(), basicValue )
+			) );
+		}
+		return properties;
+	}
+
+	private ValueData captureValue(MemberDetails member, BasicValue basicValue) {
+		if ( member.getAnnotationUsage( JavaType.class ) != null
+				|| member.getAnnotationUsage( JdbcType.class ) != null
+				|| member.getAnnotationUsage( Mutability.class ) != null ) {
+			// descriptor instances are resolved lazily and cannot be stored
+			throw new UnsupportedSnapshotException( "Explicit type descriptor - " + member.getName() );
+		}
+
+		final List<ColumnData> columns = new ArrayList<>();
+		for ( Selectable selectable : basicValue.getSelectables() ) {
+			if ( !( selectable instanceof Column column ) ) {
+				throw new UnsupportedSnapshotException( "Formula - " + member.getName() );
+			}
+			columns.add( captureColumn( column, basicValue.getTable() ) );
+		}
+
+		final AnnotationUsage<Enumerated> enumeratedAnn = member.getAnnotationUsage( Enumerated.class );
+		final EnumType enumerationStyle = enumeratedAnn == null ? null : enumeratedAnn.getEnum( "value", ORDINAL );
+		final AnnotationUsage<Temporal> temporalAnn = member.getAnnotationUsage( Temporal.class );
+		final AnnotationUsage<JdbcTypeCode> jdbcTypeCodeAnn = member.getAnnotationUsage( JdbcTypeCode.class );
+		final AnnotationUsage<TimeZoneStorage> timeZoneStorageAnn = member.getAnnotationUsage( TimeZoneStorage.class );
+		final TimeZoneStorageType timeZoneStorageType = timeZoneStorageAnn == null
+				? null
+				: timeZoneStorageAnn.getEnum( "value", AUTO );
+
+		return new ValueData(
+				tableIndex( basicValue.getTable() ),
+				columns,
+				member.getType().getClassName(),
+				enumerationStyle,
+				temporalAnn == null ? null : temporalAnn.getEnum( "value" ),
+				member.getAnnotationUsage( Lob.class ) != null,
+				member.getAnnotationUsage( Nationalized.class ) != null,
+				basicValue.getJpaAttributeConverterDescriptor() == null
+						? null
+						: basicValue.getJpaAttributeConverterDescriptor().getAttributeConverterClass().getName(),
+				jdbcTypeCodeAnn == null ? null : jdbcTypeCodeAnn.getInteger( "value" ),
+				timeZoneStorageType
+		);
+	}
+
+	private static ColumnData captureColumn(Column column, Table table) {
+		return new ColumnData(
+				column.getQuotedName(),
+				column.getSqlType(),
+				column.getLength(),
+				column.getPrecision(),
+				column.getScale(),
+				column.isNullable(),
+				column.isUnique(),
+				column.getComment(),
+				table != null && table.containsColumn( column )
+		);
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// global registrations
+
+	private void captureGlobals() {
+		final GlobalRegistrations globalRegistrations = bindingContext.getGlobalRegistrations();
+
+		final List<String> generatorNames = new ArrayList<>();
+		generatorNames.addAll( globalRegistrations.getSequenceGeneratorRegistrations().keySet() );
+		generatorNames.addAll( globalRegistrations.getTableGeneratorRegistrations().keySet() );
+		generatorNames.addAll( globalRegistrations.getGenericGeneratorRegistrations().keySet() );
+		generatorNames.stream().sorted().distinct().forEach( (name) -> {
+			final IdentifierGeneratorDefinition definition = metadataCollector.getIdentifierGenerator( name );
+			if ( definition != null ) {
+				generators.add( new GeneratorData(
+						definition.getName(),
+						definition.getStrategy(),
+						new LinkedHashMap<>( definition.getParameters() )
+				) );
+			}
+		} );
+
+		globalRegistrations.getFilterDefRegistrations().values().forEach( (registration) -> {
+			final Map<String, String> parameterTypes = new LinkedHashMap<>();
+			if ( registration.getParameters() != null ) {
+				registration.getParameters().forEach( (name, type) -> parameterTypes.put( name, type.getClassName() ) );
+			}
+			filterDefs.add( new FilterDefData( registration.getName(), registration.getDefaultCondition(), parameterTypes ) );
+		} );
+	}
+
+	/**
+	 * Signals that the bound model uses something a snapshot does not cover
+	 */
+	private static class UnsupportedSnapshotException extends ModelsException {
+		private UnsupportedSnapshotException(String message) {
+			super( message );
+		}
+	}
+}
@@ -0,0 +1,429 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.SoftDeleteType;
+import org.hibernate.annotations.TimeZoneStorageType;
+import org.hibernate.engine.OptimisticLockStyle;
+
+import jakarta.persistence.EnumType;
+import jakarta.persistence.TemporalType;
+
+/**
+ * The state captured by a {@linkplain org.hibernate.boot.models.bind.spi.BoundModelSnapshot snapshot}
+ * of the bound model, along with its binary form.
+ * <p/>
+ * Tables are referenced by their position in {@linkplain #tables()}; types are listed super types first.
+ */
+public record BoundModelSnapshotData(
+		List<TableData> tables,
+		List<TypeData> types,
+		List<GeneratorData> generators,
+		List<FilterDefData> filterDefs) {
+
+	/**
+	 * Table reference used when the table is not part of the snapshot
+	 */
+	public static final int NO_TABLE = -1;
+
+	/**
+	 * Table reference used for the abstract table a union-subclass hierarchy's root
+	 * table "includes" - see {@linkplain org.hibernate.boot.models.bind.internal.binders.TableBinder}
+	 */
+	public static final int UNION_ROOT_PLACEHOLDER = -2;
+
+	public enum TypeKind {
+		ROOT,
+		JOINED_SUBCLASS,
+		UNION_SUBCLASS,
+		SINGLE_TABLE_SUBCLASS,
+		MAPPED_SUPERCLASS
+	}
+
+	public record TableData(
+			String catalog,
+			String schema,
+			String name,
+			String subselect,
+			boolean isAbstract,
+			String comment,
+			boolean denormalized,
+			int includedTable) {
+	}
+
+	public record ColumnData(
+			String name,
+			String sqlType,
+			Long length,
+			Integer precision,
+			Integer scale,
+			boolean nullable,
+			boolean unique,
+			String comment,
+			boolean addedToTable) {
+	}
+
+	public record ValueData(
+			int table,
+			List<ColumnData> columns,
+			String implicitJavaType,
+			EnumType enumerationStyle,
+			TemporalType temporalPrecision,
+			boolean lob,
+			boolean nationalized,
+			String converter,
+			Integer jdbcTypeCode,
+			TimeZoneStorageType timeZoneStorageType) {
+	}
+
+	public record PropertyData(
+			String name,
+			boolean insertable,
+			boolean updateable,
+			boolean optimisticLocked,
+			boolean naturalIdentifier,
+			ValueData value) {
+	}
+
+	public record SoftDeleteData(SoftDeleteType strategy, String converter, ColumnData column) {
+	}
+
+	public record FilterData(String name, String condition, boolean autoAliasInjection) {
+	}
+
+	/**
+	 * @param superEntity The entity name of the super entity, for subclasses and mapped-superclasses
+	 * @param superMappedSuperclass The class name of the super mapped-superclass, if one
+	 * @param cached The value of {@code @Cacheable}, if specified
+	 */
+	public record TypeData(
+			TypeKind kind,
+			String className,
+			String entityName,
+			String jpaEntityName,
+			String superEntity,
+			String superMappedSuperclass,
+			int table,
+			Boolean cached,
+			OptimisticLockStyle optimisticLockStyle,
+			String cacheRegionName,
+			String cacheConcurrencyStrategy,
+			boolean lazyPropertiesCacheable,
+			String naturalIdCacheRegionName,
+			SoftDeleteData softDelete,
+			List<FilterData> filters,
+			List<PropertyData> properties) {
+	}
+
+	public record GeneratorData(String name, String strategy, Map<String, String> parameters) {
+	}
+
+	/**
+	 * @param parameterTypes The Java type (class name) of each parameter
+	 */
+	public record FilterDefData(String name, String defaultCondition, Map<String, String> parameterTypes) {
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// binary form
+
+	public void write(DataOutputStream out) throws IOException {
+		out.writeInt( tables.size() );
+		for ( TableData table : tables ) {
+			writeString( out, table.catalog() );
+			writeString( out, table.schema() );
+			writeString( out, table.name() );
+			writeString( out, table.subselect() );
+			out.writeBoolean( table.isAbstract() );
+			writeString( out, table.comment() );
+			out.writeBoolean( table.denormalized() );
+			out.writeInt( table.includedTable() );
+		}
+
+		out.writeInt( types.size() );
+		for ( TypeData type : types ) {
+			writeEnum( out, type.kind() );
+			writeString( out, type.className() );
+			writeString( out, type.entityName() );
+			writeString( out, type.jpaEntityName() );
+			writeString( out, type.superEntity() );
+			writeString( out, type.superMappedSuperclass() );
+			out.writeInt( type.table() );
+			writeString( out, type.cached() == null ? null : type.cached().toString() );
+			writeEnum( out, type.optimisticLockStyle() );
+			writeString( out, type.cacheRegionName() );
+			writeString( out, type.cacheConcurrencyStrategy() );
+			out.writeBoolean( type.lazyPropertiesCacheable() );
+			writeString( out, type.naturalIdCacheRegionName() );
+
+			out.writeBoolean( type.softDelete() != null );
+			if ( type.softDelete() != null ) {
+				writeEnum( out, type.softDelete().strategy() );
+				writeString( out, type.softDelete().converter() );
+				writeColumn( out, type.softDelete().column() );
+			}
+
+			out.writeInt( type.filters().size() );
+			for ( FilterData filter : type.filters() ) {
+				writeString( out, filter.name() );
+				writeString( out, filter.condition() );
+				out.writeBoolean( filter.autoAliasInjection() );
+			}
+
+			out.writeInt( type.properties().size() );
+			for ( PropertyData property : type.properties() ) {
+				writeString( out, property.name() );
+				out.writeBoolean( property.insertable() );
+				out.writeBoolean( property.updateable() );
+				out.writeBoolean( property.optimisticLocked() );
+				out.writeBoolean( property.naturalIdentifier() );
+				writeValue( out, property.value() );
+			}
+		}
+
+		out.writeInt( generators.size() );
+		for ( GeneratorData generator : generators ) {
+			writeString( out, generator.name() );
+			writeString( out, generator.strategy() );
+			writeMap( out, generator.parameters() );
+		}
+
+		out.writeInt( filterDefs.size() );
+		for ( FilterDefData filterDef : filterDefs ) {
+			writeString( out, filterDef.name() );
+			writeString( out, filterDef.defaultCondition() );
+			writeMap( out, filterDef.parameterTypes() );
+		}
+	}
+
+	public static BoundModelSnapshotData read(DataInputStream in) throws IOException {
+		final int tableCount = in.readInt();
+		final List<TableData> tables = new ArrayList<>( tableCount );
+		for ( int i = 0; i < tableCount; i++ ) {
+			tables.add( new TableData(
+					readString( in ),
+					readString( in ),
+					readString( in ),
+					readString( in ),
+					in.readBoolean(),
+					readString( in ),
+					in.readBoolean(),
+					in.readInt()
+			) );
+		}
+
+		final int typeCount = in.readInt();
+		final List<TypeData> types = new ArrayList<>( typeCount );
+		for ( int i = 0; i < typeCount; i++ ) {
+			final TypeKind kind = readEnum( in, TypeKind.class );
+			final String className = readString( in );
+			final String entityName = readString( in );
+			final String jpaEntityName = readString( in );
+			final String superEntity = readString( in );
+			final String superMappedSuperclass = readString( in );
+			final int table = in.readInt();
+			final String cached = readString( in );
+			final OptimisticLockStyle optimisticLockStyle = readEnum( in, OptimisticLockStyle.class );
+			final String cacheRegionName = readString( in );
+			final String cacheConcurrencyStrategy = readString( in );
+			final boolean lazyPropertiesCacheable = in.readBoolean();
+			final String naturalIdCacheRegionName = readString( in );
+
+			final SoftDeleteData softDelete = in.readBoolean()
+					? new SoftDeleteData( readEnum( in, SoftDeleteType.class ), readString( in ), readColumn( in ) )
+					: null;
+
+			final int filterCount = in.readInt();
+			final List<FilterData> filters = new ArrayList<>( filterCount );
+			for ( int f = 0; f < filterCount; f++ ) {
+				filters.add( new FilterData( readString( in ), readString( in ), in.readBoolean() ) );
+			}
+
+			final int propertyCount = in.readInt();
+			final List<PropertyData> properties = new ArrayList<>( propertyCount );
+			for ( int p = 0; p < propertyCount; p++ ) {
+				properties.add( new PropertyData(
+						readString( in ),
+						in.readBoolean(),
+						in.readBoolean(),
+						in.readBoolean(),
+						in.readBoolean(),
+						readValue( in )
+				) );
+			}
+
+			types.add( new TypeData(
+					kind,
+					className,
+					entityName,
+					jpaEntityName,
+					superEntity,
+					superMappedSuperclass,
+					table,
+					cached == null ? null : Boolean.valueOf( cached ),
+					optimisticLockStyle,
+					cacheRegionName,
+					cacheConcurrencyStrategy,
+					lazyPropertiesCacheable,
+					naturalIdCacheRegionName,
+					softDelete,
+					filters,
+					properties
+			) );
+		}
+
+		final int generatorCount = in.readInt();
+		final List<GeneratorData> generators = new ArrayList<>( generatorCount );
+		for ( int i = 0; i < generatorCount; i++ ) {
+			generators.add( new GeneratorData( readString( in ), readString( in ), readMap( in ) ) );
+		}
+
+		final int filterDefCount = in.readInt();
+		final List<FilterDefData> filterDefs = new ArrayList<>( filterDefCount );
+		for ( int i = 0; i < filterDefCount; i++ ) {
+			filterDefs.add( new FilterDefData( readString( in ), readString( in ), readMap( in ) ) );
+		}
+
+		return new BoundModelSnapshotData( tables, types, generators, filterDefs );
+	}
+
+	private static void writeValue(DataOutputStream out, ValueData value) throws IOException {
+		out.writeInt( value.table() );
+		out.writeInt( value.columns().size() );
+		for ( ColumnData column : value.columns() ) {
+			writeColumn( out, column );
+		}
+		writeString( out, value.implicitJavaType() );
+		writeEnum( out, value.enumerationStyle() );
+		writeEnum( out, value.temporalPrecision() );
+		out.writeBoolean( value.lob() );
+		out.writeBoolean( value.nationalized() );
+		writeString( out, value.converter() );
+		writeString( out, value.jdbcTypeCode() == null ? null : value.jdbcTypeCode().toString() );
+		writeEnum( out, value.timeZoneStorageType() );
+	}
+
+	private static ValueData readValue(DataInputStream in) throws IOException {
+		final int table = in.readInt();
+		final int columnCount = in.readInt();
+		final List<ColumnData> columns = new ArrayList<>( columnCount );
+		for ( int i = 0; i < columnCount; i++ ) {
+			columns.add( readColumn( in ) );
+		}
+		final String implicitJavaType = readString( in );
+		final EnumType enumerationStyle = readEnum( in, EnumType.class );
+		final TemporalType temporalPrecision = readEnum( in, TemporalType.class );
+		final boolean lob = in.readBoolean();
+		final boolean nationalized = in.readBoolean();
+		final String converter = readString( in );
+		final String jdbcTypeCode = readString( in );
+		final TimeZoneStorageType timeZoneStorageType = readEnum( in, TimeZoneStorageType.class );
+		return new ValueData(
+				table,
+				columns,
+				implicitJavaType,
+				enumerationStyle,
+				temporalPrecision,
+				lob,
+				nationalized,
+				converter,
+				jdbcTypeCode == null ? null : Integer.valueOf( jdbcTypeCode ),
+				timeZoneStorageType
+		);
+	}
+
+	private static void writeColumn(DataOutputStream out, ColumnData column) throws IOException {
+		writeString( out, column.name() );
+		writeString( out, column.sqlType() );
+		writeString( out, column.length() == null ? null : column.length().toString() );
+		writeString( out, column.precision() == null ? null : column.precision().toString() );
+		writeString( out, column.scale() == null ? null : column.scale().toString() );
+		out.writeBoolean( column.nullable() );
+		out.writeBoolean( column.unique() );
+		writeString( out, column.comment() );
+		out.writeBoolean( column.addedToTable() );
+	}
+
+	private static ColumnData readColumn(DataInputStream in) throws IOException {
+		final String name = readString( in );
+		final String sqlType = readString( in );
+		final String length = readString( in );
+		final String precision = readString( in );
+		final String scale = readString( in );
+		return new ColumnData(
+				name,
+				sqlType,
+				length == null ? null : Long.valueOf( length ),
+				precision == null ? null : Integer.valueOf( precision ),
+				scale == null ? null : Integer.valueOf( scale ),
+				in.readBoolean(),
+				in.readBoolean(),
+				readString( in ),
+				in.readBoolean()
+		);
+	}
+
+	private static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+		out.writeInt( map.size() );
+		for ( Map.Entry<String, String> entry : map.entrySet() ) {
+			writeString( out, entry.getKey() );
+			writeString( out, entry.getValue() );
+		}
+	}
+
+	private static Map<String, String> readMap(DataInputStream in) throws IOException {
+		final int size = in.readInt();
+		final Map<String, String> map = new LinkedHashMap<>();
+		for ( int i = 0; i < size; i++ ) {
+			map.put( readString( in ), readString( in ) );
+		}
+		return map;
+	}
+
+	private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+		writeString( out, value == null ? null : value.name() );
+	}
+
+	private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> enumType) throws IOException {
+		final String name = readString( in );
+		return name == null ? null : Enum.valueOf( enumType, name );
+	}
+
+	/**
+	 * Length-prefixed UTF-8 ({@code -1} for {@code null}); unlike {@linkplain DataOutputStream#writeUTF}
+	 * not limited to 64K, which matters for sub-selects and filter conditions
+	 */
+	static void writeString(DataOutputStream out, String value) throws IOException {
+		if ( value == null ) {
+			out.writeInt( -1 );
+			return;
+		}
+		final byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+		out.writeInt( bytes.length );
+		out.write( bytes );
+	}
+
+	static String readString(DataInputStream in) throws IOException {
+		final int length = in.readInt();
+		if ( length < 0 ) {
+			return null;
+		}
+		final byte[] bytes = new byte[length];
+		in.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+}
@@ -0,0 +1,367 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.boot.model.IdentifierGeneratorDefinition;
+import org.hibernate.boot.model.convert.internal.ClassBasedConverterDescriptor;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.ColumnData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.FilterDefData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.GeneratorData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.PropertyData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.SoftDeleteData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.TableData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.TypeData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData.ValueData;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.InFlightMetadataCollector;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.engine.spi.FilterDefinition;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.IdentifiableTypeClass;
+import org.hibernate.mapping.JoinedSubclass;
+import org.hibernate.mapping.MappedSuperclass;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.RootClass;
+import org.hibernate.mapping.SingleTableSubclass;
+import org.hibernate.mapping.Table;
+import org.hibernate.mapping.UnionSubclass;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.models.ModelsException;
+import org.hibernate.type.spi.TypeConfiguration;
+
+import jakarta.persistence.AttributeConverter;
+
+import static org.hibernate.boot.models.bind.ModelBindingLogging.MODEL_BINDING_LOGGER;
+
+/**
+ * Restores a {@linkplain BoundModelSnapshotData snapshot} into a {@linkplain InFlightMetadataCollector},
+ * creating the same boot model objects, in the same order, as binding does.
+ */
+public class BoundModelSnapshotRestorer {
+	private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+			"boolean", boolean.class,
+			"byte", byte.class,
+			"char", char.class,
+			"short", short.class,
+			"int", int.class,
+			"long", long.class,
+			"float", float.class,
+			"double", double.class
+	);
+
+	public static void restore(BoundModelSnapshotData data, MetadataBuildingContext metadataBuildingContext) {
+		final BoundModelSnapshotRestorer restorer = new BoundModelSnapshotRestorer( metadataBuildingContext );
+		restorer.restoreGlobals( data );
+		restorer.restoreTables( data.tables() );
+		data.types().forEach( restorer::restoreType );
+		MODEL_BINDING_LOGGER.debugf(
+				"Restored bound model snapshot - %s tables, %s types",
+				data.tables().size(),
+				data.types().size()
+		);
+	}
+
+	private final MetadataBuildingContext metadataBuildingContext;
+	private final InFlightMetadataCollector metadataCollector;
+	private final ClassLoaderService classLoaderService;
+
+	private final List<Table> tables = new ArrayList<>();
+	private final Map<String, PersistentClass> entities = new HashMap<>();
+	private final Map<String, MappedSuperclass> mappedSuperclasses = new HashMap<>();
+
+	private BoundModelSnapshotRestorer(MetadataBuildingContext metadataBuildingContext) {
+		this.metadataBuildingContext = metadataBuildingContext;
+		this.metadataCollector = metadataBuildingContext.getMetadataCollector();
+		this.classLoaderService = metadataBuildingContext.getBootstrapContext()
+				.getServiceRegistry()
+				.getService( ClassLoaderService.class );
+	}
+
+	private void restoreGlobals(BoundModelSnapshotData data) {
+		for ( GeneratorData generator : data.generators() ) {
+			metadataCollector.addIdentifierGenerator( new IdentifierGeneratorDefinition(
+					generator.name(),
+					generator.strategy(),
+					generator.parameters()
+			) );
+		}
+
+		final TypeConfiguration typeConfiguration = metadataBuildingContext.getBootstrapContext().getTypeConfiguration();
+		for ( FilterDefData filterDef : data.filterDefs() ) {
+			final Map<String, JdbcMapping> parameters = new HashMap<>();
+			filterDef.parameterTypes().forEach( (name, type) -> parameters.put(
+					name,
+					typeConfiguration.getBasicTypeForJavaType( loadClass( type ) )
+			) );
+			metadataCollector.addFilterDefinition( new FilterDefinition(
+					filterDef.name(),
+					filterDef.defaultCondition(),
+					parameters
+			) );
+		}
+	}
+
+	private void restoreTables(List<TableData> tableDataList) {
+		for ( TableData tableData : tableDataList ) {
+			final Table table;
+			if ( tableData.denormalized() ) {
+				final Table included;
+				if ( tableData.includedTable() == BoundModelSnapshotData.UNION_ROOT_PLACEHOLDER ) {
+					// see TableBinder#processUnionTable
+					included = new Table( "orm" );
+					included.setAbstract( true );
+				}
+				else {
+					included = tables.get( tableData.includedTable() );
+				}
+				table = metadataCollector.addDenormalizedTable(
+						tableData.schema(),
+						tableData.catalog(),
+						tableData.name(),
+						tableData.isAbstract(),
+						tableData.subselect(),
+						included,
+						metadataBuildingContext
+				);
+			}
+			else {
+				table = metadataCollector.addTable(
+						tableData.schema(),
+						tableData.catalog(),
+						tableData.name(),
+						tableData.subselect(),
+						tableData.isAbstract(),
+						metadataBuildingContext
+				);
+			}
+
+			if ( tableData.comment() != null ) {
+				table.setComment( tableData.comment() );
+			}
+			tables.add( table );
+		}
+	}
+
+	private Table table(int index) {
+		return index < 0 ? null : tables.get( index );
+	}
+
+	private void restoreType(TypeData typeData) {
+		final IdentifiableTypeClass typeBinding = switch ( typeData.kind() ) {
+			case MAPPED_SUPERCLASS -> restoreMappedSuperclass( typeData );
+			default -> restoreEntity( typeData );
+		};
+
+		for ( PropertyData propertyData : typeData.properties() ) {
+			typeBinding.applyProperty( restoreProperty( propertyData ) );
+		}
+	}
+
+	private MappedSuperclass restoreMappedSuperclass(TypeData typeData) {
+		final MappedSuperclass binding = new MappedSuperclass(
+				superMappedSuperclass( typeData ),
+				typeData.superEntity() == null ? null : superEntity( typeData ),
+				table( typeData.table() )
+		);
+		mappedSuperclasses.put( typeData.className(), binding );
+
+		metadataCollector.addMappedSuperclass( loadClass( typeData.className() ), binding );
+		metadataCollector.addImport( StringHelper.unqualify( typeData.className() ), typeData.className() );
+		return binding;
+	}
+
+	private PersistentClass restoreEntity(TypeData typeData) {
+		final PersistentClass binding = switch ( typeData.kind() ) {
+			case ROOT -> new RootClass( metadataBuildingContext );
+			case JOINED_SUBCLASS -> new JoinedSubclass( superEntity( typeData ), metadataBuildingContext );
+			case UNION_SUBCLASS -> new UnionSubclass( superEntity( typeData ), metadataBuildingContext );
+			case SINGLE_TABLE_SUBCLASS -> new SingleTableSubclass( superEntity( typeData ), metadataBuildingContext );
+			default -> throw new ModelsException( "Unexpected entity kind in snapshot - " + typeData.kind() );
+		};
+		binding.setClassName( typeData.className() );
+		binding.setEntityName( typeData.entityName() );
+		binding.setJpaEntityName( typeData.jpaEntityName() );
+		entities.put( typeData.entityName(), binding );
+
+		metadataCollector.addEntityBinding( binding );
+		metadataCollector.addImport( typeData.jpaEntityName(), typeData.entityName() );
+
+		if ( binding instanceof org.hibernate.mapping.TableOwner tableOwner ) {
+			tableOwner.setTable( table( typeData.table() ) );
+		}
+
+		final MappedSuperclass superMappedSuperclass = superMappedSuperclass( typeData );
+		if ( superMappedSuperclass != null ) {
+			binding.setSuperMappedSuperclass( superMappedSuperclass );
+		}
+
+		if ( binding instanceof RootClass rootClass ) {
+			if ( typeData.softDelete() != null ) {
+				restoreSoftDelete( typeData.softDelete(), rootClass );
+			}
+			if ( typeData.optimisticLockStyle() != null ) {
+				rootClass.setOptimisticLockStyle( typeData.optimisticLockStyle() );
+			}
+			if ( typeData.cacheRegionName() != null ) {
+				rootClass.setCacheRegionName( typeData.cacheRegionName() );
+				rootClass.setCacheConcurrencyStrategy( typeData.cacheConcurrencyStrategy() );
+				rootClass.setLazyPropertiesCacheable( typeData.lazyPropertiesCacheable() );
+			}
+			if ( typeData.naturalIdCacheRegionName() != null ) {
+				rootClass.setNaturalIdCacheRegionName( typeData.naturalIdCacheRegionName() );
+			}
+		}
+
+		if ( typeData.cached() != null ) {
+			binding.setCached( typeData.cached() );
+		}
+
+		typeData.filters().forEach( (filter) -> binding.addFilter(
+				filter.name(),
+				filter.condition(),
+				filter.autoAliasInjection(),
+				null,
+				null
+		) );
+
+		return binding;
+	}
+
+	private PersistentClass superEntity(TypeData typeData) {
+		final PersistentClass superEntity = entities.get( typeData.superEntity() );
+		if ( superEntity == null ) {
+			throw new ModelsException( "Snapshot refers to unknown super entity - " + typeData.superEntity() );
+		}
+		return superEntity;
+	}
+
+	private MappedSuperclass superMappedSuperclass(TypeData typeData) {
+		if ( typeData.superMappedSuperclass() == null ) {
+			return null;
+		}
+		final MappedSuperclass superMappedSuperclass = mappedSuperclasses.get( typeData.superMappedSuperclass() );
+		if ( superMappedSuperclass == null ) {
+			throw new ModelsException( "Snapshot refers to unknown mapped-superclass - " + typeData.superMappedSuperclass() );
+		}
+		return superMappedSuperclass;
+	}
+
+	/**
+	 * @see org.hibernate.boot.models.bind.internal.binders.EntityTypeBinder
+	 */
+	private void restoreSoftDelete(SoftDeleteData softDeleteData, RootClass rootClass) {
+		final Table table = rootClass.getTable();
+		final ClassBasedConverterDescriptor converterDescriptor = converterDescriptor( softDeleteData.converter() );
+
+		final BasicValue softDeleteIndicatorValue = new BasicValue( metadataBuildingContext, table );
+		softDeleteIndicatorValue.makeSoftDelete( softDeleteData.strategy() );
+		softDeleteIndicatorValue.setJpaAttributeConverterDescriptor( converterDescriptor );
+		softDeleteIndicatorValue.setImplicitJavaTypeAccess( (typeConfiguration) -> converterDescriptor.getRelationalValueResolvedType().getErasedType() );
+
+		final Column softDeleteColumn = restoreColumn( softDeleteData.column() );
+		softDeleteColumn.setValue( softDeleteIndicatorValue );
+		softDeleteIndicatorValue.addColumn( softDeleteColumn );
+
+		table.addColumn( softDeleteColumn );
+		rootClass.enableSoftDelete( softDeleteColumn );
+	}
+
+	private Property restoreProperty(PropertyData propertyData) {
+		final Property property = new Property();
+		property.setName( propertyData.name() );
+		property.setValue( restoreValue( propertyData.value() ) );
+		property.setInsertable( propertyData.insertable() );
+		property.setUpdateable( propertyData.updateable() );
+		property.setOptimisticLocked( propertyData.optimisticLocked() );
+		property.setNaturalIdentifier( propertyData.naturalIdentifier() );
+		return property;
+	}
+
+	/**
+	 * @see org.hibernate.boot.models.bind.internal.binders.AttributeBinder
+	 */
+	private BasicValue restoreValue(ValueData valueData) {
+		final Table table = table( valueData.table() );
+		final BasicValue basicValue = table == null
+				? new BasicValue( metadataBuildingContext )
+				: new BasicValue( metadataBuildingContext, table );
+
+		for ( ColumnData columnData : valueData.columns() ) {
+			final Column column = restoreColumn( columnData );
+			basicValue.addColumn( column );
+			if ( columnData.addedToTable() && table != null ) {
+				table.addColumn( column );
+			}
+		}
+
+		if ( valueData.lob() ) {
+			basicValue.makeLob();
+		}
+		if ( valueData.nationalized() ) {
+			basicValue.makeNationalized();
+		}
+		if ( valueData.enumerationStyle() != null ) {
+			basicValue.setEnumerationStyle( valueData.enumerationStyle() );
+		}
+		if ( valueData.converter() != null ) {
+			basicValue.setJpaAttributeConverterDescriptor( converterDescriptor( valueData.converter() ) );
+		}
+
+		final Class<?> implicitJavaType = loadClass( valueData.implicitJavaType() );
+		basicValue.setImplicitJavaTypeAccess( (typeConfiguration) -> implicitJavaType );
+
+		if ( valueData.jdbcTypeCode() != null ) {
+			basicValue.setExplicitJdbcTypeCode( valueData.jdbcTypeCode() );
+		}
+		if ( valueData.temporalPrecision() != null ) {
+			basicValue.setTemporalPrecision( valueData.temporalPrecision() );
+		}
+		if ( valueData.timeZoneStorageType() != null ) {
+			basicValue.setTimeZoneStorageType( valueData.timeZoneStorageType() );
+		}
+
+		return basicValue;
+	}
+
+	private static Column restoreColumn(ColumnData columnData) {
+		final Column column = new Column();
+		column.setName( columnData.name() );
+		column.setSqlType( columnData.sqlType() );
+		column.setLength( columnData.length() );
+		column.setPrecision( columnData.precision() );
+		column.setScale( columnData.scale() );
+		column.setNullable( columnData.nullable() );
+		column.setUnique( columnData.unique() );
+		column.setComment( columnData.comment() );
+		return column;
+	}
+
+	private ClassBasedConverterDescriptor converterDescriptor(String converterClassName) {
+		final Class<AttributeConverter<?, ?>> converterClass = loadClass( converterClassName );
+		return new ClassBasedConverterDescriptor(
+				converterClass,
+				metadataBuildingContext.getBootstrapContext().getClassmateContext()
+		);
+	}
+
+	private <T> Class<T> loadClass(String name) {
+		final Class<?> primitive = PRIMITIVES.get( name );
+		if ( primitive != null ) {
+			//noinspection unchecked
+			return (Class<T>) primitive;
+		}
+		return classLoaderService.classForName( name );
+	}
+}
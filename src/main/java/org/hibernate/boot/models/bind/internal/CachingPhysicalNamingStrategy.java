@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+
+/**
+ * Wrapper around a {@linkplain PhysicalNamingStrategy}, scoped to a single binding, which remembers
+ * the translated catalog and schema names.
+ * <p/>
+ * Every table translates its catalog and schema - mostly the same default ones - so those few
+ * names are otherwise translated once per table.  Table, sequence and column names are mostly
+ * distinct and are always passed straight through to the delegate.
+ * <p/>
+ * Results are keyed by the {@linkplain Identifier#render() rendered} logical name rather than by
+ * the {@linkplain Identifier} itself, as {@linkplain Identifier#equals} ignores case for unquoted
+ * names while strategies need not.  Only calls using the binding's {@linkplain JdbcEnvironment} are
+ * cached; any other is passed straight through to the delegate.
+ * <p/>
+ * Not thread-safe.
+ */
+public class CachingPhysicalNamingStrategy implements PhysicalNamingStrategy {
+	private final PhysicalNamingStrategy delegate;
+	private final JdbcEnvironment jdbcEnvironment;
+
+	private final Map<String, Identifier> catalogNames = new HashMap<>();
+	private final Map<String, Identifier> schemaNames = new HashMap<>();
+
+	public CachingPhysicalNamingStrategy(PhysicalNamingStrategy delegate, JdbcEnvironment jdbcEnvironment) {
+		this.delegate = delegate;
+		this.jdbcEnvironment = jdbcEnvironment;
+	}
+
+	public PhysicalNamingStrategy getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Identifier toPhysicalCatalogName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+		return resolve( logicalName, jdbcEnvironment, catalogNames, delegate::toPhysicalCatalogName );
+	}
+
+	@Override
+	public Identifier toPhysicalSchemaName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+		return resolve( logicalName, jdbcEnvironment, schemaNames, delegate::toPhysicalSchemaName );
+	}
+
+	@Override
+	public Identifier toPhysicalTableName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+		return delegate.toPhysicalTableName( logicalName, jdbcEnvironment );
+	}
+
+	@Override
+	public Identifier toPhysicalSequenceName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+		return delegate.toPhysicalSequenceName( logicalName, jdbcEnvironment );
+	}
+
+	@Override
+	public Identifier toPhysicalColumnName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+		return delegate.toPhysicalColumnName( logicalName, jdbcEnvironment );
+	}
+
+	private Identifier resolve(
+			Identifier logicalName,
+			JdbcEnvironment jdbcEnvironment,
+			Map<String, Identifier> cache,
+			BiFunction<Identifier, JdbcEnvironment, Identifier> translator) {
+		if ( logicalName == null || jdbcEnvironment != this.jdbcEnvironment ) {
+			return translator.apply( logicalName, jdbcEnvironment );
+		}
+
+		final String key = logicalName.render();
+		final Identifier existing = cache.get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final Identifier physicalName = translator.apply( logicalName, jdbcEnvironment );
+		if ( physicalName != null ) {
+			cache.put( key, physicalName );
+		}
+		return physicalName;
+	}
+}
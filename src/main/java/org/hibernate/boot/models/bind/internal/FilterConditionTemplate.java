@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hibernate.boot.models.bind.ModelBindingLogging.MODEL_BINDING_LOGGER;
+
+/**
+ * The {@code :name} parameter references of a {@linkplain org.hibernate.annotations.FilterDef filter} condition,
+ * used to warn about parameters the filter-def does not declare.
+ * <p/>
+ * Parameter markers within quoted literals and identifiers are ignored, as are {@code ::}
+ * casts.
+ */
+public class FilterConditionTemplate {
+	/**
+	 * Parse the condition
+	 */
+	public static FilterConditionTemplate parse(String condition) {
+		final List<String> parameterReferences = new ArrayList<>();
+
+		final int length = condition.length();
+		char quote = 0;
+		int i = 0;
+		while ( i < length ) {
+			final char character = condition.charAt( i );
+			if ( quote != 0 ) {
+				// an escaped quote ('') simply closes and re-opens the literal
+				if ( character == quote ) {
+					quote = 0;
+				}
+				i++;
+			}
+			else if ( character == '\'' || character == '"' || character == '`' ) {
+				quote = character;
+				i++;
+			}
+			else if ( character == ':' && i + 1 < length && condition.charAt( i + 1 ) == ':' ) {
+				i += 2;
+			}
+			else if ( character == ':' && i + 1 < length && Character.isJavaIdentifierStart( condition.charAt( i + 1 ) ) ) {
+				int end = i + 2;
+				while ( end < length && Character.isJavaIdentifierPart( condition.charAt( end ) ) ) {
+					end++;
+				}
+				parameterReferences.add( condition.substring( i + 1, end ) );
+				i = end;
+			}
+			else {
+				i++;
+			}
+		}
+
+		return new FilterConditionTemplate( condition, parameterReferences );
+	}
+
+	private final String condition;
+	private final List<String> parameterReferences;
+	private final Set<String> parameterNames;
+
+	private FilterConditionTemplate(String condition, List<String> parameterReferences) {
+		this.condition = condition;
+		this.parameterReferences = Collections.unmodifiableList( parameterReferences );
+		this.parameterNames = parameterReferences.isEmpty()
+				? Collections.emptySet()
+				: Collections.unmodifiableSet( new LinkedHashSet<>( parameterReferences ) );
+	}
+
+	/**
+	 * The condition as specified
+	 */
+	public String getCondition() {
+		return condition;
+	}
+
+	/**
+	 * The names of the parameters, in order of reference, including repeated references
+	 */
+	public List<String> getParameterReferences() {
+		return parameterReferences;
+	}
+
+	/**
+	 * The distinct names of the parameters referenced
+	 */
+	public Set<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * Warn about any parameter referenced by the condition which the filter-def does not declare, as
+	 * enabling the filter would fail.
+	 */
+	public void checkParameters(String filterName, Map<String, ?> declaredParameters) {
+		for ( String parameterName : parameterNames ) {
+			if ( declaredParameters == null || !declaredParameters.containsKey( parameterName ) ) {
+				MODEL_BINDING_LOGGER.warnf(
+						"Condition of filter `%s` references undeclared parameter `%s` - %s",
+						filterName,
+						parameterName,
+						condition
+				);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "FilterConditionTemplate(" + condition + ")";
+	}
+}
@@ -0,0 +1,273 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.models.bind.internal.binders.EntityTypeBinder;
+import org.hibernate.boot.models.bind.spi.BindingContext;
+import org.hibernate.boot.models.bind.spi.BindingState;
+import org.hibernate.boot.models.bind.spi.TableDependencyGraph;
+import org.hibernate.boot.models.bind.spi.TableDependencyGraph.DependencyNature;
+import org.hibernate.boot.models.bind.spi.TableDependencyGraph.TableDependency;
+import org.hibernate.boot.models.bind.spi.TableReference;
+import org.hibernate.boot.models.categorize.internal.AttributeTargetHelper;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Table;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.OneToOne;
+
+/**
+ * Builds the {@linkplain TableDependencyGraph} of a bound model.
+ * <p/>
+ * Dependencies come from the {@linkplain ForeignKey foreign keys} of the bound tables as well as
+ * from the mapping itself - joined subclasses, secondary tables and to-one associations - since
+ * binding does not (yet) create foreign keys for those.
+ */
+public class TableDependencyGraphBuilder {
+	public static TableDependencyGraph buildGraph(BindingState bindingState, BindingContext bindingContext) {
+		final TableDependencyGraphBuilder builder = new TableDependencyGraphBuilder( bindingState, bindingContext );
+		builder.collectTables();
+		builder.collectForeignKeyDependencies();
+		builder.collectMappingDependencies();
+		return builder.buildGraph();
+	}
+
+	private final BindingState bindingState;
+	private final BindingContext bindingContext;
+
+	private final List<TableReference> tables = new ArrayList<>();
+	private final Map<Table, TableReference> tablesByBinding = new IdentityHashMap<>();
+	private final Map<String, EntityTypeMetadata> entityTypes = new HashMap<>();
+	private final Set<TableDependency> dependencies = new LinkedHashSet<>();
+
+	private TableDependencyGraphBuilder(BindingState bindingState, BindingContext bindingContext) {
+		this.bindingState = bindingState;
+		this.bindingContext = bindingContext;
+	}
+
+	private void collectTables() {
+		bindingState.forEachTable( (name, table) -> {
+			if ( table.exportable() ) {
+				tables.add( table );
+				tablesByBinding.put( table.binding(), table );
+			}
+		} );
+		tables.sort( Comparator.comparing( (table) -> table.logicalName().getCanonicalName() ) );
+
+		bindingState.forEachType( (name, binder) -> {
+			if ( binder instanceof EntityTypeBinder entityTypeBinder ) {
+				entityTypes.put( name, entityTypeBinder.getManagedType() );
+			}
+		} );
+	}
+
+	private void collectForeignKeyDependencies() {
+		for ( TableReference table : tables ) {
+			for ( ForeignKey foreignKey : table.binding().getForeignKeys().values() ) {
+				final TableReference target = tablesByBinding.get( foreignKey.getReferencedTable() );
+				if ( target != null ) {
+					addDependency( table, target, DependencyNature.FOREIGN_KEY, foreignKey.getName() );
+				}
+			}
+		}
+	}
+
+	private void collectMappingDependencies() {
+		entityTypes.values().stream()
+				.sorted( Comparator.comparing( (type) -> type.getClassDetails().getName() ) )
+				.forEach( (type) -> {
+					final TableReference primaryTable = resolveEntityTable( type );
+					if ( primaryTable == null ) {
+						return;
+					}
+
+					if ( type.getHierarchy().getInheritanceType() == InheritanceType.JOINED ) {
+						final EntityTypeMetadata superEntity = findSuperEntity( type );
+						if ( superEntity != null ) {
+							final TableReference superTable = resolveEntityTable( superEntity );
+							if ( superTable != null ) {
+								addDependency( primaryTable, superTable, DependencyNature.SUPER_TYPE, type.getEntityName() );
+							}
+						}
+					}
+
+					for ( SecondaryTable secondaryTable : bindingState.getSecondaryTables( type ) ) {
+						if ( tablesByBinding.containsKey( secondaryTable.binding() ) ) {
+							addDependency( secondaryTable, primaryTable, DependencyNature.SECONDARY_TABLE, type.getEntityName() );
+						}
+					}
+
+					// attributes of mapped-superclasses are stored in the table of the entity
+					IdentifiableTypeMetadata declaringType = type;
+					do {
+						collectToOneDependencies( type, declaringType, primaryTable );
+						declaringType = declaringType.getSuperType();
+					} while ( declaringType != null && !( declaringType instanceof EntityTypeMetadata ) );
+				} );
+	}
+
+	private void collectToOneDependencies(
+			EntityTypeMetadata entityType,
+			IdentifiableTypeMetadata declaringType,
+			TableReference primaryTable) {
+		declaringType.forEachAttribute( (index, attribute) -> {
+			if ( attribute.getNature() != AttributeMetadata.AttributeNature.TO_ONE ) {
+				return;
+			}
+			if ( attribute.getMember().getAnnotationUsage( JoinTable.class ) != null ) {
+				// join tables are not bound (yet)
+				return;
+			}
+			final AnnotationUsage<OneToOne> oneToOne = attribute.getMember().getAnnotationUsage( OneToOne.class );
+			if ( oneToOne != null && StringHelper.isNotEmpty( oneToOne.getString( "mappedBy" ) ) ) {
+				// no columns on this side
+				return;
+			}
+
+			final ClassDetails targetClass = AttributeTargetHelper.determineTarget(
+					attribute.getMember(),
+					attribute.getNature(),
+					false,
+					bindingContext.getClassDetailsRegistry()
+			);
+			final EntityTypeMetadata targetType = targetClass == null ? null : entityTypes.get( targetClass.getName() );
+			final TableReference targetTable = targetType == null ? null : resolveEntityTable( targetType );
+			if ( targetTable == null ) {
+				return;
+			}
+
+			addDependency(
+					resolveJoinColumnTable( entityType, attribute, primaryTable ),
+					targetTable,
+					DependencyNature.TO_ONE,
+					declaringType.getClassDetails().getName() + "." + attribute.getName()
+			);
+		} );
+	}
+
+	/**
+	 * The table holding the join column(s) - the primary table unless the join column names a secondary table
+	 */
+	private TableReference resolveJoinColumnTable(
+			EntityTypeMetadata entityType,
+			AttributeMetadata attribute,
+			TableReference primaryTable) {
+		final List<AnnotationUsage<JoinColumn>> joinColumns = attribute.getMember().getRepeatedAnnotationUsages( JoinColumn.class );
+		if ( joinColumns.isEmpty() ) {
+			return primaryTable;
+		}
+		final String tableName = joinColumns.get( 0 ).getString( "table" );
+		if ( StringHelper.isEmpty( tableName ) ) {
+			return primaryTable;
+		}
+
+		final String canonicalName = bindingState.getIdentifierInterner().toCanonicalName( tableName );
+		for ( SecondaryTable secondaryTable : bindingState.getSecondaryTables( entityType ) ) {
+			if ( secondaryTable.logicalName().getCanonicalName().equals( canonicalName )
+					&& tablesByBinding.containsKey( secondaryTable.binding() ) ) {
+				return secondaryTable;
+			}
+		}
+		return primaryTable;
+	}
+
+	/**
+	 * The exportable table of the entity - its own, or that of its hierarchy root (single-table inheritance e.g.)
+	 */
+	private TableReference resolveEntityTable(EntityTypeMetadata type) {
+		final TableReference table = bindingState.getTableByOwner( type );
+		if ( table != null && tablesByBinding.containsKey( table.binding() ) ) {
+			return table;
+		}
+		final TableReference rootTable = bindingState.getTableByOwner( type.getHierarchy().getRoot() );
+		if ( rootTable != null && tablesByBinding.containsKey( rootTable.binding() ) ) {
+			return rootTable;
+		}
+		return null;
+	}
+
+	private static EntityTypeMetadata findSuperEntity(EntityTypeMetadata type) {
+		IdentifiableTypeMetadata superType = type.getSuperType();
+		while ( superType != null ) {
+			if ( superType instanceof EntityTypeMetadata superEntity ) {
+				return superEntity;
+			}
+			superType = superType.getSuperType();
+		}
+		return null;
+	}
+
+	private void addDependency(TableReference dependent, TableReference target, DependencyNature nature, String description) {
+		dependencies.add( new TableDependency( dependent, target, nature, description ) );
+	}
+
+	/**
+	 * Arrange the tables into waves (Kahn's algorithm, level by level).  Self-references do not
+	 * affect ordering; tables left over once no table is free of dependencies are involved in
+	 * (or depend on) a cycle and make up a final wave.
+	 */
+	private TableDependencyGraph buildGraph() {
+		final Map<TableReference, Set<TableReference>> pending = new IdentityHashMap<>();
+		final Map<TableReference, List<TableReference>> dependents = new IdentityHashMap<>();
+		for ( TableReference table : tables ) {
+			pending.put( table, new LinkedHashSet<>() );
+		}
+		for ( TableDependency dependency : dependencies ) {
+			if ( dependency.dependent() != dependency.target() ) {
+				if ( pending.get( dependency.dependent() ).add( dependency.target() ) ) {
+					dependents.computeIfAbsent( dependency.target(), (t) -> new ArrayList<>() ).add( dependency.dependent() );
+				}
+			}
+		}
+
+		final List<List<TableReference>> waves = new ArrayList<>();
+		final List<TableReference> remaining = new ArrayList<>( tables );
+		while ( !remaining.isEmpty() ) {
+			final List<TableReference> wave = new ArrayList<>();
+			for ( TableReference table : remaining ) {
+				if ( pending.get( table ).isEmpty() ) {
+					wave.add( table );
+				}
+			}
+			if ( wave.isEmpty() ) {
+				break;
+			}
+
+			waves.add( wave );
+			remaining.removeAll( wave );
+			for ( TableReference created : wave ) {
+				for ( TableReference dependent : dependents.getOrDefault( created, List.of() ) ) {
+					pending.get( dependent ).remove( created );
+				}
+			}
+		}
+
+		final boolean cyclic = !remaining.isEmpty();
+		if ( cyclic ) {
+			waves.add( remaining );
+		}
+
+		return new TableDependencyGraph( List.copyOf( tables ), List.copyOf( dependencies ), waves, cyclic );
+	}
+}
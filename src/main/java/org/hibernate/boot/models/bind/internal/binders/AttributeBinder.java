@@ -6,7 +6,6 @@
  */
 package org.hibernate.boot.models.bind.internal.binders;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,7 +20,6 @@ import org.hibernate.annotations.TimeZoneColumn;
 import org.hibernate.annotations.TimeZoneStorage;
 import org.hibernate.annotations.TimeZoneStorageType;
 import org.hibernate.boot.model.convert.internal.ClassBasedConverterDescriptor;
-import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.models.bind.internal.BindingHelper;
 import org.hibernate.boot.models.bind.spi.BindingContext;
 import org.hibernate.boot.models.bind.spi.BindingOptions;
@@ -36,8 +34,6 @@ import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
 import org.hibernate.models.spi.AnnotationUsage;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.MemberDetails;
-import org.hibernate.type.descriptor.java.BasicJavaType;
-import org.hibernate.type.descriptor.java.MutabilityPlan;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Column;
@@ -60,6 +56,7 @@ public class AttributeBinder {
 	private final BindingState bindingState;
 	private final BindingOptions bindingOptions;
 	private final BindingContext bindingContext;
+	private final DescriptorInstances descriptorInstances;
 
 	private final Property binding;
 
@@ -69,11 +66,13 @@ public class AttributeBinder {
 			AttributeMetadata attributeMetadata,
 			BindingState bindingState,
 			BindingOptions bindingOptions,
-			BindingContext bindingContext) {
+			BindingContext bindingContext,
+			DescriptorInstances descriptorInstances) {
 		this.attributeMetadata = attributeMetadata;
 		this.bindingState = bindingState;
 		this.bindingOptions = bindingOptions;
 		this.bindingContext = bindingContext;
+		this.descriptorInstances = descriptorInstances;
 
 		this.binding = new Property();
 		binding.setName( attributeMetadata.getName() );
@@ -102,10 +101,14 @@ public class AttributeBinder {
 		BindingHelper.processSecondPassQueue( valueSecondPasses );
 	}
 
+	public boolean processAvailableSecondPasses() {
+		return BindingHelper.processAvailableSecondPasses( valueSecondPasses );
+	}
+
 	private BasicValue createBasicValue() {
 		final BasicValue basicValue = new BasicValue( bindingState.getMetadataBuildingContext() );
 		// probably we don't need this as a second pass...
-		registerValueSecondPass( new BasicValueSecondPass( attributeMetadata, getBinding(), basicValue, bindingState, bindingContext ) );
+		registerValueSecondPass( new BasicValueSecondPass( attributeMetadata, getBinding(), basicValue, bindingState, bindingContext, descriptorInstances ) );
 
 		return basicValue;
 	}
@@ -124,8 +127,7 @@ public class AttributeBinder {
 			final var tableName = columnAnn.getString( "table", null );
 			TableReference tableByName = null;
 			if ( tableName != null ) {
-				final Identifier identifier = Identifier.toIdentifier( tableName );
-				tableByName = bindingState.getTableByName( identifier.getCanonicalName() );
+				tableByName = bindingState.findTableByMappedName( tableName );
 				basicValue.setTable( tableByName.binding() );
 			}
 		}
@@ -133,6 +135,15 @@ public class AttributeBinder {
 		basicValue.addColumn( column );
 	}
 
+	private static boolean isColumnTableAvailable(MemberDetails member, BindingState bindingState) {
+		final var columnAnn = member.getAnnotationUsage( Column.class );
+		if ( columnAnn == null ) {
+			return true;
+		}
+		final var tableName = columnAnn.getString( "table", null );
+		return tableName == null || bindingState.findTableByMappedName( tableName ) != null;
+	}
+
 	private static void processLob(MemberDetails member, BasicValue basicValue) {
 		if ( member.getAnnotationUsage( Lob.class ) != null ) {
 			basicValue.makeLob();
@@ -180,28 +191,22 @@ public class AttributeBinder {
 		) );
 	}
 
-	private static void processJavaType(MemberDetails member, BasicValue basicValue) {
+	private static void processJavaType(MemberDetails member, BasicValue basicValue, DescriptorInstances descriptorInstances) {
 		// todo : do we need to account for JavaTypeRegistration here?
 		final var javaTypeAnn = member.getAnnotationUsage( JavaType.class );
 		if ( javaTypeAnn == null ) {
 			return;
 		}
 
-		basicValue.setExplicitJavaTypeAccess( (typeConfiguration) -> {
-			final var classDetails = javaTypeAnn.getClassDetails( "value" );
-			final Class<BasicJavaType<?>> javaClass = classDetails.toJavaClass();
-			try {
-				return javaClass.getConstructor().newInstance();
-			}
-			catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-				final ModelsException modelsException = new ModelsException( "Error instantiating local @JavaType - " + member.getName() );
-				modelsException.addSuppressed( e );
-				throw modelsException;
-			}
-		} );
+		basicValue.setExplicitJavaTypeAccess( (typeConfiguration) -> resolveDescriptorInstance(
+				javaTypeAnn.getClassDetails( "value" ),
+				"@JavaType",
+				member,
+				descriptorInstances
+		) );
 	}
 
-	private static void processJdbcType(MemberDetails member, BasicValue basicValue) {
+	private static void processJdbcType(MemberDetails member, BasicValue basicValue, DescriptorInstances descriptorInstances) {
 		// todo : do we need to account for JdbcTypeRegistration here?
 		final var jdbcTypeAnn = member.getAnnotationUsage( JdbcType.class );
 		final var jdbcTypeCodeAnn = member.getAnnotationUsage( JdbcTypeCode.class );
@@ -213,18 +218,12 @@ public class AttributeBinder {
 				);
 			}
 
-			basicValue.setExplicitJdbcTypeAccess( (typeConfiguration) -> {
-				final var classDetails = jdbcTypeAnn.getClassDetails( "value" );
-				final Class<org.hibernate.type.descriptor.jdbc.JdbcType> javaClass = classDetails.toJavaClass();
-				try {
-					return javaClass.getConstructor().newInstance();
-				}
-				catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-					final ModelsException modelsException = new ModelsException( "Error instantiating local @JdbcType - " + member.getName() );
-					modelsException.addSuppressed( e );
-					throw modelsException;
-				}
-			} );
+			basicValue.setExplicitJdbcTypeAccess( (typeConfiguration) -> resolveDescriptorInstance(
+					jdbcTypeAnn.getClassDetails( "value" ),
+					"@JdbcType",
+					member,
+					descriptorInstances
+			) );
 		}
 		else if ( jdbcTypeCodeAnn != null ) {
 			final Integer typeCode = jdbcTypeCodeAnn.getInteger( "value" );
@@ -234,7 +233,9 @@ public class AttributeBinder {
 
 	private static void processMutability(
 			MemberDetails member,
-			Property property, BasicValue basicValue) {
+			Property property,
+			BasicValue basicValue,
+			DescriptorInstances descriptorInstances) {
 		final var mutabilityAnn = member.getAnnotationUsage( Mutability.class );
 		final var immutableAnn = member.getAnnotationUsage( Immutable.class );
 
@@ -248,18 +249,31 @@ public class AttributeBinder {
 			property.setUpdateable( false );
 		}
 		else if ( mutabilityAnn != null ) {
-			basicValue.setExplicitMutabilityPlanAccess( (typeConfiguration) -> {
-				final ClassDetails classDetails = mutabilityAnn.getClassDetails( "value" );
-				final Class<MutabilityPlan<?>> javaClass = classDetails.toJavaClass();
-				try {
-					return javaClass.getConstructor().newInstance();
-				}
-				catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-					final ModelsException modelsException = new ModelsException( "Error instantiating local @MutabilityPlan - " + member.getName() );
-					modelsException.addSuppressed( e );
-					throw modelsException;
-				}
-			} );
+			basicValue.setExplicitMutabilityPlanAccess( (typeConfiguration) -> resolveDescriptorInstance(
+					mutabilityAnn.getClassDetails( "value" ),
+					"@MutabilityPlan",
+					member,
+					descriptorInstances
+			) );
+		}
+	}
+
+	/**
+	 * Stateless descriptor classes share a single instance per persistence-unit rather than
+	 * being instantiated once per attribute - see {@linkplain DescriptorInstances}
+	 */
+	private static <T> T resolveDescriptorInstance(
+			ClassDetails descriptorClass,
+			String annotationName,
+			MemberDetails member,
+			DescriptorInstances descriptorInstances) {
+		try {
+			return descriptorInstances.getInstance( descriptorClass );
+		}
+		catch (ModelsException e) {
+			final ModelsException modelsException = new ModelsException( "Error instantiating local " + annotationName + " - " + member.getName() );
+			modelsException.addSuppressed( e );
+			throw modelsException;
 		}
 	}
 
@@ -295,20 +309,26 @@ public class AttributeBinder {
 			Property property,
 			BasicValue basicValue,
 			BindingState bindingState,
-			BindingContext bindingContext) implements ValueSecondPass {
+			BindingContext bindingContext,
+			DescriptorInstances descriptorInstances) implements ValueSecondPass {
 
 		@Override
 			public boolean processValue() {
 				final MemberDetails member = attributeMetadata.getMember();
+				if ( !isColumnTableAvailable( member, bindingState ) ) {
+					// the column maps to a table not bound yet - retried once it is
+					return false;
+				}
+
 				processColumn( member, property, basicValue, bindingState, bindingContext );
 				processLob( member, basicValue );
 				processNationalized( member, basicValue );
 				processEnumerated( member, basicValue );
 				processConversion( member, basicValue, bindingContext );
 				processImplicitJavaType( member, basicValue );
-				processJavaType( member, basicValue );
-				processJdbcType( member, basicValue );
-				processMutability( member, property, basicValue );
+				processJavaType( member, basicValue, descriptorInstances );
+				processJdbcType( member, basicValue, descriptorInstances );
+				processMutability( member, property, basicValue, descriptorInstances );
 				processOptimisticLocking( member, property, basicValue );
 				processTemporalPrecision( member, basicValue );
 				processTimeZoneStorage( member, property, basicValue );
@@ -352,8 +372,7 @@ public class AttributeBinder {
 				final var tableName = columnAnn.getString( "table", null );
 				TableReference tableByName = null;
 				if ( tableName != null ) {
-					final Identifier identifier = Identifier.toIdentifier( tableName );
-					tableByName = bindingState.getTableByName( identifier.getCanonicalName() );
+					tableByName = bindingState.findTableByMappedName( tableName );
 					basicValue.setTable( tableByName.binding() );
 				}
 
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal.binders;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.spi.ClassDetails;
+
+/**
+ * Instances of the descriptor classes named by {@code @JavaType}, {@code @JdbcType} and
+ * {@code @Mutability}.
+ * <p/>
+ * A descriptor class whose instance fields (including inherited ones) are all {@code final}
+ * has no state which could differ between the attributes using it, so a single instance is
+ * shared for the binding.  Any other descriptor class is instantiated per use, through its
+ * constructor resolved on first use.
+ * <p/>
+ * Not thread-safe.
+ */
+public class DescriptorInstances {
+	private final Map<ClassDetails, Object> sharedInstances = new HashMap<>();
+	private final Map<ClassDetails, Constructor<?>> constructors = new HashMap<>();
+
+	/**
+	 * Access to an instance of the given descriptor class - shared if the class
+	 * {@linkplain #isShareable is shareable}, otherwise a new one
+	 */
+	public <T> T getInstance(ClassDetails descriptorClass) {
+		final Object existing = sharedInstances.get( descriptorClass );
+		if ( existing != null ) {
+			//noinspection unchecked
+			return (T) existing;
+		}
+
+		final Constructor<?> existingConstructor = constructors.get( descriptorClass );
+		if ( existingConstructor != null ) {
+			// known to not be shareable
+			return instantiate( descriptorClass, existingConstructor );
+		}
+
+		final Constructor<?> constructor = resolveConstructor( descriptorClass );
+		final T instance = instantiate( descriptorClass, constructor );
+		if ( isShareable( constructor.getDeclaringClass() ) ) {
+			sharedInstances.put( descriptorClass, instance );
+		}
+		else {
+			constructors.put( descriptorClass, constructor );
+		}
+		return instance;
+	}
+
+	private static Constructor<?> resolveConstructor(ClassDetails descriptorClass) {
+		try {
+			return descriptorClass.toJavaClass().getConstructor();
+		}
+		catch (NoSuchMethodException e) {
+			throw new ModelsException( "Error instantiating descriptor class - " + descriptorClass.getName(), e );
+		}
+	}
+
+	private static <T> T instantiate(ClassDetails descriptorClass, Constructor<?> constructor) {
+		try {
+			//noinspection unchecked
+			return (T) constructor.newInstance();
+		}
+		catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+			throw new ModelsException( "Error instantiating descriptor class - " + descriptorClass.getName(), e );
+		}
+	}
+
+	/**
+	 * Whether all instance fields declared by the class and its super classes are {@code final}
+	 */
+	public static boolean isShareable(Class<?> javaClass) {
+		Class<?> current = javaClass;
+		while ( current != null && current != Object.class ) {
+			for ( Field field : current.getDeclaredFields() ) {
+				final int modifiers = field.getModifiers();
+				if ( !Modifier.isStatic( modifiers ) && !Modifier.isFinal( modifiers ) ) {
+					return false;
+				}
+			}
+			current = current.getSuperclass();
+		}
+		return true;
+	}
+}
@@ -22,6 +22,7 @@ import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.models.bind.internal.BindingHelper;
+import org.hibernate.boot.models.bind.internal.FilterConditionTemplate;
 import org.hibernate.boot.models.bind.internal.SecondaryTable;
 import org.hibernate.boot.models.bind.spi.BindingContext;
 import org.hibernate.boot.models.bind.spi.BindingOptions;
@@ -50,6 +51,7 @@ import org.hibernate.models.ModelsException;
 import org.hibernate.boot.models.categorize.spi.CacheRegion;
 import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
 import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.FilterDefRegistration;
 import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.JpaEventListener;
 import org.hibernate.boot.models.categorize.spi.JpaEventListenerStyle;
@@ -149,6 +151,7 @@ public class EntityTypeBinder extends IdentifiableTypeBinder {
 		}
 
 		processCaching( classDetails, state, context );
+		processBatchSize( type );
 		processFilters( classDetails, state, context );
 		processJpaEventListeners( type, state, context );
 
@@ -566,6 +569,14 @@ public class EntityTypeBinder extends IdentifiableTypeBinder {
 		binding.setCached( cacheable );
 	}
 
+	private void processBatchSize(EntityTypeMetadata type) {
+		// explicit @BatchSize, or else any applied default
+		final int batchSize = type.getBatchSize();
+		if ( batchSize > 0 ) {
+			binding.setBatchSize( batchSize );
+		}
+	}
+
 	private void processFilters(ClassDetails classDetails, BindingState state, BindingContext context) {
 		final List<AnnotationUsage<Filter>> filters = classDetails.getRepeatedAnnotationUsages( Filter.class );
 		if ( CollectionHelper.isEmpty( filters ) ) {
@@ -573,9 +584,18 @@ public class EntityTypeBinder extends IdentifiableTypeBinder {
 		}
 
 		filters.forEach( (filter) -> {
+			final String name = filter.getString( "name" );
+			final String condition = filter.getString( "condition", null );
+			if ( StringHelper.isNotEmpty( condition ) ) {
+				final FilterDefRegistration filterDef = context.getGlobalRegistrations().getFilterDefRegistrations().get( name );
+				if ( filterDef != null ) {
+					FilterConditionTemplate.parse( condition ).checkParameters( name, filterDef.getParameters() );
+				}
+			}
+
 			binding.addFilter(
-					filter.getString( "name" ),
-					filter.getString( "condition", null ),
+					name,
+					condition,
 					filter.getAttributeValue( "deduceAliasInjectionPoints", true ),
 					extractFilterAliasTableMap( filter ),
 					extractFilterAliasEntityMap( filter )
@@ -597,6 +617,12 @@ public class EntityTypeBinder extends IdentifiableTypeBinder {
 		super.processSecondPasses();
 	}
 
+	@Override
+	public boolean processAvailableSecondPasses() {
+		final boolean tablesComplete = modelBinders.getTableBinder().processAvailableSecondPasses();
+		return super.processAvailableSecondPasses() && tablesComplete;
+	}
+
 	private void processSecondaryTable(SecondaryTable secondaryTable) {
 		final Join join = new Join();
 		join.setTable( secondaryTable.binding() );
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal.binders;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.boot.model.IdentifierGeneratorDefinition;
+import org.hibernate.boot.models.bind.spi.AllocationSizePolicy;
+import org.hibernate.boot.models.bind.spi.BindingContext;
+import org.hibernate.boot.models.bind.spi.BindingOptions;
+import org.hibernate.boot.models.bind.spi.BindingState;
+import org.hibernate.boot.models.categorize.spi.GenericGeneratorRegistration;
+import org.hibernate.boot.models.categorize.spi.SequenceGeneratorRegistration;
+import org.hibernate.boot.models.categorize.spi.TableGeneratorRegistration;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.models.internal.jdk.VoidClassDetails;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+
+import jakarta.persistence.SequenceGenerator;
+
+/**
+ * Binds {@linkplain SequenceGeneratorRegistration sequence}, {@linkplain TableGeneratorRegistration table}
+ * and {@linkplain GenericGeneratorRegistration generic} generator registrations as
+ * {@linkplain IdentifierGeneratorDefinition identifier generator definitions}, applying the
+ * {@linkplain AllocationSizePolicy allocation-size policy} to sequence and table generators.
+ */
+public class IdGeneratorBinder {
+	private final ModelBinders modelBinders;
+
+	private final BindingState bindingState;
+	private final BindingOptions bindingOptions;
+	private final BindingContext bindingContext;
+
+	private final AllocationSizePolicy allocationSizePolicy;
+
+	public IdGeneratorBinder(
+			BindingState bindingState,
+			BindingOptions bindingOptions,
+			BindingContext bindingContext,
+			ModelBinders modelBinders) {
+		this.bindingState = bindingState;
+		this.bindingOptions = bindingOptions;
+		this.bindingContext = bindingContext;
+		this.modelBinders = modelBinders;
+
+		this.allocationSizePolicy = bindingOptions.getAllocationSizePolicy();
+	}
+
+	public void bindSequenceGenerator(SequenceGeneratorRegistration registration) {
+		final AnnotationUsage<SequenceGenerator> configuration = registration.getConfiguration();
+		final String sequenceName = configuration.getAttributeValue( "sequenceName" );
+
+		final Map<String, String> parameters = new HashMap<>();
+		applyIfSpecified( SequenceStyleGenerator.SEQUENCE_PARAM, sequenceName, parameters );
+		applyIfSpecified( PersistentIdentifierGenerator.CATALOG, configuration.getAttributeValue( "catalog" ), parameters );
+		applyIfSpecified( PersistentIdentifierGenerator.SCHEMA, configuration.getAttributeValue( "schema" ), parameters );
+		parameters.put(
+				SequenceStyleGenerator.INITIAL_PARAM,
+				Integer.toString( valueOrDefault( configuration.getAttributeValue( "initialValue" ), 1 ) )
+		);
+		applyAllocationSize( registration.getName(), sequenceName, configuration.getAttributeValue( "allocationSize" ), parameters );
+
+		addDefinition( registration.getName(), SequenceStyleGenerator.class.getName(), parameters );
+	}
+
+	public void bindTableGenerator(TableGeneratorRegistration registration) {
+		final AnnotationUsage<jakarta.persistence.TableGenerator> configuration = registration.getConfiguration();
+		final String tableName = configuration.getAttributeValue( "table" );
+
+		final Map<String, String> parameters = new HashMap<>();
+		applyIfSpecified( TableGenerator.TABLE_PARAM, tableName, parameters );
+		applyIfSpecified( PersistentIdentifierGenerator.CATALOG, configuration.getAttributeValue( "catalog" ), parameters );
+		applyIfSpecified( PersistentIdentifierGenerator.SCHEMA, configuration.getAttributeValue( "schema" ), parameters );
+		applyIfSpecified( TableGenerator.SEGMENT_COLUMN_PARAM, configuration.getAttributeValue( "pkColumnName" ), parameters );
+		applyIfSpecified( TableGenerator.VALUE_COLUMN_PARAM, configuration.getAttributeValue( "valueColumnName" ), parameters );
+		applyIfSpecified( TableGenerator.SEGMENT_VALUE_PARAM, configuration.getAttributeValue( "pkColumnValue" ), parameters );
+		// JPA's initialValue for table generators is the last value used rather than the first value
+		parameters.put(
+				TableGenerator.INITIAL_PARAM,
+				Integer.toString( valueOrDefault( configuration.getAttributeValue( "initialValue" ), 0 ) + 1 )
+		);
+		applyAllocationSize( registration.getName(), tableName, configuration.getAttributeValue( "allocationSize" ), parameters );
+
+		addDefinition( registration.getName(), TableGenerator.class.getName(), parameters );
+	}
+
+	public void bindGenericGenerator(GenericGeneratorRegistration registration) {
+		final AnnotationUsage<GenericGenerator> configuration = registration.getConfiguration();
+
+		final String strategy;
+		final ClassDetails type = configuration.getAttributeValue( "type" );
+		if ( type != null
+				&& type != VoidClassDetails.VOID_CLASS_DETAILS
+				&& !Generator.class.getName().equals( type.getClassName() ) ) {
+			strategy = type.getClassName();
+		}
+		else {
+			strategy = configuration.getAttributeValue( "strategy" );
+		}
+
+		final Map<String, String> parameters = new HashMap<>();
+		final List<AnnotationUsage<Parameter>> parameterUsages = configuration.getAttributeValue( "parameters" );
+		if ( parameterUsages != null ) {
+			for ( AnnotationUsage<Parameter> parameterUsage : parameterUsages ) {
+				parameters.put( parameterUsage.getAttributeValue( "name" ), parameterUsage.getAttributeValue( "value" ) );
+			}
+		}
+
+		addDefinition( registration.getName(), strategy, parameters );
+	}
+
+	private void applyAllocationSize(
+			String generatorName,
+			String objectName,
+			Integer configuredAllocationSize,
+			Map<String, String> parameters) {
+		final int allocationSize = allocationSizePolicy.resolveAllocationSize(
+				generatorName,
+				objectName,
+				configuredAllocationSize
+		);
+		parameters.put( OptimizableGenerator.INCREMENT_PARAM, Integer.toString( allocationSize ) );
+
+		if ( allocationSize > 1 && allocationSizePolicy.isPooledLoPreferred() ) {
+			parameters.put( OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName() );
+		}
+	}
+
+	private void addDefinition(String name, String strategy, Map<String, String> parameters) {
+		bindingState.getMetadataBuildingContext().getMetadataCollector().addIdentifierGenerator(
+				new IdentifierGeneratorDefinition( name, strategy, parameters )
+		);
+	}
+
+	private static void applyIfSpecified(String parameterName, String value, Map<String, String> parameters) {
+		if ( StringHelper.isNotEmpty( value ) ) {
+			parameters.put( parameterName, value );
+		}
+	}
+
+	private static int valueOrDefault(Integer value, int defaultValue) {
+		return value == null ? defaultValue : value;
+	}
+}
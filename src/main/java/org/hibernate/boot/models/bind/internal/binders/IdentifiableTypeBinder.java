@@ -24,6 +24,8 @@ import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
 import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.KeyMapping;
+import org.hibernate.boot.models.profile.spi.BootCostPhase;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 
 /**
  * @author Steve Ebersole
@@ -92,14 +94,20 @@ public abstract class IdentifiableTypeBinder extends ManagedTypeBinder {
 	protected void prepareBinding(ModelBinders modelBinders) {
 		final var table = getTable();
 		final var managedType = getManagedType();
+		final BootCostProfile bootCostProfile = modelBinders.getBootCostProfile();
 
 		managedType.forEachAttribute( (index, attributeMetadata) -> {
+			final BootCostProfile.Mark mark = bootCostProfile == null ? null : bootCostProfile.start();
 			final var attributeBinder = new AttributeBinder(
 					attributeMetadata,
 					getBindingState(),
 					getOptions(),
-					getBindingContext()
+					getBindingContext(),
+					modelBinders.getDescriptorInstances()
 			);
+			if ( bootCostProfile != null ) {
+				bootCostProfile.record( BootCostPhase.ATTRIBUTE_BINDING, managedType.getClassDetails().getName(), mark );
+			}
 
 			final var property = attributeBinder.getBinding();
 
@@ -145,4 +153,13 @@ public abstract class IdentifiableTypeBinder extends ManagedTypeBinder {
 		attributeBinders.forEach( AttributeBinder::processSecondPasses );
 	}
 
+	@Override
+	public boolean processAvailableSecondPasses() {
+		boolean complete = true;
+		for ( AttributeBinder attributeBinder : attributeBinders ) {
+			complete = attributeBinder.processAvailableSecondPasses() && complete;
+		}
+		return complete;
+	}
+
 }
@@ -56,4 +56,15 @@ public abstract class ManagedTypeBinder {
 	public void processSecondPasses() {
 
 	}
+
+	/**
+	 * Process the second passes which can be processed now, leaving the others queued
+	 *
+	 * @return {@code true} if no second passes remain queued
+	 *
+	 * @see org.hibernate.boot.models.bind.internal.BindingHelper#processAvailableSecondPasses
+	 */
+	public boolean processAvailableSecondPasses() {
+		return true;
+	}
 }
@@ -9,6 +9,7 @@ package org.hibernate.boot.models.bind.internal.binders;
 import org.hibernate.boot.models.bind.spi.BindingContext;
 import org.hibernate.boot.models.bind.spi.BindingOptions;
 import org.hibernate.boot.models.bind.spi.BindingState;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 
 /**
  * Composition of all binders which process aspects of the domain model
@@ -17,12 +18,25 @@ import org.hibernate.boot.models.bind.spi.BindingState;
  */
 public class ModelBinders {
 	private final TableBinder tableBinder;
+	private final IdGeneratorBinder idGeneratorBinder;
+	private final BootCostProfile bootCostProfile;
+	private final DescriptorInstances descriptorInstances = new DescriptorInstances();
 
 	public ModelBinders(
 			BindingState bindingState,
 			BindingOptions bindingOptions,
 			BindingContext bindingContext) {
+		this( bindingState, bindingOptions, bindingContext, null );
+	}
+
+	public ModelBinders(
+			BindingState bindingState,
+			BindingOptions bindingOptions,
+			BindingContext bindingContext,
+			BootCostProfile bootCostProfile) {
+		this.bootCostProfile = bootCostProfile;
 		this.tableBinder = new TableBinder( bindingState, bindingOptions, bindingContext, this );
+		this.idGeneratorBinder = new IdGeneratorBinder( bindingState, bindingOptions, bindingContext, this );
 	}
 
 	/**
@@ -31,4 +45,25 @@ public class ModelBinders {
 	public TableBinder getTableBinder() {
 		return tableBinder;
 	}
+
+	/**
+	 * Binder for identifier generators
+	 */
+	public IdGeneratorBinder getIdGeneratorBinder() {
+		return idGeneratorBinder;
+	}
+
+	/**
+	 * The profile to which the cost of binding types and attributes is recorded, or {@code null}
+	 */
+	public BootCostProfile getBootCostProfile() {
+		return bootCostProfile;
+	}
+
+	/**
+	 * Instances of the descriptor classes named by {@code @JavaType}, {@code @JdbcType} and {@code @Mutability}
+	 */
+	public DescriptorInstances getDescriptorInstances() {
+		return descriptorInstances;
+	}
 }
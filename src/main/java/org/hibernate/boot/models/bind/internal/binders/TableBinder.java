@@ -20,6 +20,7 @@ import org.hibernate.boot.model.naming.ImplicitNamingStrategy;
 import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
 import org.hibernate.boot.models.AnnotationPlacementException;
 import org.hibernate.boot.models.bind.internal.BindingHelper;
+import org.hibernate.boot.models.bind.internal.CachingPhysicalNamingStrategy;
 import org.hibernate.boot.models.bind.internal.InLineView;
 import org.hibernate.boot.models.bind.internal.PhysicalTable;
 import org.hibernate.boot.models.bind.internal.SecondPass;
@@ -73,12 +74,17 @@ public class TableBinder {
 				.getBootstrapContext()
 				.getMetadataBuildingOptions()
 				.getImplicitNamingStrategy();
-		this.physicalNamingStrategy = bindingContext
-				.getBootstrapContext()
-				.getMetadataBuildingOptions()
-				.getPhysicalNamingStrategy();
-
 		this.jdbcEnvironment = bindingContext.getServiceRegistry().getService( JdbcEnvironment.class );
+
+		// the same logical names (default catalog and schema especially) get translated
+		// repeatedly - remember the translations for the duration of this binding
+		this.physicalNamingStrategy = new CachingPhysicalNamingStrategy(
+				bindingContext
+						.getBootstrapContext()
+						.getMetadataBuildingOptions()
+						.getPhysicalNamingStrategy(),
+				jdbcEnvironment
+		);
 	}
 
 	public TableReference processPrimaryTable(EntityTypeMetadata type) {
@@ -170,7 +176,7 @@ public class TableBinder {
 			);
 			final org.hibernate.boot.models.bind.internal.SecondaryTable binding = processSecondaryTable( type, secondaryTableAnn, secondaryRowAnn );
 			result.add( binding );
-			bindingState.addSecondaryTable( binding );
+			bindingState.addSecondaryTable( type, binding );
 		} );
 		return result;
 	}
@@ -270,7 +276,7 @@ public class TableBinder {
 		if ( tableAnn != null ) {
 			final String name = StringHelper.nullIfEmpty( tableAnn.getString( "name" ) );
 			if ( name != null ) {
-				return BindingHelper.toIdentifier( name, QuotedIdentifierTarget.TABLE_NAME, bindingOptions, jdbcEnvironment );
+				return BindingHelper.toIdentifier( name, QuotedIdentifierTarget.TABLE_NAME, bindingOptions, bindingState.getIdentifierInterner() );
 			}
 		}
 
@@ -387,7 +393,7 @@ public class TableBinder {
 			QuotedIdentifierTarget target) {
 		final String explicit = BindingHelper.getStringOrNull( annotationUsage, attributeName );
 		if ( StringHelper.isNotEmpty( explicit ) ) {
-			return BindingHelper.toIdentifier( explicit, target, bindingOptions, jdbcEnvironment );
+			return BindingHelper.toIdentifier( explicit, target, bindingOptions, bindingState.getIdentifierInterner() );
 		}
 
 		if ( fallback != null ) {
@@ -395,7 +401,7 @@ public class TableBinder {
 		}
 
 		final String defaultValue = BindingHelper.getDefaultValue( attributeName, annotationType, bindingContext );
-		return BindingHelper.toIdentifier(defaultValue, target, bindingOptions, jdbcEnvironment );
+		return BindingHelper.toIdentifier( defaultValue, target, bindingOptions, bindingState.getIdentifierInterner() );
 	}
 
 
@@ -413,6 +419,10 @@ public class TableBinder {
 		BindingHelper.processSecondPassQueue( secondPasses );
 	}
 
+	public boolean processAvailableSecondPasses() {
+		return BindingHelper.processAvailableSecondPasses( secondPasses );
+	}
+
 	private void applyComment(Table table, AnnotationUsage<?> tableAnn, AnnotationUsage<Comment> commentAnn) {
 		if ( commentAnn != null ) {
 			table.setComment( commentAnn.getString( "value" ) );
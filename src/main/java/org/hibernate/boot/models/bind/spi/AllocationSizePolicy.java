@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.spi;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.models.ModelsException;
+
+/**
+ * Policy for the allocation size of sequence and table generators, applied uniformly to generators
+ * defined by annotations and XML when they are bound.
+ * <p/>
+ * The allocation size for a generator is resolved as follows -<ol>
+ *     <li>an {@linkplain ModelsSettings#ALLOCATION_SIZE_OVERRIDES override} for the generator, if one</li>
+ *     <li>otherwise, the configured value or, if none, the {@linkplain ModelsSettings#DEFAULT_ALLOCATION_SIZE default}</li>
+ *     <li>raised to the {@linkplain ModelsSettings#MINIMUM_ALLOCATION_SIZE minimum}, if smaller</li>
+ * </ol>
+ */
+public class AllocationSizePolicy {
+	/**
+	 * The JPA default for {@code @SequenceGenerator#allocationSize} and {@code @TableGenerator#allocationSize}
+	 */
+	public static final int JPA_DEFAULT_ALLOCATION_SIZE = 50;
+
+	/**
+	 * Policy which simply uses the configured values
+	 */
+	public static final AllocationSizePolicy NONE = new AllocationSizePolicy( null, 1, Collections.emptyMap(), false );
+
+	private final Integer defaultAllocationSize;
+	private final int minimumAllocationSize;
+	private final Map<String, Integer> overrides;
+	private final boolean preferPooledLo;
+
+	public AllocationSizePolicy(
+			Integer defaultAllocationSize,
+			int minimumAllocationSize,
+			Map<String, Integer> overrides,
+			boolean preferPooledLo) {
+		if ( defaultAllocationSize != null && defaultAllocationSize < 1 ) {
+			throw new ModelsException( "Invalid default allocation size - " + defaultAllocationSize );
+		}
+		if ( minimumAllocationSize < 1 ) {
+			throw new ModelsException( "Invalid minimum allocation size - " + minimumAllocationSize );
+		}
+		this.defaultAllocationSize = defaultAllocationSize;
+		this.minimumAllocationSize = minimumAllocationSize;
+		this.overrides = overrides;
+		this.preferPooledLo = preferPooledLo;
+	}
+
+	/**
+	 * Build the policy from the {@linkplain ModelsSettings settings}
+	 */
+	public static AllocationSizePolicy from(ConfigurationService configurationService) {
+		final Integer defaultAllocationSize = configurationService.getSetting(
+				ModelsSettings.DEFAULT_ALLOCATION_SIZE,
+				StandardConverters.INTEGER
+		);
+		final int minimumAllocationSize = configurationService.getSetting(
+				ModelsSettings.MINIMUM_ALLOCATION_SIZE,
+				StandardConverters.INTEGER,
+				1
+		);
+		final Map<String, Integer> overrides = parseOverrides( configurationService.getSetting(
+				ModelsSettings.ALLOCATION_SIZE_OVERRIDES,
+				StandardConverters.STRING
+		) );
+		final boolean preferPooledLo = configurationService.getSetting(
+				ModelsSettings.PREFER_POOLED_LO_OPTIMIZER,
+				StandardConverters.BOOLEAN,
+				false
+		);
+
+		if ( defaultAllocationSize == null && minimumAllocationSize == 1 && overrides.isEmpty() && !preferPooledLo ) {
+			return NONE;
+		}
+		return new AllocationSizePolicy( defaultAllocationSize, minimumAllocationSize, overrides, preferPooledLo );
+	}
+
+	/**
+	 * Parse the {@code name=size} pairs of {@value ModelsSettings#ALLOCATION_SIZE_OVERRIDES}
+	 */
+	public static Map<String, Integer> parseOverrides(String value) {
+		if ( StringHelper.isBlank( value ) ) {
+			return Collections.emptyMap();
+		}
+
+		final Map<String, Integer> overrides = new HashMap<>();
+		for ( String entry : value.split( "," ) ) {
+			if ( entry.isBlank() ) {
+				continue;
+			}
+			final int separator = entry.indexOf( '=' );
+			if ( separator < 1 ) {
+				throw new ModelsException( "Invalid allocation size override `" + entry.trim() + "` - expecting `name=size`" );
+			}
+			final String name = entry.substring( 0, separator ).trim();
+			final int size;
+			try {
+				size = Integer.parseInt( entry.substring( separator + 1 ).trim() );
+			}
+			catch (NumberFormatException e) {
+				throw new ModelsException( "Invalid allocation size override `" + entry.trim() + "` - expecting `name=size`", e );
+			}
+			if ( size < 1 ) {
+				throw new ModelsException( "Invalid allocation size override `" + entry.trim() + "` - size must be positive" );
+			}
+			overrides.put( name, size );
+		}
+		return overrides;
+	}
+
+	/**
+	 * Resolve the allocation size to use for a generator
+	 *
+	 * @param generatorName The name of the generator
+	 * @param objectName The name of the sequence or table, if one
+	 * @param configured The configured allocation size, or {@code null} if none was specified
+	 */
+	public int resolveAllocationSize(String generatorName, String objectName, Integer configured) {
+		final Integer override = findOverride( generatorName, objectName );
+		if ( override != null ) {
+			return override;
+		}
+
+		// XML definitions are converted to annotations, so the JPA default is always considered unspecified
+		final boolean unspecified = configured == null || configured == JPA_DEFAULT_ALLOCATION_SIZE;
+		final int allocationSize;
+		if ( unspecified ) {
+			allocationSize = defaultAllocationSize == null ? JPA_DEFAULT_ALLOCATION_SIZE : defaultAllocationSize;
+		}
+		else {
+			allocationSize = configured;
+		}
+
+		return Math.max( allocationSize, minimumAllocationSize );
+	}
+
+	private Integer findOverride(String generatorName, String objectName) {
+		if ( overrides.isEmpty() ) {
+			return null;
+		}
+		final Integer byGeneratorName = overrides.get( generatorName );
+		if ( byGeneratorName != null ) {
+			return byGeneratorName;
+		}
+		return StringHelper.isEmpty( objectName ) ? null : overrides.get( objectName );
+	}
+
+	public Integer getDefaultAllocationSize() {
+		return defaultAllocationSize;
+	}
+
+	public int getMinimumAllocationSize() {
+		return minimumAllocationSize;
+	}
+
+	public Map<String, Integer> getOverrides() {
+		return overrides;
+	}
+
+	/**
+	 * Whether generators with an allocation size greater than 1 should use the pooled-lo optimizer
+	 */
+	public boolean isPooledLoPreferred() {
+		return preferPooledLo;
+	}
+}
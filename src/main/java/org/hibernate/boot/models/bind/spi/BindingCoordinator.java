@@ -6,11 +6,33 @@
  */
 package org.hibernate.boot.models.bind.spi;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import org.hibernate.annotations.Any;
 import org.hibernate.annotations.ManyToAny;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.ModelsSettings;
 import org.hibernate.boot.models.bind.ModelBindingLogging;
+import org.hibernate.boot.models.bind.internal.BindingContextImpl;
+import org.hibernate.boot.models.bind.internal.binders.IdGeneratorBinder;
 import org.hibernate.boot.models.bind.internal.binders.ManagedTypeBinder;
 import org.hibernate.mapping.RootClass;
 import org.hibernate.boot.models.AnnotationPlacementException;
@@ -18,15 +40,29 @@ import org.hibernate.boot.models.bind.internal.binders.ModelBinders;
 import org.hibernate.boot.models.bind.internal.binders.EntityTypeBinder;
 import org.hibernate.boot.models.bind.internal.binders.MappedSuperTypeBinder;
 import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.CategorizationListener;
 import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
 import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
 import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.GlobalRegistrations;
 import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
 import org.hibernate.boot.models.categorize.spi.ManagedTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.MappedSuperclassTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.DynamicEntityRegistrations;
+import org.hibernate.boot.models.profile.spi.BootCostPhase;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.AnnotationUsage;
 import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
 
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.ElementCollection;
@@ -48,20 +84,40 @@ public class BindingCoordinator {
 	private final BindingState bindingState;
 	private final BindingOptions bindingOptions;
 	private final BindingContext bindingContext;
+	private final BootCostProfile bootCostProfile;
 
 	private final ModelBinders modelBinders;
 
+	// deferred binding - type binders (by type name) with second passes still queued
+	private final Map<String, ManagedTypeBinder> pendingSecondPasses = new LinkedHashMap<>();
+
 	public BindingCoordinator(
 			CategorizedDomainModel categorizedDomainModel,
 			BindingState bindingState,
 			BindingOptions bindingOptions,
 			BindingContext bindingContext) {
+		this(
+				categorizedDomainModel,
+				bindingState,
+				bindingOptions,
+				bindingContext,
+				categorizedDomainModel == null ? null : categorizedDomainModel.getBootCostProfile()
+		);
+	}
+
+	private BindingCoordinator(
+			CategorizedDomainModel categorizedDomainModel,
+			BindingState bindingState,
+			BindingOptions bindingOptions,
+			BindingContext bindingContext,
+			BootCostProfile bootCostProfile) {
 		this.categorizedDomainModel = categorizedDomainModel;
 		this.bindingOptions = bindingOptions;
 		this.bindingState = bindingState;
 		this.bindingContext = bindingContext;
+		this.bootCostProfile = bootCostProfile;
 
-		this.modelBinders = new ModelBinders( bindingState, bindingOptions, bindingContext );
+		this.modelBinders = new ModelBinders( bindingState, bindingOptions, bindingContext, bootCostProfile );
 	}
 
 	/**
@@ -86,22 +142,298 @@ public class BindingCoordinator {
 		coordinator.coordinateBinding();
 	}
 
+	/**
+	 * Deferred form of {@linkplain #coordinateBinding(CategorizedDomainModel, BindingState, BindingOptions, BindingContext)}.
+	 * <p/>
+	 * Global registrations are bound immediately, while each {@linkplain EntityHierarchy} is only bound
+	 * when one of its entities is first {@linkplain DeferredBinding#resolveEntityBinding requested} (or when
+	 * {@linkplain DeferredBinding#bindAll all} are requested), so that startup cost is proportional to the
+	 * entities actually used.
+	 *
+	 * @return Access to the (deferred) entity bindings
+	 */
+	public static DeferredBinding coordinateDeferredBinding(
+			CategorizedDomainModel categorizedDomainModel,
+			BindingState state,
+			BindingOptions options,
+			BindingContext bindingContext) {
+		final BindingCoordinator coordinator = new BindingCoordinator(
+				categorizedDomainModel,
+				state,
+				options,
+				bindingContext
+		);
+
+		coordinator.coordinateGlobalBindings( categorizedDomainModel.getGlobalRegistrations() );
+		return new DeferredBinding( coordinator, state, categorizedDomainModel.getEntityHierarchies() );
+	}
+
+	/**
+	 * Pipelined form of {@linkplain #coordinateBinding(CategorizedDomainModel, BindingState, BindingOptions, BindingContext)}
+	 * which overlaps categorization and binding.
+	 * <p/>
+	 * The managed-resources are {@linkplain ManagedResourcesProcessor categorized} on a separate thread,
+	 * handing each completed {@linkplain EntityHierarchy} to the calling thread (through a bounded queue)
+	 * which binds it while categorization of the remaining hierarchies continues.
+	 * <p/>
+	 * The {@linkplain ClassDetails} and annotation usages are not thread-safe, and are shared by both threads.
+	 * Before the registrations are handed to the binding thread, every {@linkplain ClassDetails} in the registry
+	 * (and every type reachable through its members) is fully materialized - members, member types and annotation
+	 * usages - on the categorization thread, so that afterwards both threads only read them.  This also applies
+	 * to {@linkplain ModelsSettings#LAZY_CLASS_DETAILS lazy} mode, where it materializes the managed types
+	 * (and what they reference) up front.  {@linkplain EntityHierarchy Hierarchies} are not touched by the
+	 * categorization thread once handed over, which is why pipelining cannot be combined with
+	 * {@linkplain ModelsSettings#APPLY_RECOMMENDED_BATCH_SIZES applying recommended batch sizes} - the
+	 * recommendations need the complete model and would be applied to hierarchies already bound.
+	 *
+	 * @param managedResources The resources to categorize and bind
+	 * @param bootstrapContext The bootstrap context
+	 * @param state The binding state
+	 * @param options Options for the binding
+	 * @param queueCapacity The maximum number of categorized hierarchies waiting to be bound
+	 *
+	 * @return The categorized domain model
+	 *
+	 * @throws ModelsException If {@linkplain ModelsSettings#APPLY_RECOMMENDED_BATCH_SIZES recommended batch sizes}
+	 * are to be applied
+	 */
+	public static CategorizedDomainModel coordinatePipelinedBinding(
+			ManagedResources managedResources,
+			BootstrapContext bootstrapContext,
+			BindingState state,
+			BindingOptions options,
+			int queueCapacity) {
+		final ConfigurationService configurationService = bootstrapContext.getServiceRegistry().getService( ConfigurationService.class );
+		if ( configurationService.getSetting( ModelsSettings.APPLY_RECOMMENDED_BATCH_SIZES, StandardConverters.BOOLEAN, false ) ) {
+			throw new ModelsException(
+					"Pipelined binding cannot be combined with `" + ModelsSettings.APPLY_RECOMMENDED_BATCH_SIZES
+							+ "` - recommendations are applied once all hierarchies are categorized, which is after they are bound"
+			);
+		}
+
+		final BlockingQueue<PipelineEvent> queue = new ArrayBlockingQueue<>( queueCapacity );
+		// resolved here as binding starts before the categorized model is available
+		final BootCostProfile bootCostProfile = BootCostProfile.fromSettings( configurationService );
+
+		final Thread categorizationThread = new Thread(
+				() -> {
+					PipelineEvent completion;
+					try {
+						final CategorizedDomainModel categorizedDomainModel = ManagedResourcesProcessor.processManagedResources(
+								managedResources,
+								bootstrapContext,
+								DynamicEntityRegistrations.NONE,
+								new CategorizationListener() {
+									@Override
+									public void registrationsCompleted(
+											ClassDetailsRegistry classDetailsRegistry,
+											AnnotationDescriptorRegistry annotationDescriptorRegistry,
+											GlobalRegistrations globalRegistrations) {
+										// still on the categorization thread - see the javadoc above
+										materialize( classDetailsRegistry );
+										put( queue, new RegistrationsCompleted( classDetailsRegistry, annotationDescriptorRegistry, globalRegistrations ) );
+									}
+
+									@Override
+									public void hierarchyCompleted(EntityHierarchy hierarchy) {
+										put( queue, new HierarchyCompleted( hierarchy ) );
+									}
+								},
+								bootCostProfile
+						);
+						completion = new CategorizationCompleted( categorizedDomainModel );
+					}
+					catch (PipelineInterruptedException e) {
+						// the binding side gave up - nothing to report
+						return;
+					}
+					catch (Throwable t) {
+						completion = new CategorizationFailed( t );
+					}
+
+					try {
+						put( queue, completion );
+					}
+					catch (PipelineInterruptedException ignore) {
+					}
+				},
+				"hibernate-models-categorization"
+		);
+		categorizationThread.setDaemon( true );
+		categorizationThread.start();
+
+		try {
+			BindingCoordinator coordinator = null;
+			final List<EntityHierarchy> boundHierarchies = new ArrayList<>();
+			while ( true ) {
+				final PipelineEvent event = take( queue );
+				if ( event instanceof RegistrationsCompleted registrations ) {
+					final BindingContextImpl bindingContext = new BindingContextImpl(
+							registrations.classDetailsRegistry(),
+							registrations.annotationDescriptorRegistry(),
+							registrations.globalRegistrations(),
+							bootstrapContext.getMetadataBuildingOptions().getImplicitNamingStrategy(),
+							bootstrapContext.getMetadataBuildingOptions().getPhysicalNamingStrategy(),
+							bootstrapContext.getMetadataBuildingOptions().getSharedCacheMode(),
+							bootstrapContext.getClassmateContext(),
+							bootstrapContext
+					);
+					coordinator = new BindingCoordinator( null, state, options, bindingContext, bootCostProfile );
+					coordinator.coordinateGlobalBindings( registrations.globalRegistrations() );
+				}
+				else if ( event instanceof HierarchyCompleted hierarchyCompleted ) {
+					assert coordinator != null;
+					coordinator.processHierarchy( hierarchyCompleted.hierarchy() );
+					boundHierarchies.add( hierarchyCompleted.hierarchy() );
+				}
+				else if ( event instanceof CategorizationCompleted completed ) {
+					assert coordinator != null;
+					coordinator.completeModelBindings( boundHierarchies );
+					coordinator.reportBootCost();
+					return completed.categorizedDomainModel();
+				}
+				else {
+					final Throwable failure = ( (CategorizationFailed) event ).failure();
+					if ( failure instanceof RuntimeException runtimeException ) {
+						throw runtimeException;
+					}
+					if ( failure instanceof Error error ) {
+						throw error;
+					}
+					throw new ModelsException( "Error categorizing domain model", failure );
+				}
+			}
+		}
+		finally {
+			// in case we are leaving because of a binding failure, make sure the
+			// categorization thread is not left blocked on a full queue
+			categorizationThread.interrupt();
+		}
+	}
+
+	/**
+	 * Form of {@linkplain #coordinateBinding(CategorizedDomainModel, BindingState, BindingOptions, BindingContext)}
+	 * backed by a {@linkplain BoundModelSnapshot snapshot} of the bound model.
+	 * <p/>
+	 * When {@code snapshotFile} holds a snapshot which is {@linkplain BoundModelSnapshot#isValid valid} for
+	 * the {@linkplain BoundModelSnapshot#fingerprint fingerprint} of {@code managedResources}, the snapshot is restored into the metadata collector and
+	 * categorization, binding and all second passes are skipped.  Otherwise the managed-resources are
+	 * categorized and bound as usual, and a new snapshot is written to {@code snapshotFile} (provided the
+	 * model can be {@linkplain BoundModelSnapshot#capture captured}).  Managed-resources which cannot be
+	 * fingerprinted are always categorized and bound, and no snapshot is written.
+	 *
+	 * @param managedResources The resources to categorize and bind
+	 * @param bootstrapContext The bootstrap context
+	 * @param state The binding state; not populated when the snapshot is restored
+	 * @param options Options for the binding
+	 * @param snapshotFile Where the snapshot is kept
+	 *
+	 * @return {@code true} if the model was restored from the snapshot; {@code false} if it was bound
+	 */
+	public static boolean coordinateSnapshotBinding(
+			ManagedResources managedResources,
+			BootstrapContext bootstrapContext,
+			BindingState state,
+			BindingOptions options,
+			Path snapshotFile) {
+		final String fingerprint = BoundModelSnapshot.fingerprint( managedResources, bootstrapContext );
+		if ( fingerprint == null ) {
+			ModelBindingLogging.MODEL_BINDING_LOGGER.debugf( "Managed resources cannot be fingerprinted; not using bound model snapshot - %s", snapshotFile );
+		}
+
+		final BoundModelSnapshot existing = fingerprint == null ? null : readSnapshot( snapshotFile );
+		if ( existing != null && existing.isValid( fingerprint, bootstrapContext ) ) {
+			existing.restore( state.getMetadataBuildingContext() );
+			ModelBindingLogging.MODEL_BINDING_LOGGER.debugf( "Restored bound model from snapshot - %s", snapshotFile );
+			return true;
+		}
+
+		final CategorizedDomainModel categorizedDomainModel = ManagedResourcesProcessor.processManagedResources(
+				managedResources,
+				bootstrapContext
+		);
+		final BindingContextImpl bindingContext = new BindingContextImpl( categorizedDomainModel, bootstrapContext );
+		coordinateBinding( categorizedDomainModel, state, options, bindingContext );
+
+		if ( fingerprint == null ) {
+			return false;
+		}
+
+		final BoundModelSnapshot snapshot = BoundModelSnapshot.capture( fingerprint, state, bindingContext );
+		if ( snapshot != null ) {
+			writeSnapshot( snapshot, snapshotFile );
+		}
+		return false;
+	}
+
+	private static BoundModelSnapshot readSnapshot(Path snapshotFile) {
+		if ( !Files.isRegularFile( snapshotFile ) ) {
+			return null;
+		}
+
+		try (InputStream stream = Files.newInputStream( snapshotFile )) {
+			return BoundModelSnapshot.read( stream );
+		}
+		catch (IOException | ModelsException e) {
+			// a damaged snapshot is simply replaced
+			ModelBindingLogging.MODEL_BINDING_LOGGER.debugf( e, "Unable to read bound model snapshot - %s", snapshotFile );
+			return null;
+		}
+	}
+
+	private static void writeSnapshot(BoundModelSnapshot snapshot, Path snapshotFile) {
+		try {
+			final Path directory = snapshotFile.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			// write completely before replacing, so a concurrent or interrupted boot never sees a partial snapshot
+			final Path temporaryFile = Files.createTempFile( directory, snapshotFile.getFileName().toString(), ".tmp" );
+			try {
+				try (OutputStream stream = Files.newOutputStream( temporaryFile )) {
+					snapshot.write( stream );
+				}
+				try {
+					Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING );
+				}
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+		}
+		catch (IOException | ModelsException e) {
+			ModelBindingLogging.MODEL_BINDING_LOGGER.debugf( e, "Unable to write bound model snapshot - %s", snapshotFile );
+		}
+	}
+
 	private void coordinateBinding() {
 		// todo : to really work on these, need to changes to MetadataBuildingContext/InFlightMetadataCollector
 
-		coordinateGlobalBindings();
+		coordinateGlobalBindings( categorizedDomainModel.getGlobalRegistrations() );
 		coordinateModelBindings();
+		reportBootCost();
+	}
+
+	private void reportBootCost() {
+		if ( bootCostProfile != null ) {
+			ModelBindingLogging.MODEL_BINDING_LOGGER.info( bootCostProfile.renderReport() );
+		}
 	}
 
 	private void coordinateModelBindings() {
 		// process hierarchy
-		categorizedDomainModel.forEachEntityHierarchy( this::processHierarchy );
+		categorizedDomainModel.getEntityHierarchies().forEach( this::processHierarchy );
+
+		completeModelBindings( categorizedDomainModel.getEntityHierarchies() );
+	}
 
+	private void completeModelBindings(Collection<EntityHierarchy> hierarchies) {
 		// complete tables
 		modelBinders.getTableBinder().processSecondPasses();
 
 		// process identifiers
-		categorizedDomainModel.forEachEntityHierarchy( (index, hierarchy) -> {
+		hierarchies.forEach( (hierarchy) -> {
 			final EntityTypeBinder typeBinder = (EntityTypeBinder) bindingState.getTypeBinder( hierarchy.getRoot() );
 			final RootClass binding = (RootClass) typeBinder.getTypeBinding();
 			ModelBindingLogging.MODEL_BINDING_LOGGER.tracef( "Bound entity hierarchy - %s", binding.getEntityName() );
@@ -110,22 +442,85 @@ public class BindingCoordinator {
 		bindingState.forEachType( this::processModelSecondPasses );
 	}
 
+	/**
+	 * Binds a single hierarchy, including the second passes which can be processed at this point.  Second passes
+	 * depending on something not yet bound (a table of another hierarchy, e.g.) stay queued and are retried as
+	 * further hierarchies are bound, and finally by {@linkplain #completeDeferredBindings()}.  Used for deferred binding.
+	 */
+	void bindHierarchy(EntityHierarchy hierarchy) {
+		processHierarchy( hierarchy );
+
+		hierarchy.forEachType( (type, superType, h, relation) -> {
+			final ManagedTypeBinder binder = bindingState.getTypeBinder( type );
+			if ( binder != null ) {
+				pendingSecondPasses.put( type.getClassDetails().getName(), binder );
+			}
+		} );
+
+		// what this hierarchy binds may be what earlier hierarchies were waiting for
+		modelBinders.getTableBinder().processAvailableSecondPasses();
+		pendingSecondPasses.entrySet().removeIf( (entry) -> processAvailableModelSecondPasses( entry.getKey(), entry.getValue() ) );
+
+		ModelBindingLogging.MODEL_BINDING_LOGGER.tracef( "Bound (deferred) entity hierarchy - %s", hierarchy.getRoot().getEntityName() );
+	}
+
+	/**
+	 * Whether second passes of the given (bound) hierarchy are still queued.  Used for deferred binding.
+	 */
+	boolean hasPendingSecondPasses(EntityHierarchy hierarchy) {
+		final boolean[] pending = new boolean[1];
+		hierarchy.forEachType( (type, superType, h, relation) -> {
+			if ( pendingSecondPasses.containsKey( type.getClassDetails().getName() ) ) {
+				pending[0] = true;
+			}
+		} );
+		return pending[0];
+	}
+
+	/**
+	 * Processes the second passes still queued once all hierarchies are bound, failing if any cannot be processed.
+	 * Used for deferred binding.
+	 */
+	void completeDeferredBindings() {
+		modelBinders.getTableBinder().processSecondPasses();
+		pendingSecondPasses.forEach( this::processModelSecondPasses );
+		pendingSecondPasses.clear();
+	}
+
+	private boolean processAvailableModelSecondPasses(String typeName, ManagedTypeBinder binder) {
+		if ( bootCostProfile == null ) {
+			return binder.processAvailableSecondPasses();
+		}
+
+		final BootCostProfile.Mark mark = bootCostProfile.start();
+		final boolean complete = binder.processAvailableSecondPasses();
+		bootCostProfile.record( BootCostPhase.SECOND_PASSES, typeName, mark );
+		return complete;
+	}
+
 	private void processModelSecondPasses(String typeName, ManagedTypeBinder binder) {
+		if ( bootCostProfile == null ) {
+			binder.processSecondPasses();
+			return;
+		}
+
+		final BootCostProfile.Mark mark = bootCostProfile.start();
 		binder.processSecondPasses();
+		bootCostProfile.record( BootCostPhase.SECOND_PASSES, typeName, mark );
 	}
 
-	private void coordinateGlobalBindings() {
-		processGenerators( categorizedDomainModel.getGlobalRegistrations() );
-		processConverters( categorizedDomainModel.getGlobalRegistrations() );
-		processJavaTypeRegistrations( categorizedDomainModel.getGlobalRegistrations() );
-		processJdbcTypeRegistrations( categorizedDomainModel.getGlobalRegistrations() );
-		processCustomTypes( categorizedDomainModel.getGlobalRegistrations() );
-		processInstantiators( categorizedDomainModel.getGlobalRegistrations() );
-		processEventListeners( categorizedDomainModel.getGlobalRegistrations() );
-		processFilterDefinitions( categorizedDomainModel.getGlobalRegistrations() );
+	private void coordinateGlobalBindings(GlobalRegistrations globalRegistrations) {
+		processGenerators( globalRegistrations );
+		processConverters( globalRegistrations );
+		processJavaTypeRegistrations( globalRegistrations );
+		processJdbcTypeRegistrations( globalRegistrations );
+		processCustomTypes( globalRegistrations );
+		processInstantiators( globalRegistrations );
+		processEventListeners( globalRegistrations );
+		processFilterDefinitions( globalRegistrations );
 	}
 
-	private void processHierarchy(int index, EntityHierarchy hierarchy) {
+	private void processHierarchy(EntityHierarchy hierarchy) {
 		hierarchy.forEachType( this::processIdentifiableType );
 	}
 
@@ -137,6 +532,20 @@ public class BindingCoordinator {
 			EntityHierarchy.HierarchyRelation relation) {
 		processGenerators( type );
 
+		if ( bootCostProfile == null ) {
+			bindIdentifiableType( type, superType, relation );
+			return;
+		}
+
+		final BootCostProfile.Mark mark = bootCostProfile.start();
+		bindIdentifiableType( type, superType, relation );
+		bootCostProfile.record( BootCostPhase.TYPE_BINDING, type.getClassDetails().getName(), mark );
+	}
+
+	private void bindIdentifiableType(
+			IdentifiableTypeMetadata type,
+			IdentifiableTypeMetadata superType,
+			EntityHierarchy.HierarchyRelation relation) {
 		if ( type.getManagedTypeKind() == ManagedTypeMetadata.Kind.ENTITY ) {
 			final EntityTypeBinder binder = new EntityTypeBinder(
 					(EntityTypeMetadata) type,
@@ -162,10 +571,10 @@ public class BindingCoordinator {
 	}
 
 	private void processGenerators(GlobalRegistrations globalRegistrations) {
-		// todo : process these
-		globalRegistrations.getSequenceGeneratorRegistrations();
-		globalRegistrations.getTableGeneratorRegistrations();
-		globalRegistrations.getGenericGeneratorRegistrations();
+		final IdGeneratorBinder idGeneratorBinder = modelBinders.getIdGeneratorBinder();
+		globalRegistrations.getSequenceGeneratorRegistrations().values().forEach( idGeneratorBinder::bindSequenceGenerator );
+		globalRegistrations.getTableGeneratorRegistrations().values().forEach( idGeneratorBinder::bindTableGenerator );
+		globalRegistrations.getGenericGeneratorRegistrations().values().forEach( idGeneratorBinder::bindGenericGenerator );
 	}
 
 	private void processConverters(GlobalRegistrations globalRegistrations) {
@@ -275,4 +684,89 @@ public class BindingCoordinator {
 
 	}
 
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// pipelined binding support
+
+	private sealed interface PipelineEvent
+			permits RegistrationsCompleted, HierarchyCompleted, CategorizationCompleted, CategorizationFailed {
+	}
+
+	private record RegistrationsCompleted(
+			ClassDetailsRegistry classDetailsRegistry,
+			AnnotationDescriptorRegistry annotationDescriptorRegistry,
+			GlobalRegistrations globalRegistrations) implements PipelineEvent {
+	}
+
+	private record HierarchyCompleted(EntityHierarchy hierarchy) implements PipelineEvent {
+	}
+
+	private record CategorizationCompleted(CategorizedDomainModel categorizedDomainModel) implements PipelineEvent {
+	}
+
+	private record CategorizationFailed(Throwable failure) implements PipelineEvent {
+	}
+
+	private static class PipelineInterruptedException extends ModelsException {
+		private PipelineInterruptedException(InterruptedException cause) {
+			super( "Interrupted while processing the categorize/bind pipeline", cause );
+		}
+	}
+
+	/**
+	 * Force the lazily built state of every {@linkplain ClassDetails} in the registry, and of every type reachable
+	 * through their members, so that nothing is built (and registered) after the registrations are published to the
+	 * binding thread.  JDK types are resolved but not walked - they carry no mapping information.
+	 */
+	private static void materialize(ClassDetailsRegistry classDetailsRegistry) {
+		final Set<ClassDetails> visited = Collections.newSetFromMap( new IdentityHashMap<>() );
+		final Deque<ClassDetails> pending = new ArrayDeque<>();
+		classDetailsRegistry.forEachClassDetails( pending::add );
+
+		while ( !pending.isEmpty() ) {
+			final ClassDetails classDetails = pending.poll();
+			if ( !visited.add( classDetails ) || classDetails.getName().startsWith( "java." ) ) {
+				continue;
+			}
+
+			classDetails.getAllAnnotationUsages();
+			if ( classDetails.getSuperType() != null ) {
+				pending.add( classDetails.getSuperType() );
+			}
+			for ( FieldDetails field : classDetails.getFields() ) {
+				materialize( field, pending );
+			}
+			for ( MethodDetails method : classDetails.getMethods() ) {
+				materialize( method, pending );
+			}
+		}
+	}
+
+	private static void materialize(MemberDetails member, Deque<ClassDetails> pending) {
+		member.getAllAnnotationUsages();
+		final ClassDetails type = member.getType();
+		if ( type != null ) {
+			pending.add( type );
+		}
+	}
+
+	private static void put(BlockingQueue<PipelineEvent> queue, PipelineEvent event) {
+		try {
+			queue.put( event );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PipelineInterruptedException( e );
+		}
+	}
+
+	private static PipelineEvent take(BlockingQueue<PipelineEvent> queue) {
+		try {
+			return queue.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PipelineInterruptedException( e );
+		}
+	}
 }
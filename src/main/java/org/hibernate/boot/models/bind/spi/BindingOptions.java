@@ -18,4 +18,11 @@ public interface BindingOptions {
 	Identifier getDefaultSchemaName();
 
 	EnumSet<QuotedIdentifierTarget> getGloballyQuotedIdentifierTargets();
+
+	/**
+	 * Policy for the allocation size of sequence and table generators
+	 */
+	default AllocationSizePolicy getAllocationSizePolicy() {
+		return AllocationSizePolicy.NONE;
+	}
 }
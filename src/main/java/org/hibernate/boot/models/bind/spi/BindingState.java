@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.models.bind.spi;
 
+import java.util.List;
+
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.models.bind.internal.SecondaryTable;
 import org.hibernate.boot.models.bind.internal.binders.IdentifiableTypeBinder;
@@ -31,12 +33,31 @@ public interface BindingState {
 
 	void apply(FilterDefRegistration registration);
 
+	/**
+	 * Interner for the identifiers and canonical names used during this binding
+	 */
+	IdentifierInterner getIdentifierInterner();
+
 	int getTableCount();
 	void forEachTable(KeyedConsumer<String,TableReference> consumer);
 	<T extends TableReference> T getTableByName(String name);
+
+	/**
+	 * Find a table by its name as specified in the mapping ({@code @Column(table=...)} e.g.), which,
+	 * unlike for {@linkplain #getTableByName}, need not be canonical
+	 */
+	default <T extends TableReference> T findTableByMappedName(String name) {
+		return getTableByName( getIdentifierInterner().toCanonicalName( name ) );
+	}
+
 	<T extends TableReference> T getTableByOwner(TableOwner owner);
 	void addTable(TableOwner owner, TableReference table);
-	void addSecondaryTable(SecondaryTable table);
+	void addSecondaryTable(TableOwner owner, SecondaryTable table);
+
+	/**
+	 * The secondary tables of the given owner, in the order they were added
+	 */
+	List<SecondaryTable> getSecondaryTables(TableOwner owner);
 
 
 	void registerTypeBinder(ManagedTypeMetadata type, ManagedTypeBinder binder);
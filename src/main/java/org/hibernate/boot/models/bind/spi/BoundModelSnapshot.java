@@ -0,0 +1,194 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.spi;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.bind.internal.BoundModelFingerprint;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotCapture;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotData;
+import org.hibernate.boot.models.bind.internal.BoundModelSnapshotRestorer;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.models.ModelsException;
+
+/**
+ * A versioned, binary snapshot of a bound model - the tables, entity and mapped-superclass
+ * bindings, their properties and values, identifier generators and filter definitions
+ * {@linkplain BindingCoordinator binding} added to the {@linkplain org.hibernate.boot.spi.InFlightMetadataCollector}.
+ * <p/>
+ * A snapshot is tied to the {@linkplain #fingerprint fingerprint} of the inputs it was bound from, and to
+ * the bytes of every class the categorized model depended on (mapped-superclasses and embeddables which
+ * are not listed as managed classes, e.g.); as long as both are unchanged, the snapshot is
+ * {@linkplain #isValid valid} and can be {@linkplain #restore restored} instead of categorizing and binding again.
+ * <p/>
+ * Not every model can be captured - see {@linkplain #capture}.
+ *
+ * @see BindingCoordinator#coordinateSnapshotBinding
+ */
+public class BoundModelSnapshot {
+	/**
+	 * Version of the binary format; snapshots written with a different version are ignored
+	 */
+	public static final int FORMAT_VERSION = 2;
+
+	private static final int MAGIC = 0x484D4253;
+
+	/**
+	 * Fingerprint of the binding inputs - the managed classes and mappings along with the
+	 * settings, naming strategies and Dialect which influence binding
+	 *
+	 * @return The fingerprint, or {@code null} if the inputs cannot be fingerprinted (XML mappings
+	 * supplied as streams, e.g.) and no snapshot should be used
+	 */
+	public static String fingerprint(ManagedResources managedResources, BootstrapContext bootstrapContext) {
+		return BoundModelFingerprint.fingerprint( managedResources, bootstrapContext, FORMAT_VERSION );
+	}
+
+	/**
+	 * Capture the bound model.
+	 *
+	 * @return The snapshot, or {@code null} if the model uses features a snapshot cannot reproduce - JPA
+	 * callbacks, explicit {@code @JavaType}, {@code @JdbcType} or {@code @Mutability} descriptors and
+	 * non-basic attributes.
+	 */
+	public static BoundModelSnapshot capture(String fingerprint, BindingState bindingState, BindingContext bindingContext) {
+		final BoundModelSnapshotData data = BoundModelSnapshotCapture.capture( bindingState, bindingContext );
+		if ( data == null ) {
+			return null;
+		}
+
+		final List<String> dependencies = BoundModelFingerprint.collectDependencies( bindingContext.getClassDetailsRegistry() );
+		return new BoundModelSnapshot(
+				fingerprint,
+				dependencies,
+				BoundModelFingerprint.dependencyDigest( dependencies, bindingContext.getBootstrapContext() ),
+				data
+		);
+	}
+
+	/**
+	 * Read a snapshot previously {@linkplain #write written}.
+	 *
+	 * @return The snapshot, or {@code null} if it was written using a different {@linkplain #FORMAT_VERSION format version}
+	 *
+	 * @throws ModelsException If the stream does not contain a snapshot
+	 */
+	public static BoundModelSnapshot read(InputStream stream) {
+		try {
+			final DataInputStream in = new DataInputStream( new BufferedInputStream( stream ) );
+			if ( in.readInt() != MAGIC ) {
+				throw new ModelsException( "Not a bound model snapshot" );
+			}
+			if ( in.readInt() != FORMAT_VERSION ) {
+				return null;
+			}
+			final String fingerprint = in.readUTF();
+			final int dependencyCount = in.readInt();
+			final List<String> dependencies = new ArrayList<>( dependencyCount );
+			for ( int i = 0; i < dependencyCount; i++ ) {
+				dependencies.add( in.readUTF() );
+			}
+			final String dependencyDigest = in.readUTF();
+			return new BoundModelSnapshot( fingerprint, dependencies, dependencyDigest, BoundModelSnapshotData.read( in ) );
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to read bound model snapshot", e );
+		}
+	}
+
+	private final String fingerprint;
+	private final List<String> dependencies;
+	private final String dependencyDigest;
+	private final BoundModelSnapshotData data;
+
+	private BoundModelSnapshot(
+			String fingerprint,
+			List<String> dependencies,
+			String dependencyDigest,
+			BoundModelSnapshotData data) {
+		this.fingerprint = fingerprint;
+		this.dependencies = Collections.unmodifiableList( dependencies );
+		this.dependencyDigest = dependencyDigest;
+		this.data = data;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * Names of the classes known to the categorized model the snapshot was captured from, other than JDK classes
+	 */
+	public List<String> getDependencies() {
+		return dependencies;
+	}
+
+	/**
+	 * Whether the snapshot can be restored for inputs with the given {@code fingerprint} - the fingerprint
+	 * matches and none of the {@linkplain #getDependencies() dependencies} changed
+	 */
+	public boolean isValid(String fingerprint, BootstrapContext bootstrapContext) {
+		return fingerprint != null
+				&& fingerprint.equals( this.fingerprint )
+				&& dependencyDigest.equals( BoundModelFingerprint.dependencyDigest( dependencies, bootstrapContext ) );
+	}
+
+	/**
+	 * Number of entity and mapped-superclass bindings in the snapshot
+	 */
+	public int getTypeCount() {
+		return data.types().size();
+	}
+
+	/**
+	 * Number of tables in the snapshot
+	 */
+	public int getTableCount() {
+		return data.tables().size();
+	}
+
+	public void write(OutputStream stream) {
+		try {
+			final DataOutputStream out = new DataOutputStream( new BufferedOutputStream( stream ) );
+			out.writeInt( MAGIC );
+			out.writeInt( FORMAT_VERSION );
+			out.writeUTF( fingerprint );
+			out.writeInt( dependencies.size() );
+			for ( String dependency : dependencies ) {
+				out.writeUTF( dependency );
+			}
+			out.writeUTF( dependencyDigest );
+			data.write( out );
+			out.flush();
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to write bound model snapshot", e );
+		}
+	}
+
+	/**
+	 * Restore the snapshot into the metadata collector of the given context, skipping binding (and
+	 * its second passes) altogether.
+	 *
+	 * @apiNote Only the {@linkplain org.hibernate.boot.spi.InFlightMetadataCollector metadata collector}
+	 * is populated; there is no {@linkplain BindingState} for a restored model.
+	 */
+	public void restore(MetadataBuildingContext metadataBuildingContext) {
+		BoundModelSnapshotRestorer.restore( data, metadataBuildingContext );
+	}
+}
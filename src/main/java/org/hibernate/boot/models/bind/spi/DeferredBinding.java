@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.ManagedTypeMetadata;
+import org.hibernate.mapping.PersistentClass;
+
+/**
+ * Result of {@linkplain BindingCoordinator#coordinateDeferredBinding deferred binding}.
+ * <p/>
+ * Holds a placeholder for each not-yet-bound {@linkplain EntityHierarchy}, keyed by the names of
+ * the entities it contains.  A hierarchy is bound (types, attributes and second passes) the
+ * first time any of its entities is {@linkplain #resolveEntityBinding requested}, or as part of
+ * {@linkplain #bindAll binding everything}.
+ * <p/>
+ * Second passes which depend on a hierarchy not yet bound (a column mapped to a table of another
+ * entity, e.g.) stay queued and are processed once that hierarchy is bound.  A requested binding is
+ * always complete - further hierarchies are bound until its queued second passes are processed.
+ * Any still queued when {@linkplain #bindAll everything is bound} must be processable at that point.
+ * <p/>
+ * Binding is serialized on this object, so on-demand requests are safe while the remaining
+ * hierarchies are {@linkplain #bindRemainingInBackground bound in the background}.
+ */
+public class DeferredBinding {
+	private final BindingCoordinator coordinator;
+	private final BindingState bindingState;
+
+	private final Map<String, EntityTypeMetadata> entityTypesByName;
+	private final List<EntityHierarchy> pendingHierarchies;
+	private final Set<EntityHierarchy> boundHierarchies = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+	DeferredBinding(BindingCoordinator coordinator, BindingState bindingState, Set<EntityHierarchy> hierarchies) {
+		this.coordinator = coordinator;
+		this.bindingState = bindingState;
+		this.pendingHierarchies = new ArrayList<>( hierarchies );
+		this.entityTypesByName = new HashMap<>();
+
+		hierarchies.forEach( (hierarchy) -> hierarchy.forEachType( (type, superType, h, relation) -> {
+			if ( type.getManagedTypeKind() == ManagedTypeMetadata.Kind.ENTITY ) {
+				final EntityTypeMetadata entityType = (EntityTypeMetadata) type;
+				entityTypesByName.put( entityType.getEntityName(), entityType );
+				entityTypesByName.put( entityType.getClassDetails().getName(), entityType );
+			}
+		} ) );
+	}
+
+	/**
+	 * Whether the named entity is known to this deferred binding
+	 */
+	public boolean isKnownEntity(String entityName) {
+		return entityTypesByName.containsKey( entityName );
+	}
+
+	/**
+	 * Whether the hierarchy containing the named entity has been bound
+	 */
+	public synchronized boolean isBound(String entityName) {
+		final EntityTypeMetadata entityType = entityTypesByName.get( entityName );
+		return entityType != null && boundHierarchies.contains( entityType.getHierarchy() );
+	}
+
+	/**
+	 * The number of hierarchies not yet bound
+	 */
+	public synchronized int getPendingCount() {
+		return pendingHierarchies.size() - boundHierarchies.size();
+	}
+
+	/**
+	 * Access to the binding for the named entity (by entity-name or class name), binding
+	 * its hierarchy first if needed, along with any hierarchies its second passes depend on.
+	 *
+	 * @return The binding, or {@code null} if the name is unknown
+	 */
+	public synchronized PersistentClass resolveEntityBinding(String entityName) {
+		final EntityTypeMetadata entityType = entityTypesByName.get( entityName );
+		if ( entityType == null ) {
+			return null;
+		}
+
+		final EntityHierarchy hierarchy = entityType.getHierarchy();
+		bind( hierarchy );
+
+		// second passes still queued depend on something another hierarchy binds - bind
+		// further hierarchies until they are processed
+		for ( int i = 0; i < pendingHierarchies.size() && coordinator.hasPendingSecondPasses( hierarchy ); i++ ) {
+			bind( pendingHierarchies.get( i ) );
+		}
+		if ( coordinator.hasPendingSecondPasses( hierarchy ) ) {
+			// everything is bound at this point
+			coordinator.completeDeferredBindings();
+		}
+
+		return bindingState.getMetadataBuildingContext()
+				.getMetadataCollector()
+				.getEntityBinding( entityType.getEntityName() );
+	}
+
+	/**
+	 * Binds all hierarchies not yet bound
+	 */
+	public synchronized void bindAll() {
+		for ( int i = 0; i < pendingHierarchies.size(); i++ ) {
+			bind( pendingHierarchies.get( i ) );
+		}
+		coordinator.completeDeferredBindings();
+	}
+
+	/**
+	 * Binds all hierarchies not yet bound on a background (daemon) thread
+	 */
+	public CompletableFuture<Void> bindRemainingInBackground() {
+		return bindRemainingInBackground( (task) -> {
+			final Thread thread = new Thread( task, "hibernate-models-deferred-binding" );
+			thread.setDaemon( true );
+			thread.start();
+		} );
+	}
+
+	/**
+	 * Binds all hierarchies not yet bound using the given {@code executor}
+	 */
+	public CompletableFuture<Void> bindRemainingInBackground(Executor executor) {
+		return CompletableFuture.runAsync( this::bindAll, executor );
+	}
+
+	private void bind(EntityHierarchy hierarchy) {
+		if ( boundHierarchies.add( hierarchy ) ) {
+			coordinator.bindHierarchy( hierarchy );
+		}
+	}
+}
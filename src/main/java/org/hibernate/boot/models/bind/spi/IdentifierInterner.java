@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.spi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
+
+/**
+ * Interns the {@linkplain Identifier identifiers} and canonical names created during a single binding.
+ * <p/>
+ * Mappings name the same tables, schemas and catalogs over and over (every {@code @Column(table=...)},
+ * every table in the default schema, ...); each distinct name is converted once and the same
+ * instance handed out afterwards.
+ * <p/>
+ * Keyed by the name exactly as specified, so {@code "my_table"} and {@code "MY_TABLE"} are converted
+ * separately even though the resulting identifiers are equal.
+ * <p/>
+ * Not thread-safe.
+ */
+public class IdentifierInterner {
+	private final IdentifierHelper identifierHelper;
+
+	private final Map<String, Identifier> identifiers = new HashMap<>();
+	private final Map<String, Identifier> quotedIdentifiers = new HashMap<>();
+	private final Map<String, String> canonicalNames = new HashMap<>();
+
+	public IdentifierInterner(IdentifierHelper identifierHelper) {
+		this.identifierHelper = identifierHelper;
+	}
+
+	/**
+	 * Interned form of {@linkplain IdentifierHelper#toIdentifier(String, boolean)}
+	 */
+	public Identifier toIdentifier(String name, boolean quoted) {
+		if ( name == null ) {
+			return null;
+		}
+
+		final Map<String, Identifier> cache = quoted ? quotedIdentifiers : identifiers;
+		final Identifier existing = cache.get( name );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final Identifier identifier = identifierHelper.toIdentifier( name, quoted );
+		if ( identifier != null ) {
+			cache.put( name, identifier );
+		}
+		return identifier;
+	}
+
+	/**
+	 * Interned form of {@code Identifier.toIdentifier( name ).getCanonicalName()}, the
+	 * form used as key for {@linkplain BindingState#getTableByName tables}.
+	 */
+	public String toCanonicalName(String name) {
+		if ( name == null ) {
+			return null;
+		}
+
+		final String existing = canonicalNames.get( name );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final Identifier identifier = Identifier.toIdentifier( name );
+		final String canonicalName = identifier == null ? null : identifier.getCanonicalName();
+		if ( canonicalName != null ) {
+			canonicalNames.put( name, canonicalName );
+		}
+		return canonicalName;
+	}
+
+	/**
+	 * Register the canonical name of an already created identifier, avoiding its re-normalization
+	 * when the name is looked up later on
+	 */
+	public void registerCanonicalName(Identifier identifier) {
+		canonicalNames.putIfAbsent( identifier.render(), identifier.getCanonicalName() );
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.boot.internal.InFlightMetadataCollectorImpl;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.boot.model.relational.internal.SqlStringGenerationContextImpl;
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.bind.spi.TableDependencyGraph.TableDependency;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Table;
+import org.hibernate.mapping.UniqueKey;
+import org.hibernate.models.ModelsException;
+
+import static org.hibernate.boot.models.bind.ModelBindingLogging.MODEL_BINDING_LOGGER;
+
+/**
+ * Creates the schema for a bound model, creating the tables of each {@linkplain TableDependencyGraph#getWaves() wave}
+ * concurrently.  Each table is created along with its indexes, unique keys and the foreign keys referring to
+ * tables of earlier waves.
+ * <p/>
+ * Sequences are created first, serially; foreign keys which are part of a cycle are created last, serially.
+ * Schemas and catalogs are expected to exist.
+ *
+ * @see ModelsSettings#SCHEMA_CREATION_THREADS
+ */
+public class ParallelSchemaCreator {
+	/**
+	 * Creator using the configured {@linkplain ModelsSettings#SCHEMA_CREATION_THREADS number of threads}
+	 */
+	public static ParallelSchemaCreator from(ConfigurationService configurationService) {
+		return new ParallelSchemaCreator( configurationService.getSetting(
+				ModelsSettings.SCHEMA_CREATION_THREADS,
+				StandardConverters.INTEGER,
+				Runtime.getRuntime().availableProcessors()
+		) );
+	}
+
+	private final int threads;
+
+	public ParallelSchemaCreator(int threads) {
+		if ( threads < 1 ) {
+			throw new ModelsException( "Invalid number of schema creation threads - " + threads );
+		}
+		this.threads = threads;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * The DDL to be executed - the first batch holds the sequences, the last the deferred foreign keys
+	 * and the ones in between hold, per wave, the statements of each table.  Batches within a wave may
+	 * be executed concurrently; the statements of a batch are executed in order.
+	 */
+	public List<List<List<String>>> generateScript(TableDependencyGraph graph, BindingState bindingState) {
+		final ScriptGenerator generator = new ScriptGenerator( graph, bindingState );
+
+		final List<List<List<String>>> script = new ArrayList<>();
+		script.add( List.of( generator.sequenceStatements() ) );
+		final List<String> deferredForeignKeys = new ArrayList<>();
+		for ( List<TableReference> wave : graph.getWaves() ) {
+			final List<List<String>> waveStatements = new ArrayList<>( wave.size() );
+			for ( TableReference table : wave ) {
+				waveStatements.add( generator.tableStatements( table, deferredForeignKeys ) );
+			}
+			script.add( waveStatements );
+		}
+		script.add( List.of( deferredForeignKeys ) );
+		return script;
+	}
+
+	/**
+	 * Create the schema
+	 *
+	 * @param connectionAccess Access to the database; each concurrent task obtains its own connection
+	 */
+	public void createSchema(
+			TableDependencyGraph graph,
+			BindingState bindingState,
+			JdbcConnectionAccess connectionAccess) {
+		final List<List<List<String>>> script = generateScript( graph, bindingState );
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			for ( int i = 0; i < script.size(); i++ ) {
+				final List<Future<?>> futures = new ArrayList<>();
+				for ( List<String> batch : script.get( i ) ) {
+					if ( !batch.isEmpty() ) {
+						futures.add( executor.submit( () -> execute( batch, connectionAccess ) ) );
+					}
+				}
+				MODEL_BINDING_LOGGER.debugf( "Schema creation step %s : %s concurrent batches", i, futures.size() );
+				awaitAll( futures );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void awaitAll(List<Future<?>> futures) {
+		ModelsException failure = null;
+		for ( Future<?> future : futures ) {
+			try {
+				future.get();
+			}
+			catch (ExecutionException e) {
+				if ( failure == null ) {
+					failure = new ModelsException( "Unable to create schema", e.getCause() );
+				}
+				else {
+					failure.addSuppressed( e.getCause() );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ModelsException( "Interrupted while creating schema", e );
+			}
+		}
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	private static void execute(List<String> statements, JdbcConnectionAccess connectionAccess) {
+		final Connection connection;
+		try {
+			connection = connectionAccess.obtainConnection();
+		}
+		catch (SQLException e) {
+			throw new ModelsException( "Unable to obtain connection for schema creation", e );
+		}
+
+		try {
+			try (Statement statement = connection.createStatement()) {
+				for ( String sql : statements ) {
+					MODEL_BINDING_LOGGER.debugf( "Executing schema creation statement : %s", sql );
+					statement.execute( sql );
+				}
+			}
+			if ( !connection.getAutoCommit() ) {
+				connection.commit();
+			}
+		}
+		catch (SQLException e) {
+			throw new ModelsException( "Error executing schema creation statements : " + statements, e );
+		}
+		finally {
+			try {
+				connectionAccess.releaseConnection( connection );
+			}
+			catch (SQLException e) {
+				MODEL_BINDING_LOGGER.debugf( e, "Unable to release connection" );
+			}
+		}
+	}
+
+	private static class ScriptGenerator {
+		private final TableDependencyGraph graph;
+		private final Database database;
+		private final Dialect dialect;
+		private final MetadataImplementor metadata;
+		private final SqlStringGenerationContext sqlStringGenerationContext;
+
+		private ScriptGenerator(TableDependencyGraph graph, BindingState bindingState) {
+			this.graph = graph;
+			this.database = bindingState.getDatabase();
+			this.dialect = database.getDialect();
+			this.metadata = ( (InFlightMetadataCollectorImpl) bindingState.getMetadataBuildingContext().getMetadataCollector() )
+					.buildMetadataInstance( bindingState.getMetadataBuildingContext() );
+			this.sqlStringGenerationContext = SqlStringGenerationContextImpl.fromExplicit(
+					database.getJdbcEnvironment(),
+					database,
+					null,
+					null
+			);
+		}
+
+		private List<String> sequenceStatements() {
+			final List<String> statements = new ArrayList<>();
+			for ( Namespace namespace : database.getNamespaces() ) {
+				for ( Sequence sequence : namespace.getSequences() ) {
+					Collections.addAll(
+							statements,
+							dialect.getSequenceExporter().getSqlCreateStrings( sequence, metadata, sqlStringGenerationContext )
+					);
+				}
+			}
+			return statements;
+		}
+
+		private List<String> tableStatements(TableReference tableReference, List<String> deferredForeignKeys) {
+			final Table table = tableReference.binding();
+			final List<String> statements = new ArrayList<>();
+			Collections.addAll(
+					statements,
+					dialect.getTableExporter().getSqlCreateStrings( table, metadata, sqlStringGenerationContext )
+			);
+			for ( UniqueKey uniqueKey : table.getUniqueKeys().values() ) {
+				Collections.addAll(
+						statements,
+						dialect.getUniqueKeyExporter().getSqlCreateStrings( uniqueKey, metadata, sqlStringGenerationContext )
+				);
+			}
+			for ( Index index : table.getIndexes().values() ) {
+				Collections.addAll(
+						statements,
+						dialect.getIndexExporter().getSqlCreateStrings( index, metadata, sqlStringGenerationContext )
+				);
+			}
+
+			if ( dialect.hasAlterTable() ) {
+				final int waveIndex = graph.getWaveIndex( tableReference );
+				for ( ForeignKey foreignKey : table.getForeignKeys().values() ) {
+					if ( !foreignKey.isCreationEnabled() || !foreignKey.isPhysicalConstraint() ) {
+						continue;
+					}
+					final String[] sql = dialect.getForeignKeyExporter().getSqlCreateStrings(
+							foreignKey,
+							metadata,
+							sqlStringGenerationContext
+					);
+					if ( isCreated( foreignKey.getReferencedTable(), tableReference, waveIndex ) ) {
+						Collections.addAll( statements, sql );
+					}
+					else {
+						Collections.addAll( deferredForeignKeys, sql );
+					}
+				}
+			}
+
+			return statements;
+		}
+
+		/**
+		 * Whether the referenced table exists by the time the statements of {@code tableReference} are executed
+		 */
+		private boolean isCreated(Table referencedTable, TableReference tableReference, int waveIndex) {
+			if ( referencedTable == tableReference.binding() ) {
+				return true;
+			}
+			for ( TableDependency dependency : graph.getDependencies( tableReference ) ) {
+				if ( dependency.target().binding() == referencedTable ) {
+					final int targetWave = graph.getWaveIndex( dependency.target() );
+					return targetWave >= 0 && targetWave < waveIndex;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.boot.models.bind.internal.TableDependencyGraphBuilder;
+
+/**
+ * The exportable {@linkplain TableReference tables} of a bound model along with the
+ * dependencies between them - a table depends on every table its foreign keys
+ * (explicit or implied by the mapping) refer to.
+ * <p/>
+ * The tables are also arranged into {@linkplain #getWaves() waves} - each wave holds
+ * tables which depend only on tables of earlier waves, so the tables of a wave can be
+ * created concurrently once the earlier waves exist.
+ *
+ * @see ParallelSchemaCreator
+ */
+public class TableDependencyGraph {
+	/**
+	 * Build the graph for the tables in {@code bindingState}
+	 */
+	public static TableDependencyGraph from(BindingState bindingState, BindingContext bindingContext) {
+		return TableDependencyGraphBuilder.buildGraph( bindingState, bindingContext );
+	}
+
+	/**
+	 * Why one table depends on another
+	 */
+	public enum DependencyNature {
+		/**
+		 * A {@linkplain org.hibernate.mapping.ForeignKey foreign key} defined on the bound table
+		 */
+		FOREIGN_KEY,
+		/**
+		 * The table of a joined subclass, whose key refers to the table of its super type
+		 */
+		SUPER_TYPE,
+		/**
+		 * A secondary table, whose key refers to the primary table of its entity
+		 */
+		SECONDARY_TABLE,
+		/**
+		 * The join column(s) of a to-one association
+		 */
+		TO_ONE
+	}
+
+	/**
+	 * A dependency of {@code dependent} on {@code target}
+	 *
+	 * @param description What defines the dependency - the foreign key, attribute, etc.
+	 */
+	public record TableDependency(
+			TableReference dependent,
+			TableReference target,
+			DependencyNature nature,
+			String description) {
+		@Override
+		public String toString() {
+			return dependent.logicalName().getCanonicalName()
+					+ " -> " + target.logicalName().getCanonicalName()
+					+ " (" + nature + " : " + description + ")";
+		}
+	}
+
+	private final List<TableReference> tables;
+	private final List<TableDependency> dependencies;
+	private final Map<TableReference, List<TableDependency>> dependenciesByTable;
+	private final List<List<TableReference>> waves;
+	private final Map<TableReference, Integer> waveIndexes;
+	private final boolean cyclic;
+
+	public TableDependencyGraph(
+			List<TableReference> tables,
+			List<TableDependency> dependencies,
+			List<List<TableReference>> waves,
+			boolean cyclic) {
+		this.tables = tables;
+		this.dependencies = dependencies;
+		this.waves = waves;
+		this.cyclic = cyclic;
+
+		this.dependenciesByTable = new IdentityHashMap<>();
+		dependencies.forEach( (dependency) -> dependenciesByTable
+				.computeIfAbsent( dependency.dependent(), (t) -> new ArrayList<>() )
+				.add( dependency ) );
+
+		this.waveIndexes = new IdentityHashMap<>();
+		for ( int i = 0; i < waves.size(); i++ ) {
+			for ( TableReference table : waves.get( i ) ) {
+				waveIndexes.put( table, i );
+			}
+		}
+	}
+
+	/**
+	 * All exportable tables, ordered by logical name
+	 */
+	public List<TableReference> getTables() {
+		return tables;
+	}
+
+	/**
+	 * All dependencies between the {@linkplain #getTables() tables}
+	 */
+	public List<TableDependency> getDependencies() {
+		return dependencies;
+	}
+
+	/**
+	 * The dependencies of the given table
+	 */
+	public List<TableDependency> getDependencies(TableReference table) {
+		return dependenciesByTable.getOrDefault( table, Collections.emptyList() );
+	}
+
+	/**
+	 * The tables arranged in creation order.  Tables within a wave depend only on tables
+	 * of earlier waves (or themselves), except for the last wave of a {@linkplain #isCyclic() cyclic}
+	 * graph which holds all tables involved in, or depending on, a cycle.
+	 */
+	public List<List<TableReference>> getWaves() {
+		return waves;
+	}
+
+	/**
+	 * The index of the {@linkplain #getWaves() wave} containing the table, or {@code -1}
+	 * if the table is not part of this graph
+	 */
+	public int getWaveIndex(TableReference table) {
+		final Integer index = waveIndexes.get( table );
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * Whether the dependencies contain a cycle (not counting self-references)
+	 */
+	public boolean isCyclic() {
+		return cyclic;
+	}
+}
@@ -21,6 +21,8 @@ import org.hibernate.boot.models.categorize.spi.AllMemberConsumer;
 import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
 import org.hibernate.boot.models.categorize.spi.ManagedTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.ModelCategorizationContext;
+import org.hibernate.boot.models.profile.spi.BootCostPhase;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.boot.models.HibernateAnnotations;
 import org.hibernate.boot.models.JpaAnnotations;
@@ -149,6 +151,18 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 	}
 
 	protected List<AttributeMetadata> resolveAttributes(AllMemberConsumer memberConsumer) {
+		final BootCostProfile bootCostProfile = getModelContext().getBootCostProfile();
+		if ( bootCostProfile == null ) {
+			return doResolveAttributes( memberConsumer );
+		}
+
+		final BootCostProfile.Mark mark = bootCostProfile.start();
+		final List<AttributeMetadata> attributeList = doResolveAttributes( memberConsumer );
+		bootCostProfile.record( BootCostPhase.CATEGORIZATION, classDetails.getName(), mark );
+		return attributeList;
+	}
+
+	private List<AttributeMetadata> doResolveAttributes(AllMemberConsumer memberConsumer) {
 		final List<MemberDetails> backingMembers = getModelContext()
 				.getPersistentAttributeMemberResolver()
 				.resolveAttributesMembers( classDetails, getAccessType(), memberConsumer, modelContext );
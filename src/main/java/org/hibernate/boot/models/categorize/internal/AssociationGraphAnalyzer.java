@@ -0,0 +1,188 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.boot.models.categorize.spi.AssociationGraphAnalysis;
+import org.hibernate.boot.models.categorize.spi.AssociationGraphAnalysis.CollectionProfile;
+import org.hibernate.boot.models.categorize.spi.AssociationGraphAnalysis.EntityProfile;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.MemberDetails;
+
+import static org.hibernate.boot.models.categorize.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+
+/**
+ * Builds the {@linkplain AssociationGraphAnalysis} for a set of entity hierarchies and
+ * applies its recommendations.
+ */
+public class AssociationGraphAnalyzer {
+	public static AssociationGraphAnalysis analyze(
+			Set<EntityHierarchy> entityHierarchies,
+			ClassDetailsRegistry classDetailsRegistry,
+			int maximumBatchSize) {
+		final AssociationGraphAnalyzer analyzer = new AssociationGraphAnalyzer( entityHierarchies, classDetailsRegistry );
+		analyzer.countAssociations();
+		return analyzer.buildAnalysis( maximumBatchSize );
+	}
+
+	/**
+	 * Apply the recommended batch sizes as defaults - to the {@linkplain EntityTypeMetadata#getBatchSize() entity}
+	 * metadata of each entity in the hierarchy for entities, and to the {@linkplain AttributeMetadata#getBatchSize() attribute}
+	 * metadata for collections.  Entities and collections which specify a batch size are left alone.
+	 */
+	public static void applyRecommendations(AssociationGraphAnalysis analysis) {
+		analysis.getEntityProfiles().values().forEach( (profile) -> {
+			if ( profile.getRecommendedBatchSize() > 0 ) {
+				// every entity of the hierarchy is loaded through the same references
+				profile.getRootEntity().getHierarchy().forEachType( (type, superType, hierarchy, relation) -> {
+					if ( type instanceof EntityTypeMetadataImpl entityType ) {
+						entityType.applyDefaultBatchSize( profile.getRecommendedBatchSize() );
+					}
+				} );
+			}
+		} );
+
+		analysis.getCollectionProfiles().values().forEach( (profile) -> {
+			if ( profile.getRecommendedBatchSize() > 0
+					&& profile.getAttribute() instanceof AttributeMetadataImpl attribute ) {
+				attribute.applyDefaultBatchSize( profile.getRecommendedBatchSize() );
+			}
+		} );
+	}
+
+	/**
+	 * Log the recommendations
+	 */
+	public static void logRecommendations(AssociationGraphAnalysis analysis) {
+		analysis.getEntityProfiles().values().forEach( (profile) -> {
+			if ( profile.getRecommendedBatchSize() > 0 ) {
+				MODEL_CATEGORIZATION_LOGGER.infof(
+						"Recommended batch size for entity `%s` : %s (referenced by %s to-one associations)",
+						profile.getRootEntity().getEntityName(),
+						profile.getRecommendedBatchSize(),
+						profile.getToOneFanIn()
+				);
+			}
+		} );
+		analysis.getCollectionProfiles().values().forEach( (profile) -> {
+			if ( profile.getRecommendedBatchSize() > 0 ) {
+				MODEL_CATEGORIZATION_LOGGER.infof(
+						"Recommended batch size for collection `%s` : %s",
+						profile.getRole(),
+						profile.getRecommendedBatchSize()
+				);
+			}
+		} );
+	}
+
+	private final Set<EntityHierarchy> entityHierarchies;
+	private final ClassDetailsRegistry classDetailsRegistry;
+
+	// keyed by the class name of each identifiable type, pointing to its hierarchy's counts
+	private final Map<String, Counts> countsByType = new HashMap<>();
+	private final Map<EntityHierarchy, Counts> countsByHierarchy = new LinkedHashMap<>();
+	private final Map<String, PluralAttribute> pluralAttributes = new LinkedHashMap<>();
+
+	private AssociationGraphAnalyzer(Set<EntityHierarchy> entityHierarchies, ClassDetailsRegistry classDetailsRegistry) {
+		this.entityHierarchies = entityHierarchies;
+		this.classDetailsRegistry = classDetailsRegistry;
+
+		entityHierarchies.forEach( (hierarchy) -> {
+			final Counts counts = new Counts();
+			countsByHierarchy.put( hierarchy, counts );
+			hierarchy.forEachType( (type, superType, h, relation) -> {
+				countsByType.put( type.getClassDetails().getName(), counts );
+			} );
+		} );
+	}
+
+	private void countAssociations() {
+		entityHierarchies.forEach( (hierarchy) -> {
+			final Counts ownerCounts = countsByHierarchy.get( hierarchy );
+			hierarchy.forEachType( (type, superType, h, relation) -> type.forEachAttribute( (index, attribute) -> {
+				if ( attribute.getNature() == AttributeMetadata.AttributeNature.TO_ONE ) {
+					ownerCounts.fanOut++;
+					final Counts targetCounts = findTargetCounts( attribute );
+					if ( targetCounts != null ) {
+						targetCounts.toOneFanIn++;
+					}
+				}
+				else if ( attribute.getNature() == AttributeMetadata.AttributeNature.PLURAL ) {
+					ownerCounts.fanOut++;
+					final Counts targetCounts = findTargetCounts( attribute );
+					if ( targetCounts != null ) {
+						targetCounts.collectionFanIn++;
+					}
+					final String role = type.getClassDetails().getName() + "." + attribute.getName();
+					pluralAttributes.put( role, new PluralAttribute( role, attribute, ownerCounts ) );
+				}
+			} ) );
+		} );
+	}
+
+	private Counts findTargetCounts(AttributeMetadata attribute) {
+		final ClassDetails target = AttributeTargetHelper.determineTarget(
+				attribute.getMember(),
+				attribute.getNature(),
+				false,
+				classDetailsRegistry
+		);
+		return target == null ? null : countsByType.get( target.getName() );
+	}
+
+	private AssociationGraphAnalysis buildAnalysis(int maximumBatchSize) {
+		final Map<String, EntityProfile> entityProfiles = new LinkedHashMap<>();
+		countsByHierarchy.forEach( (hierarchy, counts) -> {
+			final EntityTypeMetadata root = hierarchy.getRoot();
+			final boolean explicit = root.getClassDetails().getAnnotationUsage( BatchSize.class ) != null;
+			entityProfiles.put( root.getClassDetails().getName(), new EntityProfile(
+					root,
+					counts.toOneFanIn,
+					counts.collectionFanIn,
+					counts.fanOut,
+					explicit,
+					explicit ? -1 : AssociationGraphAnalysis.recommendBatchSize( counts.toOneFanIn, maximumBatchSize )
+			) );
+		} );
+
+		final Map<String, CollectionProfile> collectionProfiles = new LinkedHashMap<>();
+		pluralAttributes.forEach( (role, pluralAttribute) -> {
+			final MemberDetails member = pluralAttribute.attribute.getMember();
+			final boolean explicit = member.getAnnotationUsage( BatchSize.class ) != null;
+			// the owner itself is also loaded through queries, hence the `+ 1`
+			final int ownerReferences = pluralAttribute.ownerCounts.toOneFanIn
+					+ pluralAttribute.ownerCounts.collectionFanIn
+					+ 1;
+			collectionProfiles.put( role, new CollectionProfile(
+					role,
+					pluralAttribute.attribute,
+					explicit,
+					explicit ? -1 : AssociationGraphAnalysis.recommendBatchSize( ownerReferences, maximumBatchSize )
+			) );
+		} );
+
+		return new AssociationGraphAnalysis( entityProfiles, collectionProfiles );
+	}
+
+	private static class Counts {
+		private int toOneFanIn;
+		private int collectionFanIn;
+		private int fanOut;
+	}
+
+	private record PluralAttribute(String role, AttributeMetadata attribute, Counts ownerCounts) {
+	}
+}
@@ -6,7 +6,9 @@
  */
 package org.hibernate.boot.models.categorize.internal;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.models.spi.AnnotationUsage;
 import org.hibernate.models.spi.MemberDetails;
 
 /**
@@ -17,6 +19,8 @@ public class AttributeMetadataImpl implements AttributeMetadata {
 	private final AttributeNature nature;
 	private final MemberDetails member;
 
+	private int defaultBatchSize = -1;
+
 	public AttributeMetadataImpl(String name, AttributeNature nature, MemberDetails member) {
 		this.name = name;
 		this.nature = nature;
@@ -38,6 +42,27 @@ public class AttributeMetadataImpl implements AttributeMetadata {
 		return member;
 	}
 
+	@Override
+	public int getBatchSize() {
+		if ( nature != AttributeNature.PLURAL ) {
+			return -1;
+		}
+		final AnnotationUsage<BatchSize> batchSizeAnnotation = member.getAnnotationUsage( BatchSize.class );
+		if ( batchSizeAnnotation != null ) {
+			return batchSizeAnnotation.getAttributeValue( "size" );
+		}
+		return defaultBatchSize;
+	}
+
+	/**
+	 * Apply a batch size to use when none is specified
+	 *
+	 * @see AssociationGraphAnalyzer#applyRecommendations
+	 */
+	void applyDefaultBatchSize(int defaultBatchSize) {
+		this.defaultBatchSize = defaultBatchSize;
+	}
+
 	@Override
 	public String toString() {
 		return "AttributeMetadata(`" + name + "`)";
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Map;
+
+import org.hibernate.boot.models.JpaAnnotations;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.MemberDetails;
+
+/**
+ * Helper for determining the type an attribute refers to - the associated entity, the
+ * collection element, etc.
+ */
+public class AttributeTargetHelper {
+	private AttributeTargetHelper() {
+	}
+
+	/**
+	 * The type of the attribute's value (or collection element or map key), as far as we can tell
+	 *
+	 * @param member The attribute's backing member
+	 * @param nature The attribute's nature
+	 * @param isKey Whether to determine the map key type, rather than the value type
+	 * @param classDetailsRegistry Registry used to resolve types read from generic signatures
+	 */
+	public static ClassDetails determineTarget(
+			MemberDetails member,
+			AttributeMetadata.AttributeNature nature,
+			boolean isKey,
+			ClassDetailsRegistry classDetailsRegistry) {
+		if ( isKey ) {
+			final ClassDetails mapKeyClass = explicitClass( member.getAnnotationUsage( JpaAnnotations.MAP_KEY_CLASS ), "value" );
+			return mapKeyClass != null
+					? mapKeyClass
+					: typeArgument( member, true, classDetailsRegistry );
+		}
+
+		switch ( nature ) {
+			case TO_ONE: {
+				final ClassDetails targetEntity = coalesceExplicit(
+						explicitClass( member.getAnnotationUsage( JpaAnnotations.MANY_TO_ONE ), "targetEntity" ),
+						explicitClass( member.getAnnotationUsage( JpaAnnotations.ONE_TO_ONE ), "targetEntity" )
+				);
+				return targetEntity != null ? targetEntity : member.getType();
+			}
+			case PLURAL: {
+				final ClassDetails targetEntity = coalesceExplicit(
+						explicitClass( member.getAnnotationUsage( JpaAnnotations.ONE_TO_MANY ), "targetEntity" ),
+						explicitClass( member.getAnnotationUsage( JpaAnnotations.MANY_TO_MANY ), "targetEntity" ),
+						explicitClass( member.getAnnotationUsage( JpaAnnotations.ELEMENT_COLLECTION ), "targetClass" )
+				);
+				if ( targetEntity != null ) {
+					return targetEntity;
+				}
+				return typeArgument( member, false, classDetailsRegistry );
+			}
+			default: {
+				return member.getType();
+			}
+		}
+	}
+
+	/**
+	 * The value of a Class-valued annotation attribute, or {@code null} if not specified
+	 * ({@code void} being the usual "not specified" marker)
+	 */
+	public static ClassDetails explicitClass(AnnotationUsage<?> usage, String attributeName) {
+		if ( usage == null ) {
+			return null;
+		}
+		final ClassDetails value = usage.getAttributeValue( attributeName );
+		return isUnspecified( value ) ? null : value;
+	}
+
+	private static ClassDetails coalesceExplicit(ClassDetails... values) {
+		for ( ClassDetails value : values ) {
+			if ( value != null ) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isUnspecified(ClassDetails value) {
+		return value == null
+				|| void.class.getName().equals( value.getName() )
+				|| Void.class.getName().equals( value.getName() );
+	}
+
+	/**
+	 * Element (or map key) type of a plural attribute, read from the generic signature
+	 * of the backing member
+	 */
+	private static ClassDetails typeArgument(
+			MemberDetails member,
+			boolean isKey,
+			ClassDetailsRegistry classDetailsRegistry) {
+		if ( !( genericType( member ) instanceof ParameterizedType parameterizedType )
+				|| !( parameterizedType.getRawType() instanceof Class<?> rawType ) ) {
+			return null;
+		}
+
+		final int position;
+		if ( Map.class.isAssignableFrom( rawType ) ) {
+			position = isKey ? 0 : 1;
+		}
+		else if ( isKey ) {
+			return null;
+		}
+		else {
+			position = 0;
+		}
+
+		final Type[] typeArguments = parameterizedType.getActualTypeArguments();
+		if ( position >= typeArguments.length ) {
+			return null;
+		}
+
+		Type typeArgument = typeArguments[position];
+		if ( typeArgument instanceof WildcardType wildcardType && wildcardType.getUpperBounds().length == 1 ) {
+			// `? extends Item`
+			typeArgument = wildcardType.getUpperBounds()[0];
+		}
+		return typeArgument instanceof Class<?> typeArgumentClass
+				? classDetailsRegistry.findClassDetails( typeArgumentClass.getName() )
+				: null;
+	}
+
+	/**
+	 * The generic type of the member's Java counterpart, or {@code null} if it has none (dynamic models, e.g.)
+	 */
+	private static Type genericType(MemberDetails member) {
+		final Member javaMember = member.toJavaMember();
+		if ( javaMember instanceof Field field ) {
+			return field.getGenericType();
+		}
+		if ( javaMember instanceof Method method ) {
+			return method.getGenericReturnType();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.boot.models.JpaAnnotations;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.xml.internal.XmlPreProcessingResultImpl;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
+
+import static org.hibernate.boot.models.categorize.internal.AttributeTargetHelper.explicitClass;
+
+/**
+ * Determines which parts of a previously {@linkplain CategorizedDomainModel categorized domain model}
+ * are affected by a set of changed classes and mapping documents.
+ * <p/>
+ * Starting from the changed names, invalidation spreads until nothing more is affected -
+ * <ul>
+ *     <li>a managed type is affected when any {@linkplain ClassDetails} it refers to is - its super type, the
+ *     type of any of its members or any explicit association target ({@code targetEntity}, e.g.).  A reused
+ *     {@linkplain ClassDetails} would otherwise still refer to the {@linkplain ClassDetails} being replaced</li>
+ *     <li>an entity hierarchy is affected when any of its types is.  All types of an affected hierarchy are
+ *     then invalidated</li>
+ *     <li>a mapping document is reprocessed when it changed or maps any invalidated name.  All names it
+ *     maps are then invalidated, as XML mutates the {@linkplain ClassDetails} it applies to</li>
+ * </ul>
+ * Only the {@linkplain ClassDetails} of names which are not invalidated are reused; entity hierarchies are
+ * always rebuilt, as they refer to the categorization context (registries and global registrations) they
+ * were built against.
+ */
+public class CategorizationInvalidation {
+	private final Set<String> invalidatedNames;
+	private final Set<JaxbEntityMappingsImpl> reprocessedDocuments;
+	private final boolean completeReprocessingRequired;
+
+	private CategorizationInvalidation(
+			Set<String> invalidatedNames,
+			Set<JaxbEntityMappingsImpl> reprocessedDocuments,
+			boolean completeReprocessingRequired) {
+		this.invalidatedNames = invalidatedNames;
+		this.reprocessedDocuments = reprocessedDocuments;
+		this.completeReprocessingRequired = completeReprocessingRequired;
+	}
+
+	/**
+	 * Whether the changes cannot be handled incrementally - e.g. a changed document defines
+	 * persistence-unit defaults, which apply to every managed type
+	 */
+	public boolean isCompleteReprocessingRequired() {
+		return completeReprocessingRequired;
+	}
+
+	/**
+	 * Whether the {@linkplain ClassDetails} for the given name must be rebuilt
+	 */
+	public boolean isInvalidated(String name) {
+		return invalidatedNames.contains( name );
+	}
+
+	/**
+	 * Whether the given mapping document must be reprocessed
+	 */
+	public boolean isReprocessed(JaxbEntityMappingsImpl document) {
+		return reprocessedDocuments.contains( document );
+	}
+
+	public static CategorizationInvalidation determine(
+			CategorizedDomainModel previousModel,
+			List<JaxbEntityMappingsImpl> documents,
+			Set<JaxbEntityMappingsImpl> changedDocuments,
+			Set<String> changedClassNames) {
+		for ( JaxbEntityMappingsImpl changedDocument : changedDocuments ) {
+			if ( changedDocument.getPersistenceUnitMetadata() != null ) {
+				return new CategorizationInvalidation(
+						Collections.emptySet(),
+						Collections.emptySet(),
+						true
+				);
+			}
+		}
+
+		final Propagation propagation = new Propagation( previousModel, documents );
+		changedClassNames.forEach( propagation::invalidate );
+		changedDocuments.forEach( propagation::reprocess );
+		propagation.propagate();
+
+		return new CategorizationInvalidation( propagation.invalidatedNames, propagation.reprocessedDocuments, false );
+	}
+
+	/**
+	 * Spreads invalidation over the previous model - a worklist over what refers to each invalidated name
+	 */
+	private static class Propagation {
+		private final Set<String> invalidatedNames = new HashSet<>();
+		private final Set<JaxbEntityMappingsImpl> reprocessedDocuments = Collections.newSetFromMap( new IdentityHashMap<>() );
+		private final Deque<String> pending = new ArrayDeque<>();
+
+		// the names of the managed types referring to each name
+		private final Map<String, Set<String>> referringTypes = new HashMap<>();
+		// the types making up the hierarchy of each (hierarchy) type
+		private final Map<String, List<ClassDetails>> hierarchyTypes = new HashMap<>();
+		// names mapped by each document, and the documents mapping each name
+		private final Map<JaxbEntityMappingsImpl, List<String>> documentNames = new IdentityHashMap<>();
+		private final Map<String, List<JaxbEntityMappingsImpl>> documentsByName = new HashMap<>();
+
+		private Propagation(CategorizedDomainModel previousModel, List<JaxbEntityMappingsImpl> documents) {
+			for ( EntityHierarchy hierarchy : previousModel.getEntityHierarchies() ) {
+				final List<ClassDetails> types = new ArrayList<>();
+				hierarchy.forEachType( (type, superType, h, relation) -> types.add( type.getClassDetails() ) );
+				for ( int i = 0; i < types.size(); i++ ) {
+					hierarchyTypes.put( types.get( i ).getName(), types );
+					collectReferences( types.get( i ) );
+				}
+			}
+			previousModel.getMappedSuperclasses().values().forEach( this::collectReferences );
+			previousModel.getEmbeddables().values().forEach( this::collectReferences );
+
+			for ( JaxbEntityMappingsImpl document : documents ) {
+				for ( String name : getDocumentNames( document ) ) {
+					documentsByName.computeIfAbsent( name, (n) -> new ArrayList<>() ).add( document );
+				}
+			}
+		}
+
+		private void collectReferences(ClassDetails type) {
+			final ClassDetails superType = type.getSuperType();
+			if ( superType != null ) {
+				addReference( type, superType );
+			}
+
+			final List<FieldDetails> fields = type.getFields();
+			for ( int i = 0; i < fields.size(); i++ ) {
+				collectReferences( type, fields.get( i ) );
+			}
+
+			final List<MethodDetails> methods = type.getMethods();
+			for ( int i = 0; i < methods.size(); i++ ) {
+				collectReferences( type, methods.get( i ) );
+			}
+		}
+
+		private void collectReferences(ClassDetails type, MemberDetails member) {
+			addReference( type, member.getType() );
+			// Class-valued annotation attributes are ClassDetails as well
+			addReference( type, explicitClass( member.getAnnotationUsage( JpaAnnotations.MANY_TO_ONE ), "targetEntity" ) );
+			addReference( type, explicitClass( member.getAnnotationUsage( JpaAnnotations.ONE_TO_ONE ), "targetEntity" ) );
+			addReference( type, explicitClass( member.getAnnotationUsage( JpaAnnotations.ONE_TO_MANY ), "targetEntity" ) );
+			addReference( type, explicitClass( member.getAnnotationUsage( JpaAnnotations.MANY_TO_MANY ), "targetEntity" ) );
+			addReference( type, explicitClass( member.getAnnotationUsage( JpaAnnotations.ELEMENT_COLLECTION ), "targetClass" ) );
+			addReference( type, explicitClass( member.getAnnotationUsage( JpaAnnotations.MAP_KEY_CLASS ), "value" ) );
+		}
+
+		private void addReference(ClassDetails type, ClassDetails referenced) {
+			if ( referenced != null && !referenced.getName().equals( type.getName() ) ) {
+				referringTypes.computeIfAbsent( referenced.getName(), (name) -> new HashSet<>() ).add( type.getName() );
+			}
+		}
+
+		private List<String> getDocumentNames(JaxbEntityMappingsImpl document) {
+			return documentNames.computeIfAbsent( document, (d) -> {
+				final XmlPreProcessingResultImpl documentResult = new XmlPreProcessingResultImpl();
+				documentResult.addDocument( d );
+				final List<String> names = new ArrayList<>( documentResult.getMappedClasses() );
+				names.addAll( documentResult.getMappedNames() );
+				return names;
+			} );
+		}
+
+		private void invalidate(String name) {
+			if ( invalidatedNames.add( name ) ) {
+				pending.add( name );
+			}
+		}
+
+		private void reprocess(JaxbEntityMappingsImpl document) {
+			if ( reprocessedDocuments.add( document ) ) {
+				getDocumentNames( document ).forEach( this::invalidate );
+			}
+		}
+
+		private void propagate() {
+			while ( !pending.isEmpty() ) {
+				final String name = pending.poll();
+
+				final Set<String> referring = referringTypes.get( name );
+				if ( referring != null ) {
+					referring.forEach( this::invalidate );
+				}
+
+				final List<ClassDetails> types = hierarchyTypes.get( name );
+				if ( types != null ) {
+					for ( int i = 0; i < types.size(); i++ ) {
+						invalidate( types.get( i ).getName() );
+					}
+				}
+
+				final List<JaxbEntityMappingsImpl> mappingDocuments = documentsByName.get( name );
+				if ( mappingDocuments != null ) {
+					mappingDocuments.forEach( this::reprocess );
+				}
+			}
+		}
+	}
+}
@@ -6,12 +6,16 @@
  */
 package org.hibernate.boot.models.categorize.internal;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
 import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.FetchPlan;
 import org.hibernate.boot.models.categorize.spi.GlobalRegistrations;
+import org.hibernate.boot.models.categorize.spi.PreparsedNamedQueries;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
@@ -26,6 +30,9 @@ public class CategorizedDomainModelImpl implements CategorizedDomainModel {
 	private final Map<String, ClassDetails> mappedSuperclasses;
 	private final Map<String, ClassDetails> embeddables;
 	private final GlobalRegistrations globalRegistrations;
+	private final PreparsedNamedQueries preparsedNamedQueries;
+	private final Map<String, FetchPlan> namedEntityGraphs;
+	private final BootCostProfile bootCostProfile;
 
 	public CategorizedDomainModelImpl(
 			ClassDetailsRegistry classDetailsRegistry,
@@ -34,12 +41,78 @@ public class CategorizedDomainModelImpl implements CategorizedDomainModel {
 			Map<String, ClassDetails> mappedSuperclasses,
 			Map<String, ClassDetails> embeddables,
 			GlobalRegistrations globalRegistrations) {
+		this(
+				classDetailsRegistry,
+				annotationDescriptorRegistry,
+				entityHierarchies,
+				mappedSuperclasses,
+				embeddables,
+				globalRegistrations,
+				PreparsedNamedQueries.NONE
+		);
+	}
+
+	public CategorizedDomainModelImpl(
+			ClassDetailsRegistry classDetailsRegistry,
+			AnnotationDescriptorRegistry annotationDescriptorRegistry,
+			Set<EntityHierarchy> entityHierarchies,
+			Map<String, ClassDetails> mappedSuperclasses,
+			Map<String, ClassDetails> embeddables,
+			GlobalRegistrations globalRegistrations,
+			PreparsedNamedQueries preparsedNamedQueries) {
+		this(
+				classDetailsRegistry,
+				annotationDescriptorRegistry,
+				entityHierarchies,
+				mappedSuperclasses,
+				embeddables,
+				globalRegistrations,
+				preparsedNamedQueries,
+				Collections.emptyMap()
+		);
+	}
+
+	public CategorizedDomainModelImpl(
+			ClassDetailsRegistry classDetailsRegistry,
+			AnnotationDescriptorRegistry annotationDescriptorRegistry,
+			Set<EntityHierarchy> entityHierarchies,
+			Map<String, ClassDetails> mappedSuperclasses,
+			Map<String, ClassDetails> embeddables,
+			GlobalRegistrations globalRegistrations,
+			PreparsedNamedQueries preparsedNamedQueries,
+			Map<String, FetchPlan> namedEntityGraphs) {
+		this(
+				classDetailsRegistry,
+				annotationDescriptorRegistry,
+				entityHierarchies,
+				mappedSuperclasses,
+				embeddables,
+				globalRegistrations,
+				preparsedNamedQueries,
+				namedEntityGraphs,
+				null
+		);
+	}
+
+	public CategorizedDomainModelImpl(
+			ClassDetailsRegistry classDetailsRegistry,
+			AnnotationDescriptorRegistry annotationDescriptorRegistry,
+			Set<EntityHierarchy> entityHierarchies,
+			Map<String, ClassDetails> mappedSuperclasses,
+			Map<String, ClassDetails> embeddables,
+			GlobalRegistrations globalRegistrations,
+			PreparsedNamedQueries preparsedNamedQueries,
+			Map<String, FetchPlan> namedEntityGraphs,
+			BootCostProfile bootCostProfile) {
 		this.classDetailsRegistry = classDetailsRegistry;
 		this.annotationDescriptorRegistry = annotationDescriptorRegistry;
 		this.entityHierarchies = entityHierarchies;
 		this.mappedSuperclasses = mappedSuperclasses;
 		this.embeddables = embeddables;
 		this.globalRegistrations = globalRegistrations;
+		this.preparsedNamedQueries = preparsedNamedQueries;
+		this.namedEntityGraphs = namedEntityGraphs;
+		this.bootCostProfile = bootCostProfile;
 	}
 
 	@Override
@@ -70,4 +143,19 @@ public class CategorizedDomainModelImpl implements CategorizedDomainModel {
 	public GlobalRegistrations getGlobalRegistrations() {
 		return globalRegistrations;
 	}
+
+	@Override
+	public PreparsedNamedQueries getPreparsedNamedQueries() {
+		return preparsedNamedQueries;
+	}
+
+	@Override
+	public Map<String, FetchPlan> getNamedEntityGraphs() {
+		return namedEntityGraphs;
+	}
+
+	@Override
+	public BootCostProfile getBootCostProfile() {
+		return bootCostProfile;
+	}
 }
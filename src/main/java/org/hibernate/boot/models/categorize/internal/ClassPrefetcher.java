@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.models.categorize.ModelCategorizationLogging;
+import org.hibernate.models.spi.ClassLoading;
+
+/**
+ * Loads classes in the background, on a bounded executor, so that class loading overlaps
+ * the rest of categorization.  Uses virtual threads when the JVM supports them, and otherwise
+ * a small pool of daemon threads.
+ * <p/>
+ * Prefetching is best-effort - failures are ignored here and surface (if at all) when the
+ * class is later resolved for real.
+ *
+ * @see org.hibernate.boot.models.ModelsSettings#PREFETCH_CLASSES
+ */
+public class ClassPrefetcher implements AutoCloseable {
+	private final ClassLoading classLoading;
+	private final ExecutorService executor;
+	private final Semaphore permits;
+
+	public ClassPrefetcher(ClassLoading classLoading, int parallelism) {
+		this.classLoading = classLoading;
+		this.permits = new Semaphore( parallelism );
+		this.executor = createExecutor( parallelism );
+	}
+
+	/**
+	 * Start loading the named classes
+	 */
+	public void prefetch(Collection<String> classNames) {
+		classNames.forEach( (className) -> executor.execute( () -> bounded( () -> load( className ) ) ) );
+	}
+
+	/**
+	 * Start looking for (and loading) the {@code package-info} class of the named package
+	 *
+	 * @return The name of the {@code package-info} class, or {@code null} if the package has none
+	 */
+	public CompletableFuture<String> prefetchPackageInfo(String packageName) {
+		final CompletableFuture<String> result = new CompletableFuture<>();
+		executor.execute( () -> bounded( () -> result.complete( resolvePackageInfo( packageName, classLoading ) ) ) );
+		return result;
+	}
+
+	/**
+	 * Determine the name of the {@code package-info} class of the named package, if there is one.
+	 * <p/>
+	 * Looks for the class file as a resource first, rather than relying on an exception
+	 * to detect the (common) case of there being no {@code package-info}.
+	 *
+	 * @return The name of the {@code package-info} class, or {@code null} if the package has none
+	 */
+	public static String resolvePackageInfo(String packageName, ClassLoading classLoading) {
+		final String packageInfoName = packageName + ".package-info";
+		if ( classLoading.locateResource( packageInfoName.replace( '.', '/' ) + ".class" ) == null ) {
+			return null;
+		}
+
+		try {
+			return classLoading.classForName( packageInfoName ).getName();
+		}
+		catch (RuntimeException e) {
+			// located, but could not be loaded - treat as absent
+			return null;
+		}
+	}
+
+	private void load(String className) {
+		try {
+			classLoading.classForName( className );
+		}
+		catch (RuntimeException | LinkageError e) {
+			ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER.debugf( "Unable to prefetch class `%s`", className );
+		}
+	}
+
+	private void bounded(Runnable task) {
+		try {
+			permits.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		try {
+			task.run();
+		}
+		finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Stops accepting work.  Already submitted work continues in the background.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	private static ExecutorService createExecutor(int parallelism) {
+		try {
+			// Java 21+
+			final Method factory = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+			return (ExecutorService) factory.invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			final AtomicInteger counter = new AtomicInteger();
+			final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+					parallelism,
+					parallelism,
+					1,
+					TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(),
+					(task) -> {
+						final Thread thread = new Thread( task, "hibernate-models-prefetch-" + counter.incrementAndGet() );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+			executor.allowCoreThreadTimeOut( true );
+			return executor;
+		}
+	}
+}
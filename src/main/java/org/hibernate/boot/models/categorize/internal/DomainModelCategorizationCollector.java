@@ -18,6 +18,9 @@ import org.hibernate.boot.jaxb.mapping.spi.JaxbPersistenceUnitMetadataImpl;
 import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
 import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
 import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.boot.models.categorize.spi.PreparsedNamedQueries;
+import org.hibernate.boot.models.categorize.xml.spi.XmlDocument;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
@@ -87,8 +90,12 @@ public class DomainModelCategorizationCollector {
 
 		getGlobalRegistrations().collectIdGenerators( jaxbRoot );
 
-		// todo : named queries
-		// todo : named graphs
+		// named queries are collected from the XmlDocument - see #apply(XmlDocument)
+		// named graphs are applied to the entity's ClassDetails - see #apply(ClassDetails)
+	}
+
+	public void apply(XmlDocument xmlDocument) {
+		getGlobalRegistrations().collectQueryReferences( xmlDocument );
 	}
 
 	public void apply(ClassDetails classDetails) {
@@ -105,8 +112,7 @@ public class DomainModelCategorizationCollector {
 			getGlobalRegistrations().collectIdGenerators( classDetails );
 		}
 
-		// todo : named queries
-		// todo : named graphs
+		getGlobalRegistrations().collectQueryReferences( classDetails );
 
 		if ( classDetails.getAnnotationUsage( MappedSuperclass.class ) != null ) {
 			if ( classDetails.getClassName() != null ) {
@@ -114,6 +120,8 @@ public class DomainModelCategorizationCollector {
 			}
 		}
 		else if ( classDetails.getAnnotationUsage( Entity.class ) != null ) {
+			getGlobalRegistrations().collectNamedEntityGraphs( classDetails );
+
 			if ( EntityHierarchyBuilder.isRoot( classDetails ) ) {
 				rootEntities.add( classDetails );
 			}
@@ -140,13 +148,45 @@ public class DomainModelCategorizationCollector {
 			Set<EntityHierarchy> entityHierarchies,
 			ClassDetailsRegistry classDetailsRegistry,
 			AnnotationDescriptorRegistry annotationDescriptorRegistry) {
+		return createResult( entityHierarchies, classDetailsRegistry, annotationDescriptorRegistry, PreparsedNamedQueries.NONE );
+	}
+
+	/**
+	 * Form of {@linkplain #createResult(Set, ClassDetailsRegistry, AnnotationDescriptorRegistry)}
+	 * including the {@linkplain PreparsedNamedQueries pre-parsed named queries}.
+	 * <p/>
+	 * Named entity graphs are resolved against the {@code entityHierarchies} here.
+	 *
+	 * @throws org.hibernate.models.ModelsException If any named entity graph is invalid
+	 */
+	public CategorizedDomainModel createResult(
+			Set<EntityHierarchy> entityHierarchies,
+			ClassDetailsRegistry classDetailsRegistry,
+			AnnotationDescriptorRegistry annotationDescriptorRegistry,
+			PreparsedNamedQueries preparsedNamedQueries) {
+		return createResult( entityHierarchies, classDetailsRegistry, annotationDescriptorRegistry, preparsedNamedQueries, null );
+	}
+
+	/**
+	 * Form of {@linkplain #createResult(Set, ClassDetailsRegistry, AnnotationDescriptorRegistry, PreparsedNamedQueries)}
+	 * including the {@linkplain BootCostProfile boot cost profile}, if one.
+	 */
+	public CategorizedDomainModel createResult(
+			Set<EntityHierarchy> entityHierarchies,
+			ClassDetailsRegistry classDetailsRegistry,
+			AnnotationDescriptorRegistry annotationDescriptorRegistry,
+			PreparsedNamedQueries preparsedNamedQueries,
+			BootCostProfile bootCostProfile) {
 		return new CategorizedDomainModelImpl(
 				classDetailsRegistry,
 				annotationDescriptorRegistry,
 				entityHierarchies,
 				mappedSuperclasses,
 				embeddables,
-				getGlobalRegistrations()
+				getGlobalRegistrations(),
+				preparsedNamedQueries,
+				NamedEntityGraphResolver.resolveNamedEntityGraphs( getGlobalRegistrations(), entityHierarchies, classDetailsRegistry ),
+				bootCostProfile
 		);
 	}
 }
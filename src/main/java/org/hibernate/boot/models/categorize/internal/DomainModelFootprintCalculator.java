@@ -0,0 +1,330 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.DomainModelFootprint;
+import org.hibernate.boot.models.categorize.spi.DomainModelFootprint.Category;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.GlobalRegistrations;
+import org.hibernate.boot.models.categorize.spi.ManagedTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.ModelCategorizationContext;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.ClassLoading;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+
+/**
+ * Walks the object graph of a {@linkplain CategorizedDomainModel} to build its
+ * {@linkplain DomainModelFootprint}.
+ * <p/>
+ * Each object is counted once, under the category of the nearest categorized object it
+ * was reached from.  Hierarchies are walked first, each limited to the {@linkplain ClassDetails}
+ * of its own types; whatever remains reachable from the registries, global registrations and
+ * documents is then counted as shared.
+ */
+public class DomainModelFootprintCalculator {
+	private static final int OBJECT_HEADER = 12;
+	private static final int ARRAY_HEADER = 16;
+	private static final int REFERENCE = 4;
+	private static final int HASH_ENTRY = 32;
+
+	private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<>() {
+		@Override
+		protected Long computeValue(Class<?> type) {
+			return calculateShallowSize( type );
+		}
+	};
+
+	private static final ClassValue<Field[]> REFERENCE_FIELDS = new ClassValue<>() {
+		@Override
+		protected Field[] computeValue(Class<?> type) {
+			return collectReferenceFields( type );
+		}
+	};
+
+	private final Set<Object> visited = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+	public static DomainModelFootprint calculate(CategorizedDomainModel model, Collection<JaxbEntityMappingsImpl> documents) {
+		final DomainModelFootprintCalculator calculator = new DomainModelFootprintCalculator();
+
+		final Map<EntityHierarchy, DomainModelFootprint.Footprint> hierarchyFootprints = new LinkedHashMap<>();
+		final int[] entityCount = new int[1];
+		for ( EntityHierarchy hierarchy : model.getEntityHierarchies() ) {
+			final Set<ClassDetails> ownTypes = Collections.newSetFromMap( new IdentityHashMap<>() );
+			hierarchy.forEachType( (type, superType, h, relation) -> {
+				ownTypes.add( type.getClassDetails() );
+				if ( type.getManagedTypeKind() == ManagedTypeMetadata.Kind.ENTITY ) {
+					entityCount[0]++;
+				}
+			} );
+
+			final Tally tally = new Tally();
+			calculator.walk( hierarchy, Category.TYPE_METADATA, ownTypes, tally );
+			hierarchyFootprints.put( hierarchy, tally.toFootprint() );
+		}
+
+		final Tally shared = new Tally();
+		model.getClassDetailsRegistry().forEachClassDetails(
+				(classDetails) -> calculator.walk( classDetails, Category.CLASS_DETAILS, null, shared )
+		);
+		calculator.walk( model.getGlobalRegistrations(), Category.GLOBAL_REGISTRATIONS, null, shared );
+		for ( JaxbEntityMappingsImpl document : documents ) {
+			calculator.walk( document, Category.JAXB, null, shared );
+		}
+
+		return new DomainModelFootprint( hierarchyFootprints, shared.toFootprint(), entityCount[0] );
+	}
+
+	private void walk(Object root, Category rootCategory, Set<ClassDetails> allowedClassDetails, Tally tally) {
+		final Deque<Object> objects = new ArrayDeque<>();
+		final Deque<Category> categories = new ArrayDeque<>();
+		objects.push( root );
+		categories.push( rootCategory );
+
+		while ( !objects.isEmpty() ) {
+			final Object object = objects.pop();
+			final Category inherited = categories.pop();
+
+			if ( isExcluded( object ) ) {
+				continue;
+			}
+			if ( allowedClassDetails != null
+					&& object instanceof ClassDetails
+					&& !allowedClassDetails.contains( object ) ) {
+				// left for the shared walk
+				continue;
+			}
+			if ( !visited.add( object ) ) {
+				continue;
+			}
+
+			final Category own = categorize( object );
+			final Category category = own == null ? inherited : own;
+			tally.add( category, isInstance( object ), SHALLOW_SIZES.get( object.getClass() ) );
+
+			final Class<?> type = object.getClass();
+			if ( type.isArray() ) {
+				final int length = Array.getLength( object );
+				tally.addBytes( category, align( ARRAY_HEADER + (long) length * fieldSize( type.getComponentType() ) ) - ARRAY_HEADER );
+				if ( !type.getComponentType().isPrimitive() ) {
+					for ( int i = 0; i < length; i++ ) {
+						push( Array.get( object, i ), category, objects, categories );
+					}
+				}
+			}
+			else if ( isJdkType( type ) ) {
+				if ( object instanceof String string ) {
+					tally.addBytes( category, align( ARRAY_HEADER + string.length() ) );
+				}
+				else if ( object instanceof Map<?, ?> map ) {
+					tally.addBytes( category, map.size() * HASH_ENTRY + align( ARRAY_HEADER + tableSize( map.size() ) * REFERENCE ) );
+					map.forEach( (key, value) -> {
+						push( key, category, objects, categories );
+						push( value, category, objects, categories );
+					} );
+				}
+				else if ( object instanceof Collection<?> collection ) {
+					if ( object instanceof List ) {
+						tally.addBytes( category, align( ARRAY_HEADER + collection.size() * REFERENCE ) );
+					}
+					else {
+						tally.addBytes( category, collection.size() * HASH_ENTRY + align( ARRAY_HEADER + tableSize( collection.size() ) * REFERENCE ) );
+					}
+					collection.forEach( (element) -> push( element, category, objects, categories ) );
+				}
+				// otherwise, JDK internals are not inspected
+			}
+			else {
+				for ( Field field : REFERENCE_FIELDS.get( type ) ) {
+					try {
+						push( field.get( object ), category, objects, categories );
+					}
+					catch (IllegalAccessException | RuntimeException ignore) {
+						// not readable - count it as opaque
+					}
+				}
+			}
+		}
+	}
+
+	private static void push(Object object, Category category, Deque<Object> objects, Deque<Category> categories) {
+		if ( object != null ) {
+			objects.push( object );
+			categories.push( category );
+		}
+	}
+
+	private static Category categorize(Object object) {
+		if ( object instanceof ClassDetails || object instanceof MemberDetails ) {
+			return Category.CLASS_DETAILS;
+		}
+		if ( object instanceof AnnotationUsage ) {
+			return Category.ANNOTATION_USAGE;
+		}
+		if ( object instanceof AttributeMetadata ) {
+			return Category.ATTRIBUTE_METADATA;
+		}
+		if ( object instanceof ManagedTypeMetadata || object instanceof EntityHierarchy ) {
+			return Category.TYPE_METADATA;
+		}
+		if ( object instanceof GlobalRegistrations ) {
+			return Category.GLOBAL_REGISTRATIONS;
+		}
+		if ( object instanceof JaxbEntityMappingsImpl ) {
+			return Category.JAXB;
+		}
+		return null;
+	}
+
+	private static boolean isInstance(Object object) {
+		return object instanceof ClassDetails
+				|| object instanceof AnnotationUsage
+				|| object instanceof AttributeMetadata
+				|| object instanceof ManagedTypeMetadata
+				|| object instanceof EntityHierarchy
+				|| object instanceof GlobalRegistrations
+				|| object instanceof JaxbEntityMappingsImpl;
+	}
+
+	/**
+	 * State which is not owned by the model, or is shared JVM-wide
+	 */
+	private static boolean isExcluded(Object object) {
+		return object instanceof Class
+				|| object instanceof ClassLoader
+				|| object instanceof Thread
+				|| object instanceof Enum
+				|| object instanceof java.lang.annotation.Annotation
+				|| object instanceof java.lang.reflect.AnnotatedElement
+				|| object instanceof AnnotationDescriptor
+				|| object instanceof AnnotationDescriptorRegistry
+				|| object instanceof ClassDetailsRegistry
+				|| object instanceof SourceModelBuildingContext
+				|| object instanceof ModelCategorizationContext
+				|| object instanceof ClassLoading
+				|| object.getClass().getName().startsWith( "org.jboss.jandex." );
+	}
+
+	private static boolean isJdkType(Class<?> type) {
+		final String name = type.getName();
+		return name.startsWith( "java." )
+				|| name.startsWith( "javax." )
+				|| name.startsWith( "jdk." )
+				|| name.startsWith( "sun." )
+				|| name.startsWith( "com.sun." );
+	}
+
+	private static int tableSize(int size) {
+		return Math.max( 16, Integer.highestOneBit( Math.max( 1, size * 4 / 3 ) ) << 1 );
+	}
+
+	private static long align(long size) {
+		return ( size + 7 ) & ~7L;
+	}
+
+	private static long calculateShallowSize(Class<?> type) {
+		if ( type.isArray() ) {
+			// arrays are sized per instance
+			return ARRAY_HEADER;
+		}
+
+		long size = OBJECT_HEADER;
+		Class<?> current = type;
+		while ( current != null ) {
+			for ( Field field : current.getDeclaredFields() ) {
+				if ( !Modifier.isStatic( field.getModifiers() ) ) {
+					size += fieldSize( field.getType() );
+				}
+			}
+			current = current.getSuperclass();
+		}
+		return align( size );
+	}
+
+	private static int fieldSize(Class<?> type) {
+		if ( type == long.class || type == double.class ) {
+			return 8;
+		}
+		if ( type == int.class || type == float.class ) {
+			return 4;
+		}
+		if ( type == short.class || type == char.class ) {
+			return 2;
+		}
+		if ( type == byte.class || type == boolean.class ) {
+			return 1;
+		}
+		return REFERENCE;
+	}
+
+	private static Field[] collectReferenceFields(Class<?> type) {
+		final List<Field> fields = new ArrayList<>();
+		Class<?> current = type;
+		while ( current != null && !isJdkType( current ) ) {
+			for ( Field field : current.getDeclaredFields() ) {
+				if ( !Modifier.isStatic( field.getModifiers() )
+						&& !field.getType().isPrimitive()
+						&& field.trySetAccessible() ) {
+					fields.add( field );
+				}
+			}
+			current = current.getSuperclass();
+		}
+		return fields.toArray( new Field[0] );
+	}
+
+	private static class Tally {
+		private final Map<Category, long[]> counts = new EnumMap<>( Category.class );
+
+		private void add(Category category, boolean instance, long bytes) {
+			final long[] values = counts.computeIfAbsent( category, (c) -> new long[3] );
+			if ( instance ) {
+				values[0]++;
+			}
+			values[1]++;
+			values[2] += bytes;
+		}
+
+		/**
+		 * Bytes for state not walked as objects (String contents, JDK collection internals)
+		 */
+		private void addBytes(Category category, long bytes) {
+			counts.computeIfAbsent( category, (c) -> new long[3] )[2] += bytes;
+		}
+
+		private DomainModelFootprint.Footprint toFootprint() {
+			final Map<Category, DomainModelFootprint.Usage> usages = new EnumMap<>( Category.class );
+			counts.forEach( (category, values) -> usages.put(
+					category,
+					new DomainModelFootprint.Usage( values[0], values[1], values[2] )
+			) );
+			return new DomainModelFootprint.Footprint( usages );
+		}
+	}
+}
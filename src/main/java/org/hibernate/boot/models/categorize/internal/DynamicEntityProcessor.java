@@ -0,0 +1,160 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.hibernate.annotations.AttributeAccessor;
+import org.hibernate.boot.models.categorize.spi.DynamicEntityRegistrations;
+import org.hibernate.boot.models.categorize.spi.DynamicEntityTemplate;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.MutableAnnotationTarget;
+import org.hibernate.models.internal.MutableAnnotationUsage;
+import org.hibernate.models.internal.MutableClassDetails;
+import org.hibernate.models.internal.dynamic.DynamicAnnotationUsage;
+import org.hibernate.models.internal.dynamic.DynamicClassDetails;
+import org.hibernate.models.internal.dynamic.MapModeFieldDetails;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+import org.hibernate.property.access.spi.BuiltInPropertyAccessStrategies;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * Applies {@linkplain DynamicEntityRegistrations} to the source model, creating a
+ * {@linkplain DynamicClassDetails} (with a {@linkplain MapModeFieldDetails} per attribute)
+ * for each registered entity.
+ * <p/>
+ * This is the programmatic counterpart to the dynamic-model handling in
+ * {@linkplain org.hibernate.boot.models.categorize.xml.internal.ManagedTypeProcessor}.  Work
+ * which depends only on the template - resolving attribute types and the descriptors used - is
+ * done once per template rather than once per entity.
+ */
+public class DynamicEntityProcessor {
+	private static final int MEMBER_MODIFIERS = Modifier.fieldModifiers();
+	private static final String MAP_ACCESSOR = BuiltInPropertyAccessStrategies.MAP.getExternalName();
+
+	private final SourceModelBuildingContext buildingContext;
+	private final ClassDetailsRegistry classDetailsRegistry;
+
+	private final AnnotationDescriptor<Entity> entityDescriptor;
+	private final AnnotationDescriptor<Access> accessDescriptor;
+	private final AnnotationDescriptor<Id> idDescriptor;
+	private final AnnotationDescriptor<Basic> basicDescriptor;
+	private final AnnotationDescriptor<AttributeAccessor> accessorDescriptor;
+
+	private final Map<DynamicEntityTemplate, ClassDetails[]> resolvedTemplates = new IdentityHashMap<>();
+
+	public DynamicEntityProcessor(SourceModelBuildingContext buildingContext) {
+		this.buildingContext = buildingContext;
+		this.classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+
+		final AnnotationDescriptorRegistry descriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
+		this.entityDescriptor = descriptorRegistry.getDescriptor( Entity.class );
+		this.accessDescriptor = descriptorRegistry.getDescriptor( Access.class );
+		this.idDescriptor = descriptorRegistry.getDescriptor( Id.class );
+		this.basicDescriptor = descriptorRegistry.getDescriptor( Basic.class );
+		this.accessorDescriptor = descriptorRegistry.getDescriptor( AttributeAccessor.class );
+	}
+
+	/**
+	 * Creates the {@linkplain ClassDetails} for each registration, passing each to the {@code consumer}
+	 */
+	public static void processDynamicEntities(
+			DynamicEntityRegistrations registrations,
+			SourceModelBuildingContext buildingContext,
+			Consumer<ClassDetails> consumer) {
+		if ( registrations.isEmpty() ) {
+			return;
+		}
+
+		final DynamicEntityProcessor processor = new DynamicEntityProcessor( buildingContext );
+		registrations.forEach( (entityName, template) -> consumer.accept( processor.process( entityName, template ) ) );
+	}
+
+	/**
+	 * Form of {@linkplain #processDynamicEntities(DynamicEntityRegistrations, SourceModelBuildingContext, Consumer)}
+	 * which only creates the {@linkplain ClassDetails} for the registrations whose entity-name matches {@code filter}
+	 */
+	public static void processDynamicEntities(
+			DynamicEntityRegistrations registrations,
+			SourceModelBuildingContext buildingContext,
+			Predicate<String> filter,
+			Consumer<ClassDetails> consumer) {
+		if ( registrations.isEmpty() ) {
+			return;
+		}
+
+		final DynamicEntityProcessor processor = new DynamicEntityProcessor( buildingContext );
+		registrations.forEach( (entityName, template) -> {
+			if ( filter.test( entityName ) ) {
+				consumer.accept( processor.process( entityName, template ) );
+			}
+		} );
+	}
+
+	public ClassDetails process(String entityName, DynamicEntityTemplate template) {
+		if ( classDetailsRegistry.findClassDetails( entityName ) != null ) {
+			throw new ModelsException( "Dynamic entity name conflicts with existing managed type : " + entityName );
+		}
+
+		final MutableClassDetails classDetails = (MutableClassDetails) classDetailsRegistry.resolveClassDetails(
+				entityName,
+				(name) -> new DynamicClassDetails( entityName, null, false, null, buildingContext )
+		);
+
+		addUsage( entityDescriptor, classDetails ).setAttributeValue( "name", entityName );
+		addUsage( accessDescriptor, classDetails ).setAttributeValue( "value", AccessType.FIELD );
+
+		final List<DynamicEntityTemplate.Attribute> attributes = template.getAttributes();
+		final ClassDetails[] attributeTypes = resolvedTemplates.computeIfAbsent( template, this::resolveAttributeTypes );
+		for ( int i = 0; i < attributes.size(); i++ ) {
+			final DynamicEntityTemplate.Attribute attribute = attributes.get( i );
+			final MapModeFieldDetails member = new MapModeFieldDetails(
+					attribute.name(),
+					attributeTypes[i],
+					MEMBER_MODIFIERS,
+					buildingContext
+			);
+			addUsage( attribute.id() ? idDescriptor : basicDescriptor, member );
+			addUsage( accessorDescriptor, member ).setAttributeValue( "value", MAP_ACCESSOR );
+			classDetails.addField( member );
+		}
+
+		return classDetails;
+	}
+
+	private ClassDetails[] resolveAttributeTypes(DynamicEntityTemplate template) {
+		final List<DynamicEntityTemplate.Attribute> attributes = template.getAttributes();
+		final ClassDetails[] attributeTypes = new ClassDetails[attributes.size()];
+		for ( int i = 0; i < attributes.size(); i++ ) {
+			attributeTypes[i] = classDetailsRegistry.resolveClassDetails( attributes.get( i ).javaTypeName() );
+		}
+		return attributeTypes;
+	}
+
+	private static <A extends Annotation> MutableAnnotationUsage<A> addUsage(
+			AnnotationDescriptor<A> descriptor,
+			MutableAnnotationTarget target) {
+		final MutableAnnotationUsage<A> usage = new DynamicAnnotationUsage<>( descriptor, target );
+		target.addAnnotationUsage( usage );
+		return usage;
+	}
+}
@@ -9,10 +9,12 @@ package org.hibernate.boot.models.categorize.internal;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
 import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.ModelCategorizationContext;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.boot.models.AccessTypeDeterminationException;
 import org.hibernate.boot.models.JpaAnnotations;
@@ -47,7 +49,28 @@ public class EntityHierarchyBuilder {
 			Set<ClassDetails> rootEntities,
 			HierarchyTypeConsumer typeConsumer,
 			ModelCategorizationContext buildingContext) {
-		return new EntityHierarchyBuilder( buildingContext ).process( rootEntities, typeConsumer );
+		return new EntityHierarchyBuilder( buildingContext ).process( rootEntities, typeConsumer, EntityHierarchyBuilder::ignore );
+	}
+
+	/**
+	 * Form of {@linkplain #createEntityHierarchies(Set, HierarchyTypeConsumer, ModelCategorizationContext)}
+	 * which additionally notifies the given {@code hierarchyConsumer} as each hierarchy is completed.
+	 *
+	 * @param typeConsumer Callback for any identifiable-type metadata references
+	 * @param hierarchyConsumer Callback for each completed hierarchy
+	 * @param buildingContext The binding context, giving access to needed services and information
+	 *
+	 * @return a set of {@code EntityHierarchySource} instances.
+	 */
+	public static Set<EntityHierarchy> createEntityHierarchies(
+			Set<ClassDetails> rootEntities,
+			HierarchyTypeConsumer typeConsumer,
+			Consumer<EntityHierarchy> hierarchyConsumer,
+			ModelCategorizationContext buildingContext) {
+		return new EntityHierarchyBuilder( buildingContext ).process( rootEntities, typeConsumer, hierarchyConsumer );
+	}
+
+	private static void ignore(EntityHierarchy hierarchy) {
 	}
 
 	/**
@@ -77,18 +100,26 @@ public class EntityHierarchyBuilder {
 
 	private Set<EntityHierarchy> process(
 			Set<ClassDetails> rootEntities,
-			HierarchyTypeConsumer typeConsumer) {
+			HierarchyTypeConsumer typeConsumer,
+			Consumer<EntityHierarchy> hierarchyConsumer) {
 		final Set<EntityHierarchy> hierarchies = CollectionHelper.setOfSize( rootEntities.size() );
+		final BootCostProfile bootCostProfile = modelContext.getBootCostProfile();
 
 		rootEntities.forEach( (rootEntity) -> {
+			final BootCostProfile.Mark mark = bootCostProfile == null ? null : bootCostProfile.start();
 			final AccessType defaultAccessType = determineDefaultAccessTypeForHierarchy( rootEntity );
-			hierarchies.add( new EntityHierarchyImpl(
+			final EntityHierarchyImpl hierarchy = new EntityHierarchyImpl(
 					rootEntity,
 					defaultAccessType,
 					org.hibernate.cache.spi.access.AccessType.TRANSACTIONAL,
 					typeConsumer,
 					modelContext
-			) );
+			);
+			if ( bootCostProfile != null ) {
+				bootCostProfile.recordHierarchy( hierarchy, mark );
+			}
+			hierarchies.add( hierarchy );
+			hierarchyConsumer.accept( hierarchy );
 		} );
 
 		return hierarchies;
@@ -201,6 +232,7 @@ public class EntityHierarchyBuilder {
 	public static Set<EntityHierarchy> createEntityHierarchies(ModelCategorizationContext processingContext) {
 		return new EntityHierarchyBuilder( processingContext ).process(
 				collectRootEntityTypes( processingContext.getClassDetailsRegistry() ),
+				EntityHierarchyBuilder::ignore,
 				EntityHierarchyBuilder::ignore
 		);
 	}
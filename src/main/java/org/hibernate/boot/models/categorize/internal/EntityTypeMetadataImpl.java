@@ -56,6 +56,7 @@ public class EntityTypeMetadataImpl
 	private final boolean isLazy;
 	private final String proxy;
 	private final int batchSize;
+	private int defaultBatchSize = -1;
 	private final String discriminatorMatchValue;
 	private final boolean isSelectBeforeUpdate;
 	private final boolean isDynamicInsert;
@@ -241,7 +242,16 @@ public class EntityTypeMetadataImpl
 
 	@Override
 	public int getBatchSize() {
-		return batchSize;
+		return batchSize >= 0 ? batchSize : defaultBatchSize;
+	}
+
+	/**
+	 * Apply a batch size to use when none is specified
+	 *
+	 * @see AssociationGraphAnalyzer#applyRecommendations
+	 */
+	void applyDefaultBatchSize(int defaultBatchSize) {
+		this.defaultBatchSize = defaultBatchSize;
 	}
 
 	@Override
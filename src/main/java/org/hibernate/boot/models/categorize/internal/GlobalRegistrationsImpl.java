@@ -10,8 +10,10 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.AnnotationException;
 import org.hibernate.annotations.FilterDef;
@@ -29,9 +31,13 @@ import org.hibernate.boot.jaxb.mapping.spi.JaxbFilterDefImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbGenericIdGeneratorImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbJavaTypeRegistrationImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbJdbcTypeRegistrationImpl;
+import org.hibernate.boot.jaxb.mapping.spi.JaxbQueryHintImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbSequenceGeneratorImpl;
+import org.hibernate.boot.jaxb.mapping.spi.JaxbStoredProcedureParameterImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbTableGeneratorImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbUserTypeRegistrationImpl;
+import org.hibernate.boot.models.HibernateAnnotations;
+import org.hibernate.boot.models.JpaAnnotations;
 import org.hibernate.boot.models.categorize.spi.CollectionTypeRegistration;
 import org.hibernate.boot.models.categorize.spi.CompositeUserTypeRegistration;
 import org.hibernate.boot.models.categorize.spi.ConversionRegistration;
@@ -43,10 +49,13 @@ import org.hibernate.boot.models.categorize.spi.JavaTypeRegistration;
 import org.hibernate.boot.models.categorize.spi.JdbcTypeRegistration;
 import org.hibernate.boot.models.categorize.spi.JpaEventListener;
 import org.hibernate.boot.models.categorize.spi.JpaEventListenerStyle;
+import org.hibernate.boot.models.categorize.spi.NamedEntityGraphRegistration;
+import org.hibernate.boot.models.categorize.spi.NamedQueryRegistration;
 import org.hibernate.boot.models.categorize.spi.SequenceGeneratorRegistration;
 import org.hibernate.boot.models.categorize.spi.TableGeneratorRegistration;
 import org.hibernate.boot.models.categorize.spi.UserTypeRegistration;
 import org.hibernate.boot.models.categorize.xml.internal.XmlAnnotationHelper;
+import org.hibernate.boot.models.categorize.xml.spi.XmlDocument;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.CollectionClassification;
@@ -60,7 +69,14 @@ import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.SourceModelContext;
 
+import jakarta.persistence.Entity;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedNativeQuery;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.NamedStoredProcedureQuery;
+import jakarta.persistence.QueryHint;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.StoredProcedureParameter;
 import jakarta.persistence.TableGenerator;
 
 import static java.util.Collections.emptyList;
@@ -96,6 +112,10 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	private Map<String, TableGeneratorRegistration> tableGeneratorRegistrations;
 	private Map<String, GenericGeneratorRegistration> genericGeneratorRegistrations;
 
+	private Map<String, NamedQueryRegistration> namedQueryRegistrations;
+	private Set<String> xmlNamedQueryNames;
+	private Map<String, NamedEntityGraphRegistration> namedEntityGraphRegistrations;
+
 	public GlobalRegistrationsImpl(SourceModelContext sourceModelContext) {
 		this( sourceModelContext.getClassDetailsRegistry(), sourceModelContext.getAnnotationDescriptorRegistry() );
 	}
@@ -165,6 +185,16 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 		return genericGeneratorRegistrations == null ? emptyMap() : genericGeneratorRegistrations;
 	}
 
+	@Override
+	public Map<String, NamedQueryRegistration> getNamedQueryRegistrations() {
+		return namedQueryRegistrations == null ? emptyMap() : namedQueryRegistrations;
+	}
+
+	@Override
+	public Map<String, NamedEntityGraphRegistration> getNamedEntityGraphRegistrations() {
+		return namedEntityGraphRegistrations == null ? emptyMap() : namedEntityGraphRegistrations;
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// JavaTypeRegistration
 
@@ -630,4 +660,199 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 
 		genericGeneratorRegistrations.put( generatorRegistration.getName(), generatorRegistration );
 	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Named queries
+
+	public void collectQueryReferences(AnnotationTarget annotationTarget) {
+		annotationTarget.forEachAnnotationUsage( JpaAnnotations.NAMED_QUERY, (usage) -> collectNamedQuery(
+				new NamedQueryRegistration( usage.getAttributeValue( "name" ), NamedQueryRegistration.Kind.HQL, true, usage )
+		) );
+		annotationTarget.forEachAnnotationUsage( JpaAnnotations.NAMED_NATIVE_QUERY, (usage) -> collectNamedQuery(
+				new NamedQueryRegistration( usage.getAttributeValue( "name" ), NamedQueryRegistration.Kind.NATIVE, true, usage )
+		) );
+		annotationTarget.forEachAnnotationUsage( JpaAnnotations.NAMED_STORED_PROCEDURE_QUERY, (usage) -> collectNamedQuery(
+				new NamedQueryRegistration( usage.getAttributeValue( "name" ), NamedQueryRegistration.Kind.CALLABLE, true, usage )
+		) );
+		annotationTarget.forEachAnnotationUsage( HibernateAnnotations.NAMED_QUERY, (usage) -> collectNamedQuery(
+				new NamedQueryRegistration( usage.getAttributeValue( "name" ), NamedQueryRegistration.Kind.HQL, false, usage )
+		) );
+		annotationTarget.forEachAnnotationUsage( HibernateAnnotations.NAMED_NATIVE_QUERY, (usage) -> collectNamedQuery(
+				new NamedQueryRegistration( usage.getAttributeValue( "name" ), NamedQueryRegistration.Kind.NATIVE, false, usage )
+		) );
+	}
+
+	public void collectQueryReferences(XmlDocument xmlDocument) {
+		xmlDocument.getJpaNamedQueries().forEach( (name, jaxbNamedQuery) -> {
+			final MutableAnnotationUsage<NamedQuery> annotationUsage = makeAnnotation( NamedQuery.class );
+			annotationUsage.setAttributeValue( "name", name );
+			annotationUsage.setAttributeValue( "query", jaxbNamedQuery.getQuery() );
+			annotationUsage.setAttributeValue( "hints", collectQueryHints( jaxbNamedQuery.getHints() ) );
+			if ( jaxbNamedQuery.getLockMode() != null ) {
+				annotationUsage.setAttributeValue( "lockMode", jaxbNamedQuery.getLockMode() );
+			}
+			collectNamedQuery( new NamedQueryRegistration( name, NamedQueryRegistration.Kind.HQL, true, annotationUsage ), true );
+		} );
+
+		xmlDocument.getJpaNamedNativeQueries().forEach( (name, jaxbNamedNativeQuery) -> {
+			final MutableAnnotationUsage<NamedNativeQuery> annotationUsage = makeAnnotation( NamedNativeQuery.class );
+			annotationUsage.setAttributeValue( "name", name );
+			annotationUsage.setAttributeValue( "query", jaxbNamedNativeQuery.getQuery() );
+			annotationUsage.setAttributeValue( "hints", collectQueryHints( jaxbNamedNativeQuery.getHints() ) );
+			if ( StringHelper.isNotEmpty( jaxbNamedNativeQuery.getResultClass() ) ) {
+				annotationUsage.setAttributeValue( "resultClass", resolveXmlClass( jaxbNamedNativeQuery.getResultClass(), xmlDocument ) );
+			}
+			if ( StringHelper.isNotEmpty( jaxbNamedNativeQuery.getResultSetMapping() ) ) {
+				annotationUsage.setAttributeValue( "resultSetMapping", jaxbNamedNativeQuery.getResultSetMapping() );
+			}
+			collectNamedQuery( new NamedQueryRegistration( name, NamedQueryRegistration.Kind.NATIVE, true, annotationUsage ), true );
+		} );
+
+		xmlDocument.getNamedStoredProcedureQueries().forEach( (name, jaxbNamedProcedureQuery) -> {
+			final MutableAnnotationUsage<NamedStoredProcedureQuery> annotationUsage = makeAnnotation( NamedStoredProcedureQuery.class );
+			annotationUsage.setAttributeValue( "name", name );
+			annotationUsage.setAttributeValue( "procedureName", jaxbNamedProcedureQuery.getProcedureName() );
+			annotationUsage.setAttributeValue( "parameters", collectProcedureParameters( jaxbNamedProcedureQuery.getProcedureParameters(), xmlDocument ) );
+			annotationUsage.setAttributeValue( "resultClasses", resolveXmlClasses( jaxbNamedProcedureQuery.getResultClasses(), xmlDocument ) );
+			annotationUsage.setAttributeValue(
+					"resultSetMappings",
+					isEmpty( jaxbNamedProcedureQuery.getResultSetMappings() )
+							? emptyList()
+							: new ArrayList<>( jaxbNamedProcedureQuery.getResultSetMappings() )
+			);
+			annotationUsage.setAttributeValue( "hints", collectQueryHints( jaxbNamedProcedureQuery.getHints() ) );
+			collectNamedQuery( new NamedQueryRegistration( name, NamedQueryRegistration.Kind.CALLABLE, true, annotationUsage ), true );
+		} );
+
+		// todo : Hibernate-specific named queries (XmlDocument#getHibernateNamedQueries and #getHibernateNamedNativeQueries)
+	}
+
+	private List<AnnotationUsage<QueryHint>> collectQueryHints(List<JaxbQueryHintImpl> jaxbHints) {
+		if ( isEmpty( jaxbHints ) ) {
+			return emptyList();
+		}
+
+		final List<AnnotationUsage<QueryHint>> hints = new ArrayList<>( jaxbHints.size() );
+		jaxbHints.forEach( (jaxbHint) -> {
+			final MutableAnnotationUsage<QueryHint> hintAnn = makeAnnotation( QueryHint.class );
+			hintAnn.setAttributeValue( "name", jaxbHint.getName() );
+			hintAnn.setAttributeValue( "value", jaxbHint.getValue() );
+			hints.add( hintAnn );
+		} );
+		return hints;
+	}
+
+	private List<AnnotationUsage<StoredProcedureParameter>> collectProcedureParameters(
+			List<JaxbStoredProcedureParameterImpl> jaxbParameters,
+			XmlDocument xmlDocument) {
+		if ( isEmpty( jaxbParameters ) ) {
+			return emptyList();
+		}
+
+		final List<AnnotationUsage<StoredProcedureParameter>> parameters = new ArrayList<>( jaxbParameters.size() );
+		jaxbParameters.forEach( (jaxbParameter) -> {
+			final MutableAnnotationUsage<StoredProcedureParameter> parameterAnn = makeAnnotation( StoredProcedureParameter.class );
+			if ( StringHelper.isNotEmpty( jaxbParameter.getName() ) ) {
+				parameterAnn.setAttributeValue( "name", jaxbParameter.getName() );
+			}
+			if ( jaxbParameter.getMode() != null ) {
+				parameterAnn.setAttributeValue( "mode", jaxbParameter.getMode() );
+			}
+			parameterAnn.setAttributeValue( "type", resolveXmlClass( jaxbParameter.getClazz(), xmlDocument ) );
+			parameters.add( parameterAnn );
+		} );
+		return parameters;
+	}
+
+	private List<ClassDetails> resolveXmlClasses(List<String> classNames, XmlDocument xmlDocument) {
+		if ( isEmpty( classNames ) ) {
+			return emptyList();
+		}
+
+		final List<ClassDetails> classes = new ArrayList<>( classNames.size() );
+		classNames.forEach( (className) -> classes.add( resolveXmlClass( className, xmlDocument ) ) );
+		return classes;
+	}
+
+	/**
+	 * Resolve a class named in XML, which may be relative to the document's default package
+	 */
+	private ClassDetails resolveXmlClass(String className, XmlDocument xmlDocument) {
+		final String defaultPackage = xmlDocument.getDefaults().getPackage();
+		final String qualifiedName = className.indexOf( '.' ) > 0 || StringHelper.isEmpty( defaultPackage )
+				? className
+				: StringHelper.qualify( defaultPackage, className );
+		return classDetailsRegistry.resolveClassDetails( qualifiedName );
+	}
+
+	public void collectNamedQuery(NamedQueryRegistration registration) {
+		collectNamedQuery( registration, false );
+	}
+
+	/**
+	 * XML definitions override annotations of the same name, as for other mappings.  Duplicates
+	 * from the same source are an error.
+	 */
+	private void collectNamedQuery(NamedQueryRegistration registration, boolean fromXml) {
+		if ( namedQueryRegistrations == null ) {
+			namedQueryRegistrations = new HashMap<>();
+			xmlNamedQueryNames = new HashSet<>();
+		}
+
+		final String name = registration.getName();
+		if ( namedQueryRegistrations.containsKey( name ) ) {
+			final boolean existingFromXml = xmlNamedQueryNames.contains( name );
+			if ( existingFromXml == fromXml ) {
+				throw new AnnotationException( "Multiple named queries defined with the name '" + name + "'" );
+			}
+			if ( existingFromXml ) {
+				// the annotation is overridden by the XML definition
+				return;
+			}
+		}
+
+		namedQueryRegistrations.put( name, registration );
+		if ( fromXml ) {
+			xmlNamedQueryNames.add( name );
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Named entity graphs
+
+	/**
+	 * Collects the named entity graphs defined on an entity.  Graphs defined in XML have
+	 * already been applied to the entity's {@linkplain ClassDetails} as annotations.
+	 */
+	public void collectNamedEntityGraphs(ClassDetails entityClassDetails) {
+		entityClassDetails.forEachAnnotationUsage( JpaAnnotations.NAMED_ENTITY_GRAPH, (usage) -> collectNamedEntityGraph(
+				new NamedEntityGraphRegistration( determineGraphName( usage, entityClassDetails ), entityClassDetails, usage )
+		) );
+	}
+
+	private static String determineGraphName(AnnotationUsage<NamedEntityGraph> usage, ClassDetails entityClassDetails) {
+		final String name = usage.getAttributeValue( "name" );
+		if ( StringHelper.isNotEmpty( name ) ) {
+			return name;
+		}
+
+		// the name defaults to the entity name
+		final AnnotationUsage<Entity> entityAnnotation = entityClassDetails.getAnnotationUsage( Entity.class );
+		final String entityName = entityAnnotation == null ? null : entityAnnotation.getAttributeValue( "name" );
+		return StringHelper.isNotEmpty( entityName )
+				? entityName
+				: StringHelper.unqualify( entityClassDetails.getName() );
+	}
+
+	public void collectNamedEntityGraph(NamedEntityGraphRegistration registration) {
+		if ( namedEntityGraphRegistrations == null ) {
+			namedEntityGraphRegistrations = new HashMap<>();
+		}
+
+		if ( namedEntityGraphRegistrations.put( registration.getName(), registration ) != null ) {
+			throw new AnnotationException( "Multiple named entity graphs defined with the name '" + registration.getName() + "'" );
+		}
+	}
 }
@@ -11,6 +11,7 @@ import java.util.List;
 import org.hibernate.boot.models.categorize.spi.GlobalRegistrations;
 import org.hibernate.boot.models.categorize.spi.ModelCategorizationContext;
 import org.hibernate.boot.models.categorize.spi.JpaEventListener;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.ClassDetailsRegistry;
 
@@ -24,6 +25,7 @@ public class ModelCategorizationContextImpl implements ModelCategorizationContex
 	private final AnnotationDescriptorRegistry annotationDescriptorRegistry;
 	private final GlobalRegistrations globalRegistrations;
 	private final SharedCacheMode sharedCacheMode;
+	private final BootCostProfile bootCostProfile;
 
 	public ModelCategorizationContextImpl(
 			ClassDetailsRegistry classDetailsRegistry,
@@ -37,10 +39,20 @@ public class ModelCategorizationContextImpl implements ModelCategorizationContex
 			AnnotationDescriptorRegistry annotationDescriptorRegistry,
 			GlobalRegistrations globalRegistrations,
 			SharedCacheMode sharedCacheMode) {
+		this( classDetailsRegistry, annotationDescriptorRegistry, globalRegistrations, sharedCacheMode, null );
+	}
+
+	public ModelCategorizationContextImpl(
+			ClassDetailsRegistry classDetailsRegistry,
+			AnnotationDescriptorRegistry annotationDescriptorRegistry,
+			GlobalRegistrations globalRegistrations,
+			SharedCacheMode sharedCacheMode,
+			BootCostProfile bootCostProfile) {
 		this.classDetailsRegistry = classDetailsRegistry;
 		this.annotationDescriptorRegistry = annotationDescriptorRegistry;
 		this.globalRegistrations = globalRegistrations;
 		this.sharedCacheMode = sharedCacheMode;
+		this.bootCostProfile = bootCostProfile;
 	}
 
 	@Override
@@ -66,4 +78,9 @@ public class ModelCategorizationContextImpl implements ModelCategorizationContex
 	public List<JpaEventListener> getDefaultEventListeners() {
 		return getGlobalRegistrations().getEntityListenerRegistrations();
 	}
+
+	@Override
+	public BootCostProfile getBootCostProfile() {
+		return bootCostProfile;
+	}
 }
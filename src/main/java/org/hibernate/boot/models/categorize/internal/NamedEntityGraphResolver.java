@@ -0,0 +1,342 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.models.JpaAnnotations;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.FetchPlan;
+import org.hibernate.boot.models.categorize.spi.GlobalRegistrations;
+import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.NamedEntityGraphRegistration;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
+
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Resolves the {@linkplain GlobalRegistrations#getNamedEntityGraphRegistrations() named entity graphs}
+ * against the categorized domain model, producing a {@linkplain FetchPlan} for each.
+ * <p/>
+ * All problems found - unknown attributes, unknown or cyclic subgraphs, subgraphs for basic attributes, etc. -
+ * are collected and reported together as a {@linkplain ModelsException}.
+ */
+public class NamedEntityGraphResolver {
+	public static Map<String, FetchPlan> resolveNamedEntityGraphs(
+			GlobalRegistrations globalRegistrations,
+			Set<EntityHierarchy> entityHierarchies,
+			ClassDetailsRegistry classDetailsRegistry) {
+		final Map<String, NamedEntityGraphRegistration> registrations = globalRegistrations.getNamedEntityGraphRegistrations();
+		if ( registrations.isEmpty() ) {
+			return emptyMap();
+		}
+
+		final NamedEntityGraphResolver resolver = new NamedEntityGraphResolver( entityHierarchies, classDetailsRegistry );
+		final Map<String, FetchPlan> fetchPlans = new HashMap<>();
+		registrations.forEach( (name, registration) -> {
+			final FetchPlan fetchPlan = resolver.resolveGraph( registration );
+			if ( fetchPlan != null ) {
+				fetchPlans.put( name, fetchPlan );
+			}
+		} );
+
+		if ( !resolver.errors.isEmpty() ) {
+			throw new ModelsException( "Errors in named entity graphs:\n\t" + String.join( "\n\t", resolver.errors ) );
+		}
+
+		return Collections.unmodifiableMap( fetchPlans );
+	}
+
+	private final Map<String, IdentifiableTypeMetadata> identifiableTypes = new HashMap<>();
+	private final ClassDetailsRegistry classDetailsRegistry;
+	private final List<String> errors = new ArrayList<>();
+
+	private NamedEntityGraphResolver(Set<EntityHierarchy> entityHierarchies, ClassDetailsRegistry classDetailsRegistry) {
+		this.classDetailsRegistry = classDetailsRegistry;
+		entityHierarchies.forEach( (hierarchy) -> hierarchy.forEachType( (type, superType, h, relation) -> {
+			identifiableTypes.put( type.getClassDetails().getName(), type );
+		} ) );
+	}
+
+	private FetchPlan resolveGraph(NamedEntityGraphRegistration registration) {
+		final ClassDetails entityType = registration.getEntityType();
+		final GraphScope scope = new GraphScope( registration.getName(), registration.getConfiguration() );
+		if ( !identifiableTypes.containsKey( entityType.getName() ) ) {
+			scope.error( "entity `" + entityType.getName() + "` is not part of any entity hierarchy" );
+			return null;
+		}
+
+		final AnnotationUsage<NamedEntityGraph> configuration = registration.getConfiguration();
+		final Map<String, FetchPlan.AttributeNode> attributeNodes = resolveAttributeNodes(
+				entityType,
+				configuration.getAttributeValue( "attributeNodes" ),
+				scope
+		);
+		if ( Boolean.TRUE.equals( configuration.getAttributeValue( "includeAllAttributes" ) ) ) {
+			IdentifiableTypeMetadata type = identifiableTypes.get( entityType.getName() );
+			while ( type != null ) {
+				type.forEachAttribute( (index, attribute) -> attributeNodes.putIfAbsent(
+						attribute.getName(),
+						new FetchPlan.AttributeNode( attribute.getName(), null, null )
+				) );
+				type = type.getSuperType();
+			}
+		}
+
+		final Map<String, FetchPlan> subclassPlans = new LinkedHashMap<>();
+		final List<AnnotationUsage<NamedSubgraph>> subclassSubgraphs = configuration.getAttributeValue( "subclassSubgraphs" );
+		if ( subclassSubgraphs != null ) {
+			for ( AnnotationUsage<NamedSubgraph> subclassSubgraph : subclassSubgraphs ) {
+				final ClassDetails subclass = explicitType( subclassSubgraph );
+				if ( subclass == null || !isSubtype( subclass, entityType ) || isSameType( subclass, entityType ) ) {
+					scope.error( "subclass subgraph `" + subclassSubgraph.getAttributeValue( "name" )
+							+ "` does not name a subclass of `" + entityType.getName() + "`" );
+					continue;
+				}
+				subclassPlans.put(
+						subclass.getName(),
+						new FetchPlan( subclass, resolveAttributeNodes( subclass, subclassSubgraph.getAttributeValue( "attributeNodes" ), scope ), emptyMap() )
+				);
+			}
+		}
+
+		return new FetchPlan( entityType, attributeNodes, subclassPlans );
+	}
+
+	private Map<String, FetchPlan.AttributeNode> resolveAttributeNodes(
+			ClassDetails managedType,
+			List<AnnotationUsage<NamedAttributeNode>> nodes,
+			GraphScope scope) {
+		final Map<String, FetchPlan.AttributeNode> attributeNodes = new LinkedHashMap<>();
+		if ( nodes == null ) {
+			return attributeNodes;
+		}
+
+		for ( AnnotationUsage<NamedAttributeNode> node : nodes ) {
+			final String attributeName = node.getAttributeValue( "value" );
+			final ResolvedAttribute attribute = findAttribute( managedType, attributeName );
+			if ( attribute == null ) {
+				scope.error( "`" + managedType.getName() + "` has no attribute named `" + attributeName + "`" );
+				continue;
+			}
+
+			final FetchPlan subgraph = resolveSubgraph( attribute, node.getAttributeValue( "subgraph" ), false, scope );
+			final FetchPlan keySubgraph = resolveSubgraph( attribute, node.getAttributeValue( "keySubgraph" ), true, scope );
+			if ( attributeNodes.put( attributeName, new FetchPlan.AttributeNode( attributeName, subgraph, keySubgraph ) ) != null ) {
+				scope.error( "attribute `" + attributeName + "` of `" + managedType.getName() + "` is listed more than once" );
+			}
+		}
+		return attributeNodes;
+	}
+
+	private FetchPlan resolveSubgraph(ResolvedAttribute attribute, String subgraphName, boolean isKey, GraphScope scope) {
+		if ( StringHelper.isEmpty( subgraphName ) ) {
+			return null;
+		}
+
+		final String attributePath = attribute.declaringType.getName() + "." + attribute.name;
+		final List<AnnotationUsage<NamedSubgraph>> subgraphs = scope.subgraphs.get( subgraphName );
+		if ( subgraphs == null ) {
+			scope.error( "unknown subgraph `" + subgraphName + "` referenced from `" + attributePath + "`" );
+			return null;
+		}
+		if ( isKey ? attribute.nature != AttributeMetadata.AttributeNature.PLURAL : !attribute.allowsSubgraph() ) {
+			scope.error( "`" + attributePath + "` cannot have a " + ( isKey ? "key subgraph" : "subgraph" ) );
+			return null;
+		}
+		if ( !scope.inProgress.add( subgraphName ) ) {
+			scope.error( "subgraph `" + subgraphName + "` is recursive" );
+			return null;
+		}
+
+		try {
+			final ClassDetails attributeType = determineSubgraphTarget( attribute, isKey );
+
+			// a subgraph may be defined multiple times for different subtypes of the attribute type
+			FetchPlan main = null;
+			final Map<String, FetchPlan> subclassPlans = new LinkedHashMap<>();
+			for ( AnnotationUsage<NamedSubgraph> subgraph : subgraphs ) {
+				final ClassDetails explicitType = explicitType( subgraph );
+				final ClassDetails targetType = explicitType == null ? attributeType : explicitType;
+				if ( targetType == null ) {
+					scope.error( "unable to determine the type of subgraph `" + subgraphName + "` for `" + attributePath + "`; specify it explicitly" );
+					continue;
+				}
+				if ( attributeType != null && !isSubtype( targetType, attributeType ) ) {
+					scope.error( "subgraph `" + subgraphName + "` is defined for `" + targetType.getName()
+							+ "`, which is not assignable to `" + attributePath + "` (" + attributeType.getName() + ")" );
+					continue;
+				}
+
+				final Map<String, FetchPlan.AttributeNode> nodes = resolveAttributeNodes(
+						targetType,
+						subgraph.getAttributeValue( "attributeNodes" ),
+						scope
+				);
+				if ( main == null && ( attributeType == null || isSameType( targetType, attributeType ) ) ) {
+					main = new FetchPlan( targetType, nodes, emptyMap() );
+				}
+				else {
+					subclassPlans.put( targetType.getName(), new FetchPlan( targetType, nodes, emptyMap() ) );
+				}
+			}
+
+			if ( main == null ) {
+				if ( attributeType == null ) {
+					return null;
+				}
+				main = new FetchPlan( attributeType, emptyMap(), emptyMap() );
+			}
+			return subclassPlans.isEmpty()
+					? main
+					: new FetchPlan( main.getManagedType(), main.getAttributeNodes(), subclassPlans );
+		}
+		finally {
+			scope.inProgress.remove( subgraphName );
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// attribute resolution
+
+	private ResolvedAttribute findAttribute(ClassDetails managedType, String attributeName) {
+		IdentifiableTypeMetadata identifiableType = identifiableTypes.get( managedType.getName() );
+		if ( identifiableType != null ) {
+			while ( identifiableType != null ) {
+				final AttributeMetadata attribute = identifiableType.findAttribute( attributeName );
+				if ( attribute != null ) {
+					return new ResolvedAttribute(
+							attributeName,
+							identifiableType.getClassDetails(),
+							attribute.getMember(),
+							attribute.getNature()
+					);
+				}
+				identifiableType = identifiableType.getSuperType();
+			}
+			return null;
+		}
+
+		// an embeddable - we do not have attribute metadata for these, so look at the members
+		ClassDetails current = managedType;
+		while ( current != null && !Object.class.getName().equals( current.getName() ) ) {
+			for ( FieldDetails field : current.getFields() ) {
+				if ( field.isPersistable() && attributeName.equals( field.resolveAttributeName() ) ) {
+					return new ResolvedAttribute( attributeName, current, field, determineNature( field ) );
+				}
+			}
+			for ( MethodDetails method : current.getMethods() ) {
+				if ( method.isPersistable() && attributeName.equals( method.resolveAttributeName() ) ) {
+					return new ResolvedAttribute( attributeName, current, method, determineNature( method ) );
+				}
+			}
+			current = current.getSuperType();
+		}
+		return null;
+	}
+
+	private static AttributeMetadata.AttributeNature determineNature(MemberDetails member) {
+		if ( member.getAnnotationUsage( JpaAnnotations.ONE_TO_MANY ) != null
+				|| member.getAnnotationUsage( JpaAnnotations.MANY_TO_MANY ) != null
+				|| member.getAnnotationUsage( JpaAnnotations.ELEMENT_COLLECTION ) != null ) {
+			return AttributeMetadata.AttributeNature.PLURAL;
+		}
+		if ( member.getAnnotationUsage( JpaAnnotations.MANY_TO_ONE ) != null
+				|| member.getAnnotationUsage( JpaAnnotations.ONE_TO_ONE ) != null ) {
+			return AttributeMetadata.AttributeNature.TO_ONE;
+		}
+		if ( member.getAnnotationUsage( JpaAnnotations.EMBEDDED ) != null
+				|| ( member.getType() != null && member.getType().getAnnotationUsage( JpaAnnotations.EMBEDDABLE ) != null ) ) {
+			return AttributeMetadata.AttributeNature.EMBEDDED;
+		}
+		return AttributeMetadata.AttributeNature.BASIC;
+	}
+
+	private ClassDetails determineSubgraphTarget(ResolvedAttribute attribute, boolean isKey) {
+		return AttributeTargetHelper.determineTarget(
+				attribute.member,
+				attribute.nature,
+				isKey,
+				classDetailsRegistry
+		);
+	}
+
+	private static ClassDetails explicitType(AnnotationUsage<NamedSubgraph> subgraph) {
+		return AttributeTargetHelper.explicitClass( subgraph, "type" );
+	}
+
+	private static boolean isSubtype(ClassDetails type, ClassDetails superType) {
+		ClassDetails current = type;
+		while ( current != null ) {
+			if ( isSameType( current, superType ) ) {
+				return true;
+			}
+			current = current.getSuperType();
+		}
+		return false;
+	}
+
+	private static boolean isSameType(ClassDetails type, ClassDetails other) {
+		return type.getName().equals( other.getName() );
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// state
+
+	private record ResolvedAttribute(
+			String name,
+			ClassDetails declaringType,
+			MemberDetails member,
+			AttributeMetadata.AttributeNature nature) {
+		boolean allowsSubgraph() {
+			return nature == AttributeMetadata.AttributeNature.TO_ONE
+					|| nature == AttributeMetadata.AttributeNature.EMBEDDED
+					|| nature == AttributeMetadata.AttributeNature.PLURAL;
+		}
+	}
+
+	private class GraphScope {
+		private final String graphName;
+		private final Map<String, List<AnnotationUsage<NamedSubgraph>>> subgraphs = new HashMap<>();
+		private final Set<String> inProgress = new HashSet<>();
+
+		private GraphScope(String graphName, AnnotationUsage<NamedEntityGraph> configuration) {
+			this.graphName = graphName;
+			final List<AnnotationUsage<NamedSubgraph>> subgraphUsages = configuration.getAttributeValue( "subgraphs" );
+			if ( subgraphUsages != null ) {
+				subgraphUsages.forEach( (subgraph) -> subgraphs
+						.computeIfAbsent( subgraph.getAttributeValue( "name" ), (name) -> new ArrayList<>() )
+						.add( subgraph ) );
+			}
+		}
+
+		private void error(String message) {
+			errors.add( "[" + graphName + "] " + message );
+		}
+	}
+}
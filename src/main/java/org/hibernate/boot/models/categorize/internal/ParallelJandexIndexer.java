@@ -0,0 +1,260 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.jandex.JandexIndexerHelper;
+import org.hibernate.models.spi.ClassLoading;
+
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Builds a Jandex index of a set of classes using multiple threads.
+ * <p/>
+ * Classes are first partitioned by where their class file lives - a jar or a directory.  Each partition
+ * is then split into roughly equal chunks which are indexed concurrently, each with its own {@linkplain Indexer}.
+ * Jars are opened once per chunk rather than once per class, and class files in directories are read
+ * directly through a {@linkplain FileChannel}.  Classes from any other source (the runtime image, nested
+ * jars, etc.) are read through the {@linkplain ClassLoading}.
+ * <p/>
+ * The per-chunk indexes are merged using a {@linkplain CompositeIndex}.
+ */
+public class ParallelJandexIndexer {
+	private static final Source CLASS_LOADING_SOURCE = new ClassLoadingSource();
+
+	private final ClassLoading classLoading;
+	private final int parallelism;
+
+	public ParallelJandexIndexer(ClassLoading classLoading, int parallelism) {
+		if ( parallelism < 1 ) {
+			throw new ModelsException( "Indexing parallelism must be positive - " + parallelism );
+		}
+		this.classLoading = classLoading;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Index the named classes.  A class named more than once is indexed once.
+	 */
+	public IndexView index(Collection<String> classNames) {
+		// a class indexed by more than one chunk would be known twice to the composite index
+		final Set<String> distinctClassNames = new LinkedHashSet<>( classNames );
+		final List<Chunk> chunks = split( partition( distinctClassNames ), distinctClassNames.size() );
+		if ( chunks.isEmpty() ) {
+			return new Indexer().complete();
+		}
+		if ( chunks.size() == 1 || parallelism == 1 ) {
+			final List<IndexView> indexes = new ArrayList<>( chunks.size() );
+			chunks.forEach( (chunk) -> indexes.add( index( chunk ) ) );
+			return merge( indexes );
+		}
+
+		final AtomicInteger counter = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min( parallelism, chunks.size() ),
+				(task) -> {
+					final Thread thread = new Thread( task, "hibernate-models-indexer-" + counter.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		try {
+			final List<CompletableFuture<Index>> futures = new ArrayList<>( chunks.size() );
+			chunks.forEach( (chunk) -> futures.add( CompletableFuture.supplyAsync( () -> index( chunk ), executor ) ) );
+
+			final List<IndexView> indexes = new ArrayList<>( chunks.size() );
+			for ( CompletableFuture<Index> future : futures ) {
+				try {
+					indexes.add( future.join() );
+				}
+				catch (CompletionException e) {
+					if ( e.getCause() instanceof RuntimeException runtimeException ) {
+						throw runtimeException;
+					}
+					throw new ModelsException( "Unable to build Jandex index", e.getCause() );
+				}
+			}
+			return merge( indexes );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static IndexView merge(List<IndexView> indexes) {
+		if ( indexes.size() == 1 ) {
+			return indexes.get( 0 );
+		}
+		return CompositeIndex.create( indexes );
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// partitioning
+
+	private Map<Source, List<ClassFile>> partition(Collection<String> classNames) {
+		final Map<Source, List<ClassFile>> partitions = new LinkedHashMap<>();
+		for ( String className : classNames ) {
+			final String resourceName = className.replace( '.', '/' ) + ".class";
+			final URL url = classLoading.locateResource( resourceName );
+			final Source source = determineSource( url, resourceName );
+			final Path file = source instanceof DirectorySource directorySource
+					? directorySource.root().resolve( resourceName )
+					: null;
+			partitions.computeIfAbsent( source, (s) -> new ArrayList<>() ).add( new ClassFile( className, resourceName, file ) );
+		}
+		return partitions;
+	}
+
+	private static Source determineSource(URL url, String resourceName) {
+		if ( url == null ) {
+			// let the class-loading path report the problem
+			return CLASS_LOADING_SOURCE;
+		}
+
+		try {
+			if ( "jar".equals( url.getProtocol() ) ) {
+				final URL jarFileUrl = ( (JarURLConnection) url.openConnection() ).getJarFileURL();
+				if ( "file".equals( jarFileUrl.getProtocol() ) ) {
+					final Path jar = Path.of( jarFileUrl.toURI() );
+					if ( Files.isRegularFile( jar ) ) {
+						return new JarSource( jar );
+					}
+				}
+			}
+			else if ( "file".equals( url.getProtocol() ) ) {
+				Path root = Path.of( url.toURI() );
+				for ( int i = resourceName.split( "/" ).length; i > 0 && root != null; i-- ) {
+					root = root.getParent();
+				}
+				if ( root != null ) {
+					return new DirectorySource( root );
+				}
+			}
+		}
+		catch (IOException | URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+			// fall through
+		}
+		return CLASS_LOADING_SOURCE;
+	}
+
+	private List<Chunk> split(Map<Source, List<ClassFile>> partitions, int numberOfClasses) {
+		final int chunkSize = Math.max( 1, ( numberOfClasses + parallelism - 1 ) / parallelism );
+		final List<Chunk> chunks = new ArrayList<>();
+		partitions.forEach( (source, classFiles) -> {
+			for ( int start = 0; start < classFiles.size(); start += chunkSize ) {
+				chunks.add( new Chunk( source, classFiles.subList( start, Math.min( start + chunkSize, classFiles.size() ) ) ) );
+			}
+		} );
+		return chunks;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// indexing
+
+	private Index index(Chunk chunk) {
+		final Indexer indexer = new Indexer();
+		if ( chunk.source() instanceof JarSource jarSource ) {
+			try (JarFile jarFile = new JarFile( jarSource.jar().toFile() )) {
+				for ( ClassFile classFile : chunk.classFiles() ) {
+					final JarEntry entry = jarFile.getJarEntry( classFile.resourceName() );
+					if ( entry == null ) {
+						JandexIndexerHelper.apply( classFile.className(), indexer, classLoading );
+						continue;
+					}
+					try (InputStream stream = jarFile.getInputStream( entry )) {
+						indexer.index( stream );
+					}
+				}
+			}
+			catch (IOException e) {
+				throw new ModelsException( "Unable to index classes from jar - " + jarSource.jar(), e );
+			}
+		}
+		else if ( chunk.source() instanceof DirectorySource ) {
+			for ( ClassFile classFile : chunk.classFiles() ) {
+				try {
+					indexer.index( new ByteArrayInputStream( read( classFile.file() ) ) );
+				}
+				catch (IOException e) {
+					throw new ModelsException( "Unable to index class - " + classFile.className(), e );
+				}
+			}
+		}
+		else {
+			for ( ClassFile classFile : chunk.classFiles() ) {
+				JandexIndexerHelper.apply( classFile.className(), indexer, classLoading );
+			}
+		}
+		return indexer.complete();
+	}
+
+	private static byte[] read(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open( file, StandardOpenOption.READ )) {
+			final ByteBuffer buffer = ByteBuffer.allocate( Math.toIntExact( channel.size() ) );
+			while ( buffer.hasRemaining() ) {
+				if ( channel.read( buffer ) < 0 ) {
+					break;
+				}
+			}
+			return buffer.array();
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// model
+
+	private sealed interface Source permits JarSource, DirectorySource, ClassLoadingSource {
+	}
+
+	private record JarSource(Path jar) implements Source {
+	}
+
+	private record DirectorySource(Path root) implements Source {
+	}
+
+	private static final class ClassLoadingSource implements Source {
+	}
+
+	private record ClassFile(String className, String resourceName, Path file) {
+	}
+
+	private record Chunk(Source source, List<ClassFile> classFiles) {
+	}
+}
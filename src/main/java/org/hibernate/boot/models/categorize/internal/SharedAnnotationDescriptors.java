@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Repeatable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.hibernate.models.internal.jdk.JdkBuilders;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * JVM-wide, immutable base layer of {@linkplain AnnotationDescriptor annotation descriptors}
+ * shared by every {@linkplain org.hibernate.models.spi.SourceModelBuildingContext} in the JVM.
+ * <p/>
+ * Annotation descriptors depend only on the annotation class, never on the persistence-unit
+ * (XML mappings are applied to {@linkplain org.hibernate.models.spi.ClassDetails}, not to
+ * descriptors), so there is no need to rebuild them for every unit booted over the same jars.
+ * <ul>
+ *     <li>
+ *         The standard ORM descriptors ({@linkplain org.hibernate.boot.models.JpaAnnotations} and
+ *         {@linkplain org.hibernate.boot.models.HibernateAnnotations}) are enumerated once.
+ *     </li>
+ *     <li>
+ *         Descriptors for other annotations (discovered from the Jandex index) are built once per
+ *         annotation {@linkplain Class} and remembered through a {@linkplain ClassValue}, so that
+ *         annotation classes loaded by distinct class loaders never share a descriptor and the
+ *         cache never pins a class loader.  The one part of such a descriptor which comes from the
+ *         registry it is built against is the descriptor of its {@linkplain Repeatable repeatable}
+ *         container; a shared descriptor is only handed to a registry resolving that container to the
+ *         very same descriptor, and any other registry gets its own.
+ *     </li>
+ * </ul>
+ */
+public class SharedAnnotationDescriptors {
+	private static final List<AnnotationDescriptor<?>> ORM_DESCRIPTORS = collectOrmDescriptors();
+
+	private static final ClassValue<AtomicReference<SharedDescriptor>> DESCRIPTORS = new ClassValue<>() {
+		@Override
+		protected AtomicReference<SharedDescriptor> computeValue(Class<?> type) {
+			return new AtomicReference<>();
+		}
+	};
+
+	private static List<AnnotationDescriptor<?>> collectOrmDescriptors() {
+		final List<AnnotationDescriptor<?>> descriptors = new ArrayList<>();
+		OrmAnnotationHelper.forEachOrmAnnotation( descriptors::add );
+		return unmodifiableList( descriptors );
+	}
+
+	/**
+	 * Visit each standard ORM annotation descriptor
+	 */
+	public static void forEachOrmAnnotation(Consumer<AnnotationDescriptor<?>> consumer) {
+		//noinspection ForLoopReplaceableByForEach
+		for ( int i = 0; i < ORM_DESCRIPTORS.size(); i++ ) {
+			consumer.accept( ORM_DESCRIPTORS.get( i ) );
+		}
+	}
+
+	/**
+	 * Resolve the shared descriptor for the given annotation class, building it
+	 * (against the given registry) on first access.  Returns a descriptor built against
+	 * the given registry if the shared one does not fit it.
+	 */
+	public static <A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(
+			Class<A> annotationClass,
+			AnnotationDescriptorRegistry descriptorRegistry) {
+		final Repeatable repeatable = annotationClass.getAnnotation( Repeatable.class );
+		final AnnotationDescriptor<?> containerDescriptor = repeatable == null
+				? null
+				: descriptorRegistry.getDescriptor( repeatable.value() );
+
+		final AtomicReference<SharedDescriptor> reference = DESCRIPTORS.get( annotationClass );
+		final SharedDescriptor existing = reference.get();
+		if ( existing != null && existing.containerDescriptor() == containerDescriptor ) {
+			//noinspection unchecked
+			return (AnnotationDescriptor<A>) existing.descriptor();
+		}
+
+		final AnnotationDescriptor<A> built = JdkBuilders.buildAnnotationDescriptor( annotationClass, descriptorRegistry );
+		if ( existing == null && reference.compareAndSet( null, new SharedDescriptor( built, containerDescriptor ) ) ) {
+			return built;
+		}
+
+		final SharedDescriptor winner = reference.get();
+		if ( winner.containerDescriptor() == containerDescriptor ) {
+			//noinspection unchecked
+			return (AnnotationDescriptor<A>) winner.descriptor();
+		}
+		return built;
+	}
+
+	/**
+	 * A shared descriptor, along with the descriptor of its repeatable container it was built with
+	 */
+	private record SharedDescriptor(AnnotationDescriptor<?> descriptor, AnnotationDescriptor<?> containerDescriptor) {
+	}
+}
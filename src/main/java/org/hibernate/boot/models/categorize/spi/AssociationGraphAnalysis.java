@@ -0,0 +1,243 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.categorize.internal.AssociationGraphAnalyzer;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+
+/**
+ * Analysis of the associations between the entities of a categorized domain model, recommending
+ * {@linkplain org.hibernate.annotations.BatchSize batch-fetch} sizes for entities and collections
+ * which do not specify one.
+ * <p/>
+ * The <em>fan-in</em> of an entity hierarchy is the number of associations referring to it - lazy
+ * to-one references (proxies) being what entity batch fetching addresses.  The <em>fan-out</em> is
+ * the number of associations declared by the hierarchy.  The more an entity is referenced, the more
+ * of its instances are typically loaded one at a time (the N+1 problem), and so the larger the
+ * recommended batch size.  Collections are recommended a batch size based on how referenced their
+ * owner is.
+ * <p/>
+ * Attributes of embeddables are not considered.
+ *
+ * @see ModelsSettings#LOG_BATCH_SIZE_RECOMMENDATIONS
+ * @see ModelsSettings#APPLY_RECOMMENDED_BATCH_SIZES
+ */
+public final class AssociationGraphAnalysis {
+	/**
+	 * The batch size recommended for an entity or collection with a single reference
+	 */
+	public static final int BASE_BATCH_SIZE = 16;
+
+	/**
+	 * The default for {@value ModelsSettings#MAXIMUM_RECOMMENDED_BATCH_SIZE}
+	 */
+	public static final int DEFAULT_MAXIMUM_BATCH_SIZE = 64;
+
+	private final Map<String, EntityProfile> entityProfiles;
+	private final Map<String, CollectionProfile> collectionProfiles;
+
+	public AssociationGraphAnalysis(
+			Map<String, EntityProfile> entityProfiles,
+			Map<String, CollectionProfile> collectionProfiles) {
+		this.entityProfiles = Collections.unmodifiableMap( new LinkedHashMap<>( entityProfiles ) );
+		this.collectionProfiles = Collections.unmodifiableMap( new LinkedHashMap<>( collectionProfiles ) );
+	}
+
+	/**
+	 * Analyze the associations between the entities of the given hierarchies
+	 *
+	 * @param entityHierarchies The hierarchies to analyze
+	 * @param classDetailsRegistry Registry used to resolve association targets
+	 * @param maximumBatchSize The largest batch size to recommend
+	 */
+	public static AssociationGraphAnalysis analyze(
+			Set<EntityHierarchy> entityHierarchies,
+			ClassDetailsRegistry classDetailsRegistry,
+			int maximumBatchSize) {
+		return AssociationGraphAnalyzer.analyze( entityHierarchies, classDetailsRegistry, maximumBatchSize );
+	}
+
+	/**
+	 * Analyze the associations between the entities of the given model
+	 */
+	public static AssociationGraphAnalysis analyze(CategorizedDomainModel categorizedDomainModel) {
+		return analyze(
+				categorizedDomainModel.getEntityHierarchies(),
+				categorizedDomainModel.getClassDetailsRegistry(),
+				DEFAULT_MAXIMUM_BATCH_SIZE
+		);
+	}
+
+	/**
+	 * Profiles for each entity hierarchy, keyed by the class name of the hierarchy root
+	 */
+	public Map<String, EntityProfile> getEntityProfiles() {
+		return entityProfiles;
+	}
+
+	public EntityProfile findEntityProfile(String rootClassName) {
+		return entityProfiles.get( rootClassName );
+	}
+
+	/**
+	 * Profiles for each plural attribute, keyed by {@linkplain CollectionProfile#getRole() role}
+	 */
+	public Map<String, CollectionProfile> getCollectionProfiles() {
+		return collectionProfiles;
+	}
+
+	public CollectionProfile findCollectionProfile(String role) {
+		return collectionProfiles.get( role );
+	}
+
+	/**
+	 * The batch size to recommend for something with the given number of references - {@value #BASE_BATCH_SIZE}
+	 * scaled by the number of references (rounded up to a power of 2), but no more than {@code maximumBatchSize}.
+	 *
+	 * @return The recommended size, or {@code -1} if there are no references
+	 */
+	public static int recommendBatchSize(int references, int maximumBatchSize) {
+		if ( references <= 0 ) {
+			return -1;
+		}
+		final int scale = references == 1 ? 1 : Integer.highestOneBit( references - 1 ) << 1;
+		final long recommended = (long) BASE_BATCH_SIZE * scale;
+		return (int) Math.min( recommended, maximumBatchSize );
+	}
+
+	/**
+	 * Association profile of an entity hierarchy
+	 */
+	public static final class EntityProfile {
+		private final EntityTypeMetadata rootEntity;
+		private final int toOneFanIn;
+		private final int collectionFanIn;
+		private final int fanOut;
+		private final boolean explicitBatchSize;
+		private final int recommendedBatchSize;
+
+		public EntityProfile(
+				EntityTypeMetadata rootEntity,
+				int toOneFanIn,
+				int collectionFanIn,
+				int fanOut,
+				boolean explicitBatchSize,
+				int recommendedBatchSize) {
+			this.rootEntity = rootEntity;
+			this.toOneFanIn = toOneFanIn;
+			this.collectionFanIn = collectionFanIn;
+			this.fanOut = fanOut;
+			this.explicitBatchSize = explicitBatchSize;
+			this.recommendedBatchSize = recommendedBatchSize;
+		}
+
+		public EntityTypeMetadata getRootEntity() {
+			return rootEntity;
+		}
+
+		/**
+		 * The number of to-one associations referring to the hierarchy
+		 */
+		public int getToOneFanIn() {
+			return toOneFanIn;
+		}
+
+		/**
+		 * The number of plural associations whose elements are the hierarchy's entities
+		 */
+		public int getCollectionFanIn() {
+			return collectionFanIn;
+		}
+
+		/**
+		 * The number of associations (to-one and plural) declared by the hierarchy
+		 */
+		public int getFanOut() {
+			return fanOut;
+		}
+
+		/**
+		 * Whether the root entity specifies a batch size
+		 */
+		public boolean hasExplicitBatchSize() {
+			return explicitBatchSize;
+		}
+
+		/**
+		 * The recommended batch size, or {@code -1} if none is recommended - the entity specifies
+		 * one or it is not the target of any to-one association.
+		 */
+		public int getRecommendedBatchSize() {
+			return recommendedBatchSize;
+		}
+
+		@Override
+		public String toString() {
+			return "EntityProfile(" + rootEntity.getEntityName()
+					+ ", fanIn=" + toOneFanIn + "/" + collectionFanIn
+					+ ", fanOut=" + fanOut
+					+ ", recommendedBatchSize=" + recommendedBatchSize + ")";
+		}
+	}
+
+	/**
+	 * Association profile of a plural attribute
+	 */
+	public static final class CollectionProfile {
+		private final String role;
+		private final AttributeMetadata attribute;
+		private final boolean explicitBatchSize;
+		private final int recommendedBatchSize;
+
+		public CollectionProfile(
+				String role,
+				AttributeMetadata attribute,
+				boolean explicitBatchSize,
+				int recommendedBatchSize) {
+			this.role = role;
+			this.attribute = attribute;
+			this.explicitBatchSize = explicitBatchSize;
+			this.recommendedBatchSize = recommendedBatchSize;
+		}
+
+		/**
+		 * The collection role - the declaring class name and the attribute name
+		 */
+		public String getRole() {
+			return role;
+		}
+
+		public AttributeMetadata getAttribute() {
+			return attribute;
+		}
+
+		/**
+		 * Whether the attribute specifies a batch size
+		 */
+		public boolean hasExplicitBatchSize() {
+			return explicitBatchSize;
+		}
+
+		/**
+		 * The recommended batch size, or {@code -1} if none is recommended because the attribute specifies one
+		 */
+		public int getRecommendedBatchSize() {
+			return recommendedBatchSize;
+		}
+
+		@Override
+		public String toString() {
+			return "CollectionProfile(" + role + ", recommendedBatchSize=" + recommendedBatchSize + ")";
+		}
+	}
+}
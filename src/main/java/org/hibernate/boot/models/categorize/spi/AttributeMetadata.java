@@ -31,6 +31,12 @@ public interface AttributeMetadata extends TableOwner {
 	 */
 	MemberDetails getMember();
 
+	/**
+	 * A size to use for batch loading a {@linkplain AttributeNature#PLURAL plural} attribute,
+	 * or {@code -1} if none
+	 */
+	int getBatchSize();
+
 	/**
 	 * An enum defining the nature (categorization) of a persistent attribute.
 	 */
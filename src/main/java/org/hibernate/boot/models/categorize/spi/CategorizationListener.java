@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+
+/**
+ * Callbacks for progress while {@linkplain ManagedResourcesProcessor#processManagedResources categorizing}
+ * the domain model, allowing consumers (binding, e.g.) to start work before the complete
+ * {@linkplain CategorizedDomainModel} is available.
+ * <p/>
+ * Callbacks are made on the thread performing the categorization.  The registries and hierarchies
+ * passed are not thread-safe; a listener handing them to another thread must ensure they are not
+ * lazily built or mutated while in use there (see
+ * {@linkplain org.hibernate.boot.models.bind.spi.BindingCoordinator#coordinatePipelinedBinding}).
+ * In particular, categorization continues after {@linkplain #registrationsCompleted} returns, and
+ * resolving types through the registries may still create {@linkplain org.hibernate.models.spi.ClassDetails}.
+ */
+public interface CategorizationListener {
+	/**
+	 * Called once all managed classes have been processed and all global registrations collected,
+	 * before any {@linkplain EntityHierarchy} is built.
+	 */
+	default void registrationsCompleted(
+			ClassDetailsRegistry classDetailsRegistry,
+			AnnotationDescriptorRegistry annotationDescriptorRegistry,
+			GlobalRegistrations globalRegistrations) {
+	}
+
+	/**
+	 * Called as each {@linkplain EntityHierarchy} is completed.  Categorization does not touch a completed
+	 * hierarchy again, except for {@linkplain org.hibernate.boot.models.ModelsSettings#APPLY_RECOMMENDED_BATCH_SIZES
+	 * applying recommended batch sizes} once all hierarchies are completed.
+	 */
+	default void hierarchyCompleted(EntityHierarchy hierarchy) {
+	}
+}
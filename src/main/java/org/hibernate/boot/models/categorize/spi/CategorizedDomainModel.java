@@ -6,9 +6,11 @@
  */
 package org.hibernate.boot.models.categorize.spi;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.internal.util.KeyedConsumer;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
@@ -96,4 +98,27 @@ public interface CategorizedDomainModel {
 	 * Global registrations collected while processing the persistence-unit.
 	 */
 	GlobalRegistrations getGlobalRegistrations();
+
+	/**
+	 * The pre-parsed HQL named queries, if {@linkplain org.hibernate.boot.models.ModelsSettings#PREPARSE_NAMED_QUERIES enabled}
+	 */
+	default PreparsedNamedQueries getPreparsedNamedQueries() {
+		return PreparsedNamedQueries.NONE;
+	}
+
+	/**
+	 * The {@linkplain GlobalRegistrations#getNamedEntityGraphRegistrations() named entity graphs},
+	 * resolved against the domain model, keyed by graph name
+	 */
+	default Map<String, FetchPlan> getNamedEntityGraphs() {
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * The profile of the cost of categorizing (and, later, binding) each hierarchy and type, or
+	 * {@code null} if {@linkplain org.hibernate.boot.models.ModelsSettings#PROFILE_BOOT_COST not profiling}
+	 */
+	default BootCostProfile getBootCostProfile() {
+		return null;
+	}
 }
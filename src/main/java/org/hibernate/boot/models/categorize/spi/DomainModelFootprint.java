@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.boot.models.categorize.internal.DomainModelFootprintCalculator;
+
+/**
+ * Diagnostic report of the heap consumed by a {@linkplain CategorizedDomainModel}, broken down
+ * by {@linkplain Category category} - both per {@linkplain EntityHierarchy entity hierarchy} and in total.
+ * <p/>
+ * Sizes are approximations - shallow sizes are estimated from the declared fields of each class
+ * (assuming compressed references) and JDK collections are estimated from their size rather than
+ * inspected.  State reachable from more than one hierarchy (shared types, e.g.), as well as global
+ * registrations and mapping documents, is reported as {@linkplain #getShared() shared}.  State not owned
+ * by the model (classes, class-loaders, Jandex indexes, annotation descriptors) is excluded.
+ */
+public class DomainModelFootprint {
+	/**
+	 * Categories of model state
+	 */
+	public enum Category {
+		/**
+		 * {@linkplain org.hibernate.models.spi.ClassDetails} and their members
+		 */
+		CLASS_DETAILS,
+		/**
+		 * {@linkplain org.hibernate.models.spi.AnnotationUsage} and their values
+		 */
+		ANNOTATION_USAGE,
+		/**
+		 * {@linkplain EntityHierarchy} and {@linkplain ManagedTypeMetadata}
+		 */
+		TYPE_METADATA,
+		/**
+		 * {@linkplain AttributeMetadata}
+		 */
+		ATTRIBUTE_METADATA,
+		/**
+		 * {@linkplain GlobalRegistrations}
+		 */
+		GLOBAL_REGISTRATIONS,
+		/**
+		 * JAXB graphs of mapping documents
+		 */
+		JAXB
+	}
+
+	/**
+	 * Usage for a single category
+	 *
+	 * @param instances The number of category instances ({@code ClassDetails}, {@code AnnotationUsage}, ...)
+	 * @param objects The number of objects retained by those instances, including themselves
+	 * @param approximateBytes The approximate size of those objects
+	 */
+	public record Usage(long instances, long objects, long approximateBytes) {
+		public static final Usage NONE = new Usage( 0, 0, 0 );
+
+		public Usage plus(Usage other) {
+			return new Usage( instances + other.instances, objects + other.objects, approximateBytes + other.approximateBytes );
+		}
+	}
+
+	/**
+	 * Usage across all categories for some part of the model
+	 */
+	public static class Footprint {
+		private final Map<Category, Usage> usages;
+
+		public Footprint(Map<Category, Usage> usages) {
+			this.usages = usages;
+		}
+
+		public Usage getUsage(Category category) {
+			final Usage usage = usages.get( category );
+			return usage == null ? Usage.NONE : usage;
+		}
+
+		public long getApproximateBytes() {
+			long total = 0;
+			for ( Usage usage : usages.values() ) {
+				total += usage.approximateBytes();
+			}
+			return total;
+		}
+
+		public Footprint plus(Footprint other) {
+			final Map<Category, Usage> combined = new EnumMap<>( Category.class );
+			for ( Category category : Category.values() ) {
+				combined.put( category, getUsage( category ).plus( other.getUsage( category ) ) );
+			}
+			return new Footprint( combined );
+		}
+	}
+
+	private final Map<EntityHierarchy, Footprint> hierarchyFootprints;
+	private final Footprint shared;
+	private final Footprint total;
+	private final int entityCount;
+
+	public DomainModelFootprint(Map<EntityHierarchy, Footprint> hierarchyFootprints, Footprint shared, int entityCount) {
+		this.hierarchyFootprints = hierarchyFootprints;
+		this.shared = shared;
+		this.entityCount = entityCount;
+
+		Footprint total = shared;
+		for ( Footprint footprint : hierarchyFootprints.values() ) {
+			total = total.plus( footprint );
+		}
+		this.total = total;
+	}
+
+	/**
+	 * Calculate the footprint of the given {@code model}
+	 */
+	public static DomainModelFootprint calculate(CategorizedDomainModel model) {
+		return calculate( model, Collections.emptyList() );
+	}
+
+	/**
+	 * Calculate the footprint of the given {@code model}, including the given mapping documents
+	 */
+	public static DomainModelFootprint calculate(CategorizedDomainModel model, Collection<JaxbEntityMappingsImpl> documents) {
+		return DomainModelFootprintCalculator.calculate( model, documents );
+	}
+
+	/**
+	 * The footprint attributable to the given hierarchy
+	 */
+	public Footprint getHierarchyFootprint(EntityHierarchy hierarchy) {
+		return hierarchyFootprints.get( hierarchy );
+	}
+
+	public void forEachHierarchy(BiConsumer<EntityHierarchy, Footprint> consumer) {
+		hierarchyFootprints.forEach( consumer );
+	}
+
+	/**
+	 * The footprint not attributable to any single hierarchy
+	 */
+	public Footprint getShared() {
+		return shared;
+	}
+
+	public Footprint getTotal() {
+		return total;
+	}
+
+	/**
+	 * The approximate total size divided by the number of entities
+	 */
+	public long getApproximateBytesPerEntity() {
+		return entityCount == 0 ? 0 : total.getApproximateBytes() / entityCount;
+	}
+
+	/**
+	 * Renders the report as text
+	 */
+	public String render() {
+		final StringBuilder buffer = new StringBuilder();
+		buffer.append( String.format(
+				Locale.ROOT,
+				"Domain model footprint : ~%,d bytes total, ~%,d bytes per entity (%s entities)%n",
+				total.getApproximateBytes(),
+				getApproximateBytesPerEntity(),
+				entityCount
+		) );
+		hierarchyFootprints.forEach( (hierarchy, footprint) -> render( hierarchy.getRoot().getEntityName(), footprint, buffer ) );
+		render( "<shared>", shared, buffer );
+		render( "<total>", total, buffer );
+		return buffer.toString();
+	}
+
+	private static void render(String name, Footprint footprint, StringBuilder buffer) {
+		buffer.append( String.format( Locale.ROOT, "  %s : ~%,d bytes%n", name, footprint.getApproximateBytes() ) );
+		for ( Category category : Category.values() ) {
+			final Usage usage = footprint.getUsage( category );
+			if ( usage.objects() > 0 ) {
+				buffer.append( String.format(
+						Locale.ROOT,
+						"    %-20s %,8d instances %,10d objects ~%,12d bytes%n",
+						category,
+						usage.instances(),
+						usage.objects(),
+						usage.approximateBytes()
+				) );
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return render();
+	}
+}
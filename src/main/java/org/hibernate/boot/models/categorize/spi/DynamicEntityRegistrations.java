@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.models.ModelsException;
+
+import static org.hibernate.internal.util.collections.CollectionHelper.determineProperSizing;
+
+/**
+ * Bulk registration of dynamic (map-mode) entities by name, each described by a
+ * (generally shared) {@linkplain DynamicEntityTemplate template}.
+ * <p/>
+ * Registrations are applied directly to the source model without going through
+ * mapping XML (and JAXB) at all.
+ *
+ * @see ManagedResourcesProcessor#processManagedResources(org.hibernate.boot.model.process.spi.ManagedResources, org.hibernate.boot.spi.BootstrapContext, DynamicEntityRegistrations, CategorizationListener)
+ */
+public class DynamicEntityRegistrations {
+	/**
+	 * Shared, empty registrations
+	 */
+	public static final DynamicEntityRegistrations NONE = new DynamicEntityRegistrations( 0 );
+
+	private final Map<String, DynamicEntityTemplate> registrations;
+
+	public DynamicEntityRegistrations() {
+		this( 16 );
+	}
+
+	/**
+	 * Creates registrations pre-sized to hold the {@code expectedCount} entities
+	 */
+	public DynamicEntityRegistrations(int expectedCount) {
+		this.registrations = new LinkedHashMap<>( determineProperSizing( expectedCount ) );
+	}
+
+	public DynamicEntityRegistrations register(String entityName, DynamicEntityTemplate template) {
+		if ( this == NONE ) {
+			throw new UnsupportedOperationException( "Cannot register dynamic entities with NONE" );
+		}
+		final DynamicEntityTemplate previous = registrations.putIfAbsent( entityName, template );
+		if ( previous != null ) {
+			throw new ModelsException( "Duplicate dynamic entity registration : " + entityName );
+		}
+		return this;
+	}
+
+	public int size() {
+		return registrations.size();
+	}
+
+	public boolean isEmpty() {
+		return registrations.isEmpty();
+	}
+
+	public void forEach(BiConsumer<String, DynamicEntityTemplate> consumer) {
+		registrations.forEach( consumer );
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.models.ModelsException;
+
+/**
+ * Immutable description of the attributes of a dynamic (map-mode) entity, supplied
+ * programmatically rather than through mapping XML.
+ * <p/>
+ * A single template is meant to be shared by many {@linkplain DynamicEntityRegistrations registrations} -
+ * the attribute types are resolved once per template rather than once per entity.
+ */
+public final class DynamicEntityTemplate {
+	private final List<Attribute> attributes;
+
+	private DynamicEntityTemplate(List<Attribute> attributes) {
+		this.attributes = attributes;
+	}
+
+	public List<Attribute> getAttributes() {
+		return attributes;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * A single attribute of the template
+	 *
+	 * @param name The attribute name
+	 * @param javaTypeName The name of the attribute's Java type
+	 * @param id Whether the attribute is (part of) the identifier
+	 */
+	public record Attribute(String name, String javaTypeName, boolean id) {
+	}
+
+	public static class Builder {
+		private final List<Attribute> attributes = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		public Builder id(String name, Class<?> javaType) {
+			return add( new Attribute( name, javaType.getName(), true ) );
+		}
+
+		public Builder basic(String name, Class<?> javaType) {
+			return add( new Attribute( name, javaType.getName(), false ) );
+		}
+
+		private Builder add(Attribute attribute) {
+			for ( int i = 0; i < attributes.size(); i++ ) {
+				if ( attributes.get( i ).name().equals( attribute.name() ) ) {
+					throw new ModelsException( "Duplicate dynamic attribute name : " + attribute.name() );
+				}
+			}
+			attributes.add( attribute );
+			return this;
+		}
+
+		public DynamicEntityTemplate build() {
+			boolean hasId = false;
+			for ( int i = 0; i < attributes.size(); i++ ) {
+				if ( attributes.get( i ).id() ) {
+					hasId = true;
+					break;
+				}
+			}
+			if ( !hasId ) {
+				throw new ModelsException( "Dynamic entity template did not define an id attribute" );
+			}
+			return new DynamicEntityTemplate( List.copyOf( attributes ) );
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.models.spi.ClassDetails;
+
+/**
+ * Immutable, fully resolved form of a {@linkplain NamedEntityGraphRegistration named entity graph} (or one of
+ * its subgraphs) - the attributes to fetch for a managed type, along with the plans for the types those
+ * attributes refer to.
+ * <p/>
+ * Plans are resolved and validated once, while processing the managed resources, and can be reused as-is
+ * without walking the graph definition or the domain model again.  {@code includeAllAttributes} has
+ * already been expanded and subgraph references have been replaced with the referenced plans.
+ *
+ * @see CategorizedDomainModel#getNamedEntityGraphs()
+ */
+public final class FetchPlan {
+	private final ClassDetails managedType;
+	private final Map<String, AttributeNode> attributeNodes;
+	private final Map<String, FetchPlan> subclassPlans;
+
+	public FetchPlan(
+			ClassDetails managedType,
+			Map<String, AttributeNode> attributeNodes,
+			Map<String, FetchPlan> subclassPlans) {
+		this.managedType = managedType;
+		this.attributeNodes = attributeNodes.isEmpty()
+				? Collections.emptyMap()
+				: Collections.unmodifiableMap( new LinkedHashMap<>( attributeNodes ) );
+		this.subclassPlans = subclassPlans.isEmpty()
+				? Collections.emptyMap()
+				: Collections.unmodifiableMap( new LinkedHashMap<>( subclassPlans ) );
+	}
+
+	/**
+	 * The entity or embeddable to which this plan applies
+	 */
+	public ClassDetails getManagedType() {
+		return managedType;
+	}
+
+	/**
+	 * The attributes to fetch, keyed by attribute name, in definition order
+	 */
+	public Map<String, AttributeNode> getAttributeNodes() {
+		return attributeNodes;
+	}
+
+	public AttributeNode findAttributeNode(String attributeName) {
+		return attributeNodes.get( attributeName );
+	}
+
+	/**
+	 * Additional plans to apply for subtypes of the {@linkplain #getManagedType() managed type},
+	 * keyed by the subtype's class name
+	 */
+	public Map<String, FetchPlan> getSubclassPlans() {
+		return subclassPlans;
+	}
+
+	@Override
+	public String toString() {
+		return "FetchPlan(" + managedType.getName() + ")" + attributeNodes.values();
+	}
+
+	/**
+	 * An attribute included in a {@linkplain FetchPlan}
+	 */
+	public static final class AttributeNode {
+		private final String attributeName;
+		private final FetchPlan subgraph;
+		private final FetchPlan keySubgraph;
+
+		public AttributeNode(String attributeName, FetchPlan subgraph, FetchPlan keySubgraph) {
+			this.attributeName = attributeName;
+			this.subgraph = subgraph;
+			this.keySubgraph = keySubgraph;
+		}
+
+		public String getAttributeName() {
+			return attributeName;
+		}
+
+		/**
+		 * The plan for the attribute's value (or collection element), if one
+		 */
+		public FetchPlan getSubgraph() {
+			return subgraph;
+		}
+
+		/**
+		 * The plan for the attribute's map key, if one
+		 */
+		public FetchPlan getKeySubgraph() {
+			return keySubgraph;
+		}
+
+		@Override
+		public String toString() {
+			if ( subgraph == null && keySubgraph == null ) {
+				return attributeName;
+			}
+			return attributeName + "(subgraph=" + subgraph + ", keySubgraph=" + keySubgraph + ")";
+		}
+	}
+}
@@ -41,6 +41,13 @@ public interface GlobalRegistrations {
 
 	Map<String, GenericGeneratorRegistration> getGenericGeneratorRegistrations();
 
-	// todo : named entity graphs
-	// todo : named queries
+	/**
+	 * Named queries of all {@linkplain NamedQueryRegistration.Kind kinds}, keyed by name
+	 */
+	Map<String, NamedQueryRegistration> getNamedQueryRegistrations();
+
+	/**
+	 * Named entity graphs, keyed by name
+	 */
+	Map<String, NamedEntityGraphRegistration> getNamedEntityGraphRegistrations();
 }
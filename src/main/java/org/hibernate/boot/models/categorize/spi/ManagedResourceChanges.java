@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Describes the managed resources which changed since a {@linkplain CategorizedDomainModel}
+ * was built, for {@linkplain ManagedResourcesProcessor#reprocessManagedResources incremental}
+ * re-categorization.
+ * <p/>
+ * Classes are identified by name (entity-name for dynamic models), mapping XML documents by
+ * their {@linkplain org.hibernate.boot.jaxb.Origin#getName() origin name}.  Removed classes and
+ * documents should be reported as changed as well.
+ */
+public class ManagedResourceChanges {
+	private Set<String> changedClassNames;
+	private Set<String> changedDocuments;
+
+	public ManagedResourceChanges addChangedClass(String className) {
+		if ( changedClassNames == null ) {
+			changedClassNames = new HashSet<>();
+		}
+		changedClassNames.add( className );
+		return this;
+	}
+
+	public ManagedResourceChanges addChangedClasses(Class<?>... classes) {
+		for ( int i = 0; i < classes.length; i++ ) {
+			addChangedClass( classes[i].getName() );
+		}
+		return this;
+	}
+
+	public ManagedResourceChanges addChangedDocument(String originName) {
+		if ( changedDocuments == null ) {
+			changedDocuments = new HashSet<>();
+		}
+		changedDocuments.add( originName );
+		return this;
+	}
+
+	public Set<String> getChangedClassNames() {
+		return changedClassNames == null ? Collections.emptySet() : changedClassNames;
+	}
+
+	public Set<String> getChangedDocuments() {
+		return changedDocuments == null ? Collections.emptySet() : changedDocuments;
+	}
+
+	public boolean isEmpty() {
+		return changedClassNames == null && changedDocuments == null;
+	}
+}
@@ -6,26 +6,43 @@
  */
 package org.hibernate.boot.models.categorize.spi;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.jaxb.spi.JaxbBindableMappingDescriptor;
 
 import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.ModelsSettings;
 import org.hibernate.boot.models.categorize.ModelCategorizationLogging;
+import org.hibernate.boot.models.categorize.internal.AssociationGraphAnalyzer;
+import org.hibernate.boot.models.categorize.internal.CategorizationInvalidation;
 import org.hibernate.boot.models.categorize.internal.ClassLoaderServiceLoading;
-import org.hibernate.boot.models.categorize.internal.OrmAnnotationHelper;
+import org.hibernate.boot.models.categorize.internal.ClassPrefetcher;
+import org.hibernate.boot.models.categorize.internal.ParallelJandexIndexer;
+import org.hibernate.boot.models.categorize.internal.SharedAnnotationDescriptors;
 import org.hibernate.boot.models.categorize.xml.spi.XmlProcessingResult;
 import org.hibernate.boot.models.categorize.xml.spi.XmlProcessor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.BytecodeSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.models.ModelsException;
 import org.hibernate.models.internal.SourceModelBuildingContextImpl;
 import org.hibernate.models.internal.jandex.JandexClassDetails;
-import org.hibernate.models.internal.jandex.JandexIndexerHelper;
-import org.hibernate.models.internal.jdk.JdkBuilders;
 import org.hibernate.boot.models.categorize.internal.DomainModelCategorizationCollector;
 import org.hibernate.boot.models.categorize.internal.ModelCategorizationContextImpl;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 import org.hibernate.boot.models.categorize.xml.spi.XmlPreProcessingResult;
 import org.hibernate.boot.models.categorize.xml.spi.XmlPreProcessor;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
@@ -38,9 +55,11 @@ import org.hibernate.models.spi.SourceModelBuildingContext;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
+
+import jakarta.persistence.SharedCacheMode;
 
 import static org.hibernate.models.internal.util.CollectionHelper.mutableJoin;
+import static org.hibernate.boot.models.categorize.internal.DynamicEntityProcessor.processDynamicEntities;
 import static org.hibernate.boot.models.categorize.internal.EntityHierarchyBuilder.createEntityHierarchies;
 
 /**
@@ -50,9 +69,63 @@ import static org.hibernate.boot.models.categorize.internal.EntityHierarchyBuild
  * @author Steve Ebersole
  */
 public class ManagedResourcesProcessor {
+	private static final CategorizationListener NO_OP_LISTENER = new CategorizationListener() {
+	};
+
+	private static final List<String> ENHANCEMENT_SETTINGS = List.of(
+			BytecodeSettings.ENHANCER_ENABLE_DIRTY_TRACKING,
+			BytecodeSettings.ENHANCER_ENABLE_LAZY_INITIALIZATION,
+			BytecodeSettings.ENHANCER_ENABLE_ASSOCIATION_MANAGEMENT
+	);
+
 	public static CategorizedDomainModel processManagedResources(
 			ManagedResources managedResources,
 			BootstrapContext bootstrapContext) {
+		return processManagedResources( managedResources, bootstrapContext, NO_OP_LISTENER );
+	}
+
+	/**
+	 * Form of {@linkplain #processManagedResources(ManagedResources, BootstrapContext)} which
+	 * reports progress to the given {@code listener}.
+	 */
+	public static CategorizedDomainModel processManagedResources(
+			ManagedResources managedResources,
+			BootstrapContext bootstrapContext,
+			CategorizationListener listener) {
+		return processManagedResources( managedResources, bootstrapContext, DynamicEntityRegistrations.NONE, listener );
+	}
+
+	/**
+	 * Form of {@linkplain #processManagedResources(ManagedResources, BootstrapContext, CategorizationListener)}
+	 * which additionally registers the given, programmatically defined, dynamic entities.
+	 */
+	public static CategorizedDomainModel processManagedResources(
+			ManagedResources managedResources,
+			BootstrapContext bootstrapContext,
+			DynamicEntityRegistrations dynamicEntityRegistrations,
+			CategorizationListener listener) {
+		return processManagedResources(
+				managedResources,
+				bootstrapContext,
+				dynamicEntityRegistrations,
+				listener,
+				BootCostProfile.fromSettings( bootstrapContext.getServiceRegistry().getService( ConfigurationService.class ) )
+		);
+	}
+
+	/**
+	 * Form of {@linkplain #processManagedResources(ManagedResources, BootstrapContext, DynamicEntityRegistrations, CategorizationListener)}
+	 * recording the cost of building each hierarchy and type to the given {@code bootCostProfile}, regardless of
+	 * {@linkplain org.hibernate.boot.models.ModelsSettings#PROFILE_BOOT_COST settings}.
+	 *
+	 * @param bootCostProfile The profile, or {@code null} to not profile
+	 */
+	public static CategorizedDomainModel processManagedResources(
+			ManagedResources managedResources,
+			BootstrapContext bootstrapContext,
+			DynamicEntityRegistrations dynamicEntityRegistrations,
+			CategorizationListener listener,
+			BootCostProfile bootCostProfile) {
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// 	- pre-process the XML
@@ -73,30 +146,28 @@ public class ManagedResourcesProcessor {
 		final ClassLoaderService classLoaderService = bootstrapContext.getServiceRegistry().getService( ClassLoaderService.class );
 		final ClassLoaderServiceLoading classLoading = new ClassLoaderServiceLoading( classLoaderService );
 
-		final XmlPreProcessingResult xmlPreProcessingResult = XmlPreProcessor.preProcessXmlResources( managedResources );
+		final ConfigurationService configurationService = bootstrapContext.getServiceRegistry().getService( ConfigurationService.class );
 
-		final List<String> allKnownClassNames = mutableJoin(
-				managedResources.getAnnotatedClassNames(),
-				xmlPreProcessingResult.getMappedClasses()
-		);
-		managedResources.getAnnotatedPackageNames().forEach( (packageName) -> {
-			try {
-				final Class<?> packageInfoClass = classLoading.classForName( packageName + ".package-info" );
-				allKnownClassNames.add( packageInfoClass.getName() );
-			}
-			catch (ClassLoadingException classLoadingException) {
-				// no package-info, so there can be no annotations... just skip it
-			}
-		} );
-		managedResources.getAnnotatedClassReferences().forEach( (clazz) -> allKnownClassNames.add( clazz.getName() ) );
+		final PreProcessingResult preProcessingResult = preProcess( managedResources, classLoading, configurationService );
+		final XmlPreProcessingResult xmlPreProcessingResult = preProcessingResult.xmlPreProcessingResult();
+		final List<String> allKnownClassNames = preProcessingResult.allKnownClassNames();
 
 		// At this point we know all managed class names across all sources.
 		// Resolve the Jandex Index and build the SourceModelBuildingContext.
-		final IndexView jandexIndex = resolveJandexIndex( allKnownClassNames, bootstrapContext.getJandexView(), classLoading );
+		final IndexView jandexIndex = resolveJandexIndex(
+				allKnownClassNames,
+				bootstrapContext.getJandexView(),
+				classLoading,
+				resolveIndexingParallelism( configurationService )
+		);
+		final boolean lazyClassDetails = configurationService
+				.getSetting( ModelsSettings.LAZY_CLASS_DETAILS, StandardConverters.BOOLEAN, false );
 		final SourceModelBuildingContextImpl sourceModelBuildingContext = new SourceModelBuildingContextImpl(
 				classLoading,
 				jandexIndex,
-				ManagedResourcesProcessor::preFillRegistries
+				lazyClassDetails
+						? ManagedResourcesProcessor::preFillRegistriesLazily
+						: ManagedResourcesProcessor::preFillRegistries
 		);
 
 
@@ -136,6 +207,7 @@ public class ManagedResourcesProcessor {
 			final ClassDetails classDetails = mutableClassDetailsRegistry.resolveClassDetails( className );
 			modelCategorizationCollector.apply( classDetails );
 		} );
+		processDynamicEntities( dynamicEntityRegistrations, sourceModelBuildingContext, modelCategorizationCollector::apply );
 
 		xmlProcessingResult.apply( xmlPreProcessingResult.getPersistenceUnitMetadata() );
 
@@ -158,11 +230,19 @@ public class ManagedResourcesProcessor {
 		final AnnotationDescriptorRegistry annotationDescriptorRegistryImmutable = descriptorRegistry
 				.makeImmutableCopy();
 
+		listener.registrationsCompleted(
+				classDetailsRegistryImmutable,
+				annotationDescriptorRegistryImmutable,
+				modelCategorizationCollector.getGlobalRegistrations()
+		);
+
 		// Collect the entity hierarchies based on the set of `rootEntities`
 		final ModelCategorizationContextImpl mappingBuildingContext = new ModelCategorizationContextImpl(
 				classDetailsRegistryImmutable,
 				annotationDescriptorRegistryImmutable,
-				modelCategorizationCollector.getGlobalRegistrations()
+				modelCategorizationCollector.getGlobalRegistrations(),
+				SharedCacheMode.UNSPECIFIED,
+				bootCostProfile
 		);
 
 		final Set<EntityHierarchy> entityHierarchies;
@@ -175,6 +255,7 @@ public class ManagedResourcesProcessor {
 							unusedMappedSuperClasses.remove( identifiableType.getClassDetails().getClassName() );
 						}
 					},
+					listener::hierarchyCompleted,
 					mappingBuildingContext
 			);
 			warnAboutUnusedMappedSuperclasses( unusedMappedSuperClasses );
@@ -183,11 +264,359 @@ public class ManagedResourcesProcessor {
 			entityHierarchies = createEntityHierarchies(
 					modelCategorizationCollector.getRootEntities(),
 					ManagedResourcesProcessor::ignore,
+					listener::hierarchyCompleted,
 					mappingBuildingContext
 			);
 		}
 
-		return modelCategorizationCollector.createResult( entityHierarchies, classDetailsRegistryImmutable, annotationDescriptorRegistryImmutable );
+		analyzeAssociationGraph( configurationService, entityHierarchies, classDetailsRegistryImmutable );
+
+		return modelCategorizationCollector.createResult(
+				entityHierarchies,
+				classDetailsRegistryImmutable,
+				annotationDescriptorRegistryImmutable,
+				preparseNamedQueries( configurationService, modelCategorizationCollector.getGlobalRegistrations() ),
+				bootCostProfile
+		);
+	}
+
+	/**
+	 * Incrementally re-categorizes a domain model after some of its managed resources changed -
+	 * during development-mode hot reload, e.g.
+	 * <p/>
+	 * Only the {@linkplain ClassDetails} affected by the {@code changes} are rebuilt; all others are reused from
+	 * the {@code previousModel}.  {@linkplain EntityHierarchy Entity hierarchies} are rebuilt against the new
+	 * registries - which is cheap compared to building the {@linkplain ClassDetails}.  Global registrations are
+	 * re-collected from all managed types, which is a scan of existing annotations rather than a rebuild.
+	 * Changes which cannot be handled incrementally (a document defining persistence-unit defaults, e.g.) fall back
+	 * to {@linkplain #processManagedResources(ManagedResources, BootstrapContext) complete} processing.
+	 *
+	 * @param previousModel The model built from the resources before the changes
+	 * @param managedResources The complete set of managed resources, after the changes
+	 * @param changes The classes and documents which changed
+	 *
+	 * @see org.hibernate.boot.models.categorize.internal.CategorizationInvalidation
+	 */
+	public static CategorizedDomainModel reprocessManagedResources(
+			CategorizedDomainModel previousModel,
+			ManagedResources managedResources,
+			ManagedResourceChanges changes,
+			BootstrapContext bootstrapContext) {
+		return reprocessManagedResources(
+				previousModel,
+				managedResources,
+				changes,
+				bootstrapContext,
+				DynamicEntityRegistrations.NONE,
+				NO_OP_LISTENER
+		);
+	}
+
+	/**
+	 * Form of {@linkplain #reprocessManagedResources(CategorizedDomainModel, ManagedResources, ManagedResourceChanges, BootstrapContext)}
+	 * for a model which also has programmatically defined dynamic entities, reporting progress to the given {@code listener}.
+	 * <p/>
+	 * Dynamic entities are identified by entity-name in the {@code changes}; a renamed entity is reported as changed
+	 * under both names (the old name being removed).  Registered entities which were not part of the previous model
+	 * are always built.
+	 *
+	 * @param dynamicEntityRegistrations The complete set of dynamic entities, after the changes
+	 */
+	public static CategorizedDomainModel reprocessManagedResources(
+			CategorizedDomainModel previousModel,
+			ManagedResources managedResources,
+			ManagedResourceChanges changes,
+			BootstrapContext bootstrapContext,
+			DynamicEntityRegistrations dynamicEntityRegistrations,
+			CategorizationListener listener) {
+		if ( changes.isEmpty() ) {
+			return previousModel;
+		}
+
+		final ClassLoaderService classLoaderService = bootstrapContext.getServiceRegistry().getService( ClassLoaderService.class );
+		final ClassLoaderServiceLoading classLoading = new ClassLoaderServiceLoading( classLoaderService );
+		final ConfigurationService configurationService = bootstrapContext.getServiceRegistry().getService( ConfigurationService.class );
+
+		final PreProcessingResult preProcessingResult = preProcess( managedResources, classLoading, configurationService );
+		final XmlPreProcessingResult xmlPreProcessingResult = preProcessingResult.xmlPreProcessingResult();
+
+		final Set<JaxbEntityMappingsImpl> changedDocuments = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( Binding<JaxbBindableMappingDescriptor> binding : managedResources.getXmlMappingBindings() ) {
+			if ( changes.getChangedDocuments().contains( binding.getOrigin().getName() ) ) {
+				changedDocuments.add( (JaxbEntityMappingsImpl) binding.getRoot() );
+			}
+		}
+
+		final CategorizationInvalidation invalidation = CategorizationInvalidation.determine(
+				previousModel,
+				xmlPreProcessingResult.getDocuments(),
+				changedDocuments,
+				changes.getChangedClassNames()
+		);
+		if ( invalidation.isCompleteReprocessingRequired() ) {
+			return processManagedResources( managedResources, bootstrapContext, dynamicEntityRegistrations, listener );
+		}
+
+		final List<String> allKnownClassNames = preProcessingResult.allKnownClassNames();
+		final IndexView jandexIndex = resolveJandexIndex(
+				allKnownClassNames,
+				bootstrapContext.getJandexView(),
+				classLoading,
+				resolveIndexingParallelism( configurationService )
+		);
+
+		// reuse the ClassDetails of everything not invalidated; the rest are (re)built
+		final ClassDetailsRegistry previousClassDetailsRegistry = previousModel.getClassDetailsRegistry();
+		final boolean lazyClassDetails = configurationService
+				.getSetting( ModelsSettings.LAZY_CLASS_DETAILS, StandardConverters.BOOLEAN, false );
+		final SourceModelBuildingContextImpl sourceModelBuildingContext = new SourceModelBuildingContextImpl(
+				classLoading,
+				jandexIndex,
+				(contributions, buildingContext) -> {
+					// seed first, so that priming does not replace the reused ClassDetails
+					final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+					previousClassDetailsRegistry.forEachClassDetails( (classDetails) -> {
+						if ( !invalidation.isInvalidated( classDetails.getName() ) ) {
+							classDetailsRegistry.resolveClassDetails( classDetails.getName(), (name) -> classDetails );
+						}
+					} );
+					if ( lazyClassDetails ) {
+						preFillRegistriesLazily( contributions, buildingContext );
+					}
+					else {
+						preFillRegistries( contributions, buildingContext );
+					}
+				}
+		);
+
+		final ClassDetailsRegistry mutableClassDetailsRegistry = sourceModelBuildingContext.getClassDetailsRegistry();
+		final AnnotationDescriptorRegistry descriptorRegistry = sourceModelBuildingContext.getAnnotationDescriptorRegistry();
+		final DomainModelCategorizationCollector modelCategorizationCollector = new DomainModelCategorizationCollector(
+				true,
+				mutableClassDetailsRegistry,
+				descriptorRegistry
+		);
+
+		final XmlProcessingResult xmlProcessingResult = XmlProcessor.processXml(
+				xmlPreProcessingResult,
+				invalidation::isReprocessed,
+				modelCategorizationCollector,
+				sourceModelBuildingContext
+		);
+
+		final Set<String> managedNames = new LinkedHashSet<>( allKnownClassNames );
+		managedNames.addAll( xmlPreProcessingResult.getMappedNames() );
+		previousModel.getMappedSuperclasses().keySet().forEach( (name) -> {
+			if ( !invalidation.isInvalidated( name ) ) {
+				managedNames.add( name );
+			}
+		} );
+		previousModel.getEmbeddables().keySet().forEach( (name) -> {
+			if ( !invalidation.isInvalidated( name ) ) {
+				managedNames.add( name );
+			}
+		} );
+		// dynamic entities unaffected by the changes are reused like any other type...
+		dynamicEntityRegistrations.forEach( (entityName, template) -> {
+			if ( isReused( entityName, invalidation, previousClassDetailsRegistry ) ) {
+				managedNames.add( entityName );
+			}
+		} );
+		managedNames.forEach( (name) -> modelCategorizationCollector.apply( mutableClassDetailsRegistry.resolveClassDetails( name ) ) );
+		// ... while changed, renamed and added ones are built
+		processDynamicEntities(
+				dynamicEntityRegistrations,
+				sourceModelBuildingContext,
+				(entityName) -> !isReused( entityName, invalidation, previousClassDetailsRegistry ),
+				modelCategorizationCollector::apply
+		);
+
+		xmlProcessingResult.apply( xmlPreProcessingResult.getPersistenceUnitMetadata() );
+
+		final ClassDetailsRegistry classDetailsRegistryImmutable = mutableClassDetailsRegistry.makeImmutableCopy();
+		final AnnotationDescriptorRegistry annotationDescriptorRegistryImmutable = descriptorRegistry.makeImmutableCopy();
+
+		listener.registrationsCompleted(
+				classDetailsRegistryImmutable,
+				annotationDescriptorRegistryImmutable,
+				modelCategorizationCollector.getGlobalRegistrations()
+		);
+
+		final BootCostProfile bootCostProfile = BootCostProfile.fromSettings( configurationService );
+		final ModelCategorizationContextImpl mappingBuildingContext = new ModelCategorizationContextImpl(
+				classDetailsRegistryImmutable,
+				annotationDescriptorRegistryImmutable,
+				modelCategorizationCollector.getGlobalRegistrations(),
+				SharedCacheMode.UNSPECIFIED,
+				bootCostProfile
+		);
+		final Set<EntityHierarchy> entityHierarchies = createEntityHierarchies(
+				modelCategorizationCollector.getRootEntities(),
+				ManagedResourcesProcessor::ignore,
+				listener::hierarchyCompleted,
+				mappingBuildingContext
+		);
+
+		analyzeAssociationGraph( configurationService, entityHierarchies, classDetailsRegistryImmutable );
+
+		return modelCategorizationCollector.createResult(
+				entityHierarchies,
+				classDetailsRegistryImmutable,
+				annotationDescriptorRegistryImmutable,
+				preparseNamedQueries( configurationService, modelCategorizationCollector.getGlobalRegistrations() ),
+				bootCostProfile
+		);
+	}
+
+	private static boolean isReused(
+			String name,
+			CategorizationInvalidation invalidation,
+			ClassDetailsRegistry previousClassDetailsRegistry) {
+		return !invalidation.isInvalidated( name ) && previousClassDetailsRegistry.findClassDetails( name ) != null;
+	}
+
+	private static void analyzeAssociationGraph(
+			ConfigurationService configurationService,
+			Set<EntityHierarchy> entityHierarchies,
+			ClassDetailsRegistry classDetailsRegistry) {
+		final boolean logRecommendations = configurationService
+				.getSetting( ModelsSettings.LOG_BATCH_SIZE_RECOMMENDATIONS, StandardConverters.BOOLEAN, false );
+		final boolean applyRecommendations = configurationService
+				.getSetting( ModelsSettings.APPLY_RECOMMENDED_BATCH_SIZES, StandardConverters.BOOLEAN, false );
+		if ( !logRecommendations && !applyRecommendations ) {
+			return;
+		}
+
+		final int maximumBatchSize = configurationService.getSetting(
+				ModelsSettings.MAXIMUM_RECOMMENDED_BATCH_SIZE,
+				StandardConverters.INTEGER,
+				AssociationGraphAnalysis.DEFAULT_MAXIMUM_BATCH_SIZE
+		);
+		final AssociationGraphAnalysis analysis = AssociationGraphAnalysis.analyze(
+				entityHierarchies,
+				classDetailsRegistry,
+				maximumBatchSize
+		);
+		if ( logRecommendations ) {
+			AssociationGraphAnalyzer.logRecommendations( analysis );
+		}
+		if ( applyRecommendations ) {
+			AssociationGraphAnalyzer.applyRecommendations( analysis );
+		}
+	}
+
+	private static PreparsedNamedQueries preparseNamedQueries(
+			ConfigurationService configurationService,
+			GlobalRegistrations globalRegistrations) {
+		if ( !configurationService.getSetting( ModelsSettings.PREPARSE_NAMED_QUERIES, StandardConverters.BOOLEAN, false ) ) {
+			return PreparsedNamedQueries.NONE;
+		}
+		return PreparsedNamedQueries.preparse( globalRegistrations );
+	}
+
+	private record PreProcessingResult(XmlPreProcessingResult xmlPreProcessingResult, List<String> allKnownClassNames) {
+	}
+
+	/**
+	 * Pre-processes the XML and collects the names of all known classes, loading those classes in the
+	 * background when {@linkplain ModelsSettings#PREFETCH_CLASSES prefetching} is enabled
+	 */
+	private static PreProcessingResult preProcess(
+			ManagedResources managedResources,
+			ClassLoading classLoading,
+			ConfigurationService configurationService) {
+		final XmlPreProcessingResult xmlPreProcessingResult;
+		final List<String> allKnownClassNames;
+		if ( configurationService.getSetting( ModelsSettings.PREFETCH_CLASSES, StandardConverters.BOOLEAN, false ) ) {
+			verifyNoEnhancement( configurationService );
+
+			// load the classes we know about in the background while the XML is pre-processed
+			try (ClassPrefetcher prefetcher = new ClassPrefetcher( classLoading, resolvePrefetchParallelism( configurationService ) )) {
+				prefetcher.prefetch( managedResources.getAnnotatedClassNames() );
+				final Map<String, CompletableFuture<String>> packageInfoNames = new HashMap<>();
+				managedResources.getAnnotatedPackageNames().forEach( (packageName) -> {
+					packageInfoNames.put( packageName, prefetcher.prefetchPackageInfo( packageName ) );
+				} );
+
+				xmlPreProcessingResult = XmlPreProcessor.preProcessXmlResources( managedResources );
+				prefetcher.prefetch( xmlPreProcessingResult.getMappedClasses() );
+
+				allKnownClassNames = collectKnownClassNames(
+						managedResources,
+						xmlPreProcessingResult,
+						(packageName) -> packageInfoNames.get( packageName ).join()
+				);
+			}
+		}
+		else {
+			xmlPreProcessingResult = XmlPreProcessor.preProcessXmlResources( managedResources );
+			allKnownClassNames = collectKnownClassNames( managedResources, xmlPreProcessingResult, classLoading );
+		}
+		return new PreProcessingResult( xmlPreProcessingResult, allKnownClassNames );
+	}
+
+	private static List<String> collectKnownClassNames(
+			ManagedResources managedResources,
+			XmlPreProcessingResult xmlPreProcessingResult,
+			ClassLoading classLoading) {
+		return collectKnownClassNames(
+				managedResources,
+				xmlPreProcessingResult,
+				(packageName) -> {
+					try {
+						return classLoading.classForName( packageName + ".package-info" ).getName();
+					}
+					catch (ClassLoadingException classLoadingException) {
+						return null;
+					}
+				}
+		);
+	}
+
+	private static List<String> collectKnownClassNames(
+			ManagedResources managedResources,
+			XmlPreProcessingResult xmlPreProcessingResult,
+			Function<String, String> packageInfoResolver) {
+		final List<String> allKnownClassNames = mutableJoin(
+				managedResources.getAnnotatedClassNames(),
+				xmlPreProcessingResult.getMappedClasses()
+		);
+		managedResources.getAnnotatedPackageNames().forEach( (packageName) -> {
+			final String packageInfoName = packageInfoResolver.apply( packageName );
+			if ( packageInfoName != null ) {
+				allKnownClassNames.add( packageInfoName );
+			}
+			// otherwise, no package-info, so there can be no annotations... just skip it
+		} );
+		managedResources.getAnnotatedClassReferences().forEach( (clazz) -> allKnownClassNames.add( clazz.getName() ) );
+		return allKnownClassNames;
+	}
+
+	/**
+	 * Prefetching loads the managed classes before any enhancer could transform them, which would
+	 * silently disable the requested enhancement - so the two cannot be combined
+	 */
+	private static void verifyNoEnhancement(ConfigurationService configurationService) {
+		for ( String enhancementSetting : ENHANCEMENT_SETTINGS ) {
+			if ( configurationService.getSetting( enhancementSetting, StandardConverters.BOOLEAN, false ) ) {
+				throw new ModelsException(
+						"`" + ModelsSettings.PREFETCH_CLASSES + "` cannot be combined with bytecode enhancement (`"
+								+ enhancementSetting + "`)"
+				);
+			}
+		}
+	}
+
+	private static int resolvePrefetchParallelism(ConfigurationService configurationService) {
+		final int parallelism = configurationService.getSetting(
+				ModelsSettings.CLASS_PREFETCH_PARALLELISM,
+				StandardConverters.INTEGER,
+				Math.min( Runtime.getRuntime().availableProcessors(), 8 )
+		);
+		if ( parallelism < 1 ) {
+			throw new ModelsException( "Invalid value for `" + ModelsSettings.CLASS_PREFETCH_PARALLELISM + "` - " + parallelism );
+		}
+		return parallelism;
 	}
 
 	private static void ignore(IdentifiableTypeMetadata identifiableTypeMetadata) {
@@ -207,29 +636,64 @@ public class ManagedResourcesProcessor {
 			List<String> allKnownClassNames,
 			IndexView suppliedJandexIndex,
 			ClassLoading classLoading) {
-		// todo : we could build a new Jandex (Composite)Index that includes the `managedResources#getAnnotatedClassNames`
-		// 		and all classes from `managedResources#getXmlMappingBindings`.  Only really worth it in the case
-		//		of runtime enhancement.  This would definitely need to be toggle-able.
-		//		+
-		//		For now, let's not as it does not matter for this PoC
-		if ( 1 == 1 ) {
+		return resolveJandexIndex( allKnownClassNames, suppliedJandexIndex, classLoading, 0 );
+	}
+
+	/**
+	 * Resolve the Jandex index to use, building one for {@code allKnownClassNames} when
+	 * {@code indexingParallelism} is positive.
+	 *
+	 * @see ModelsSettings#BUILD_JANDEX_INDEX
+	 */
+	public static IndexView resolveJandexIndex(
+			List<String> allKnownClassNames,
+			IndexView suppliedJandexIndex,
+			ClassLoading classLoading,
+			int indexingParallelism) {
+		if ( indexingParallelism <= 0 ) {
 			return suppliedJandexIndex;
 		}
 
-		final Indexer jandexIndexer = new Indexer();
-		for ( String knownClassName : allKnownClassNames ) {
-			JandexIndexerHelper.apply( knownClassName, jandexIndexer, classLoading );
+		final IndexView builtIndex = new ParallelJandexIndexer( classLoading, indexingParallelism ).index( allKnownClassNames );
+		if ( suppliedJandexIndex == null ) {
+			return builtIndex;
 		}
 
-		if ( suppliedJandexIndex == null ) {
-			return jandexIndexer.complete();
+		return CompositeIndex.create( suppliedJandexIndex, builtIndex );
+	}
+
+	private static int resolveIndexingParallelism(ConfigurationService configurationService) {
+		if ( !configurationService.getSetting( ModelsSettings.BUILD_JANDEX_INDEX, StandardConverters.BOOLEAN, false ) ) {
+			return 0;
 		}
+		final int parallelism = configurationService.getSetting(
+				ModelsSettings.JANDEX_INDEXING_PARALLELISM,
+				StandardConverters.INTEGER,
+				Runtime.getRuntime().availableProcessors()
+		);
+		if ( parallelism < 1 ) {
+			throw new ModelsException( "Invalid value for `" + ModelsSettings.JANDEX_INDEXING_PARALLELISM + "` - " + parallelism );
+		}
+		return parallelism;
+	}
 
-		return CompositeIndex.create( suppliedJandexIndex, jandexIndexer.complete() );
+	/**
+	 * Lazy form of {@linkplain #preFillRegistries} which only registers the standard ORM annotation descriptors.
+	 * <p/>
+	 * {@linkplain ClassDetails} are then created on demand from the Jandex index (if one) as they are
+	 * resolved, and annotation classes are only loaded (and their descriptors built) when a usage
+	 * is first encountered.
+	 *
+	 * @see org.hibernate.boot.models.ModelsSettings#LAZY_CLASS_DETAILS
+	 */
+	public static void preFillRegistriesLazily(RegistryPrimer.Contributions contributions, SourceModelBuildingContext buildingContext) {
+		SharedAnnotationDescriptors.forEachOrmAnnotation( contributions::registerAnnotation );
 	}
 
 	public static void preFillRegistries(RegistryPrimer.Contributions contributions, SourceModelBuildingContext buildingContext) {
-		OrmAnnotationHelper.forEachOrmAnnotation( contributions::registerAnnotation );
+		// annotation descriptors are independent of the persistence-unit - pull them
+		// from the JVM-wide shared layer rather than rebuilding them for every unit
+		SharedAnnotationDescriptors.forEachOrmAnnotation( contributions::registerAnnotation );
 
 		final IndexView jandexIndex = buildingContext.getJandexIndex();
 		if ( jandexIndex == null ) {
@@ -251,10 +715,12 @@ public class ManagedResourcesProcessor {
 				//noinspection unchecked
 				annotationDescriptorRegistry.resolveDescriptor(
 						annotationClass,
-						(t) -> JdkBuilders.buildAnnotationDescriptor( annotationClass, buildingContext.getAnnotationDescriptorRegistry() )
+						(t) -> SharedAnnotationDescriptors.resolveDescriptor( annotationClass, annotationDescriptorRegistry )
 				);
 			}
 
+			// NOTE : ClassDetails are not shared across units - they are bound to the building
+			// context (for resolving member types) and are mutated by XML overlays
 			classDetailsRegistry.resolveClassDetails(
 					className,
 					(name) -> new JandexClassDetails( knownClass, buildingContext )
@@ -9,6 +9,7 @@ package org.hibernate.boot.models.categorize.spi;
 import java.util.List;
 
 import org.hibernate.boot.models.categorize.internal.StandardPersistentAttributeMemberResolver;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.ClassDetailsRegistry;
 
@@ -31,4 +32,12 @@ public interface ModelCategorizationContext {
 	}
 
 	List<JpaEventListener> getDefaultEventListeners();
+
+	/**
+	 * The profile to which the cost of building hierarchies and types is recorded, or
+	 * {@code null} if {@linkplain org.hibernate.boot.models.ModelsSettings#PROFILE_BOOT_COST not profiling}
+	 */
+	default BootCostProfile getBootCostProfile() {
+		return null;
+	}
 }
@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import org.hibernate.boot.models.JpaAnnotations;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+
+import jakarta.persistence.NamedEntityGraph;
+
+/**
+ * Registration of a named entity graph, collected from annotations or XML mappings.  XML definitions
+ * are converted to the corresponding JPA annotation.
+ *
+ * @see JpaAnnotations#NAMED_ENTITY_GRAPH
+ * @see FetchPlan
+ */
+public class NamedEntityGraphRegistration {
+	private final String name;
+	private final ClassDetails entityType;
+	private final AnnotationUsage<NamedEntityGraph> configuration;
+
+	public NamedEntityGraphRegistration(String name, ClassDetails entityType, AnnotationUsage<NamedEntityGraph> configuration) {
+		this.name = name;
+		this.entityType = entityType;
+		this.configuration = configuration;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * The entity on which the graph is defined, which is the graph's root type
+	 */
+	public ClassDetails getEntityType() {
+		return entityType;
+	}
+
+	public AnnotationUsage<NamedEntityGraph> getConfiguration() {
+		return configuration;
+	}
+}
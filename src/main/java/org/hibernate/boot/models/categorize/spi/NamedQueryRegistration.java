@@ -4,7 +4,7 @@
  * SPDX-License-Identifier: Apache-2.0
  * Copyright: Red Hat Inc. and Hibernate Authors
  */
-package org.hibernate.boot.models.categorize.internal;
+package org.hibernate.boot.models.categorize.spi;
 
 import java.lang.annotation.Annotation;
 
@@ -13,6 +13,9 @@ import org.hibernate.boot.models.JpaAnnotations;
 import org.hibernate.models.spi.AnnotationUsage;
 
 /**
+ * Registration of a named query, collected from annotations or XML mappings.  XML definitions
+ * are converted to the corresponding JPA annotation.
+ *
  * @see JpaAnnotations#NAMED_QUERY
  * @see JpaAnnotations#NAMED_NATIVE_QUERY
  * @see JpaAnnotations#NAMED_STORED_PROCEDURE_QUERY
@@ -55,4 +58,12 @@ public class NamedQueryRegistration {
 	public AnnotationUsage<? extends Annotation> getConfiguration() {
 		return configuration;
 	}
+
+	/**
+	 * The query string - HQL or SQL depending on {@linkplain #getKind() kind}, or {@code null}
+	 * for {@linkplain Kind#CALLABLE callable} queries
+	 */
+	public String getQueryString() {
+		return kind == Kind.CALLABLE ? null : configuration.getAttributeValue( "query" );
+	}
 }
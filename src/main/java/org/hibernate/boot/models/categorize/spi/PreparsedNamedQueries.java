@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.models.ModelsException;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+/**
+ * The parse trees of all {@linkplain NamedQueryRegistration.Kind#HQL HQL} named queries, built in
+ * parallel during boot so that syntax errors are reported up front and the first execution
+ * of a named query does not pay its parse cost.
+ * <p/>
+ * Only syntax is checked here - semantic interpretation requires the runtime metamodel, which
+ * does not exist yet.  Queries sharing the same HQL share a single parse tree.
+ *
+ * @see org.hibernate.boot.models.ModelsSettings#PREPARSE_NAMED_QUERIES
+ */
+public class PreparsedNamedQueries {
+	public static final PreparsedNamedQueries NONE = new PreparsedNamedQueries( Collections.emptyMap() );
+
+	private static final BaseErrorListener ERROR_LISTENER = new BaseErrorListener() {
+		@Override
+		public void syntaxError(
+				Recognizer<?, ?> recognizer,
+				Object offendingSymbol,
+				int line,
+				int charPositionInLine,
+				String msg,
+				RecognitionException e) {
+			throw new ModelsException( "line " + line + ":" + charPositionInLine + " " + msg );
+		}
+	};
+
+	private final Map<String, HqlParser.StatementContext> parseTrees;
+
+	private PreparsedNamedQueries(Map<String, HqlParser.StatementContext> parseTrees) {
+		this.parseTrees = parseTrees;
+	}
+
+	/**
+	 * Parse all HQL named queries from the given registrations, in parallel.
+	 *
+	 * @throws ModelsException If any of the queries is not valid HQL, listing all invalid queries
+	 */
+	public static PreparsedNamedQueries preparse(GlobalRegistrations globalRegistrations) {
+		final Map<String, List<String>> queryNamesByHql = new HashMap<>();
+		globalRegistrations.getNamedQueryRegistrations().forEach( (name, registration) -> {
+			if ( registration.getKind() == NamedQueryRegistration.Kind.HQL ) {
+				final String hql = registration.getQueryString();
+				queryNamesByHql.computeIfAbsent( hql == null ? "" : hql, (key) -> new ArrayList<>() ).add( name );
+			}
+		} );
+		if ( queryNamesByHql.isEmpty() ) {
+			return NONE;
+		}
+
+		final Map<String, HqlParser.StatementContext> parseTreesByHql = new ConcurrentHashMap<>();
+		final Map<String, String> errorsByHql = new ConcurrentHashMap<>();
+		queryNamesByHql.keySet().parallelStream().forEach( (hql) -> {
+			try {
+				parseTreesByHql.put( hql, parse( hql ) );
+			}
+			catch (RuntimeException e) {
+				errorsByHql.put( hql, String.valueOf( e.getMessage() ) );
+			}
+		} );
+
+		if ( !errorsByHql.isEmpty() ) {
+			final StringBuilder message = new StringBuilder( "Errors in named queries:" );
+			errorsByHql.forEach( (hql, error) -> message.append( "\n  " )
+					.append( queryNamesByHql.get( hql ) )
+					.append( " - " )
+					.append( error ) );
+			throw new ModelsException( message.toString() );
+		}
+
+		final Map<String, HqlParser.StatementContext> parseTrees = new HashMap<>();
+		queryNamesByHql.forEach( (hql, names) -> names.forEach( (name) -> parseTrees.put( name, parseTreesByHql.get( hql ) ) ) );
+		return new PreparsedNamedQueries( parseTrees );
+	}
+
+	private static HqlParser.StatementContext parse(String hql) {
+		final HqlLexer hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+		final HqlParser hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, hqlLexer );
+
+		// try the faster SLL prediction first, falling back to full LL if that fails
+		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+		hqlParser.removeErrorListeners();
+		hqlParser.setErrorHandler( new BailErrorStrategy() );
+		try {
+			return hqlParser.statement();
+		}
+		catch (ParseCancellationException e) {
+			hqlLexer.reset();
+			hqlParser.reset();
+
+			hqlParser.getInterpreter().setPredictionMode( PredictionMode.LL );
+			hqlParser.addErrorListener( ERROR_LISTENER );
+			hqlParser.setErrorHandler( new DefaultErrorStrategy() );
+			return hqlParser.statement();
+		}
+	}
+
+	/**
+	 * The parse tree of the named HQL query, or {@code null} if there is no such HQL query
+	 */
+	public HqlParser.StatementContext getParseTree(String queryName) {
+		return parseTrees.get( queryName );
+	}
+
+	public int getNumberOfQueries() {
+		return parseTrees.size();
+	}
+}
@@ -446,6 +446,8 @@ public class ManagedTypeProcessor {
 
 		XmlAnnotationHelper.applySqlRestriction( jaxbEntity.getSqlRestriction(), classDetails, xmlDocumentContext );
 
+		XmlAnnotationHelper.applyNamedEntityGraphs( jaxbEntity.getNamedEntityGraphs(), classDetails, xmlDocumentContext );
+
 		XmlAnnotationHelper.applyCustomSql( jaxbEntity.getSqlInsert(), classDetails, SQLInsert.class, xmlDocumentContext );
 		XmlAnnotationHelper.applyCustomSql( jaxbEntity.getSqlUpdate(), classDetails, SQLUpdate.class, xmlDocumentContext );
 		XmlAnnotationHelper.applyCustomSql( jaxbEntity.getSqlDelete(), classDetails, SQLDelete.class, xmlDocumentContext );
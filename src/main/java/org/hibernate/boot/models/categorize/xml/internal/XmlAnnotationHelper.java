@@ -8,10 +8,15 @@ package org.hibernate.boot.models.categorize.xml.internal;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -59,6 +64,9 @@ import org.hibernate.boot.jaxb.mapping.spi.JaxbJoinColumnImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbLifecycleCallback;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbLifecycleCallbackContainer;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbLobImpl;
+import org.hibernate.boot.jaxb.mapping.spi.JaxbNamedAttributeNodeImpl;
+import org.hibernate.boot.jaxb.mapping.spi.JaxbNamedEntityGraphImpl;
+import org.hibernate.boot.jaxb.mapping.spi.JaxbNamedSubgraphImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbNationalizedImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbNaturalId;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbSequenceGeneratorImpl;
@@ -107,6 +115,9 @@ import jakarta.persistence.IdClass;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.PostLoad;
 import jakarta.persistence.PostPersist;
 import jakarta.persistence.PostRemove;
@@ -697,57 +708,66 @@ public class XmlAnnotationHelper {
 		return resolveJavaType( value, sourceModelBuildingContext.getClassDetailsRegistry() );
 	}
 
+	/**
+	 * Primitive type names, matched exactly
+	 */
+	private static final Set<String> PRIMITIVE_TYPE_NAMES = Set.of(
+			byte.class.getName(),
+			boolean.class.getName(),
+			char.class.getName(),
+			short.class.getName(),
+			int.class.getName(),
+			long.class.getName(),
+			double.class.getName(),
+			float.class.getName()
+	);
+
+	/**
+	 * Java type aliases (simple names of the standard basic types), keyed by lower-case alias
+	 */
+	private static final Map<String, String> JAVA_TYPE_ALIASES = buildJavaTypeAliases(
+			Byte.class,
+			Boolean.class,
+			Short.class,
+			Integer.class,
+			Long.class,
+			Double.class,
+			Float.class,
+			BigInteger.class,
+			BigDecimal.class,
+			String.class,
+			Character.class,
+			UUID.class
+	);
+
+	private static Map<String, String> buildJavaTypeAliases(Class<?>... javaTypes) {
+		final Map<String, String> aliases = new HashMap<>();
+		for ( Class<?> javaType : javaTypes ) {
+			aliases.put( javaType.getSimpleName().toLowerCase( Locale.ROOT ), javaType.getName() );
+		}
+		return Map.copyOf( aliases );
+	}
+
 	public static ClassDetails resolveJavaType(String value, ClassDetailsRegistry classDetailsRegistry) {
+		return classDetailsRegistry.resolveClassDetails( resolveJavaTypeName( value ) );
+	}
+
+	/**
+	 * Resolve the class name for a Java type name, as used in XML, which might be a
+	 * primitive name or an alias (case-insensitive) for one of the standard basic types
+	 */
+	public static String resolveJavaTypeName(String value) {
 		if ( StringHelper.isEmpty( value ) ) {
-			value = Object.class.getName();
+			return Object.class.getName();
 		}
-		else if ( byte.class.getName().equals( value )
-				|| boolean.class.getName().equals( value )
-				|| short.class.getName().equals( value )
-				|| int.class.getName().equals( value )
-				|| long.class.getName().equals( value )
-				|| double.class.getName().equals( value )
-				|| float.class.getName().equals( value ) ) {
+
+		if ( PRIMITIVE_TYPE_NAMES.contains( value ) ) {
 			// nothing to do for primitives
-		}
-		else if ( Byte.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = Byte.class.getName();
-		}
-		else if ( Boolean.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = Boolean.class.getName();
-		}
-		else if ( Short.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = Short.class.getName();
-		}
-		else if ( Integer.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = Integer.class.getName();
-		}
-		else if ( Long.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = Long.class.getName();
-		}
-		else if ( Double.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = Double.class.getName();
-		}
-		else if ( Float.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = Float.class.getName();
-		}
-		else if ( BigInteger.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = BigInteger.class.getName();
-		}
-		else if ( BigDecimal.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = BigDecimal.class.getName();
-		}
-		else if ( String.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = String.class.getName();
-		}
-		else if ( Character.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = Character.class.getName();
-		}
-		else if ( UUID.class.getSimpleName().equalsIgnoreCase( value ) ) {
-			value = Character.class.getName();
+			return value;
 		}
 
-		return classDetailsRegistry.resolveClassDetails( value );
+		final String aliased = JAVA_TYPE_ALIASES.get( value.toLowerCase( Locale.ROOT ) );
+		return aliased == null ? value : aliased;
 	}
 
 	public static void applyBasicTypeComposition(
@@ -779,14 +799,34 @@ public class XmlAnnotationHelper {
 		}
 	}
 
-	private static int resolveJdbcTypeName(String name) {
-		try {
-			final Field matchingField = SqlTypes.class.getDeclaredField( name );
-			return matchingField.getInt( null );
+	/**
+	 * The {@linkplain SqlTypes} type codes, keyed by upper-case constant name
+	 */
+	private static final Map<String, Integer> JDBC_TYPE_CODES = buildJdbcTypeCodes();
+
+	private static Map<String, Integer> buildJdbcTypeCodes() {
+		final Map<String, Integer> typeCodes = new HashMap<>();
+		for ( Field field : SqlTypes.class.getDeclaredFields() ) {
+			if ( Modifier.isStatic( field.getModifiers() )
+					&& Modifier.isPublic( field.getModifiers() )
+					&& field.getType() == int.class ) {
+				try {
+					typeCodes.put( field.getName().toUpperCase( Locale.ROOT ), field.getInt( null ) );
+				}
+				catch (IllegalAccessException e) {
+					throw new ModelsException( "Unable to access SqlTypes constant - " + field.getName(), e );
+				}
+			}
 		}
-		catch (NoSuchFieldException | IllegalAccessException e) {
-			throw new ModelsException( "Could not resolve <jdbc-type-name>" + name + "</jdbc-type-name>", e );
+		return Map.copyOf( typeCodes );
+	}
+
+	public static int resolveJdbcTypeName(String name) {
+		final Integer typeCode = JDBC_TYPE_CODES.get( name.toUpperCase( Locale.ROOT ) );
+		if ( typeCode == null ) {
+			throw new ModelsException( "Could not resolve <jdbc-type-name>" + name + "</jdbc-type-name>" );
 		}
+		return typeCode;
 	}
 
 	public static void applyJavaTypeDescriptor(
@@ -887,6 +927,87 @@ public class XmlAnnotationHelper {
 		return sqlFragmentAliases;
 	}
 
+	public static void applyNamedEntityGraphs(
+			List<JaxbNamedEntityGraphImpl> jaxbNamedEntityGraphs,
+			MutableClassDetails classDetails,
+			XmlDocumentContext xmlDocumentContext) {
+		if ( CollectionHelper.isEmpty( jaxbNamedEntityGraphs ) ) {
+			return;
+		}
+
+		jaxbNamedEntityGraphs.forEach( (jaxbNamedEntityGraph) -> {
+			final MutableAnnotationUsage<NamedEntityGraph> graphAnn = XmlProcessingHelper.getOrMakeNamedAnnotation(
+					NamedEntityGraph.class,
+					jaxbNamedEntityGraph.getName(),
+					classDetails,
+					xmlDocumentContext
+			);
+			applyAttributeIfSpecified( graphAnn, "includeAllAttributes", jaxbNamedEntityGraph.isIncludeAllAttributes() );
+			graphAnn.setAttributeValue(
+					"attributeNodes",
+					getNamedAttributeNodes( jaxbNamedEntityGraph.getNamedAttributeNode(), classDetails, xmlDocumentContext )
+			);
+			graphAnn.setAttributeValue(
+					"subgraphs",
+					getNamedSubgraphs( jaxbNamedEntityGraph.getSubgraph(), classDetails, xmlDocumentContext )
+			);
+			graphAnn.setAttributeValue(
+					"subclassSubgraphs",
+					getNamedSubgraphs( jaxbNamedEntityGraph.getSubclassSubgraph(), classDetails, xmlDocumentContext )
+			);
+		} );
+	}
+
+	private static List<AnnotationUsage<NamedAttributeNode>> getNamedAttributeNodes(
+			List<JaxbNamedAttributeNodeImpl> jaxbNodes,
+			MutableAnnotationTarget target,
+			XmlDocumentContext xmlDocumentContext) {
+		if ( CollectionHelper.isEmpty( jaxbNodes ) ) {
+			return emptyList();
+		}
+
+		final List<AnnotationUsage<NamedAttributeNode>> nodes = new ArrayList<>( jaxbNodes.size() );
+		for ( JaxbNamedAttributeNodeImpl jaxbNode : jaxbNodes ) {
+			final MutableAnnotationUsage<NamedAttributeNode> nodeAnn = XmlProcessingHelper.makeNestedAnnotation( NamedAttributeNode.class, target, xmlDocumentContext );
+			nodeAnn.setAttributeValue( "value", jaxbNode.getName() );
+			applyAttributeIfSpecified( nodeAnn, "subgraph", jaxbNode.getSubgraph() );
+			applyAttributeIfSpecified( nodeAnn, "keySubgraph", jaxbNode.getKeySubgraph() );
+			nodes.add( nodeAnn );
+		}
+		return nodes;
+	}
+
+	private static List<AnnotationUsage<NamedSubgraph>> getNamedSubgraphs(
+			List<JaxbNamedSubgraphImpl> jaxbSubgraphs,
+			MutableAnnotationTarget target,
+			XmlDocumentContext xmlDocumentContext) {
+		if ( CollectionHelper.isEmpty( jaxbSubgraphs ) ) {
+			return emptyList();
+		}
+
+		final List<AnnotationUsage<NamedSubgraph>> subgraphs = new ArrayList<>( jaxbSubgraphs.size() );
+		for ( JaxbNamedSubgraphImpl jaxbSubgraph : jaxbSubgraphs ) {
+			final MutableAnnotationUsage<NamedSubgraph> subgraphAnn = XmlProcessingHelper.makeNestedAnnotation( NamedSubgraph.class, target, xmlDocumentContext );
+			subgraphAnn.setAttributeValue( "name", jaxbSubgraph.getName() );
+			if ( StringHelper.isNotEmpty( jaxbSubgraph.getClazz() ) ) {
+				final String defaultPackage = xmlDocumentContext.getXmlDocument().getDefaults().getPackage();
+				final String className = jaxbSubgraph.getClazz().lastIndexOf( '.' ) > 0 || StringHelper.isEmpty( defaultPackage )
+						? jaxbSubgraph.getClazz()
+						: StringHelper.qualify( defaultPackage, jaxbSubgraph.getClazz() );
+				subgraphAnn.setAttributeValue(
+						"type",
+						xmlDocumentContext.getModelBuildingContext().getClassDetailsRegistry().resolveClassDetails( className )
+				);
+			}
+			subgraphAnn.setAttributeValue(
+					"attributeNodes",
+					getNamedAttributeNodes( jaxbSubgraph.getNamedAttributeNode(), target, xmlDocumentContext )
+			);
+			subgraphs.add( subgraphAnn );
+		}
+		return subgraphs;
+	}
+
 	public static void applySqlRestriction(
 			String sqlRestriction,
 			MutableAnnotationTarget target,
@@ -6,6 +6,9 @@
  */
 package org.hibernate.boot.models.categorize.xml.spi;
 
+import java.util.function.Predicate;
+
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
 import org.hibernate.boot.models.categorize.xml.internal.XmlDocumentContextImpl;
 import org.hibernate.boot.models.categorize.xml.internal.XmlDocumentImpl;
 import org.hibernate.boot.models.categorize.internal.DomainModelCategorizationCollector;
@@ -24,15 +27,33 @@ public class XmlProcessor {
 			XmlPreProcessingResult xmlPreProcessingResult,
 			DomainModelCategorizationCollector modelCategorizationCollector,
 			SourceModelBuildingContext sourceModelBuildingContext) {
+		return processXml( xmlPreProcessingResult, XmlProcessor::all, modelCategorizationCollector, sourceModelBuildingContext );
+	}
+
+	/**
+	 * Form of {@linkplain #processXml(XmlPreProcessingResult, DomainModelCategorizationCollector, SourceModelBuildingContext)}
+	 * which only applies the documents accepted by the {@code documentFilter} to the source model.
+	 * Global registrations are still collected from all documents.
+	 */
+	public static XmlProcessingResult processXml(
+			XmlPreProcessingResult xmlPreProcessingResult,
+			Predicate<JaxbEntityMappingsImpl> documentFilter,
+			DomainModelCategorizationCollector modelCategorizationCollector,
+			SourceModelBuildingContext sourceModelBuildingContext) {
 		final boolean xmlMappingsGloballyComplete = xmlPreProcessingResult.getPersistenceUnitMetadata().areXmlMappingsComplete();
 		final XmlProcessingResultImpl xmlOverlay = new XmlProcessingResultImpl();
 
 		xmlPreProcessingResult.getDocuments().forEach( (jaxbRoot) -> {
-			modelCategorizationCollector.apply( jaxbRoot );
 			final XmlDocumentImpl xmlDocument = XmlDocumentImpl.consume(
 					jaxbRoot,
 					xmlPreProcessingResult.getPersistenceUnitMetadata()
 			);
+			modelCategorizationCollector.apply( jaxbRoot );
+			modelCategorizationCollector.apply( xmlDocument );
+			if ( !documentFilter.test( jaxbRoot ) ) {
+				return;
+			}
+
 			final XmlDocumentContext xmlDocumentContext = new XmlDocumentContextImpl(
 					xmlDocument,
 					xmlPreProcessingResult.getPersistenceUnitMetadata(),
@@ -79,4 +100,8 @@ public class XmlProcessor {
 
 		return xmlOverlay;
 	}
+
+	private static boolean all(JaxbEntityMappingsImpl jaxbRoot) {
+		return true;
+	}
 }
@@ -0,0 +1,419 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.lint.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CollectionId;
+import org.hibernate.boot.models.JpaAnnotations;
+import org.hibernate.boot.models.bind.internal.UnionTable;
+import org.hibernate.boot.models.bind.spi.BindingState;
+import org.hibernate.boot.models.bind.spi.TableReference;
+import org.hibernate.boot.models.categorize.internal.AttributeTargetHelper;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.BasicKeyMapping;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
+import org.hibernate.boot.models.lint.spi.PerformanceFinding;
+import org.hibernate.boot.models.lint.spi.PerformanceRule;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.mapping.UniqueKey;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Applies the {@linkplain PerformanceRule performance rules} to a categorized (and optionally bound) model
+ */
+public class PerformanceLintAnalyzer {
+	private final CategorizedDomainModel categorizedDomainModel;
+	private final BindingState bindingState;
+	private final int eagerChainThreshold;
+
+	private final Map<String, EntityHierarchy> hierarchiesByType = new HashMap<>();
+	private final Map<EntityHierarchy, List<EagerAssociation>> eagerAssociations = new HashMap<>();
+	private final List<PerformanceFinding> findings = new ArrayList<>();
+
+	public PerformanceLintAnalyzer(
+			CategorizedDomainModel categorizedDomainModel,
+			BindingState bindingState,
+			int eagerChainThreshold) {
+		this.categorizedDomainModel = categorizedDomainModel;
+		this.bindingState = bindingState;
+		this.eagerChainThreshold = eagerChainThreshold;
+
+		categorizedDomainModel.getEntityHierarchies().forEach( (hierarchy) -> hierarchy.forEachType(
+				(type, superType, h, relation) -> hierarchiesByType.put( type.getClassDetails().getName(), hierarchy )
+		) );
+	}
+
+	public List<PerformanceFinding> analyze() {
+		final List<EntityHierarchy> hierarchies = new ArrayList<>( categorizedDomainModel.getEntityHierarchies() );
+		hierarchies.sort( Comparator.comparing( (hierarchy) -> hierarchy.getRoot().getClassDetails().getName() ) );
+
+		for ( EntityHierarchy hierarchy : hierarchies ) {
+			checkUnionSubclasses( hierarchy );
+			checkEagerChains( hierarchy );
+			hierarchy.forEachType( (type, superType, h, relation) -> type.forEachAttribute(
+					(index, attribute) -> checkAttribute( hierarchy, type, attribute )
+			) );
+		}
+
+		return findings;
+	}
+
+	private void checkAttribute(EntityHierarchy hierarchy, IdentifiableTypeMetadata type, AttributeMetadata attribute) {
+		final MemberDetails member = attribute.getMember();
+		if ( attribute.getNature() == AttributeMetadata.AttributeNature.TO_ONE ) {
+			if ( member.getAnnotationUsage( JpaAnnotations.MANY_TO_ONE ) != null ) {
+				checkForeignKeyIndex( hierarchy, type, attribute );
+			}
+		}
+		else if ( attribute.getNature() == AttributeMetadata.AttributeNature.PLURAL ) {
+			if ( member.getAnnotationUsage( JpaAnnotations.ELEMENT_COLLECTION ) != null ) {
+				checkElementCollectionOrdering( type, attribute );
+			}
+			checkCollectionCaching( hierarchy, type, attribute );
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// UNION_SUBCLASS_HIERARCHY
+
+	private void checkUnionSubclasses(EntityHierarchy hierarchy) {
+		final EntityTypeMetadata root = hierarchy.getRoot();
+		if ( hierarchy.getInheritanceType() != InheritanceType.TABLE_PER_CLASS || !root.hasSubTypes() ) {
+			return;
+		}
+
+		final String message;
+		if ( bindingState == null ) {
+			message = "polymorphic queries and associations select from a union of the hierarchy's tables";
+		}
+		else {
+			final int[] unionedTables = new int[1];
+			hierarchy.forEachType( (type, superType, h, relation) -> {
+				if ( type instanceof EntityTypeMetadata ) {
+					final TableReference table = bindingState.getTableByOwner( type );
+					if ( table instanceof UnionTable ) {
+						unionedTables[0]++;
+					}
+				}
+			} );
+			message = "polymorphic queries and associations select from a union of " + unionedTables[0] + " tables";
+		}
+		findings.add( new PerformanceFinding( PerformanceRule.UNION_SUBCLASS_HIERARCHY, root.getClassDetails(), null, message ) );
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// EAGER_TO_ONE_CHAIN
+
+	private void checkEagerChains(EntityHierarchy hierarchy) {
+		final List<EagerAssociation> chain = findEagerChain( hierarchy, new HashSet<>(), eagerChainThreshold );
+		if ( chain.size() < eagerChainThreshold ) {
+			return;
+		}
+
+		final List<String> path = new ArrayList<>( chain.size() );
+		chain.forEach( (association) -> path.add( association.toString() ) );
+		final EagerAssociation first = chain.get( 0 );
+		findings.add( new PerformanceFinding(
+				PerformanceRule.EAGER_TO_ONE_CHAIN,
+				first.declaringType,
+				first.attribute.getMember(),
+				"chain of " + chain.size() + " EAGER to-one associations : " + String.join( " -> ", path )
+		) );
+	}
+
+	/**
+	 * Depth-first search for a chain of (at most) {@code length} EAGER associations starting at the
+	 * given hierarchy.  The search is bounded by {@code length} and stops as soon as such a chain is
+	 * found; otherwise the longest (shorter) chain is returned.
+	 */
+	private List<EagerAssociation> findEagerChain(EntityHierarchy hierarchy, Set<EntityHierarchy> path, int length) {
+		path.add( hierarchy );
+		List<EagerAssociation> longest = List.of();
+		for ( EagerAssociation association : getEagerAssociations( hierarchy ) ) {
+			if ( path.contains( association.target ) ) {
+				// a cycle
+				continue;
+			}
+			final List<EagerAssociation> rest = length > 1
+					? findEagerChain( association.target, path, length - 1 )
+					: List.of();
+			if ( rest.size() + 1 > longest.size() ) {
+				final List<EagerAssociation> chain = new ArrayList<>( rest.size() + 1 );
+				chain.add( association );
+				chain.addAll( rest );
+				longest = chain;
+				if ( longest.size() >= length ) {
+					// long enough to be reported - no need to look further
+					break;
+				}
+			}
+		}
+		path.remove( hierarchy );
+		return longest;
+	}
+
+	private List<EagerAssociation> getEagerAssociations(EntityHierarchy hierarchy) {
+		return eagerAssociations.computeIfAbsent( hierarchy, (h) -> {
+			final List<EagerAssociation> associations = new ArrayList<>();
+			h.forEachType( (type, superType, hier, relation) -> type.forEachAttribute( (index, attribute) -> {
+				if ( attribute.getNature() != AttributeMetadata.AttributeNature.TO_ONE || !isEager( attribute.getMember() ) ) {
+					return;
+				}
+				final EntityHierarchy target = findTargetHierarchy( attribute );
+				if ( target != null ) {
+					associations.add( new EagerAssociation( type.getClassDetails(), attribute, target ) );
+				}
+			} ) );
+			return associations;
+		} );
+	}
+
+	private static boolean isEager(MemberDetails member) {
+		AnnotationUsage<?> association = member.getAnnotationUsage( JpaAnnotations.MANY_TO_ONE );
+		if ( association == null ) {
+			association = member.getAnnotationUsage( JpaAnnotations.ONE_TO_ONE );
+		}
+		if ( association == null ) {
+			return false;
+		}
+		// EAGER is the JPA default for to-one associations
+		final FetchType fetchType = association.getAttributeValue( "fetch" );
+		return fetchType != FetchType.LAZY;
+	}
+
+	private EntityHierarchy findTargetHierarchy(AttributeMetadata attribute) {
+		final ClassDetails target = AttributeTargetHelper.determineTarget(
+				attribute.getMember(),
+				attribute.getNature(),
+				false,
+				categorizedDomainModel.getClassDetailsRegistry()
+		);
+		return target == null ? null : hierarchiesByType.get( target.getName() );
+	}
+
+	private record EagerAssociation(ClassDetails declaringType, AttributeMetadata attribute, EntityHierarchy target) {
+		@Override
+		public String toString() {
+			return StringHelper.unqualify( declaringType.getName() ) + "." + attribute.getName();
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// UNINDEXED_FOREIGN_KEY
+
+	private void checkForeignKeyIndex(EntityHierarchy hierarchy, IdentifiableTypeMetadata type, AttributeMetadata attribute) {
+		final MemberDetails member = attribute.getMember();
+		if ( member.getAnnotationUsage( Id.class ) != null
+				|| member.getAnnotationUsage( MapsId.class ) != null
+				|| member.getAnnotationUsage( JoinTable.class ) != null ) {
+			// part of the primary key, or mapped through a join table
+			return;
+		}
+
+		final List<AnnotationUsage<JoinColumn>> joinColumns = member.getRepeatedAnnotationUsages( JoinColumn.class );
+		final String columnName;
+		if ( joinColumns.isEmpty() || StringHelper.isEmpty( joinColumns.get( 0 ).getString( "name" ) ) ) {
+			columnName = determineImplicitJoinColumnName( type, attribute );
+			if ( columnName == null ) {
+				return;
+			}
+		}
+		else {
+			if ( joinColumns.size() == 1 && joinColumns.get( 0 ).getBoolean( "unique" ) ) {
+				return;
+			}
+			columnName = joinColumns.get( 0 ).getString( "name" );
+		}
+
+		if ( isIndexed( columnName, determineTableOwner( hierarchy, type ) ) ) {
+			return;
+		}
+
+		findings.add( new PerformanceFinding(
+				PerformanceRule.UNINDEXED_FOREIGN_KEY,
+				type.getClassDetails(),
+				member,
+				"join column `" + columnName + "` is not the leading column of any index"
+		) );
+	}
+
+	/**
+	 * The JPA implicit join column name - the attribute name, an underscore and the referenced
+	 * (single) primary key column
+	 */
+	private String determineImplicitJoinColumnName(IdentifiableTypeMetadata type, AttributeMetadata attribute) {
+		final EntityHierarchy target = findTargetHierarchy( attribute );
+		if ( target == null || !( target.getIdMapping() instanceof BasicKeyMapping idMapping ) ) {
+			return null;
+		}
+
+		final AnnotationUsage<Column> idColumn = idMapping.getAttribute().getMember().getAnnotationUsage( Column.class );
+		final String idColumnName = idColumn == null || StringHelper.isEmpty( idColumn.getString( "name" ) )
+				? idMapping.getAttributeName()
+				: idColumn.getString( "name" );
+		return attribute.getName() + "_" + idColumnName;
+	}
+
+	/**
+	 * The entity whose table holds the attribute's columns
+	 */
+	private static IdentifiableTypeMetadata determineTableOwner(EntityHierarchy hierarchy, IdentifiableTypeMetadata type) {
+		if ( hierarchy.getInheritanceType() != InheritanceType.SINGLE_TABLE && type instanceof EntityTypeMetadata ) {
+			return type;
+		}
+		return hierarchy.getRoot();
+	}
+
+	/**
+	 * Whether the column leads an index, unique key or primary key of the owner's table.  When the model is bound,
+	 * the bound table is checked first; the {@code @Table} annotation is always checked, as binding does not
+	 * (yet) create the indexes and unique keys it declares.
+	 */
+	private boolean isIndexed(String columnName, IdentifiableTypeMetadata tableOwner) {
+		final String column = normalize( columnName );
+		if ( bindingState != null ) {
+			final TableReference tableReference = bindingState.getTableByOwner( tableOwner );
+			if ( tableReference != null && isIndexed( column, tableReference.binding() ) ) {
+				return true;
+			}
+		}
+		return isIndexed( column, tableOwner.getClassDetails().getAnnotationUsage( Table.class ) );
+	}
+
+	private static boolean isIndexed(String column, org.hibernate.mapping.Table table) {
+		if ( table.getPrimaryKey() != null && isLeadingColumn( column, table.getPrimaryKey().getColumns() ) ) {
+			return true;
+		}
+		for ( org.hibernate.mapping.Index index : table.getIndexes().values() ) {
+			if ( isLeadingColumn( column, index.getColumns() ) ) {
+				return true;
+			}
+		}
+		for ( UniqueKey uniqueKey : table.getUniqueKeys().values() ) {
+			if ( isLeadingColumn( column, uniqueKey.getColumns() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isLeadingColumn(String column, List<org.hibernate.mapping.Column> columns) {
+		return !columns.isEmpty() && column.equals( normalize( columns.get( 0 ).getName() ) );
+	}
+
+	private static boolean isIndexed(String column, AnnotationUsage<Table> table) {
+		if ( table == null ) {
+			return false;
+		}
+
+		final List<AnnotationUsage<Index>> indexes = table.getList( "indexes" );
+		for ( AnnotationUsage<Index> index : indexes ) {
+			final String columnList = index.getString( "columnList" );
+			if ( StringHelper.isNotEmpty( columnList )
+					&& column.equals( normalize( leadingColumn( columnList ) ) ) ) {
+				return true;
+			}
+		}
+
+		final List<AnnotationUsage<UniqueConstraint>> uniqueConstraints = table.getList( "uniqueConstraints" );
+		for ( AnnotationUsage<UniqueConstraint> uniqueConstraint : uniqueConstraints ) {
+			final List<String> columnNames = uniqueConstraint.getList( "columnNames" );
+			if ( !columnNames.isEmpty() && column.equals( normalize( columnNames.get( 0 ) ) ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * The first column of an {@linkplain Index#columnList() index column list}, without any {@code ASC}/{@code DESC}
+	 */
+	private static String leadingColumn(String columnList) {
+		final String first = columnList.split( "," )[0].trim();
+		final int space = first.indexOf( ' ' );
+		return space < 0 ? first : first.substring( 0, space );
+	}
+
+	private static String normalize(String columnName) {
+		return columnName.trim().replace( "\"", "" ).replace( "`", "" ).toLowerCase( Locale.ROOT );
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// UNORDERED_ELEMENT_COLLECTION
+
+	private void checkElementCollectionOrdering(IdentifiableTypeMetadata type, AttributeMetadata attribute) {
+		final MemberDetails member = attribute.getMember();
+		final ClassDetails collectionType = member.getType();
+		if ( collectionType == null
+				|| !( List.class.getName().equals( collectionType.getName() )
+						|| java.util.Collection.class.getName().equals( collectionType.getName() ) ) ) {
+			return;
+		}
+		if ( member.getAnnotationUsage( OrderColumn.class ) != null
+				|| member.getAnnotationUsage( CollectionId.class ) != null ) {
+			return;
+		}
+
+		findings.add( new PerformanceFinding(
+				PerformanceRule.UNORDERED_ELEMENT_COLLECTION,
+				type.getClassDetails(),
+				member,
+				"element collection has bag semantics - every change deletes and re-inserts all of its rows; consider @OrderColumn or a Set"
+		) );
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// UNCACHED_COLLECTION
+
+	private void checkCollectionCaching(EntityHierarchy hierarchy, IdentifiableTypeMetadata type, AttributeMetadata attribute) {
+		final boolean cacheable = type instanceof EntityTypeMetadata entityType
+				? entityType.isCacheable()
+				: hierarchy.getRoot().isCacheable();
+		if ( !cacheable || attribute.getMember().getAnnotationUsage( Cache.class ) != null ) {
+			return;
+		}
+
+		findings.add( new PerformanceFinding(
+				PerformanceRule.UNCACHED_COLLECTION,
+				type.getClassDetails(),
+				attribute.getMember(),
+				"collection of a cacheable entity is not cached"
+		) );
+	}
+}
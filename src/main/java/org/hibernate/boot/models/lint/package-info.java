@@ -0,0 +1,16 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Static detection of mapping patterns which hurt runtime performance, over the
+ * {@linkplain org.hibernate.boot.models.categorize.spi.CategorizedDomainModel categorized model}
+ * and, optionally, the {@linkplain org.hibernate.boot.models.bind.spi.BindingState bound model}.
+ *
+ * @see org.hibernate.boot.models.lint.spi.PerformanceLint
+ * @see org.hibernate.boot.models.lint.spi.PerformanceRule
+ */
+package org.hibernate.boot.models.lint;
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.lint.spi;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+
+/**
+ * A mapping pattern detected by {@linkplain PerformanceLint}
+ */
+public final class PerformanceFinding {
+	/**
+	 * How much a finding is expected to hurt
+	 */
+	public enum Severity {
+		/**
+		 * Worth a look, may well be intended
+		 */
+		INFO,
+		/**
+		 * Likely to hurt performance
+		 */
+		WARNING
+	}
+
+	private final PerformanceRule rule;
+	private final ClassDetails managedType;
+	private final MemberDetails member;
+	private final String message;
+
+	public PerformanceFinding(PerformanceRule rule, ClassDetails managedType, MemberDetails member, String message) {
+		this.rule = rule;
+		this.managedType = managedType;
+		this.member = member;
+		this.message = message;
+	}
+
+	public PerformanceRule getRule() {
+		return rule;
+	}
+
+	public Severity getSeverity() {
+		return rule.getSeverity();
+	}
+
+	/**
+	 * The managed type where the pattern was found
+	 */
+	public ClassDetails getManagedType() {
+		return managedType;
+	}
+
+	/**
+	 * The offending member, or {@code null} if the finding applies to the {@linkplain #getManagedType() type}
+	 */
+	public MemberDetails getMember() {
+		return member;
+	}
+
+	/**
+	 * The location of the finding - the type's class name, followed by {@code #} and the
+	 * member name if one
+	 */
+	public String getLocation() {
+		return member == null
+				? managedType.getName()
+				: managedType.getName() + "#" + member.getName();
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + getSeverity() + "] " + rule + " " + getLocation() + " : " + message;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.lint.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.models.bind.spi.BindingState;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.lint.internal.PerformanceLintAnalyzer;
+import org.hibernate.models.ModelsException;
+
+/**
+ * Static detection of mapping patterns which hurt runtime performance.  See {@linkplain PerformanceRule}
+ * for the patterns detected.
+ * <p/>
+ * Usable at boot-time, from tests or from the build (see {@linkplain PerformanceLintTool}).
+ */
+public class PerformanceLint {
+	/**
+	 * The default for {@linkplain #getEagerChainThreshold()}
+	 */
+	public static final int DEFAULT_EAGER_CHAIN_THRESHOLD = 3;
+
+	private final int eagerChainThreshold;
+
+	public PerformanceLint() {
+		this( DEFAULT_EAGER_CHAIN_THRESHOLD );
+	}
+
+	public PerformanceLint(int eagerChainThreshold) {
+		if ( eagerChainThreshold < 2 ) {
+			throw new ModelsException( "Invalid EAGER chain threshold - " + eagerChainThreshold );
+		}
+		this.eagerChainThreshold = eagerChainThreshold;
+	}
+
+	/**
+	 * The depth from which chains of EAGER to-one associations are {@linkplain PerformanceRule#EAGER_TO_ONE_CHAIN reported}
+	 */
+	public int getEagerChainThreshold() {
+		return eagerChainThreshold;
+	}
+
+	/**
+	 * Analyze the categorized model
+	 */
+	public List<PerformanceFinding> lint(CategorizedDomainModel categorizedDomainModel) {
+		return lint( categorizedDomainModel, null );
+	}
+
+	/**
+	 * Analyze the categorized model along with its bound form, if one
+	 *
+	 * @param categorizedDomainModel The categorized model
+	 * @param bindingState The state of binding the {@code categorizedDomainModel}; may be {@code null}
+	 */
+	public List<PerformanceFinding> lint(CategorizedDomainModel categorizedDomainModel, BindingState bindingState) {
+		return new PerformanceLintAnalyzer( categorizedDomainModel, bindingState, eagerChainThreshold ).analyze();
+	}
+
+	/**
+	 * Verify there are no findings with the given severity (or worse)
+	 *
+	 * @throws ModelsException Listing the offending findings, if any
+	 */
+	public static void verify(List<PerformanceFinding> findings, PerformanceFinding.Severity failOn) {
+		final List<String> failures = new ArrayList<>();
+		for ( PerformanceFinding finding : findings ) {
+			if ( finding.getSeverity().compareTo( failOn ) >= 0 ) {
+				failures.add( finding.toString() );
+			}
+		}
+		if ( !failures.isEmpty() ) {
+			throw new ModelsException( "Performance lint findings:\n\t" + String.join( "\n\t", failures ) );
+		}
+	}
+}
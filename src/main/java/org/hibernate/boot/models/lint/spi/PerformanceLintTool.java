@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.lint.spi;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.InFlightMetadataCollectorImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.internal.MetadataBuildingContextRootImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.model.process.spi.MetadataBuildingProcess;
+import org.hibernate.boot.models.bind.internal.BindingContextImpl;
+import org.hibernate.boot.models.bind.internal.BindingOptionsImpl;
+import org.hibernate.boot.models.bind.internal.BindingStateImpl;
+import org.hibernate.boot.models.bind.spi.BindingCoordinator;
+import org.hibernate.boot.models.bind.spi.BindingState;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.ModelsException;
+
+/**
+ * Command-line entry point for {@linkplain PerformanceLint}, used by the {@code performanceLint}
+ * Gradle task.  Categorizes and binds the given classes and mappings, prints the findings and fails
+ * if any is at least as severe as requested.
+ * <p/>
+ * Arguments -<ul>
+ *     <li>{@code --mapping=<resource>} - an XML mapping to include; may be repeated</li>
+ *     <li>{@code --fail-on=<INFO|WARNING|NONE>} - the severity which fails the run; default is {@code NONE}</li>
+ *     <li>{@code --eager-chain-threshold=<n>} - see {@linkplain PerformanceLint#getEagerChainThreshold()}</li>
+ *     <li>anything else is a (comma-separated list of) managed class names</li>
+ * </ul>
+ */
+public class PerformanceLintTool {
+	public static void main(String[] args) {
+		final PerformanceFinding.Severity failOn = run( args );
+		if ( failOn != null ) {
+			System.exit( 1 );
+		}
+	}
+
+	/**
+	 * Run the lint
+	 *
+	 * @return The requested fail-on severity if findings of that severity (or worse) were found; {@code null} otherwise
+	 */
+	public static PerformanceFinding.Severity run(String[] args) {
+		PerformanceFinding.Severity failOn = null;
+		int eagerChainThreshold = PerformanceLint.DEFAULT_EAGER_CHAIN_THRESHOLD;
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+			for ( String arg : args ) {
+				if ( arg.startsWith( "--mapping=" ) ) {
+					metadataSources.addResource( arg.substring( "--mapping=".length() ) );
+				}
+				else if ( arg.startsWith( "--fail-on=" ) ) {
+					final String severity = arg.substring( "--fail-on=".length() ).toUpperCase( Locale.ROOT );
+					failOn = "NONE".equals( severity ) ? null : PerformanceFinding.Severity.valueOf( severity );
+				}
+				else if ( arg.startsWith( "--eager-chain-threshold=" ) ) {
+					eagerChainThreshold = Integer.parseInt( arg.substring( "--eager-chain-threshold=".length() ) );
+				}
+				else {
+					for ( String className : arg.split( "," ) ) {
+						if ( !className.isBlank() ) {
+							metadataSources.addAnnotatedClassName( className.trim() );
+						}
+					}
+				}
+			}
+
+			final List<PerformanceFinding> findings = lint( metadataSources, serviceRegistry, new PerformanceLint( eagerChainThreshold ) );
+			findings.forEach( System.out::println );
+			System.out.println( "Performance lint : " + findings.size() + " finding(s)" );
+
+			if ( failOn != null ) {
+				try {
+					PerformanceLint.verify( findings, failOn );
+				}
+				catch (ModelsException e) {
+					return failOn;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Categorize and bind the given sources and {@linkplain PerformanceLint#lint(CategorizedDomainModel, BindingState) lint} the result
+	 */
+	public static List<PerformanceFinding> lint(
+			MetadataSources metadataSources,
+			StandardServiceRegistry serviceRegistry,
+			PerformanceLint performanceLint) {
+		final MetadataBuilderImpl.MetadataBuildingOptionsImpl metadataBuildingOptions = new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry );
+		final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry, metadataBuildingOptions );
+		metadataBuildingOptions.setBootstrapContext( bootstrapContext );
+
+		final ManagedResources managedResources = MetadataBuildingProcess.prepare( metadataSources, bootstrapContext );
+		final CategorizedDomainModel categorizedDomainModel = ManagedResourcesProcessor.processManagedResources(
+				managedResources,
+				bootstrapContext
+		);
+
+		final InFlightMetadataCollectorImpl metadataCollector = new InFlightMetadataCollectorImpl(
+				bootstrapContext,
+				metadataBuildingOptions
+		);
+		final MetadataBuildingContextRootImpl metadataBuildingContext = new MetadataBuildingContextRootImpl(
+				"models",
+				bootstrapContext,
+				metadataBuildingOptions,
+				metadataCollector
+		);
+		final BindingStateImpl bindingState = new BindingStateImpl( metadataBuildingContext );
+		BindingCoordinator.coordinateBinding(
+				categorizedDomainModel,
+				bindingState,
+				new BindingOptionsImpl( metadataBuildingContext ),
+				new BindingContextImpl( categorizedDomainModel, bootstrapContext )
+		);
+
+		return performanceLint.lint( categorizedDomainModel, bindingState );
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.lint.spi;
+
+/**
+ * The mapping patterns detected by {@linkplain PerformanceLint}
+ */
+public enum PerformanceRule {
+	/**
+	 * A chain of EAGER to-one associations (the JPA default for {@code @ManyToOne} and {@code @OneToOne})
+	 * at least {@linkplain PerformanceLint#getEagerChainThreshold() so} deep - loading the first entity
+	 * loads the entire chain.
+	 */
+	EAGER_TO_ONE_CHAIN( PerformanceFinding.Severity.WARNING ),
+
+	/**
+	 * A {@code @ManyToOne} whose join column is not the leading column of any index or unique constraint
+	 * of the owner's table - joins and deletes of the target scan the owner's table.
+	 */
+	UNINDEXED_FOREIGN_KEY( PerformanceFinding.Severity.WARNING ),
+
+	/**
+	 * An {@code @ElementCollection} with bag semantics ({@code List} or {@code Collection} without
+	 * {@code @OrderColumn}) - every change deletes and re-inserts all of its rows.
+	 */
+	UNORDERED_ELEMENT_COLLECTION( PerformanceFinding.Severity.WARNING ),
+
+	/**
+	 * A plural attribute of a cacheable entity without {@code @Cache} - the entity is served from the
+	 * second-level cache but accessing the collection still hits the database.
+	 */
+	UNCACHED_COLLECTION( PerformanceFinding.Severity.INFO ),
+
+	/**
+	 * A {@code TABLE_PER_CLASS} hierarchy with subtypes - polymorphic queries and associations
+	 * against the hierarchy select from a union of all its tables.
+	 */
+	UNION_SUBCLASS_HIERARCHY( PerformanceFinding.Severity.WARNING );
+
+	private final PerformanceFinding.Severity severity;
+
+	PerformanceRule(PerformanceFinding.Severity severity) {
+		this.severity = severity;
+	}
+
+	/**
+	 * The severity of findings for this rule
+	 */
+	public PerformanceFinding.Severity getSeverity() {
+		return severity;
+	}
+}
@@ -0,0 +1,15 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Attribution of boot-time cost - time and allocations - to the entity hierarchies and
+ * managed types which incur it, across categorization and binding.
+ *
+ * @see org.hibernate.boot.models.profile.spi.BootCostProfile
+ * @see org.hibernate.boot.models.ModelsSettings#PROFILE_BOOT_COST
+ */
+package org.hibernate.boot.models.profile;
@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.profile.spi;
+
+/**
+ * The per-type phases of boot whose cost is {@linkplain BootCostProfile profiled}
+ */
+public enum BootCostPhase {
+	/**
+	 * Resolving the persistent attributes of the type, as part of building its
+	 * {@linkplain org.hibernate.boot.models.categorize.spi.EntityHierarchy hierarchy}
+	 */
+	CATEGORIZATION( false ),
+
+	/**
+	 * Creating the type's binder, which binds the type itself along with its attributes and tables
+	 */
+	TYPE_BINDING( false ),
+
+	/**
+	 * Binding the type's attributes.  Part of {@linkplain #TYPE_BINDING}.
+	 */
+	ATTRIBUTE_BINDING( true ),
+
+	/**
+	 * Processing the second passes of the type's binder
+	 */
+	SECOND_PASSES( false );
+
+	private final boolean nested;
+
+	BootCostPhase(boolean nested) {
+		this.nested = nested;
+	}
+
+	/**
+	 * Whether the cost of this phase is already part of another phase, and so
+	 * not counted again in the totals
+	 */
+	public boolean isNested() {
+		return nested;
+	}
+}
@@ -0,0 +1,366 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.profile.spi;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.models.ModelsException;
+
+/**
+ * Attributes the time and allocations of boot to the entity hierarchies and managed types
+ * incurring them - building each {@linkplain EntityHierarchy hierarchy} and resolving the attributes
+ * of its types during categorization, and the {@linkplain BootCostPhase binding phases} of each type -
+ * to tell which mappings are expensive.
+ * <p/>
+ * Costs are measured on the thread doing the work; allocations are only measured when the JVM
+ * {@linkplain #isAllocationTrackingSupported() supports} per-thread allocation counters.  A type
+ * shared by multiple hierarchies (a mapped-superclass) is attributed to the first of them.
+ * <p/>
+ * Thread-safe, as categorization and binding may {@linkplain org.hibernate.boot.models.bind.spi.BindingCoordinator#coordinatePipelinedBinding overlap}.
+ *
+ * @see ModelsSettings#PROFILE_BOOT_COST
+ */
+public class BootCostProfile {
+	/**
+	 * The default for {@linkplain #getReportSize()}
+	 */
+	public static final int DEFAULT_REPORT_SIZE = 10;
+
+	/**
+	 * Resolve the profile to use according to the {@linkplain ModelsSettings#PROFILE_BOOT_COST settings}.
+	 *
+	 * @return The profile, or {@code null} if profiling is not enabled
+	 */
+	public static BootCostProfile fromSettings(ConfigurationService configurationService) {
+		if ( !configurationService.getSetting( ModelsSettings.PROFILE_BOOT_COST, StandardConverters.BOOLEAN, false ) ) {
+			return null;
+		}
+		return new BootCostProfile( configurationService.getSetting(
+				ModelsSettings.BOOT_COST_REPORT_SIZE,
+				StandardConverters.INTEGER,
+				DEFAULT_REPORT_SIZE
+		) );
+	}
+
+	private final int reportSize;
+
+	private final Map<String, Accumulator> typeCosts = new ConcurrentHashMap<>();
+	private final Map<String, Accumulator> hierarchyCosts = new ConcurrentHashMap<>();
+	private final Map<String, String> hierarchyNames = new ConcurrentHashMap<>();
+
+	public BootCostProfile() {
+		this( DEFAULT_REPORT_SIZE );
+	}
+
+	public BootCostProfile(int reportSize) {
+		if ( reportSize < 1 ) {
+			throw new ModelsException( "Invalid boot cost report size - " + reportSize );
+		}
+		this.reportSize = reportSize;
+	}
+
+	/**
+	 * The number of types and hierarchies listed by {@linkplain #renderReport()}
+	 */
+	public int getReportSize() {
+		return reportSize;
+	}
+
+	/**
+	 * Whether allocations are measured, or only time
+	 */
+	public static boolean isAllocationTrackingSupported() {
+		return ThreadAllocation.THREAD_MX_BEAN != null;
+	}
+
+	/**
+	 * Mark the start of some work, to be {@linkplain #record recorded} once completed on the same thread
+	 */
+	public Mark start() {
+		return new Mark( System.nanoTime(), currentThreadAllocatedBytes() );
+	}
+
+	/**
+	 * Record the cost of the work {@linkplain #start() started} by {@code mark} for the given phase of the given type
+	 *
+	 * @param typeName The name of the managed type's class
+	 */
+	public void record(BootCostPhase phase, String typeName, Mark mark) {
+		final BootCost cost = mark.elapsed();
+		typeCosts.computeIfAbsent( typeName, (name) -> new Accumulator() ).add( phase, cost );
+	}
+
+	/**
+	 * Record the cost of building the given hierarchy, {@linkplain #start() started} by {@code mark},
+	 * which includes the {@linkplain BootCostPhase#CATEGORIZATION categorization} of its types.
+	 */
+	public void recordHierarchy(EntityHierarchy hierarchy, Mark mark) {
+		final BootCost cost = mark.elapsed();
+		final String hierarchyName = hierarchy.getRoot().getEntityName();
+		hierarchyCosts.computeIfAbsent( hierarchyName, (name) -> new Accumulator() ).add( BootCostPhase.CATEGORIZATION, cost );
+		hierarchy.forEachType( (type, superType, h, relation) -> hierarchyNames.putIfAbsent( type.getClassDetails().getName(), hierarchyName ) );
+	}
+
+	/**
+	 * The cost of each profiled type, most expensive first
+	 */
+	public List<TypeCost> getTypeCosts() {
+		final List<TypeCost> result = new ArrayList<>( typeCosts.size() );
+		typeCosts.forEach( (typeName, accumulator) -> result.add( new TypeCost(
+				typeName,
+				hierarchyNames.get( typeName ),
+				accumulator.snapshot()
+		) ) );
+		result.sort( Comparator.comparing( TypeCost::getTotal, BootCost.ORDER ).reversed() );
+		return result;
+	}
+
+	/**
+	 * The cost of each profiled hierarchy, most expensive first
+	 */
+	public List<HierarchyCost> getHierarchyCosts() {
+		final Map<String, List<TypeCost>> typesByHierarchy = new LinkedHashMap<>();
+		hierarchyCosts.keySet().forEach( (hierarchyName) -> typesByHierarchy.put( hierarchyName, new ArrayList<>() ) );
+		for ( TypeCost typeCost : getTypeCosts() ) {
+			if ( typeCost.hierarchyName() != null ) {
+				typesByHierarchy.computeIfAbsent( typeCost.hierarchyName(), (name) -> new ArrayList<>() ).add( typeCost );
+			}
+		}
+
+		final List<HierarchyCost> result = new ArrayList<>( typesByHierarchy.size() );
+		typesByHierarchy.forEach( (hierarchyName, types) -> {
+			final Accumulator accumulator = hierarchyCosts.get( hierarchyName );
+			final BootCost categorization = accumulator == null
+					? BootCost.NONE
+					: accumulator.snapshot().getOrDefault( BootCostPhase.CATEGORIZATION, BootCost.NONE );
+			result.add( new HierarchyCost( hierarchyName, categorization, types ) );
+		} );
+		result.sort( Comparator.comparing( HierarchyCost::getTotal, BootCost.ORDER ).reversed() );
+		return result;
+	}
+
+	/**
+	 * The {@code count} most expensive types
+	 */
+	public List<TypeCost> getMostExpensiveTypes(int count) {
+		final List<TypeCost> typeCosts = getTypeCosts();
+		return typeCosts.subList( 0, Math.min( count, typeCosts.size() ) );
+	}
+
+	/**
+	 * The {@code count} most expensive hierarchies
+	 */
+	public List<HierarchyCost> getMostExpensiveHierarchies(int count) {
+		final List<HierarchyCost> hierarchyCosts = getHierarchyCosts();
+		return hierarchyCosts.subList( 0, Math.min( count, hierarchyCosts.size() ) );
+	}
+
+	/**
+	 * Render the {@linkplain #getReportSize() top} types and hierarchies, for logging
+	 */
+	public String renderReport() {
+		final List<TypeCost> typeCosts = getTypeCosts();
+		final List<HierarchyCost> hierarchyCosts = getHierarchyCosts();
+
+		final StringBuilder buffer = new StringBuilder( "Boot cost profile" );
+		if ( !isAllocationTrackingSupported() ) {
+			buffer.append( " (allocations not measured)" );
+		}
+
+		buffer.append( System.lineSeparator() )
+				.append( "  Most expensive types (" )
+				.append( Math.min( reportSize, typeCosts.size() ) )
+				.append( " of " )
+				.append( typeCosts.size() )
+				.append( ")" );
+		for ( int i = 0; i < typeCosts.size() && i < reportSize; i++ ) {
+			final TypeCost typeCost = typeCosts.get( i );
+			buffer.append( System.lineSeparator() )
+					.append( "    " )
+					.append( typeCost.typeName() );
+			if ( typeCost.hierarchyName() != null ) {
+				buffer.append( " [" ).append( typeCost.hierarchyName() ).append( "]" );
+			}
+			buffer.append( " : " ).append( typeCost.getTotal() ).append( " (" );
+			boolean first = true;
+			for ( BootCostPhase phase : BootCostPhase.values() ) {
+				final BootCost cost = typeCost.phases().get( phase );
+				if ( cost != null ) {
+					if ( !first ) {
+						buffer.append( ", " );
+					}
+					buffer.append( phase.name().toLowerCase( Locale.ROOT ) ).append( " " ).append( cost );
+					first = false;
+				}
+			}
+			buffer.append( ")" );
+		}
+
+		buffer.append( System.lineSeparator() )
+				.append( "  Most expensive hierarchies (" )
+				.append( Math.min( reportSize, hierarchyCosts.size() ) )
+				.append( " of " )
+				.append( hierarchyCosts.size() )
+				.append( ")" );
+		for ( int i = 0; i < hierarchyCosts.size() && i < reportSize; i++ ) {
+			final HierarchyCost hierarchyCost = hierarchyCosts.get( i );
+			buffer.append( System.lineSeparator() )
+					.append( "    " )
+					.append( hierarchyCost.hierarchyName() )
+					.append( " : " )
+					.append( hierarchyCost.getTotal() )
+					.append( " (categorization " )
+					.append( hierarchyCost.categorization() )
+					.append( ", " )
+					.append( hierarchyCost.types().size() )
+					.append( " types)" );
+		}
+
+		return buffer.toString();
+	}
+
+	private static long currentThreadAllocatedBytes() {
+		final com.sun.management.ThreadMXBean threadMXBean = ThreadAllocation.THREAD_MX_BEAN;
+		return threadMXBean == null ? 0 : threadMXBean.getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * Holder for the thread MXBean, so that it is only resolved - and allocation tracking only enabled
+	 * for the JVM - once profiling is actually in use
+	 */
+	private static class ThreadAllocation {
+		private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+		private static com.sun.management.ThreadMXBean resolveThreadMXBean() {
+			try {
+				if ( ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+						&& threadMXBean.isThreadAllocatedMemorySupported() ) {
+					if ( !threadMXBean.isThreadAllocatedMemoryEnabled() ) {
+						threadMXBean.setThreadAllocatedMemoryEnabled( true );
+					}
+					return threadMXBean;
+				}
+			}
+			catch (LinkageError | UnsupportedOperationException | SecurityException ignore) {
+			}
+			return null;
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// results
+
+	/**
+	 * The start of some profiled work
+	 */
+	public record Mark(long nanos, long allocatedBytes) {
+		private BootCost elapsed() {
+			return new BootCost(
+					System.nanoTime() - nanos,
+					Math.max( 0, currentThreadAllocatedBytes() - allocatedBytes )
+			);
+		}
+	}
+
+	/**
+	 * Time and bytes allocated
+	 */
+	public record BootCost(long nanos, long allocatedBytes) {
+		public static final BootCost NONE = new BootCost( 0, 0 );
+
+		/**
+		 * Orders by time, then allocations
+		 */
+		public static final Comparator<BootCost> ORDER = Comparator.comparingLong( BootCost::nanos )
+				.thenComparingLong( BootCost::allocatedBytes );
+
+		public BootCost plus(BootCost other) {
+			return new BootCost( nanos + other.nanos, allocatedBytes + other.allocatedBytes );
+		}
+
+		@Override
+		public String toString() {
+			return String.format( Locale.ROOT, "%.3f ms / %d KB", nanos / 1_000_000d, allocatedBytes / 1024 );
+		}
+	}
+
+	/**
+	 * The cost of a managed type, per phase
+	 *
+	 * @param typeName The name of the type's class
+	 * @param hierarchyName The entity name of the root of the type's hierarchy, or {@code null} for embeddables
+	 */
+	public record TypeCost(String typeName, String hierarchyName, Map<BootCostPhase, BootCost> phases) {
+		public BootCost getCost(BootCostPhase phase) {
+			return phases.getOrDefault( phase, BootCost.NONE );
+		}
+
+		/**
+		 * The cost of all (non-{@linkplain BootCostPhase#isNested() nested}) phases
+		 */
+		public BootCost getTotal() {
+			BootCost total = BootCost.NONE;
+			for ( Map.Entry<BootCostPhase, BootCost> entry : phases.entrySet() ) {
+				if ( !entry.getKey().isNested() ) {
+					total = total.plus( entry.getValue() );
+				}
+			}
+			return total;
+		}
+	}
+
+	/**
+	 * The cost of an entity hierarchy
+	 *
+	 * @param hierarchyName The entity name of the hierarchy root
+	 * @param categorization The cost of building the hierarchy, including the categorization of its types
+	 * @param types The costs of the hierarchy's types, most expensive first
+	 */
+	public record HierarchyCost(String hierarchyName, BootCost categorization, List<TypeCost> types) {
+		/**
+		 * The cost of building the hierarchy along with the binding of all its types
+		 */
+		public BootCost getTotal() {
+			BootCost total = categorization;
+			for ( TypeCost type : types ) {
+				for ( Map.Entry<BootCostPhase, BootCost> entry : type.phases().entrySet() ) {
+					// type categorization is part of building the hierarchy
+					if ( !entry.getKey().isNested() && entry.getKey() != BootCostPhase.CATEGORIZATION ) {
+						total = total.plus( entry.getValue() );
+					}
+				}
+			}
+			return total;
+		}
+	}
+
+	private static class Accumulator {
+		private final EnumMap<BootCostPhase, BootCost> phases = new EnumMap<>( BootCostPhase.class );
+
+		private synchronized void add(BootCostPhase phase, BootCost cost) {
+			phases.merge( phase, cost, BootCost::plus );
+		}
+
+		private synchronized Map<BootCostPhase, BootCost> snapshot() {
+			return Collections.unmodifiableMap( new EnumMap<>( phases ) );
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.InFlightMetadataCollectorImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.internal.MetadataBuildingContextRootImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.bind.internal.BindingContextImpl;
+import org.hibernate.boot.models.bind.internal.BindingOptionsImpl;
+import org.hibernate.boot.models.bind.internal.BindingStateImpl;
+import org.hibernate.boot.models.bind.spi.BindingCoordinator;
+import org.hibernate.boot.models.categorize.internal.DomainModelCategorizationCollector;
+import org.hibernate.boot.models.categorize.internal.ModelCategorizationContextImpl;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.boot.models.categorize.xml.spi.XmlPreProcessingResult;
+import org.hibernate.boot.models.categorize.xml.spi.XmlPreProcessor;
+import org.hibernate.boot.models.categorize.xml.spi.XmlProcessingResult;
+import org.hibernate.boot.models.categorize.xml.spi.XmlProcessor;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.orm.bind.id.SimpleIdEntity;
+import org.hibernate.models.orm.bind.union.UnionRoot;
+import org.hibernate.models.orm.bind.union.UnionSub;
+import org.hibernate.models.orm.process.ManagedResourcesImpl;
+import org.hibernate.models.orm.process.Person;
+import org.hibernate.models.orm.process.Root;
+import org.hibernate.models.orm.process.Sub;
+import org.hibernate.models.orm.util.AllocationTracker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.boot.models.categorize.internal.EntityHierarchyBuilder.createEntityHierarchies;
+import static org.hibernate.models.orm.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+import static org.hibernate.models.orm.util.AllocationTracker.assertWithinBudget;
+import static org.hibernate.models.orm.util.AllocationTracker.measure;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks the bytes allocated by each boot phase against the per-entity budgets
+ * defined in {@value AllocationTracker#BUDGETS_RESOURCE}, using fixed fixture models.
+ * <p/>
+ * Each test measures a single phase - the work of the preceding phases is done as
+ * un-measured setup.  Run with {@value AllocationTracker#CALIBRATION_PROPERTY} to
+ * re-calibrate the budgets rather than check them.
+ */
+public class AllocationBudgetTests {
+	private static final int ITERATIONS = 5;
+
+	private static final String[] XML_FIXTURE = {
+			"mappings/complete/simple-complete.xml",
+			"mappings/dynamic/dynamic-simple.xml"
+	};
+	private static final int XML_FIXTURE_ENTITY_COUNT = 2;
+
+	private static final Class<?>[] CATEGORIZATION_FIXTURE = { Person.class, Root.class, Sub.class };
+
+	@BeforeEach
+	void checkSupport() {
+		assumeTrue( AllocationTracker.isSupported(), "Thread allocation measurement not supported" );
+	}
+
+	@Test
+	void testXmlPreProcessing() {
+		final ManagedResources managedResources = buildXmlManagedResources();
+		final long allocated = measure(
+				ITERATIONS,
+				() -> () -> XmlPreProcessor.preProcessXmlResources( managedResources )
+		);
+		assertWithinBudget( "xml-pre-processing", XML_FIXTURE_ENTITY_COUNT, allocated );
+	}
+
+	@Test
+	void testXmlProcessing() {
+		final ManagedResources managedResources = buildXmlManagedResources();
+		final long allocated = measure(
+				ITERATIONS,
+				() -> {
+					final XmlPreProcessingResult xmlPreProcessingResult = XmlPreProcessor.preProcessXmlResources( managedResources );
+					final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl(
+							SIMPLE_CLASS_LOADING,
+							null,
+							ManagedResourcesProcessor::preFillRegistriesLazily
+					);
+					final DomainModelCategorizationCollector collector = new DomainModelCategorizationCollector(
+							true,
+							buildingContext.getClassDetailsRegistry(),
+							buildingContext.getAnnotationDescriptorRegistry()
+					);
+					return () -> {
+						final XmlProcessingResult xmlProcessingResult = XmlProcessor.processXml(
+								xmlPreProcessingResult,
+								collector,
+								buildingContext
+						);
+						xmlProcessingResult.apply( xmlPreProcessingResult.getPersistenceUnitMetadata() );
+					};
+				}
+		);
+		assertWithinBudget( "xml-processing", XML_FIXTURE_ENTITY_COUNT, allocated );
+	}
+
+	@Test
+	void testCategorization() {
+		final long allocated = measure(
+				ITERATIONS,
+				() -> {
+					// building the registries (and with them any XML or Jandex handling) is not part of this phase
+					final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl(
+							SIMPLE_CLASS_LOADING,
+							null,
+							ManagedResourcesProcessor::preFillRegistriesLazily
+					);
+					final DomainModelCategorizationCollector collector = new DomainModelCategorizationCollector(
+							true,
+							buildingContext.getClassDetailsRegistry(),
+							buildingContext.getAnnotationDescriptorRegistry()
+					);
+					return () -> {
+						for ( Class<?> domainClass : CATEGORIZATION_FIXTURE ) {
+							collector.apply( buildingContext.getClassDetailsRegistry().resolveClassDetails( domainClass.getName() ) );
+						}
+						final ModelCategorizationContextImpl categorizationContext = new ModelCategorizationContextImpl(
+								buildingContext.getClassDetailsRegistry(),
+								buildingContext.getAnnotationDescriptorRegistry(),
+								collector.getGlobalRegistrations()
+						);
+						createEntityHierarchies( collector.getRootEntities(), (type) -> {}, categorizationContext );
+					};
+				}
+		);
+		assertWithinBudget( "categorization", CATEGORIZATION_FIXTURE.length, allocated );
+	}
+
+	@Test
+	void testBinding() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( SimpleIdEntity.class, UnionRoot.class, UnionSub.class )
+				.build();
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final MetadataBuilderImpl.MetadataBuildingOptionsImpl metadataBuildingOptions = new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry );
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry, metadataBuildingOptions );
+			metadataBuildingOptions.setBootstrapContext( bootstrapContext );
+
+			final long allocated = measure(
+					ITERATIONS,
+					() -> {
+						final CategorizedDomainModel categorizedDomainModel = ManagedResourcesProcessor.processManagedResources(
+								managedResources,
+								bootstrapContext
+						);
+						final InFlightMetadataCollectorImpl metadataCollector = new InFlightMetadataCollectorImpl(
+								bootstrapContext,
+								metadataBuildingOptions
+						);
+						final MetadataBuildingContextRootImpl metadataBuildingContext = new MetadataBuildingContextRootImpl(
+								"models",
+								bootstrapContext,
+								metadataBuildingOptions,
+								metadataCollector
+						);
+						final BindingStateImpl bindingState = new BindingStateImpl( metadataBuildingContext );
+						final BindingOptionsImpl bindingOptions = new BindingOptionsImpl( metadataBuildingContext );
+						final BindingContextImpl bindingContext = new BindingContextImpl( categorizedDomainModel, bootstrapContext );
+						return () -> BindingCoordinator.coordinateBinding(
+								categorizedDomainModel,
+								bindingState,
+								bindingOptions,
+								bindingContext
+						);
+					}
+			);
+			assertWithinBudget( "binding", 3, allocated );
+		}
+	}
+
+	private static ManagedResources buildXmlManagedResources() {
+		final ManagedResourcesImpl.Builder builder = new ManagedResourcesImpl.Builder();
+		for ( int i = 0; i < XML_FIXTURE.length; i++ ) {
+			builder.addXmlMappings( XML_FIXTURE[i] );
+		}
+		return builder.build();
+	}
+}
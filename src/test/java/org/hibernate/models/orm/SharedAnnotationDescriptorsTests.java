@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.boot.models.categorize.internal.SharedAnnotationDescriptors;
+import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.models.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Tests for {@linkplain SharedAnnotationDescriptors}
+ */
+public class SharedAnnotationDescriptorsTests {
+	@Test
+	void testSharedAcrossRegistries() {
+		final AnnotationDescriptorRegistry first = createRegistry();
+		final AnnotationDescriptorRegistry second = createRegistry();
+
+		final AnnotationDescriptor<Marker> descriptor = SharedAnnotationDescriptors.resolveDescriptor( Marker.class, first );
+		assertThat( SharedAnnotationDescriptors.resolveDescriptor( Marker.class, second ) ).isSameAs( descriptor );
+	}
+
+	@Test
+	void testRepeatableBuiltPerRegistry() {
+		final AnnotationDescriptorRegistry first = createRegistry();
+		final AnnotationDescriptorRegistry second = createRegistry();
+
+		final AnnotationDescriptor<Tag> firstDescriptor = SharedAnnotationDescriptors.resolveDescriptor( Tag.class, first );
+		final AnnotationDescriptor<Tag> secondDescriptor = SharedAnnotationDescriptors.resolveDescriptor( Tag.class, second );
+
+		// the container descriptors come from each registry, so the descriptors cannot be shared
+		assertThat( firstDescriptor.getRepeatableContainer() ).isSameAs( first.getDescriptor( Tags.class ) );
+		assertThat( secondDescriptor.getRepeatableContainer() ).isSameAs( second.getDescriptor( Tags.class ) );
+		assertThat( secondDescriptor ).isNotSameAs( firstDescriptor );
+
+		// but still shared with the registry it was built against
+		assertThat( SharedAnnotationDescriptors.resolveDescriptor( Tag.class, first ) ).isSameAs( firstDescriptor );
+	}
+
+	private static AnnotationDescriptorRegistry createRegistry() {
+		return new SourceModelBuildingContextImpl(
+				SIMPLE_CLASS_LOADING,
+				null,
+				ManagedResourcesProcessor::preFillRegistriesLazily
+		).getAnnotationDescriptorRegistry();
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Marker {
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Repeatable(Tags.class)
+	public @interface Tag {
+		String value();
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Tags {
+		Tag[] value();
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.models.orm.bind;
 
+import java.nio.file.Path;
 import java.util.Set;
 
 import org.hibernate.boot.MetadataSources;
@@ -21,6 +22,7 @@ import org.hibernate.boot.models.bind.internal.BindingContextImpl;
 import org.hibernate.boot.models.bind.internal.BindingOptionsImpl;
 import org.hibernate.boot.models.bind.internal.BindingStateImpl;
 import org.hibernate.boot.models.bind.spi.BindingCoordinator;
+import org.hibernate.boot.models.bind.spi.DeferredBinding;
 import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
 import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
@@ -71,6 +73,62 @@ public class BindingTestingHelper {
 				bindingContext
 		);
 
+		check.checkDomainModel( new DomainModelCheckContext() {
+			@Override
+			public InFlightMetadataCollectorImpl getMetadataCollector() {
+				return metadataCollector;
+			}
+
+			@Override
+			public BindingStateImpl getBindingState() {
+				return bindingState;
+			}
+
+			@Override
+			public BindingContextImpl getBindingContext() {
+				return bindingContext;
+			}
+
+			@Override
+			public CategorizedDomainModel getCategorizedDomainModel() {
+				return categorizedDomainModel;
+			}
+		} );
+	}
+
+	public static void checkPipelinedDomainModel(
+			DomainModelCheck check,
+			StandardServiceRegistry serviceRegistry,
+			Class<?>... domainClasses) {
+		final BootstrapContextImpl bootstrapContext = buildBootstrapContext(
+				serviceRegistry );
+		final ManagedResources managedResources = buildManagedResources(
+				domainClasses,
+				bootstrapContext
+		);
+
+		final InFlightMetadataCollectorImpl metadataCollector = new InFlightMetadataCollectorImpl(
+				bootstrapContext,
+				bootstrapContext.getMetadataBuildingOptions()
+		);
+
+		final MetadataBuildingContextRootImpl metadataBuildingContext = new MetadataBuildingContextRootImpl(
+				"models",
+				bootstrapContext,
+				bootstrapContext.getMetadataBuildingOptions(),
+				metadataCollector
+		);
+		final BindingStateImpl bindingState = new BindingStateImpl( metadataBuildingContext );
+		final BindingOptionsImpl bindingOptions = new BindingOptionsImpl( metadataBuildingContext );
+
+		BindingCoordinator.coordinatePipelinedBinding(
+				managedResources,
+				bootstrapContext,
+				bindingState,
+				bindingOptions,
+				1
+		);
+
 		check.checkDomainModel( new DomainModelCheckContext() {
 			@Override
 			public InFlightMetadataCollectorImpl getMetadataCollector() {
@@ -84,9 +142,133 @@ public class BindingTestingHelper {
 		} );
 	}
 
+	public static void checkDeferredDomainModel(
+			DeferredDomainModelCheck check,
+			StandardServiceRegistry serviceRegistry,
+			Class<?>... domainClasses) {
+		final BootstrapContextImpl bootstrapContext = buildBootstrapContext(
+				serviceRegistry );
+		final ManagedResources managedResources = buildManagedResources(
+				domainClasses,
+				bootstrapContext
+		);
+
+		final InFlightMetadataCollectorImpl metadataCollector = new InFlightMetadataCollectorImpl(
+				bootstrapContext,
+				bootstrapContext.getMetadataBuildingOptions()
+		);
+
+		final CategorizedDomainModel categorizedDomainModel = ManagedResourcesProcessor.processManagedResources(
+				managedResources,
+				bootstrapContext
+		);
+
+		final MetadataBuildingContextRootImpl metadataBuildingContext = new MetadataBuildingContextRootImpl(
+				"models",
+				bootstrapContext,
+				bootstrapContext.getMetadataBuildingOptions(),
+				metadataCollector
+		);
+		final BindingStateImpl bindingState = new BindingStateImpl( metadataBuildingContext );
+		final BindingOptionsImpl bindingOptions = new BindingOptionsImpl( metadataBuildingContext );
+		final BindingContextImpl bindingContext = new BindingContextImpl(
+				categorizedDomainModel,
+				bootstrapContext
+		);
+
+		final DeferredBinding deferredBinding = BindingCoordinator.coordinateDeferredBinding(
+				categorizedDomainModel,
+				bindingState,
+				bindingOptions,
+				bindingContext
+		);
+
+		check.checkDomainModel(
+				new DomainModelCheckContext() {
+					@Override
+					public InFlightMetadataCollectorImpl getMetadataCollector() {
+						return metadataCollector;
+					}
+
+					@Override
+					public BindingStateImpl getBindingState() {
+						return bindingState;
+					}
+
+					@Override
+					public BindingContextImpl getBindingContext() {
+						return bindingContext;
+					}
+				},
+				deferredBinding
+		);
+	}
+
+	/**
+	 * Categorizes and binds - or restores from {@code snapshotFile} - using a new metadata collector
+	 */
+	public static void checkSnapshotDomainModel(
+			SnapshotDomainModelCheck check,
+			StandardServiceRegistry serviceRegistry,
+			Path snapshotFile,
+			Class<?>... domainClasses) {
+		final BootstrapContextImpl bootstrapContext = buildBootstrapContext(
+				serviceRegistry );
+		final ManagedResources managedResources = buildManagedResources(
+				domainClasses,
+				bootstrapContext
+		);
+
+		final InFlightMetadataCollectorImpl metadataCollector = new InFlightMetadataCollectorImpl(
+				bootstrapContext,
+				bootstrapContext.getMetadataBuildingOptions()
+		);
+
+		final MetadataBuildingContextRootImpl metadataBuildingContext = new MetadataBuildingContextRootImpl(
+				"models",
+				bootstrapContext,
+				bootstrapContext.getMetadataBuildingOptions(),
+				metadataCollector
+		);
+		final BindingStateImpl bindingState = new BindingStateImpl( metadataBuildingContext );
+		final BindingOptionsImpl bindingOptions = new BindingOptionsImpl( metadataBuildingContext );
+
+		final boolean restored = BindingCoordinator.coordinateSnapshotBinding(
+				managedResources,
+				bootstrapContext,
+				bindingState,
+				bindingOptions,
+				snapshotFile
+		);
+
+		check.checkDomainModel(
+				new DomainModelCheckContext() {
+					@Override
+					public InFlightMetadataCollectorImpl getMetadataCollector() {
+						return metadataCollector;
+					}
+
+					@Override
+					public BindingStateImpl getBindingState() {
+						return bindingState;
+					}
+				},
+				restored
+		);
+	}
+
 	public interface DomainModelCheckContext {
 		InFlightMetadataCollectorImpl getMetadataCollector();
 		BindingStateImpl getBindingState();
+
+		default BindingContextImpl getBindingContext() {
+			// not available with pipelined binding
+			throw new UnsupportedOperationException();
+		}
+
+		default CategorizedDomainModel getCategorizedDomainModel() {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@FunctionalInterface
@@ -94,6 +276,16 @@ public class BindingTestingHelper {
 		void checkDomainModel(DomainModelCheckContext context);
 	}
 
+	@FunctionalInterface
+	public interface DeferredDomainModelCheck {
+		void checkDomainModel(DomainModelCheckContext context, DeferredBinding deferredBinding);
+	}
+
+	@FunctionalInterface
+	public interface SnapshotDomainModelCheck {
+		void checkDomainModel(DomainModelCheckContext context, boolean restored);
+	}
+
 	private static BootstrapContextImpl buildBootstrapContext(StandardServiceRegistry serviceRegistry) {
 		final MetadataBuilderImpl.MetadataBuildingOptionsImpl metadataBuildingOptions = new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry );
 		final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry, metadataBuildingOptions );
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import java.lang.reflect.Proxy;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.models.bind.internal.CachingPhysicalNamingStrategy;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachingPhysicalNamingStrategyTests {
+	@Test
+	void testMemoization() {
+		final CountingNamingStrategy delegate = new CountingNamingStrategy();
+		final CachingPhysicalNamingStrategy strategy = new CachingPhysicalNamingStrategy( delegate, null );
+
+		for ( int i = 0; i < 1000; i++ ) {
+			assertThat( strategy.toPhysicalCatalogName( Identifier.toIdentifier( "my_catalog" ), null ).getText() ).isEqualTo( "MY_CATALOG" );
+			assertThat( strategy.toPhysicalSchemaName( Identifier.toIdentifier( "my_schema" ), null ).getText() ).isEqualTo( "MY_SCHEMA" );
+		}
+		assertThat( delegate.catalogCalls ).isEqualTo( 1 );
+		assertThat( delegate.schemaCalls ).isEqualTo( 1 );
+
+		// unquoted identifiers are equal regardless of case, but strategies may still treat them differently
+		strategy.toPhysicalSchemaName( Identifier.toIdentifier( "My_Schema" ), null );
+		// quoted and unquoted forms are distinct
+		strategy.toPhysicalSchemaName( Identifier.toIdentifier( "my_schema", true ), null );
+		assertThat( delegate.schemaCalls ).isEqualTo( 3 );
+
+		// nulls are passed through
+		assertThat( strategy.toPhysicalCatalogName( null, null ) ).isNull();
+		assertThat( delegate.catalogCalls ).isEqualTo( 2 );
+	}
+
+	@Test
+	void testTableNamesNotCached() {
+		final CountingNamingStrategy delegate = new CountingNamingStrategy();
+		final CachingPhysicalNamingStrategy strategy = new CachingPhysicalNamingStrategy( delegate, null );
+
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( strategy.toPhysicalTableName( Identifier.toIdentifier( "my_table" ), null ).getText() ).isEqualTo( "MY_TABLE" );
+		}
+		assertThat( delegate.tableCalls ).isEqualTo( 10 );
+	}
+
+	@Test
+	void testOtherJdbcEnvironment() {
+		final CountingNamingStrategy delegate = new CountingNamingStrategy();
+		final CachingPhysicalNamingStrategy strategy = new CachingPhysicalNamingStrategy( delegate, null );
+		final JdbcEnvironment otherEnvironment = (JdbcEnvironment) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class<?>[] { JdbcEnvironment.class },
+				(proxy, method, args) -> null
+		);
+
+		strategy.toPhysicalSchemaName( Identifier.toIdentifier( "my_schema" ), otherEnvironment );
+		strategy.toPhysicalSchemaName( Identifier.toIdentifier( "my_schema" ), otherEnvironment );
+		assertThat( delegate.schemaCalls ).isEqualTo( 2 );
+	}
+
+	private static class CountingNamingStrategy extends CustomNamingStrategy {
+		private int catalogCalls;
+		private int schemaCalls;
+		private int tableCalls;
+
+		@Override
+		public Identifier toPhysicalCatalogName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+			catalogCalls++;
+			return super.toPhysicalCatalogName( logicalName, jdbcEnvironment );
+		}
+
+		@Override
+		public Identifier toPhysicalSchemaName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+			schemaCalls++;
+			return super.toPhysicalSchemaName( logicalName, jdbcEnvironment );
+		}
+
+		@Override
+		public Identifier toPhysicalTableName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+			tableCalls++;
+			return super.toPhysicalTableName( logicalName, jdbcEnvironment );
+		}
+	}
+}
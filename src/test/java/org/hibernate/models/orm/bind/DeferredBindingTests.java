@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.RootClass;
+import org.hibernate.models.orm.bind.deferred.DependentEntity;
+import org.hibernate.models.orm.bind.deferred.TargetEntity;
+import org.hibernate.models.orm.bind.id.SimpleIdEntity;
+import org.hibernate.models.orm.bind.union.UnionRoot;
+import org.hibernate.models.orm.bind.union.UnionSub;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.bind.BindingTestingHelper.checkDeferredDomainModel;
+
+/**
+ * Tests for {@linkplain org.hibernate.boot.models.bind.spi.BindingCoordinator#coordinateDeferredBinding}
+ */
+public class DeferredBindingTests {
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testOnDemandBinding(ServiceRegistryScope scope) {
+		checkDeferredDomainModel(
+				(context, deferredBinding) -> {
+					final var metadataCollector = context.getMetadataCollector();
+
+					// nothing bound up front
+					assertThat( deferredBinding.getPendingCount() ).isEqualTo( 2 );
+					assertThat( metadataCollector.getEntityBinding( SimpleIdEntity.class.getName() ) ).isNull();
+					assertThat( deferredBinding.isKnownEntity( UnionSub.class.getName() ) ).isTrue();
+
+					// requesting an entity binds its hierarchy, and only its hierarchy
+					final PersistentClass subBinding = deferredBinding.resolveEntityBinding( UnionSub.class.getName() );
+					assertThat( subBinding ).isNotNull();
+					assertThat( subBinding.getRootClass() ).isSameAs( metadataCollector.getEntityBinding( UnionRoot.class.getName() ) );
+					assertThat( deferredBinding.isBound( UnionRoot.class.getName() ) ).isTrue();
+					assertThat( deferredBinding.isBound( SimpleIdEntity.class.getName() ) ).isFalse();
+					assertThat( metadataCollector.getEntityBinding( SimpleIdEntity.class.getName() ) ).isNull();
+					assertThat( deferredBinding.getPendingCount() ).isEqualTo( 1 );
+
+					// unknown names
+					assertThat( deferredBinding.resolveEntityBinding( "NotAnEntity" ) ).isNull();
+
+					// bind the rest
+					deferredBinding.bindRemainingInBackground().join();
+					assertThat( deferredBinding.getPendingCount() ).isEqualTo( 0 );
+					assertThat( metadataCollector.getEntityBinding( SimpleIdEntity.class.getName() ) ).isInstanceOf( RootClass.class );
+					assertThat( deferredBinding.resolveEntityBinding( SimpleIdEntity.class.getName() ) )
+							.isSameAs( metadataCollector.getEntityBinding( SimpleIdEntity.class.getName() ) );
+				},
+				scope.getRegistry(),
+				SimpleIdEntity.class,
+				UnionRoot.class,
+				UnionSub.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testDependentBoundBeforeTarget(ServiceRegistryScope scope) {
+		checkDeferredDomainModel(
+				(context, deferredBinding) -> {
+					final var metadataCollector = context.getMetadataCollector();
+
+					// the `note` column maps to the table of the (not yet bound) target - the target is bound
+					// as well so that the returned binding is complete
+					final PersistentClass dependentBinding = deferredBinding.resolveEntityBinding( DependentEntity.class.getName() );
+					assertThat( dependentBinding ).isNotNull();
+					final BasicValue noteValue = (BasicValue) dependentBinding.getProperty( "note" ).getValue();
+					assertThat( noteValue.getColumnSpan() ).isEqualTo( 1 );
+					assertThat( deferredBinding.isBound( TargetEntity.class.getName() ) ).isTrue();
+
+					final PersistentClass targetBinding = deferredBinding.resolveEntityBinding( TargetEntity.class.getName() );
+					assertThat( noteValue.getTable() ).isSameAs( targetBinding.getTable() );
+
+					deferredBinding.bindAll();
+					assertThat( deferredBinding.getPendingCount() ).isEqualTo( 0 );
+					assertThat( metadataCollector.getEntityBinding( DependentEntity.class.getName() ) ).isSameAs( dependentBinding );
+				},
+				scope.getRegistry(),
+				DependentEntity.class,
+				TargetEntity.class
+		);
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import org.hibernate.boot.models.bind.internal.FilterConditionTemplate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FilterConditionTemplateTests {
+	@Test
+	void testParsing() {
+		final FilterConditionTemplate template = FilterConditionTemplate.parse( "tenant_id = :tenant and (region = :region or region = :tenant)" );
+		assertThat( template.getParameterReferences() ).containsExactly( "tenant", "region", "tenant" );
+		assertThat( template.getParameterNames() ).containsExactly( "tenant", "region" );
+	}
+
+	@Test
+	void testNonParameters() {
+		// quoted literals and identifiers, and casts, are not parameters
+		final FilterConditionTemplate template = FilterConditionTemplate.parse(
+				"label = 'a:b' and \"odd:name\" = :name and code::text = 'it''s :not'"
+		);
+		assertThat( template.getParameterReferences() ).containsExactly( "name" );
+
+		final FilterConditionTemplate noParameters = FilterConditionTemplate.parse( "deleted = false" );
+		assertThat( noParameters.getParameterNames() ).isEmpty();
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.models.bind.spi.IdentifierInterner;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry
+public class IdentifierInternerTests {
+	@Test
+	void testInterning(ServiceRegistryScope scope) {
+		final IdentifierInterner interner = new IdentifierInterner(
+				scope.getRegistry().getService( JdbcEnvironment.class ).getIdentifierHelper()
+		);
+
+		final Identifier first = interner.toIdentifier( "my_table", false );
+		assertThat( interner.toIdentifier( "my_table", false ) ).isSameAs( first );
+
+		// quoted and unquoted forms are distinct
+		final Identifier quoted = interner.toIdentifier( "my_table", true );
+		assertThat( quoted ).isNotSameAs( first );
+		assertThat( quoted.isQuoted() ).isTrue();
+		assertThat( interner.toIdentifier( "my_table", true ) ).isSameAs( quoted );
+
+		// nulls are passed through
+		assertThat( interner.toIdentifier( null, false ) ).isNull();
+		assertThat( interner.toCanonicalName( null ) ).isNull();
+	}
+
+	@Test
+	void testCanonicalNames(ServiceRegistryScope scope) {
+		final IdentifierInterner interner = new IdentifierInterner(
+				scope.getRegistry().getService( JdbcEnvironment.class ).getIdentifierHelper()
+		);
+
+		assertThat( interner.toCanonicalName( "My_Table" ) ).isEqualTo( Identifier.toIdentifier( "My_Table" ).getCanonicalName() );
+		assertThat( interner.toCanonicalName( "My_Table" ) ).isSameAs( interner.toCanonicalName( "My_Table" ) );
+		assertThat( interner.toCanonicalName( "`My_Table`" ) ).isEqualTo( "My_Table" );
+
+		// registered identifiers resolve to their own canonical name, by their rendered form
+		final Identifier registered = Identifier.toIdentifier( "Other_Table", true );
+		interner.registerCanonicalName( registered );
+		assertThat( interner.toCanonicalName( registered.render() ) ).isSameAs( registered.getCanonicalName() );
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.models.ModelsException;
+import org.hibernate.mapping.RootClass;
+import org.hibernate.models.orm.bind.id.SimpleIdEntity;
+import org.hibernate.models.orm.bind.union.UnionRoot;
+import org.hibernate.models.orm.bind.union.UnionSub;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.orm.bind.BindingTestingHelper.checkPipelinedDomainModel;
+
+/**
+ * Tests for {@linkplain org.hibernate.boot.models.bind.spi.BindingCoordinator#coordinatePipelinedBinding}
+ */
+public class PipelinedBindingTests {
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testPipelinedBinding(ServiceRegistryScope scope) {
+		checkPipelinedDomainModel(
+				(context) -> {
+					final var metadataCollector = context.getMetadataCollector();
+
+					final PersistentClass simpleBinding = metadataCollector.getEntityBinding( SimpleIdEntity.class.getName() );
+					assertThat( simpleBinding ).isInstanceOf( RootClass.class );
+
+					final PersistentClass rootBinding = metadataCollector.getEntityBinding( UnionRoot.class.getName() );
+					final PersistentClass subBinding = metadataCollector.getEntityBinding( UnionSub.class.getName() );
+					assertThat( subBinding.getRootClass() ).isSameAs( rootBinding );
+				},
+				scope.getRegistry(),
+				SimpleIdEntity.class,
+				UnionRoot.class,
+				UnionSub.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry( settings = @Setting( name = ModelsSettings.APPLY_RECOMMENDED_BATCH_SIZES, value = "true" ) )
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testAppliedBatchSizesRejected(ServiceRegistryScope scope) {
+		assertThatThrownBy( () -> checkPipelinedDomainModel(
+				(context) -> {},
+				scope.getRegistry(),
+				SimpleIdEntity.class
+		) )
+				.isInstanceOf( ModelsException.class )
+				.hasMessageContaining( ModelsSettings.APPLY_RECOMMENDED_BATCH_SIZES );
+	}
+
+	@Test
+	@ServiceRegistry( settings = @Setting( name = ModelsSettings.LAZY_CLASS_DETAILS, value = "true" ) )
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testLazyPipelinedBinding(ServiceRegistryScope scope) {
+		checkPipelinedDomainModel(
+				(context) -> {
+					final var metadataCollector = context.getMetadataCollector();
+					final PersistentClass rootBinding = metadataCollector.getEntityBinding( UnionRoot.class.getName() );
+					final PersistentClass subBinding = metadataCollector.getEntityBinding( UnionSub.class.getName() );
+					assertThat( subBinding.getRootClass() ).isSameAs( rootBinding );
+				},
+				scope.getRegistry(),
+				UnionRoot.class,
+				UnionSub.class
+		);
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.batch;
+
+import org.hibernate.mapping.PersistentClass;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.bind.BindingTestingHelper.checkDomainModel;
+
+/**
+ * Entity batch sizes should reach the {@linkplain PersistentClass#getBatchSize() bound model}
+ */
+public class BatchSizeBindingTests {
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testExplicitBatchSizes(ServiceRegistryScope scope) {
+		checkDomainModel(
+				(context) -> {
+					final var metadataCollector = context.getMetadataCollector();
+					final PersistentClass root = metadataCollector.getEntityBinding( BatchedRoot.class.getName() );
+					final PersistentClass batchedSub = metadataCollector.getEntityBinding( BatchedSub.class.getName() );
+					final PersistentClass unbatchedSub = metadataCollector.getEntityBinding( UnbatchedSub.class.getName() );
+
+					assertThat( root.getBatchSize() ).isEqualTo( 20 );
+					assertThat( batchedSub.getBatchSize() ).isEqualTo( 40 );
+					// @BatchSize is not inherited
+					assertThat( unbatchedSub.getBatchSize() ).isEqualTo( -1 );
+				},
+				scope.getRegistry(),
+				BatchedRoot.class,
+				BatchedSub.class,
+				UnbatchedSub.class
+		);
+	}
+}
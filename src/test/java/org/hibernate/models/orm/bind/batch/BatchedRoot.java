@@ -0,0 +1,20 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.batch;
+
+import org.hibernate.annotations.BatchSize;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Entity
+@BatchSize( size = 20 )
+public class BatchedRoot {
+	@Id
+	private Integer id;
+	private String name;
+}
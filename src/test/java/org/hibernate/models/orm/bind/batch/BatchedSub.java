@@ -0,0 +1,17 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.batch;
+
+import org.hibernate.annotations.BatchSize;
+
+import jakarta.persistence.Entity;
+
+@Entity
+@BatchSize( size = 40 )
+public class BatchedSub extends BatchedRoot {
+	private String subData;
+}
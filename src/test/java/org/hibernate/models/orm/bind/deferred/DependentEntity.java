@@ -0,0 +1,24 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.deferred;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Maps a column to the table of {@linkplain TargetEntity}, and so depends on it being bound
+ */
+@Entity
+@Table(name = "dependents")
+public class DependentEntity {
+	@Id
+	private Integer id;
+	@Column(table = "targets")
+	private String note;
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.descriptor;
+
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.StringJavaType;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Entity
+public class DescriptorEntity {
+	@Id
+	private Integer id;
+
+	@JavaType(StringJavaType.class)
+	private String name1;
+
+	@JavaType(StringJavaType.class)
+	private String name2;
+
+	@Mutability(TrackingMutabilityPlan.class)
+	private String tracked1;
+
+	@Mutability(TrackingMutabilityPlan.class)
+	private String tracked2;
+}
@@ -0,0 +1,69 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.descriptor;
+
+import org.hibernate.boot.models.bind.internal.binders.DescriptorInstances;
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.type.descriptor.java.StringJavaType;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.bind.BindingTestingHelper.checkDomainModel;
+
+/**
+ * Stateless descriptor classes named by {@code @JavaType}, {@code @JdbcType} and {@code @Mutability}
+ * should be instantiated once per persistence-unit, while those with mutable state are not shared
+ */
+public class DescriptorInstanceTests {
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testSharedJavaTypeInstances(ServiceRegistryScope scope) {
+		checkDomainModel(
+				(context) -> {
+					final PersistentClass entityBinding = context.getMetadataCollector().getEntityBinding( DescriptorEntity.class.getName() );
+					final BasicValue name1Value = (BasicValue) entityBinding.getProperty( "name1" ).getValue();
+					final BasicValue name2Value = (BasicValue) entityBinding.getProperty( "name2" ).getValue();
+
+					final var name1JavaType = name1Value.resolve().getDomainJavaType();
+					final var name2JavaType = name2Value.resolve().getDomainJavaType();
+					assertThat( name1JavaType ).isInstanceOf( StringJavaType.class );
+					assertThat( name2JavaType ).isSameAs( name1JavaType );
+				},
+				scope.getRegistry(),
+				DescriptorEntity.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testStatefulDescriptorsNotShared(ServiceRegistryScope scope) {
+		assertThat( DescriptorInstances.isShareable( StringJavaType.class ) ).isTrue();
+		assertThat( DescriptorInstances.isShareable( TrackingMutabilityPlan.class ) ).isFalse();
+
+		checkDomainModel(
+				(context) -> {
+					final PersistentClass entityBinding = context.getMetadataCollector().getEntityBinding( DescriptorEntity.class.getName() );
+					final BasicValue tracked1Value = (BasicValue) entityBinding.getProperty( "tracked1" ).getValue();
+					final BasicValue tracked2Value = (BasicValue) entityBinding.getProperty( "tracked2" ).getValue();
+
+					final var tracked1Plan = tracked1Value.resolve().getMutabilityPlan();
+					final var tracked2Plan = tracked2Value.resolve().getMutabilityPlan();
+					assertThat( tracked1Plan ).isInstanceOf( TrackingMutabilityPlan.class );
+					assertThat( tracked2Plan ).isInstanceOf( TrackingMutabilityPlan.class );
+					assertThat( tracked2Plan ).isNotSameAs( tracked1Plan );
+				},
+				scope.getRegistry(),
+				DescriptorEntity.class
+		);
+	}
+}
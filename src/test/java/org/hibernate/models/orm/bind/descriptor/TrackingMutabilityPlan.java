@@ -0,0 +1,26 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.descriptor;
+
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+
+/**
+ * A descriptor with mutable state, which therefore must not be shared
+ */
+public class TrackingMutabilityPlan extends ImmutableMutabilityPlan<String> {
+	private int copies;
+
+	@Override
+	public String deepCopy(String value) {
+		copies++;
+		return super.deepCopy( value );
+	}
+
+	public int getCopies() {
+		return copies;
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.id;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.TableGenerator;
+
+@Entity
+@SequenceGenerator( name = "legacy_gen", sequenceName = "legacy_seq", allocationSize = 1 )
+@SequenceGenerator( name = "defaulted_gen", sequenceName = "defaulted_seq" )
+@SequenceGenerator( name = "explicit_gen", sequenceName = "explicit_seq", initialValue = 10, allocationSize = 20 )
+@TableGenerator( name = "table_gen", table = "id_values", pkColumnValue = "generators", allocationSize = 1 )
+public class GeneratorEntity {
+	@Id
+	@GeneratedValue( generator = "legacy_gen" )
+	private Integer id;
+	private String name;
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.id;
+
+import java.util.Map;
+
+import org.hibernate.boot.model.IdentifierGeneratorDefinition;
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.bind.spi.AllocationSizePolicy;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.bind.BindingTestingHelper;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for binding of id generators and the {@linkplain AllocationSizePolicy allocation-size policy}
+ */
+public class IdGeneratorTests {
+	@Test
+	@ServiceRegistry
+	void testNoPolicy(ServiceRegistryScope scope) {
+		BindingTestingHelper.checkDomainModel(
+				(context) -> {
+					final var metadataCollector = context.getMetadataCollector();
+
+					final IdentifierGeneratorDefinition legacy = metadataCollector.getIdentifierGenerator( "legacy_gen" );
+					assertThat( legacy.getStrategy() ).isEqualTo( SequenceStyleGenerator.class.getName() );
+					assertThat( legacy.getParameters() )
+							.containsEntry( SequenceStyleGenerator.SEQUENCE_PARAM, "legacy_seq" )
+							.containsEntry( SequenceStyleGenerator.INITIAL_PARAM, "1" )
+							.containsEntry( SequenceStyleGenerator.INCREMENT_PARAM, "1" )
+							.doesNotContainKey( OptimizableGenerator.OPT_PARAM );
+
+					assertThat( metadataCollector.getIdentifierGenerator( "defaulted_gen" ).getParameters() )
+							.containsEntry( SequenceStyleGenerator.INCREMENT_PARAM, "50" );
+
+					final IdentifierGeneratorDefinition explicit = metadataCollector.getIdentifierGenerator( "explicit_gen" );
+					assertThat( explicit.getParameters() )
+							.containsEntry( SequenceStyleGenerator.INITIAL_PARAM, "10" )
+							.containsEntry( SequenceStyleGenerator.INCREMENT_PARAM, "20" );
+
+					final IdentifierGeneratorDefinition table = metadataCollector.getIdentifierGenerator( "table_gen" );
+					assertThat( table.getStrategy() ).isEqualTo( TableGenerator.class.getName() );
+					assertThat( table.getParameters() )
+							.containsEntry( TableGenerator.TABLE_PARAM, "id_values" )
+							.containsEntry( TableGenerator.SEGMENT_VALUE_PARAM, "generators" )
+							.containsEntry( TableGenerator.INITIAL_PARAM, "1" )
+							.containsEntry( TableGenerator.INCREMENT_PARAM, "1" );
+				},
+				scope.getRegistry(),
+				GeneratorEntity.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry( settings = {
+			@Setting( name = ModelsSettings.DEFAULT_ALLOCATION_SIZE, value = "100" ),
+			@Setting( name = ModelsSettings.MINIMUM_ALLOCATION_SIZE, value = "25" ),
+			@Setting( name = ModelsSettings.ALLOCATION_SIZE_OVERRIDES, value = "table_gen=5, explicit_seq=2" ),
+			@Setting( name = ModelsSettings.PREFER_POOLED_LO_OPTIMIZER, value = "true" )
+	} )
+	void testPolicy(ServiceRegistryScope scope) {
+		BindingTestingHelper.checkDomainModel(
+				(context) -> {
+					final var metadataCollector = context.getMetadataCollector();
+					final String pooledLo = StandardOptimizerDescriptor.POOLED_LO.getExternalName();
+
+					// raised to the minimum
+					assertThat( metadataCollector.getIdentifierGenerator( "legacy_gen" ).getParameters() )
+							.containsEntry( SequenceStyleGenerator.INCREMENT_PARAM, "25" )
+							.containsEntry( OptimizableGenerator.OPT_PARAM, pooledLo );
+
+					// the JPA default is considered unspecified
+					assertThat( metadataCollector.getIdentifierGenerator( "defaulted_gen" ).getParameters() )
+							.containsEntry( SequenceStyleGenerator.INCREMENT_PARAM, "100" );
+
+					// overrides by sequence name and generator name, ignoring the minimum
+					assertThat( metadataCollector.getIdentifierGenerator( "explicit_gen" ).getParameters() )
+							.containsEntry( SequenceStyleGenerator.INCREMENT_PARAM, "2" );
+					assertThat( metadataCollector.getIdentifierGenerator( "table_gen" ).getParameters() )
+							.containsEntry( TableGenerator.INCREMENT_PARAM, "5" )
+							.containsEntry( OptimizableGenerator.OPT_PARAM, pooledLo );
+				},
+				scope.getRegistry(),
+				GeneratorEntity.class
+		);
+	}
+
+	@Test
+	void testOverrideParsing() {
+		assertThat( AllocationSizePolicy.parseOverrides( null ) ).isEmpty();
+		assertThat( AllocationSizePolicy.parseOverrides( " a = 1 ,, b=20 " ) )
+				.isEqualTo( Map.of( "a", 1, "b", 20 ) );
+
+		assertThatThrownBy( () -> AllocationSizePolicy.parseOverrides( "a" ) ).isInstanceOf( ModelsException.class );
+		assertThatThrownBy( () -> AllocationSizePolicy.parseOverrides( "=1" ) ).isInstanceOf( ModelsException.class );
+		assertThatThrownBy( () -> AllocationSizePolicy.parseOverrides( "a=x" ) ).isInstanceOf( ModelsException.class );
+		assertThatThrownBy( () -> AllocationSizePolicy.parseOverrides( "a=0" ) ).isInstanceOf( ModelsException.class );
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.schema;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.models.bind.spi.ParallelSchemaCreator;
+import org.hibernate.boot.models.bind.spi.TableDependencyGraph;
+import org.hibernate.boot.models.bind.spi.TableDependencyGraph.DependencyNature;
+import org.hibernate.boot.models.bind.spi.TableReference;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.mapping.Table;
+import org.hibernate.models.orm.bind.SimpleEntity;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.bind.BindingTestingHelper.checkDomainModel;
+
+/**
+ * Tests for {@linkplain TableDependencyGraph} and {@linkplain ParallelSchemaCreator}
+ */
+public class TableDependencyGraphTests {
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testSecondaryTable(ServiceRegistryScope scope) {
+		checkDomainModel(
+				(context) -> {
+					final TableDependencyGraph graph = TableDependencyGraph.from(
+							context.getBindingState(),
+							context.getBindingContext()
+					);
+					assertThat( names( graph.getTables() ) ).containsExactly( "simple_stuff", "simpletons" );
+					assertThat( graph.getDependencies() ).hasSize( 1 );
+					assertThat( graph.getDependencies().get( 0 ).nature() ).isEqualTo( DependencyNature.SECONDARY_TABLE );
+					assertThat( graph.getWaves() ).hasSize( 2 );
+					assertThat( names( graph.getWaves().get( 0 ) ) ).containsExactly( "simpletons" );
+					assertThat( names( graph.getWaves().get( 1 ) ) ).containsExactly( "simple_stuff" );
+					assertThat( graph.isCyclic() ).isFalse();
+				},
+				scope.getRegistry(),
+				SimpleEntity.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testJoinedHierarchy(ServiceRegistryScope scope) {
+		checkDomainModel(
+				(context) -> {
+					final TableDependencyGraph graph = TableDependencyGraph.from(
+							context.getBindingState(),
+							context.getBindingContext()
+					);
+					assertThat( names( graph.getTables() ) ).containsExactly( "company", "nation", "party", "supplier" );
+					assertThat( graph.getDependencies() ).allMatch( (dependency) -> dependency.nature() == DependencyNature.SUPER_TYPE );
+					assertThat( graph.getDependencies() ).hasSize( 2 );
+
+					assertThat( graph.getWaves() ).hasSize( 3 );
+					assertThat( names( graph.getWaves().get( 0 ) ) ).containsExactly( "nation", "party" );
+					assertThat( names( graph.getWaves().get( 1 ) ) ).containsExactly( "company" );
+					assertThat( names( graph.getWaves().get( 2 ) ) ).containsExactly( "supplier" );
+
+					final TableReference supplier = graph.getWaves().get( 2 ).get( 0 );
+					assertThat( graph.getWaveIndex( supplier ) ).isEqualTo( 2 );
+					assertThat( names( graph.getDependencies( supplier ).stream().map( (d) -> d.target() ).toList() ) )
+							.containsExactly( "company" );
+				},
+				scope.getRegistry(),
+				Nation.class,
+				Party.class,
+				Company.class,
+				Supplier.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testParallelCreation(ServiceRegistryScope scope) {
+		checkDomainModel(
+				(context) -> {
+					final TableDependencyGraph graph = TableDependencyGraph.from(
+							context.getBindingState(),
+							context.getBindingContext()
+					);
+
+					final Table nationTable = context.getBindingState().getTableByName( "nation" ).binding();
+					nationTable.getOrCreateIndex( "idx_nation_name" ).addColumn( nationTable.getColumn( Identifier.toIdentifier( "name" ) ) );
+
+					final ParallelSchemaCreator schemaCreator = new ParallelSchemaCreator( 4 );
+					final List<List<List<String>>> script = schemaCreator.generateScript( graph, context.getBindingState() );
+					// sequences, 3 waves, deferred foreign keys
+					assertThat( script ).hasSize( 5 );
+					assertThat( script.get( 1 ) ).hasSize( 2 );
+					assertThat( String.join( ";", script.get( 1 ).get( 0 ) ).toLowerCase() ).contains( "idx_nation_name" );
+
+					final JdbcConnectionAccess connectionAccess = scope.getRegistry()
+							.getService( JdbcServices.class )
+							.getBootstrapJdbcConnectionAccess();
+					try {
+						schemaCreator.createSchema( graph, context.getBindingState(), connectionAccess );
+
+						assertThat( count( connectionAccess, "select count(*) from information_schema.tables where lower(table_name) in ('nation', 'party', 'company', 'supplier')" ) )
+								.isEqualTo( 4 );
+						assertThat( count( connectionAccess, "select count(*) from information_schema.indexes where lower(index_name) = 'idx_nation_name'" ) )
+								.isEqualTo( 1 );
+					}
+					finally {
+						execute( connectionAccess, "drop table if exists supplier", "drop table if exists company", "drop table if exists party", "drop table if exists nation" );
+					}
+				},
+				scope.getRegistry(),
+				Nation.class,
+				Party.class,
+				Company.class,
+				Supplier.class
+		);
+	}
+
+	private static List<String> names(List<TableReference> tables) {
+		return tables.stream().map( (table) -> table.logicalName().getCanonicalName() ).toList();
+	}
+
+	private static int count(JdbcConnectionAccess connectionAccess, String query) {
+		try {
+			final Connection connection = connectionAccess.obtainConnection();
+			try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery( query )) {
+				resultSet.next();
+				return resultSet.getInt( 1 );
+			}
+			finally {
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	private static void execute(JdbcConnectionAccess connectionAccess, String... statements) {
+		try {
+			final Connection connection = connectionAccess.obtainConnection();
+			try (Statement statement = connection.createStatement()) {
+				for ( String sql : statements ) {
+					statement.execute( sql );
+				}
+				if ( !connection.getAutoCommit() ) {
+					connection.commit();
+				}
+			}
+			finally {
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+	}
+}
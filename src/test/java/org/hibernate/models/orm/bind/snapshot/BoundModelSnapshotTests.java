@@ -0,0 +1,246 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.models.bind.spi.BoundModelSnapshot;
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.MappedSuperclass;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.RootClass;
+import org.hibernate.models.orm.bind.SimpleEntity;
+import org.hibernate.models.orm.bind.callbacks.HierarchyRoot;
+import org.hibernate.models.orm.bind.callbacks.HierarchySuper;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.EnumType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.bind.BindingTestingHelper.checkSnapshotDomainModel;
+
+/**
+ * Tests for {@linkplain BoundModelSnapshot}
+ */
+public class BoundModelSnapshotTests {
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testRestore(ServiceRegistryScope scope, @TempDir Path directory) throws IOException {
+		final Path snapshotFile = directory.resolve( "bound-model.bin" );
+
+		checkSnapshotDomainModel(
+				(context, restored) -> {
+					assertThat( restored ).isFalse();
+					assertThat( context.getBindingState().getTableCount() ).isEqualTo( 2 );
+					verifySimpleEntity( context.getMetadataCollector().getEntityBinding( SimpleEntity.class.getName() ) );
+				},
+				scope.getRegistry(),
+				snapshotFile,
+				SimpleEntity.class
+		);
+		assertThat( snapshotFile ).exists();
+		try (InputStream stream = Files.newInputStream( snapshotFile )) {
+			final BoundModelSnapshot snapshot = BoundModelSnapshot.read( stream );
+			assertThat( snapshot.getTypeCount() ).isEqualTo( 1 );
+			assertThat( snapshot.getTableCount() ).isEqualTo( 2 );
+		}
+
+		checkSnapshotDomainModel(
+				(context, restored) -> {
+					assertThat( restored ).isTrue();
+					// only the metadata collector is populated
+					assertThat( context.getBindingState().getTableCount() ).isEqualTo( 0 );
+
+					final var metadataCollector = context.getMetadataCollector();
+					verifySimpleEntity( metadataCollector.getEntityBinding( SimpleEntity.class.getName() ) );
+
+					final var filterDefinition = metadataCollector.getFilterDefinition( "by-name" );
+					assertThat( filterDefinition ).isNotNull();
+					assertThat( filterDefinition.getDefaultFilterCondition() ).isEqualTo( "name = :name" );
+					assertThat( filterDefinition.getParameterJdbcMapping( "name" ).getJdbcJavaType().getJavaType() ).isEqualTo( String.class );
+
+					assertThat( metadataCollector.getDatabase().getNamespaces() ).hasSize( 2 );
+				},
+				scope.getRegistry(),
+				snapshotFile,
+				SimpleEntity.class
+		);
+	}
+
+	private static void verifySimpleEntity(PersistentClass binding) {
+		final RootClass entityBinding = (RootClass) binding;
+		assertThat( entityBinding ).isNotNull();
+		assertThat( entityBinding.getTable().getName() ).isEqualTo( "simpletons" );
+		assertThat( entityBinding.getTable().getComment() ).isEqualTo( "Stupid is as stupid does" );
+		assertThat( entityBinding.isCached() ).isFalse();
+		assertThat( entityBinding.getFilters() ).hasSize( 1 );
+		assertThat( entityBinding.getCacheRegionName() ).isEqualTo( "my-region" );
+		assertThat( entityBinding.getCacheConcurrencyStrategy() ).isEqualTo( CacheConcurrencyStrategy.READ_ONLY.toAccessType().getExternalName() );
+
+		final Column softDeleteColumn = entityBinding.getSoftDeleteColumn();
+		assertThat( softDeleteColumn ).isNotNull();
+		assertThat( softDeleteColumn.getName() ).isEqualTo( "active" );
+		assertThat( entityBinding.getTable().getColumns() ).contains( softDeleteColumn );
+
+		final BasicValue dataValue = (BasicValue) entityBinding.getProperty( "data" ).getValue();
+		assertThat( dataValue.getTable().getName() ).isEqualTo( "simple_stuff" );
+		assertThat( ( (Column) dataValue.getColumn() ).getCanonicalName() ).isEqualTo( "datum" );
+		assertThat( dataValue.resolve().getDomainJavaType().getJavaType() ).isEqualTo( String.class );
+
+		final BasicValue stuffValue = (BasicValue) entityBinding.getProperty( "stuff" ).getValue();
+		assertThat( stuffValue.getEnumerationStyle() ).isEqualTo( EnumType.STRING );
+		assertThat( stuffValue.resolve().getDomainJavaType().getJavaType().getTypeName() ).isEqualTo( SimpleEntity.class.getName() + "$Stuff" );
+
+		final BasicValue versionValue = (BasicValue) entityBinding.getProperty( "version" ).getValue();
+		assertThat( versionValue.resolve().getDomainJavaType().getJavaType() ).isEqualTo( Integer.class );
+	}
+
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testMappedSuperclass(ServiceRegistryScope scope, @TempDir Path directory) {
+		final Path snapshotFile = directory.resolve( "bound-model.bin" );
+
+		checkSnapshotDomainModel(
+				(context, restored) -> assertThat( restored ).isFalse(),
+				scope.getRegistry(),
+				snapshotFile,
+				Catalogued.class,
+				Gadget.class
+		);
+
+		checkSnapshotDomainModel(
+				(context, restored) -> {
+					assertThat( restored ).isTrue();
+
+					final var metadataCollector = context.getMetadataCollector();
+					final RootClass gadget = (RootClass) metadataCollector.getEntityBinding( Gadget.class.getName() );
+					assertThat( gadget.getTable().getName() ).isEqualTo( "gadgets" );
+
+					final MappedSuperclass catalogued = gadget.getSuperMappedSuperclass();
+					assertThat( catalogued ).isNotNull();
+					assertThat( metadataCollector.getMappedSuperclass( Catalogued.class ) ).isSameAs( catalogued );
+					assertThat( catalogued.getDeclaredProperties() ).hasSize( 2 );
+
+					final BasicValue codeValue = (BasicValue) gadget.getProperty( "code" ).getValue();
+					final Column codeColumn = (Column) codeValue.getColumn();
+					assertThat( codeColumn.getName() ).isEqualTo( "gadget_code" );
+					assertThat( codeColumn.getLength() ).isEqualTo( 20L );
+					assertThat( codeColumn.isNullable() ).isFalse();
+
+					final BasicValue releasedValue = (BasicValue) gadget.getProperty( "released" ).getValue();
+					assertThat( releasedValue.resolve().getDomainJavaType().getJavaType() ).isEqualTo( Instant.class );
+				},
+				scope.getRegistry(),
+				snapshotFile,
+				Catalogued.class,
+				Gadget.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testDependencies(ServiceRegistryScope scope, @TempDir Path directory) throws IOException {
+		final Path snapshotFile = directory.resolve( "bound-model.bin" );
+
+		// the mapped-superclass is not listed - it is only discovered through the entity
+		checkSnapshotDomainModel(
+				(context, restored) -> assertThat( restored ).isFalse(),
+				scope.getRegistry(),
+				snapshotFile,
+				Gadget.class
+		);
+
+		try (InputStream stream = Files.newInputStream( snapshotFile )) {
+			final BoundModelSnapshot snapshot = BoundModelSnapshot.read( stream );
+			assertThat( snapshot.getDependencies() ).contains( Gadget.class.getName(), Catalogued.class.getName() );
+			assertThat( snapshot.getDependencies() ).noneMatch( (name) -> name.startsWith( "java." ) );
+			assertThat( snapshot.getDependencies() ).isSorted();
+		}
+
+		checkSnapshotDomainModel(
+				(context, restored) -> assertThat( restored ).isTrue(),
+				scope.getRegistry(),
+				snapshotFile,
+				Gadget.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testChangedInputs(ServiceRegistryScope scope, @TempDir Path directory) throws IOException {
+		final Path snapshotFile = directory.resolve( "bound-model.bin" );
+
+		checkSnapshotDomainModel(
+				(context, restored) -> assertThat( restored ).isFalse(),
+				scope.getRegistry(),
+				snapshotFile,
+				SimpleEntity.class
+		);
+
+		// different classes - the snapshot is stale and gets replaced
+		checkSnapshotDomainModel(
+				(context, restored) -> {
+					assertThat( restored ).isFalse();
+					assertThat( context.getMetadataCollector().getEntityBinding( SimpleEntity.class.getName() ) ).isNull();
+				},
+				scope.getRegistry(),
+				snapshotFile,
+				Catalogued.class,
+				Gadget.class
+		);
+
+		// damaged snapshot - bound normally and replaced
+		Files.write( snapshotFile, new byte[] { 1, 2, 3 } );
+		checkSnapshotDomainModel(
+				(context, restored) -> assertThat( restored ).isFalse(),
+				scope.getRegistry(),
+				snapshotFile,
+				Catalogued.class,
+				Gadget.class
+		);
+		checkSnapshotDomainModel(
+				(context, restored) -> assertThat( restored ).isTrue(),
+				scope.getRegistry(),
+				snapshotFile,
+				Catalogued.class,
+				Gadget.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testCallbacksNotCaptured(ServiceRegistryScope scope, @TempDir Path directory) {
+		final Path snapshotFile = directory.resolve( "bound-model.bin" );
+
+		checkSnapshotDomainModel(
+				(context, restored) -> {
+					assertThat( restored ).isFalse();
+					assertThat( context.getMetadataCollector().getEntityBinding( HierarchyRoot.class.getName() ) ).isNotNull();
+				},
+				scope.getRegistry(),
+				snapshotFile,
+				HierarchySuper.class,
+				HierarchyRoot.class
+		);
+		assertThat( snapshotFile ).doesNotExist();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.cds;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cold-start time of {@linkplain RepresentativeBoot} with and without an AppCDS archive.
+ * <p/>
+ * Each run is a fresh JVM using this JVM's {@code java} executable and class path - which must match
+ * the class path the archive was created with.  Runs with and without the archive alternate, after an
+ * untimed run of each to warm the file-system cache.  Reports the median process wall-clock time and the
+ * median time of the boot itself.
+ * <p/>
+ * Arguments are the path to the archive and, optionally, the number of timed runs of each (default 10).
+ * Normally run through the {@code cdsBenchmark} Gradle task.
+ */
+public class ColdStartBenchmark {
+	public static void main(String[] args) throws Exception {
+		if ( args.length < 1 ) {
+			throw new IllegalArgumentException( "Expecting the path to the CDS archive" );
+		}
+		final Path archive = Path.of( args[0] );
+		if ( !Files.isRegularFile( archive ) ) {
+			throw new IllegalArgumentException( "CDS archive does not exist - " + archive );
+		}
+		final int iterations = args.length > 1 ? Integer.parseInt( args[1] ) : 10;
+
+		final List<String> withArchive = List.of( "-XX:SharedArchiveFile=" + archive, "-Xlog:cds=off" );
+		final List<String> withoutArchive = List.of();
+
+		run( withoutArchive );
+		run( withArchive );
+
+		final long[][] baseline = new long[2][iterations];
+		final long[][] archived = new long[2][iterations];
+		for ( int i = 0; i < iterations; i++ ) {
+			record( run( withoutArchive ), baseline, i );
+			record( run( withArchive ), archived, i );
+		}
+
+		report( "without archive", baseline );
+		report( "with archive", archived );
+	}
+
+	private static void record(long[] timings, long[][] results, int iteration) {
+		results[0][iteration] = timings[0];
+		results[1][iteration] = timings[1];
+	}
+
+	private static void report(String label, long[][] results) {
+		System.out.printf(
+				"%-16s : process %5d ms, boot %5d ms (medians of %d runs)%n",
+				label,
+				median( results[0] ),
+				median( results[1] ),
+				results[0].length
+		);
+	}
+
+	private static long median(long[] values) {
+		final long[] sorted = values.clone();
+		Arrays.sort( sorted );
+		return sorted[sorted.length / 2];
+	}
+
+	/**
+	 * @return The process wall-clock time and the reported boot time, in milliseconds
+	 */
+	private static long[] run(List<String> jvmOptions) throws IOException, InterruptedException {
+		final List<String> command = new ArrayList<>();
+		command.add( Path.of( System.getProperty( "java.home" ), "bin", "java" ).toString() );
+		command.addAll( jvmOptions );
+		command.add( "-cp" );
+		command.add( System.getProperty( "java.class.path" ) );
+		command.add( RepresentativeBoot.class.getName() );
+
+		final long start = System.nanoTime();
+		final Process process = new ProcessBuilder( command ).redirectErrorStream( true ).start();
+
+		long bootMillis = -1;
+		try (BufferedReader reader = new BufferedReader( new InputStreamReader( process.getInputStream(), StandardCharsets.UTF_8 ) )) {
+			String line;
+			while ( ( line = reader.readLine() ) != null ) {
+				if ( line.startsWith( RepresentativeBoot.BOOT_MILLIS_PREFIX ) ) {
+					bootMillis = Long.parseLong( line.substring( RepresentativeBoot.BOOT_MILLIS_PREFIX.length() ).trim() );
+				}
+			}
+		}
+		final int exitCode = process.waitFor();
+		final long processMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start );
+
+		if ( exitCode != 0 || bootMillis < 0 ) {
+			throw new IllegalStateException( "Boot failed (exit code " + exitCode + ") - " + command );
+		}
+		return new long[] { processMillis, bootMillis };
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.cds;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.orm.bind.BindingTestingHelper;
+import org.hibernate.models.orm.bind.SimpleEntity;
+import org.hibernate.models.orm.bind.id.SimpleIdEntity;
+import org.hibernate.models.orm.bind.union.UnionRoot;
+import org.hibernate.models.orm.bind.union.UnionSub;
+import org.hibernate.models.orm.process.ManagedResourcesImpl;
+
+/**
+ * A representative boot - categorization and binding of an annotated model, plus categorization
+ * of an XML mapping - run in a fresh JVM.  Used to train the AppCDS archive built by the
+ * {@code cdsArchive} Gradle task, and as the workload for {@linkplain ColdStartBenchmark}.
+ * <p/>
+ * Reports the time taken by the boot itself as {@value #BOOT_MILLIS_PREFIX}{@code <millis>}.
+ */
+public class RepresentativeBoot {
+	public static final String BOOT_MILLIS_PREFIX = "boot-millis=";
+
+	public static void main(String[] args) {
+		final long start = System.nanoTime();
+		boot();
+		System.out.println( BOOT_MILLIS_PREFIX + TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) );
+	}
+
+	public static void boot() {
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			BindingTestingHelper.checkDomainModel(
+					(context) -> {
+						if ( context.getMetadataCollector().getEntityBinding( UnionSub.class.getName() ) == null ) {
+							throw new IllegalStateException( "Boot did not bind the domain model" );
+						}
+					},
+					serviceRegistry,
+					SimpleEntity.class,
+					SimpleIdEntity.class,
+					UnionRoot.class,
+					UnionSub.class
+			);
+
+			final ManagedResources xmlResources = new ManagedResourcesImpl.Builder()
+					.addXmlMappings( "mappings/complete/simple-person.xml" )
+					.build();
+			ManagedResourcesProcessor.processManagedResources(
+					xmlResources,
+					new BootstrapContextImpl( serviceRegistry, new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry ) )
+			);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.lint;
+
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.lint.spi.PerformanceFinding;
+import org.hibernate.boot.models.lint.spi.PerformanceLint;
+import org.hibernate.boot.models.lint.spi.PerformanceLintTool;
+import org.hibernate.boot.models.lint.spi.PerformanceRule;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.bind.union.UnionRoot;
+import org.hibernate.models.orm.bind.union.UnionSub;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.orm.bind.BindingTestingHelper.buildCategorizedDomainModel;
+
+/**
+ * Tests for {@linkplain PerformanceLint}
+ */
+public class PerformanceLintTests {
+	@Test
+	void testCategorizedModel() {
+		final CategorizedDomainModel categorizedDomainModel = buildCategorizedDomainModel(
+				Warehouse.class,
+				Shipment.class,
+				Carrier.class,
+				Region.class,
+				Country.class
+		);
+		final List<PerformanceFinding> findings = new PerformanceLint().lint( categorizedDomainModel );
+
+		assertThat( findings ).extracting( (finding) -> finding.getRule() + " " + finding.getLocation() ).containsExactlyInAnyOrder(
+				PerformanceRule.EAGER_TO_ONE_CHAIN + " " + Shipment.class.getName() + "#carrier",
+				PerformanceRule.UNINDEXED_FOREIGN_KEY + " " + Shipment.class.getName() + "#warehouse",
+				PerformanceRule.UNCACHED_COLLECTION + " " + Warehouse.class.getName() + "#shipments",
+				PerformanceRule.UNCACHED_COLLECTION + " " + Warehouse.class.getName() + "#aliases",
+				PerformanceRule.UNORDERED_ELEMENT_COLLECTION + " " + Warehouse.class.getName() + "#aliases"
+		);
+
+		final PerformanceFinding chain = findings.stream()
+				.filter( (finding) -> finding.getRule() == PerformanceRule.EAGER_TO_ONE_CHAIN )
+				.findFirst()
+				.orElseThrow();
+		assertThat( chain.getSeverity() ).isEqualTo( PerformanceFinding.Severity.WARNING );
+		assertThat( chain.getMessage() ).contains( "Shipment.carrier -> Carrier.region -> Region.country" );
+
+		final PerformanceFinding foreignKey = findings.stream()
+				.filter( (finding) -> finding.getRule() == PerformanceRule.UNINDEXED_FOREIGN_KEY )
+				.findFirst()
+				.orElseThrow();
+		assertThat( foreignKey.getMessage() ).contains( "warehouse_id" );
+
+		// a longer threshold
+		assertThat( new PerformanceLint( 4 ).lint( categorizedDomainModel ) )
+				.noneMatch( (finding) -> finding.getRule() == PerformanceRule.EAGER_TO_ONE_CHAIN );
+	}
+
+	@Test
+	void testVerify() {
+		final CategorizedDomainModel categorizedDomainModel = buildCategorizedDomainModel( Warehouse.class, Shipment.class );
+		final List<PerformanceFinding> findings = new PerformanceLint().lint( categorizedDomainModel );
+
+		assertThatThrownBy( () -> PerformanceLint.verify( findings, PerformanceFinding.Severity.WARNING ) )
+				.isInstanceOf( ModelsException.class )
+				.hasMessageContaining( Shipment.class.getName() + "#warehouse" );
+
+		final List<PerformanceFinding> infoFindings = findings.stream()
+				.filter( (finding) -> finding.getSeverity() == PerformanceFinding.Severity.INFO )
+				.toList();
+		assertThat( infoFindings ).isNotEmpty();
+		PerformanceLint.verify( infoFindings, PerformanceFinding.Severity.WARNING );
+	}
+
+	@Test
+	void testBoundModel() {
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+			metadataSources.addAnnotatedClass( UnionRoot.class );
+			metadataSources.addAnnotatedClass( UnionSub.class );
+
+			final List<PerformanceFinding> findings = PerformanceLintTool.lint( metadataSources, serviceRegistry, new PerformanceLint() );
+			assertThat( findings ).hasSize( 1 );
+			assertThat( findings.get( 0 ).getRule() ).isEqualTo( PerformanceRule.UNION_SUBCLASS_HIERARCHY );
+			assertThat( findings.get( 0 ).getManagedType().getName() ).isEqualTo( UnionRoot.class.getName() );
+			assertThat( findings.get( 0 ).getMessage() ).contains( "union of 2 tables" );
+		}
+	}
+
+	@Test
+	void testTool() {
+		final String classNames = UnionRoot.class.getName() + "," + UnionSub.class.getName();
+		assertThat( PerformanceLintTool.run( new String[] { classNames } ) ).isNull();
+		assertThat( PerformanceLintTool.run( new String[] { classNames, "--fail-on=INFO" } ) )
+				.isEqualTo( PerformanceFinding.Severity.INFO );
+	}
+}
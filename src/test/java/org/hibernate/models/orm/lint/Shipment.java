@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.lint;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(indexes = @Index(columnList = "carrier_fk"))
+public class Shipment {
+	@Id
+	private Integer id;
+
+	@ManyToOne
+	private Warehouse warehouse;
+
+	@ManyToOne
+	@JoinColumn(name = "carrier_fk")
+	private Carrier carrier;
+}
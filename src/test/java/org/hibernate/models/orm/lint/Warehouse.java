@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.lint;
+
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
+
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+public class Warehouse {
+	@Id
+	private Integer id;
+	private String name;
+
+	@OneToMany(mappedBy = "warehouse")
+	private Set<Shipment> shipments;
+
+	@ElementCollection
+	private List<String> aliases;
+
+	@ElementCollection
+	@OrderColumn
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	private List<String> docks;
+}
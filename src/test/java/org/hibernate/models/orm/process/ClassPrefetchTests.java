@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.categorize.internal.ClassPrefetcher;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.BytecodeSettings;
+import org.hibernate.models.ModelsException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.orm.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Tests for {@value ModelsSettings#PREFETCH_CLASSES}
+ */
+public class ClassPrefetchTests {
+	@Test
+	void testPrefetching() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class, Root.class, Sub.class, MyStringConverter.class, MyUuidConverter.class )
+				.addPackages( "org.hibernate.models.orm.process" )
+				.build();
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( ModelsSettings.PREFETCH_CLASSES, true )
+				.applySetting( ModelsSettings.CLASS_PREFETCH_PARALLELISM, 2 )
+				.build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			final CategorizedDomainModel categorizedDomainModel = ManagedResourcesProcessor.processManagedResources( managedResources, bootstrapContext );
+			assertThat( categorizedDomainModel.getEntityHierarchies() ).hasSize( 2 );
+		}
+	}
+
+	@Test
+	void testEnhancementRejected() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class )
+				.build();
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( ModelsSettings.PREFETCH_CLASSES, true )
+				.applySetting( BytecodeSettings.ENHANCER_ENABLE_LAZY_INITIALIZATION, true )
+				.build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			assertThatThrownBy( () -> ManagedResourcesProcessor.processManagedResources( managedResources, bootstrapContext ) )
+					.isInstanceOf( ModelsException.class )
+					.hasMessageContaining( BytecodeSettings.ENHANCER_ENABLE_LAZY_INITIALIZATION );
+		}
+	}
+
+	@Test
+	void testMissingPackageInfo() {
+		assertThat( ClassPrefetcher.resolvePackageInfo( "org.hibernate.models.orm.process", SIMPLE_CLASS_LOADING ) ).isNull();
+		assertThat( ClassPrefetcher.resolvePackageInfo( "com.acme.nonexistent", SIMPLE_CLASS_LOADING ) ).isNull();
+	}
+}
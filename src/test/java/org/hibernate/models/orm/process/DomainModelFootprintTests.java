@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.DomainModelFootprint;
+import org.hibernate.boot.models.categorize.spi.DomainModelFootprint.Category;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor.processManagedResources;
+
+/**
+ * Tests for {@linkplain DomainModelFootprint}
+ */
+public class DomainModelFootprintTests {
+	@Test
+	void testFootprint() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class, Root.class, Sub.class, MyStringConverter.class, MyUuidConverter.class )
+				.addXmlMappings( "mappings/complete/simple-complete.xml" )
+				.build();
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			final CategorizedDomainModel categorizedDomainModel = processManagedResources( managedResources, bootstrapContext );
+
+			final List<JaxbEntityMappingsImpl> documents = new ArrayList<>();
+			managedResources.getXmlMappingBindings().forEach( (binding) -> documents.add( (JaxbEntityMappingsImpl) binding.getRoot() ) );
+
+			final DomainModelFootprint footprint = DomainModelFootprint.calculate( categorizedDomainModel, documents );
+
+			for ( EntityHierarchy hierarchy : categorizedDomainModel.getEntityHierarchies() ) {
+				final DomainModelFootprint.Footprint hierarchyFootprint = footprint.getHierarchyFootprint( hierarchy );
+				assertThat( hierarchyFootprint ).isNotNull();
+				assertThat( hierarchyFootprint.getUsage( Category.TYPE_METADATA ).instances() ).isGreaterThan( 0 );
+				assertThat( hierarchyFootprint.getUsage( Category.ATTRIBUTE_METADATA ).instances() ).isGreaterThan( 0 );
+				assertThat( hierarchyFootprint.getUsage( Category.CLASS_DETAILS ).instances() ).isGreaterThan( 0 );
+				assertThat( hierarchyFootprint.getApproximateBytes() ).isGreaterThan( 0 );
+			}
+
+			final DomainModelFootprint.Footprint total = footprint.getTotal();
+			assertThat( total.getUsage( Category.JAXB ).instances() ).isEqualTo( 1 );
+			assertThat( total.getUsage( Category.GLOBAL_REGISTRATIONS ).instances() ).isEqualTo( 1 );
+			assertThat( total.getUsage( Category.ANNOTATION_USAGE ).instances() ).isGreaterThan( 0 );
+			assertThat( total.getApproximateBytes() ).isGreaterThanOrEqualTo( footprint.getShared().getApproximateBytes() );
+			assertThat( footprint.getApproximateBytesPerEntity() ).isGreaterThan( 0 );
+
+			final String report = footprint.render();
+			assertThat( report ).contains( "<shared>" ).contains( "<total>" ).contains( "CLASS_DETAILS" );
+		}
+	}
+}
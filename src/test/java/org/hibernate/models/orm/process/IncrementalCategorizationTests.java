@@ -0,0 +1,292 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.CategorizationListener;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.DynamicEntityRegistrations;
+import org.hibernate.boot.models.categorize.spi.DynamicEntityTemplate;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.ManagedResourceChanges;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.orm.process.incremental.Book;
+import org.hibernate.models.orm.process.incremental.Publisher;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor.processManagedResources;
+import static org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor.reprocessManagedResources;
+
+/**
+ * Tests for {@linkplain org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor#reprocessManagedResources}
+ */
+public class IncrementalCategorizationTests {
+	@Test
+	void testIncrementalCategorization() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class, Root.class, Sub.class, MyStringConverter.class, MyUuidConverter.class )
+				.addPackages( "org.hibernate.models.orm.process" )
+				.build();
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			final CategorizedDomainModel previousModel = processManagedResources( managedResources, bootstrapContext );
+			assertThat( previousModel.getEntityHierarchies() ).hasSize( 2 );
+
+			// no changes
+			assertThat( reprocessManagedResources( previousModel, managedResources, new ManagedResourceChanges(), bootstrapContext ) )
+					.isSameAs( previousModel );
+
+			final CategorizedDomainModel updatedModel = reprocessManagedResources(
+					previousModel,
+					managedResources,
+					new ManagedResourceChanges().addChangedClasses( Sub.class ),
+					bootstrapContext
+			);
+			assertThat( updatedModel.getEntityHierarchies() ).hasSize( 2 );
+
+			// the Person ClassDetails are unaffected and reused, though its hierarchy is rebuilt against the new registries...
+			final EntityHierarchy previousPerson = findHierarchy( previousModel, Person.class );
+			final EntityHierarchy updatedPerson = findHierarchy( updatedModel, Person.class );
+			assertThat( updatedPerson ).isNotSameAs( previousPerson );
+			assertThat( updatedPerson.getRoot().getClassDetails() ).isSameAs( previousPerson.getRoot().getClassDetails() );
+			assertThat( updatedModel.getClassDetailsRegistry().getClassDetails( Person.class.getName() ) )
+					.isSameAs( previousModel.getClassDetailsRegistry().getClassDetails( Person.class.getName() ) );
+
+			// ... while the ClassDetails of the Root hierarchy (containing Sub) are rebuilt
+			final EntityHierarchy previousRoot = findHierarchy( previousModel, Root.class );
+			final EntityHierarchy updatedRoot = findHierarchy( updatedModel, Root.class );
+			assertThat( updatedRoot ).isNotSameAs( previousRoot );
+			assertThat( updatedRoot.getRoot().getNumberOfSubTypes() ).isEqualTo( 1 );
+			assertThat( updatedModel.getClassDetailsRegistry().getClassDetails( Root.class.getName() ) )
+					.isNotSameAs( previousModel.getClassDetailsRegistry().getClassDetails( Root.class.getName() ) );
+
+			// global registrations are still complete
+			assertThat( updatedModel.getGlobalRegistrations().getJavaTypeRegistrations() )
+					.hasSameSizeAs( previousModel.getGlobalRegistrations().getJavaTypeRegistrations() );
+			assertThat( updatedModel.getGlobalRegistrations().getConverterRegistrations() )
+					.hasSameSizeAs( previousModel.getGlobalRegistrations().getConverterRegistrations() );
+		}
+	}
+
+	@Test
+	void testChangedDynamicEntities() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class, Root.class, Sub.class )
+				.build();
+
+		final DynamicEntityTemplate namedTemplate = DynamicEntityTemplate.builder()
+				.id( "id", Integer.class )
+				.basic( "name", String.class )
+				.build();
+		final DynamicEntityTemplate pricedTemplate = DynamicEntityTemplate.builder()
+				.id( "id", Integer.class )
+				.basic( "name", String.class )
+				.basic( "price", Double.class )
+				.build();
+
+		final DynamicEntityRegistrations previousRegistrations = new DynamicEntityRegistrations()
+				.register( "Product", namedTemplate )
+				.register( "Customer", namedTemplate )
+				.register( "Supplier", namedTemplate );
+		// Product changes shape, Customer is renamed to Client
+		final DynamicEntityRegistrations updatedRegistrations = new DynamicEntityRegistrations()
+				.register( "Product", pricedTemplate )
+				.register( "Client", namedTemplate )
+				.register( "Supplier", namedTemplate );
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			final CategorizedDomainModel previousModel = processManagedResources(
+					managedResources,
+					bootstrapContext,
+					previousRegistrations,
+					new CategorizationListener() {
+					}
+			);
+			assertThat( previousModel.getEntityHierarchies() ).hasSize( 5 );
+
+			final List<String> completedHierarchies = new ArrayList<>();
+			final CategorizedDomainModel updatedModel = reprocessManagedResources(
+					previousModel,
+					managedResources,
+					new ManagedResourceChanges()
+							.addChangedClass( "Product" )
+							.addChangedClass( "Customer" )
+							.addChangedClass( "Client" ),
+					bootstrapContext,
+					updatedRegistrations,
+					new CategorizationListener() {
+						@Override
+						public void hierarchyCompleted(EntityHierarchy hierarchy) {
+							completedHierarchies.add( hierarchy.getRoot().getClassDetails().getName() );
+						}
+					}
+			);
+
+			// the same model as categorizing the updated resources from scratch
+			final CategorizedDomainModel completeModel = processManagedResources(
+					managedResources,
+					bootstrapContext,
+					updatedRegistrations,
+					new CategorizationListener() {
+					}
+			);
+			assertThat( describe( updatedModel ) ).isEqualTo( describe( completeModel ) );
+			assertThat( describe( updatedModel ) )
+					.containsKeys( "Product", "Client", "Supplier" )
+					.doesNotContainKey( "Customer" );
+			assertThat( describe( updatedModel ).get( "Product" ) ).containsExactly( "id", "name", "price" );
+			assertThat( completedHierarchies ).hasSameSizeAs( updatedModel.getEntityHierarchies() );
+
+			// unchanged dynamic entities are reused, changed ones rebuilt
+			assertThat( updatedModel.getClassDetailsRegistry().getClassDetails( "Supplier" ) )
+					.isSameAs( previousModel.getClassDetailsRegistry().getClassDetails( "Supplier" ) );
+			assertThat( updatedModel.getClassDetailsRegistry().getClassDetails( "Product" ) )
+					.isNotSameAs( previousModel.getClassDetailsRegistry().getClassDetails( "Product" ) );
+			assertThat( updatedModel.getClassDetailsRegistry().findClassDetails( "Customer" ) ).isNull();
+		}
+	}
+
+	@Test
+	void testChangedAssociationTarget() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class, Book.class, Publisher.class )
+				.build();
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			final CategorizedDomainModel previousModel = processManagedResources( managedResources, bootstrapContext );
+
+			final CategorizedDomainModel updatedModel = reprocessManagedResources(
+					previousModel,
+					managedResources,
+					new ManagedResourceChanges().addChangedClasses( Publisher.class ),
+					bootstrapContext
+			);
+
+			final ClassDetailsRegistry previousRegistry = previousModel.getClassDetailsRegistry();
+			final ClassDetailsRegistry updatedRegistry = updatedModel.getClassDetailsRegistry();
+			final ClassDetails publisher = updatedRegistry.getClassDetails( Publisher.class.getName() );
+			assertThat( publisher ).isNotSameAs( previousRegistry.getClassDetails( Publisher.class.getName() ) );
+
+			// Book itself is unchanged, but refers to the rebuilt Publisher
+			final ClassDetails book = updatedRegistry.getClassDetails( Book.class.getName() );
+			assertThat( book ).isNotSameAs( previousRegistry.getClassDetails( Book.class.getName() ) );
+			assertThat( book.findFieldByName( "publisher" ).getType() ).isSameAs( publisher );
+			assertThat( findHierarchy( updatedModel, Book.class ).getRoot().findAttribute( "publisher" ).getMember().getType() )
+					.isSameAs( publisher );
+
+			// unrelated types are still reused
+			assertThat( updatedRegistry.getClassDetails( Person.class.getName() ) )
+					.isSameAs( previousRegistry.getClassDetails( Person.class.getName() ) );
+		}
+	}
+
+	@Test
+	void testChangedDocument() {
+		final ManagedResources previousResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class, Book.class, Publisher.class )
+				.addXmlMappings( "mappings/incremental/publisher-v1.xml" )
+				.build();
+		final ManagedResources updatedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class, Book.class, Publisher.class )
+				.addXmlMappings( "mappings/incremental/publisher-v2.xml" )
+				.build();
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			final CategorizedDomainModel previousModel = processManagedResources( previousResources, bootstrapContext );
+			assertThat( publisherNameColumn( previousModel ) ).isEqualTo( "publisher_name" );
+
+			final CategorizedDomainModel updatedModel = reprocessManagedResources(
+					previousModel,
+					updatedResources,
+					new ManagedResourceChanges().addChangedDocument( "mappings/incremental/publisher-v2.xml" ),
+					bootstrapContext
+			);
+
+			// the document is applied to a rebuilt Publisher, not on top of the previous one
+			assertThat( publisherNameColumn( updatedModel ) ).isEqualTo( "label" );
+			final ClassDetailsRegistry updatedRegistry = updatedModel.getClassDetailsRegistry();
+			final ClassDetails publisher = updatedRegistry.getClassDetails( Publisher.class.getName() );
+			assertThat( publisher ).isNotSameAs( previousModel.getClassDetailsRegistry().getClassDetails( Publisher.class.getName() ) );
+			assertThat( updatedRegistry.getClassDetails( Book.class.getName() ).findFieldByName( "publisher" ).getType() )
+					.isSameAs( publisher );
+
+			// the same model as categorizing the updated resources from scratch
+			final CategorizedDomainModel completeModel = processManagedResources( updatedResources, bootstrapContext );
+			assertThat( describe( updatedModel ) ).isEqualTo( describe( completeModel ) );
+			assertThat( publisherNameColumn( completeModel ) ).isEqualTo( "label" );
+		}
+	}
+
+	private static String publisherNameColumn(CategorizedDomainModel model) {
+		final AnnotationUsage<Column> column = findHierarchy( model, Publisher.class ).getRoot()
+				.findAttribute( "name" )
+				.getMember()
+				.getAnnotationUsage( Column.class );
+		return column.getString( "name" );
+	}
+
+	/**
+	 * The attribute names of each entity, by entity-name
+	 */
+	private static Map<String, TreeSet<String>> describe(CategorizedDomainModel model) {
+		final Map<String, TreeSet<String>> description = new TreeMap<>();
+		for ( EntityHierarchy hierarchy : model.getEntityHierarchies() ) {
+			hierarchy.forEachType( (type, superType, h, relation) -> {
+				if ( relation != EntityHierarchy.HierarchyRelation.SUPER ) {
+					final TreeSet<String> attributeNames = new TreeSet<>();
+					for ( AttributeMetadata attribute : type.getAttributes() ) {
+						attributeNames.add( attribute.getName() );
+					}
+					description.put( type.getClassDetails().getName(), attributeNames );
+				}
+			} );
+		}
+		return description;
+	}
+
+	private static EntityHierarchy findHierarchy(CategorizedDomainModel model, Class<?> rootClass) {
+		for ( EntityHierarchy hierarchy : model.getEntityHierarchies() ) {
+			if ( rootClass.getName().equals( hierarchy.getRoot().getClassDetails().getClassName() ) ) {
+				return hierarchy;
+			}
+		}
+		throw new AssertionError( "No hierarchy rooted at " + rootClass.getName() );
+	}
+}
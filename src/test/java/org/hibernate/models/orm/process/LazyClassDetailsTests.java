@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process;
+
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.orm.BootstrapContextTesting;
+import org.hibernate.models.orm.SourceModelTestHelper;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Tests for {@value ModelsSettings#LAZY_CLASS_DETAILS}
+ */
+public class LazyClassDetailsTests {
+	@Test
+	void testLazyClassDetails() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class, Root.class, Sub.class, MyStringConverter.class, MyUuidConverter.class )
+				.addPackages( "org.hibernate.models.orm.process" )
+				.build();
+
+		final Index jandexIndex = SourceModelTestHelper.buildJandexIndex(
+				SIMPLE_CLASS_LOADING,
+				Person.class,
+				Root.class,
+				Sub.class,
+				MyStringConverter.class,
+				MyUuidConverter.class,
+				Unmanaged.class
+		);
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( ModelsSettings.LAZY_CLASS_DETAILS, true )
+				.build()) {
+			final MetadataBuilderImpl.MetadataBuildingOptionsImpl metadataBuildingOptions = new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry );
+			final BootstrapContextTesting bootstrapContext = new BootstrapContextTesting( jandexIndex, serviceRegistry, metadataBuildingOptions );
+			final CategorizedDomainModel categorizedDomainModel = ManagedResourcesProcessor.processManagedResources( managedResources, bootstrapContext );
+
+			assertThat( categorizedDomainModel.getEntityHierarchies() ).hasSize( 2 );
+
+			// managed classes are materialized on demand...
+			assertThat( categorizedDomainModel.getClassDetailsRegistry().findClassDetails( Person.class.getName() ) ).isNotNull();
+			// ... while others known to the index never are
+			assertThat( categorizedDomainModel.getClassDetailsRegistry().findClassDetails( Unmanaged.class.getName() ) ).isNull();
+		}
+	}
+
+	public static class Unmanaged {
+		private String name;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process;
+
+import java.util.List;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.categorize.internal.ParallelJandexIndexer;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Tests for {@linkplain ParallelJandexIndexer} and {@value ModelsSettings#BUILD_JANDEX_INDEX}
+ */
+public class ParallelJandexIndexingTests {
+	@Test
+	void testIndexing() {
+		// classes from a directory, from a jar and from the runtime image
+		final List<String> classNames = List.of(
+				Person.class.getName(),
+				Root.class.getName(),
+				Sub.class.getName(),
+				MyStringConverter.class.getName(),
+				Entity.class.getName(),
+				Id.class.getName(),
+				String.class.getName()
+		);
+
+		final IndexView index = new ParallelJandexIndexer( SIMPLE_CLASS_LOADING, 4 ).index( classNames );
+		classNames.forEach( (className) -> assertThat( index.getClassByName( DotName.createSimple( className ) ) ).isNotNull() );
+		assertThat( index.getKnownClasses() ).hasSize( classNames.size() );
+
+		final IndexView serialIndex = new ParallelJandexIndexer( SIMPLE_CLASS_LOADING, 1 ).index( classNames );
+		assertThat( serialIndex.getKnownClasses() ).hasSize( classNames.size() );
+	}
+
+	@Test
+	void testDuplicateClassNames() {
+		// annotated classes also listed by XML, e.g.
+		final List<String> classNames = List.of(
+				Person.class.getName(),
+				Root.class.getName(),
+				Sub.class.getName(),
+				MyStringConverter.class.getName(),
+				Person.class.getName(),
+				Sub.class.getName(),
+				Person.class.getName()
+		);
+
+		final IndexView index = new ParallelJandexIndexer( SIMPLE_CLASS_LOADING, 4 ).index( classNames );
+		assertThat( index.getKnownClasses() ).hasSize( 4 );
+		assertThat( index.getClassByName( DotName.createSimple( Person.class.getName() ) ) ).isNotNull();
+	}
+
+	@Test
+	void testBuildIndexSetting() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Person.class, Root.class, Sub.class, MyStringConverter.class, MyUuidConverter.class )
+				.addPackages( "org.hibernate.models.orm.process" )
+				.build();
+
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( ModelsSettings.BUILD_JANDEX_INDEX, true )
+				.applySetting( ModelsSettings.JANDEX_INDEXING_PARALLELISM, 2 )
+				.build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			final CategorizedDomainModel categorizedDomainModel = ManagedResourcesProcessor.processManagedResources( managedResources, bootstrapContext );
+			assertThat( categorizedDomainModel.getEntityHierarchies() ).hasSize( 2 );
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.batch;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.categorize.spi.AssociationGraphAnalysis;
+import org.hibernate.boot.models.categorize.spi.AssociationGraphAnalysis.CollectionProfile;
+import org.hibernate.boot.models.categorize.spi.AssociationGraphAnalysis.EntityProfile;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.orm.process.ManagedResourcesImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor.processManagedResources;
+
+/**
+ * Tests for {@linkplain AssociationGraphAnalysis}
+ */
+public class AssociationGraphAnalysisTests {
+	@Test
+	void testAnalysis() {
+		final CategorizedDomainModel categorizedDomainModel = categorize( new StandardServiceRegistryBuilder() );
+		final AssociationGraphAnalysis analysis = AssociationGraphAnalysis.analyze( categorizedDomainModel );
+
+		final EntityProfile customer = analysis.findEntityProfile( Customer.class.getName() );
+		assertThat( customer.getToOneFanIn() ).isEqualTo( 2 );
+		assertThat( customer.getCollectionFanIn() ).isEqualTo( 0 );
+		assertThat( customer.getFanOut() ).isEqualTo( 1 );
+		assertThat( customer.getRecommendedBatchSize() ).isEqualTo( 32 );
+
+		final EntityProfile order = analysis.findEntityProfile( PurchaseOrder.class.getName() );
+		assertThat( order.getToOneFanIn() ).isEqualTo( 1 );
+		assertThat( order.getCollectionFanIn() ).isEqualTo( 1 );
+		assertThat( order.getFanOut() ).isEqualTo( 2 );
+		assertThat( order.getRecommendedBatchSize() ).isEqualTo( 16 );
+
+		// not referenced by any to-one
+		final EntityProfile lineItem = analysis.findEntityProfile( LineItem.class.getName() );
+		assertThat( lineItem.getCollectionFanIn() ).isEqualTo( 1 );
+		assertThat( lineItem.getRecommendedBatchSize() ).isEqualTo( -1 );
+		assertThat( analysis.findEntityProfile( Invoice.class.getName() ).getRecommendedBatchSize() ).isEqualTo( -1 );
+
+		// explicit @BatchSize
+		final EntityProfile product = analysis.findEntityProfile( Product.class.getName() );
+		assertThat( product.getToOneFanIn() ).isEqualTo( 1 );
+		assertThat( product.hasExplicitBatchSize() ).isTrue();
+		assertThat( product.getRecommendedBatchSize() ).isEqualTo( -1 );
+
+		final CollectionProfile orders = analysis.findCollectionProfile( Customer.class.getName() + ".orders" );
+		assertThat( orders.getRecommendedBatchSize() ).isEqualTo( 64 );
+		final CollectionProfile items = analysis.findCollectionProfile( PurchaseOrder.class.getName() + ".items" );
+		assertThat( items.getRecommendedBatchSize() ).isEqualTo( 64 );
+		final CollectionProfile tags = analysis.findCollectionProfile( Product.class.getName() + ".tags" );
+		assertThat( tags.hasExplicitBatchSize() ).isTrue();
+		assertThat( tags.getRecommendedBatchSize() ).isEqualTo( -1 );
+
+		// nothing applied by default
+		assertThat( findEntity( categorizedDomainModel, Customer.class ).getBatchSize() ).isEqualTo( -1 );
+	}
+
+	@Test
+	void testApplyRecommendations() {
+		final CategorizedDomainModel categorizedDomainModel = categorize( new StandardServiceRegistryBuilder()
+				.applySetting( ModelsSettings.APPLY_RECOMMENDED_BATCH_SIZES, true )
+				.applySetting( ModelsSettings.MAXIMUM_RECOMMENDED_BATCH_SIZE, 32 ) );
+
+		assertThat( findEntity( categorizedDomainModel, Customer.class ).getBatchSize() ).isEqualTo( 32 );
+		assertThat( findEntity( categorizedDomainModel, PurchaseOrder.class ).getBatchSize() ).isEqualTo( 16 );
+		assertThat( findEntity( categorizedDomainModel, LineItem.class ).getBatchSize() ).isEqualTo( -1 );
+		assertThat( findEntity( categorizedDomainModel, Product.class ).getBatchSize() ).isEqualTo( 5 );
+
+		final EntityTypeMetadata order = findEntity( categorizedDomainModel, PurchaseOrder.class );
+		assertThat( order.findAttribute( "items" ).getBatchSize() ).isEqualTo( 32 );
+		// applied to the categorized metadata, not to the source model
+		assertThat( order.findAttribute( "items" ).getMember().getAnnotationUsage( BatchSize.class ) ).isNull();
+
+		final EntityTypeMetadata product = findEntity( categorizedDomainModel, Product.class );
+		assertThat( product.findAttribute( "tags" ).getBatchSize() ).isEqualTo( 10 );
+	}
+
+	@Test
+	void testApplyRecommendationsToSubclasses() {
+		final CategorizedDomainModel categorizedDomainModel = categorize(
+				new StandardServiceRegistryBuilder().applySetting( ModelsSettings.APPLY_RECOMMENDED_BATCH_SIZES, true ),
+				Account.class,
+				BusinessAccount.class,
+				Statement.class
+		);
+
+		final EntityTypeMetadata account = findEntity( categorizedDomainModel, Account.class );
+		assertThat( account.getBatchSize() ).isEqualTo( 16 );
+
+		final EntityTypeMetadata businessAccount = (EntityTypeMetadata) account.getSubTypes().iterator().next();
+		assertThat( businessAccount.getClassDetails().getName() ).isEqualTo( BusinessAccount.class.getName() );
+		assertThat( businessAccount.getBatchSize() ).isEqualTo( 16 );
+	}
+
+	@Test
+	void testRecommendedSizes() {
+		assertThat( AssociationGraphAnalysis.recommendBatchSize( 0, 64 ) ).isEqualTo( -1 );
+		assertThat( AssociationGraphAnalysis.recommendBatchSize( 1, 64 ) ).isEqualTo( 16 );
+		assertThat( AssociationGraphAnalysis.recommendBatchSize( 2, 64 ) ).isEqualTo( 32 );
+		assertThat( AssociationGraphAnalysis.recommendBatchSize( 3, 64 ) ).isEqualTo( 64 );
+		assertThat( AssociationGraphAnalysis.recommendBatchSize( 100, 64 ) ).isEqualTo( 64 );
+		assertThat( AssociationGraphAnalysis.recommendBatchSize( 1, 8 ) ).isEqualTo( 8 );
+	}
+
+	private static CategorizedDomainModel categorize(StandardServiceRegistryBuilder registryBuilder) {
+		return categorize( registryBuilder, Customer.class, PurchaseOrder.class, LineItem.class, Product.class, Invoice.class );
+	}
+
+	private static CategorizedDomainModel categorize(StandardServiceRegistryBuilder registryBuilder, Class<?>... classes) {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( classes )
+				.build();
+
+		try (StandardServiceRegistry serviceRegistry = registryBuilder.build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			return processManagedResources( managedResources, bootstrapContext );
+		}
+	}
+
+	private static EntityTypeMetadata findEntity(CategorizedDomainModel categorizedDomainModel, Class<?> entityClass) {
+		for ( EntityHierarchy hierarchy : categorizedDomainModel.getEntityHierarchies() ) {
+			if ( hierarchy.getRoot().getClassDetails().getName().equals( entityClass.getName() ) ) {
+				return hierarchy.getRoot();
+			}
+		}
+		throw new AssertionError( "No entity hierarchy for " + entityClass.getName() );
+	}
+}
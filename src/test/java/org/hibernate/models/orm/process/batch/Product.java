@@ -0,0 +1,26 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.batch;
+
+import java.util.Set;
+
+import org.hibernate.annotations.BatchSize;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Entity
+@BatchSize( size = 5 )
+public class Product {
+	@Id
+	private Integer id;
+	private String name;
+	@ElementCollection
+	@BatchSize( size = 10 )
+	private Set<String> tags;
+}
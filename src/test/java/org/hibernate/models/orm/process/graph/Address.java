@@ -0,0 +1,15 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.graph;
+
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class Address {
+	private String street;
+	private String city;
+}
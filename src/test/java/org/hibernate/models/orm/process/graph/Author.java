@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.graph;
+
+import java.util.Set;
+
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.OneToMany;
+
+@Entity
+@NamedEntityGraph(
+		name = "Author.publications",
+		attributeNodes = {
+				@NamedAttributeNode("address"),
+				@NamedAttributeNode(value = "publications", subgraph = "publications")
+		},
+		subgraphs = {
+				@NamedSubgraph(name = "publications", attributeNodes = @NamedAttributeNode("title")),
+				@NamedSubgraph(name = "publications", type = Novel.class, attributeNodes = @NamedAttributeNode("genre"))
+		}
+)
+@NamedEntityGraph(attributeNodes = @NamedAttributeNode("name"))
+public class Author {
+	@Id
+	private Integer id;
+	private String name;
+	@Embedded
+	private Address address;
+	@OneToMany(mappedBy = "author")
+	private Set<Publication> publications;
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.graph;
+
+import java.util.Map;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.FetchPlan;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.process.ManagedResourcesImpl;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor.processManagedResources;
+
+/**
+ * Tests for collection of named entity graphs and their resolution as {@linkplain FetchPlan fetch plans}
+ */
+public class NamedEntityGraphTests {
+	@Test
+	void testFetchPlans() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Author.class, Address.class, Publication.class, Novel.class )
+				.addXmlMappings( "mappings/graph/named-entity-graphs.xml" )
+				.build();
+
+		final CategorizedDomainModel categorizedDomainModel = categorize( managedResources );
+		assertThat( categorizedDomainModel.getGlobalRegistrations().getNamedEntityGraphRegistrations() )
+				.containsOnlyKeys( "Author.publications", "Author", "Author.address", "Publication.all" );
+
+		final Map<String, FetchPlan> graphs = categorizedDomainModel.getNamedEntityGraphs();
+		assertThat( graphs ).containsOnlyKeys( "Author.publications", "Author", "Author.address", "Publication.all" );
+
+		// name defaults to the entity name
+		assertThat( graphs.get( "Author" ).getAttributeNodes() ).containsOnlyKeys( "name" );
+
+		final FetchPlan authorPublications = graphs.get( "Author.publications" );
+		assertThat( authorPublications.getManagedType().getName() ).isEqualTo( Author.class.getName() );
+		assertThat( authorPublications.getAttributeNodes() ).containsOnlyKeys( "address", "publications" );
+		assertThat( authorPublications.findAttributeNode( "address" ).getSubgraph() ).isNull();
+
+		// element type comes from the generic signature, the Novel subgraph becomes a subclass plan
+		final FetchPlan publicationsPlan = authorPublications.findAttributeNode( "publications" ).getSubgraph();
+		assertThat( publicationsPlan.getManagedType().getName() ).isEqualTo( Publication.class.getName() );
+		assertThat( publicationsPlan.getAttributeNodes() ).containsOnlyKeys( "title" );
+		assertThat( publicationsPlan.getSubclassPlans() ).containsOnlyKeys( Novel.class.getName() );
+		assertThat( publicationsPlan.getSubclassPlans().get( Novel.class.getName() ).getAttributeNodes() ).containsOnlyKeys( "genre" );
+
+		// from XML, with a subgraph for an embeddable
+		final FetchPlan addressPlan = graphs.get( "Author.address" ).findAttributeNode( "address" ).getSubgraph();
+		assertThat( addressPlan.getManagedType().getName() ).isEqualTo( Address.class.getName() );
+		assertThat( addressPlan.getAttributeNodes() ).containsOnlyKeys( "city" );
+
+		// includeAllAttributes is expanded
+		final FetchPlan publicationAll = graphs.get( "Publication.all" );
+		assertThat( publicationAll.getAttributeNodes() ).containsOnlyKeys( "id", "title", "author" );
+		assertThat( publicationAll.getSubclassPlans().get( Novel.class.getName() ).getAttributeNodes() ).containsOnlyKeys( "genre" );
+
+		assertThatThrownBy( () -> publicationAll.getAttributeNodes().clear() )
+				.isInstanceOf( UnsupportedOperationException.class );
+	}
+
+	@Test
+	void testValidation() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( BrokenGraphEntity.class )
+				.build();
+
+		assertThatThrownBy( () -> categorize( managedResources ) )
+				.isInstanceOf( ModelsException.class )
+				.hasMessageContaining( "no attribute named `nope`" )
+				.hasMessageContaining( "BrokenGraphEntity.name` cannot have a subgraph" )
+				.hasMessageContaining( "unknown subgraph `missing`" )
+				.hasMessageContaining( "subgraph `parent` is recursive" );
+	}
+
+	private static CategorizedDomainModel categorize(ManagedResources managedResources) {
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			return processManagedResources( managedResources, bootstrapContext );
+		}
+	}
+
+	@Entity
+	@NamedEntityGraph(
+			name = "broken",
+			attributeNodes = {
+					@NamedAttributeNode("nope"),
+					@NamedAttributeNode(value = "name", subgraph = "parent"),
+					@NamedAttributeNode(value = "parent", subgraph = "parent")
+			},
+			subgraphs = @NamedSubgraph(
+					name = "parent",
+					attributeNodes = {
+							@NamedAttributeNode(value = "parent", subgraph = "parent"),
+							@NamedAttributeNode(value = "sibling", subgraph = "missing")
+					}
+			)
+	)
+	public static class BrokenGraphEntity {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private BrokenGraphEntity parent;
+		@ManyToOne
+		private BrokenGraphEntity sibling;
+	}
+}
@@ -0,0 +1,14 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.graph;
+
+import jakarta.persistence.Entity;
+
+@Entity
+public class Novel extends Publication {
+	private String genre;
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.graph;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+
+@Entity
+@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+@NamedEntityGraph(
+		name = "Publication.all",
+		includeAllAttributes = true,
+		subclassSubgraphs = @NamedSubgraph(name = "novel", type = Novel.class, attributeNodes = @NamedAttributeNode("genre"))
+)
+public class Publication {
+	@Id
+	private Integer id;
+	private String title;
+	@ManyToOne
+	private Author author;
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.query;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedNativeQuery;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "books")
+@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+@NamedQuery(name = "Book.byTitleAlias", query = "from Book where title = :title")
+@NamedNativeQuery(name = "Book.nativeAll", query = "select * from books")
+@org.hibernate.annotations.NamedQuery(name = "Book.all", query = "select b from Book b order by b.title")
+public class Book {
+	@Id
+	private Integer id;
+	private String title;
+	private String isbn;
+}
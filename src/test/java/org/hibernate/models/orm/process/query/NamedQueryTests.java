@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.query;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.AnnotationException;
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.NamedQueryRegistration;
+import org.hibernate.boot.models.categorize.spi.PreparsedNamedQueries;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.process.ManagedResourcesImpl;
+import org.hibernate.models.spi.AnnotationUsage;
+import org.hibernate.models.spi.ClassDetails;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.ParameterMode;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.StoredProcedureParameter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor.processManagedResources;
+
+/**
+ * Tests for collection of named queries and {@value ModelsSettings#PREPARSE_NAMED_QUERIES}
+ */
+public class NamedQueryTests {
+	@Test
+	void testCollection() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Book.class )
+				.addXmlMappings( "mappings/query/named-queries.xml" )
+				.build();
+
+		final CategorizedDomainModel categorizedDomainModel = categorize( managedResources, false );
+		final Map<String, NamedQueryRegistration> namedQueries = categorizedDomainModel.getGlobalRegistrations().getNamedQueryRegistrations();
+		assertThat( namedQueries ).containsOnlyKeys(
+				"Book.byTitle",
+				"Book.byTitleAlias",
+				"Book.nativeAll",
+				"Book.all",
+				"Book.byIsbn",
+				"Book.count",
+				"Book.nativeByIsbn",
+				"Book.findByTitle"
+		);
+
+		assertThat( namedQueries.get( "Book.byTitle" ).getKind() ).isEqualTo( NamedQueryRegistration.Kind.HQL );
+		assertThat( namedQueries.get( "Book.byTitle" ).isJpa() ).isTrue();
+		assertThat( namedQueries.get( "Book.all" ).getKind() ).isEqualTo( NamedQueryRegistration.Kind.HQL );
+		assertThat( namedQueries.get( "Book.all" ).isJpa() ).isFalse();
+		assertThat( namedQueries.get( "Book.nativeAll" ).getKind() ).isEqualTo( NamedQueryRegistration.Kind.NATIVE );
+
+		assertThat( namedQueries.get( "Book.byIsbn" ).getKind() ).isEqualTo( NamedQueryRegistration.Kind.HQL );
+		assertThat( namedQueries.get( "Book.byIsbn" ).getQueryString() ).isEqualTo( "from Book where isbn = :isbn" );
+		assertThat( namedQueries.get( "Book.count" ).getKind() ).isEqualTo( NamedQueryRegistration.Kind.NATIVE );
+
+		// all attributes of the XML definitions are carried over
+		final AnnotationUsage<?> byIsbn = namedQueries.get( "Book.byIsbn" ).getConfiguration();
+		assertThat( byIsbn.<LockModeType>getAttributeValue( "lockMode" ) ).isEqualTo( LockModeType.PESSIMISTIC_READ );
+		assertThat( byIsbn.<List<AnnotationUsage<QueryHint>>>getAttributeValue( "hints" ) )
+				.extracting( (hint) -> hint.<String>getAttributeValue( "name" ) + "=" + hint.<String>getAttributeValue( "value" ) )
+				.containsExactly( "org.hibernate.timeout=10" );
+
+		final AnnotationUsage<?> nativeByIsbn = namedQueries.get( "Book.nativeByIsbn" ).getConfiguration();
+		assertThat( nativeByIsbn.<ClassDetails>getAttributeValue( "resultClass" ).getName() ).isEqualTo( Book.class.getName() );
+		assertThat( nativeByIsbn.<List<AnnotationUsage<QueryHint>>>getAttributeValue( "hints" ) ).hasSize( 1 );
+
+		final NamedQueryRegistration findByTitle = namedQueries.get( "Book.findByTitle" );
+		assertThat( findByTitle.getKind() ).isEqualTo( NamedQueryRegistration.Kind.CALLABLE );
+		assertThat( findByTitle.getConfiguration().<String>getAttributeValue( "procedureName" ) ).isEqualTo( "find_books" );
+		final List<AnnotationUsage<StoredProcedureParameter>> parameters = findByTitle.getConfiguration().getAttributeValue( "parameters" );
+		assertThat( parameters ).hasSize( 1 );
+		assertThat( parameters.get( 0 ).<String>getAttributeValue( "name" ) ).isEqualTo( "title" );
+		assertThat( parameters.get( 0 ).<ParameterMode>getAttributeValue( "mode" ) ).isEqualTo( ParameterMode.IN );
+		assertThat( parameters.get( 0 ).<ClassDetails>getAttributeValue( "type" ).getName() ).isEqualTo( String.class.getName() );
+		assertThat( findByTitle.getConfiguration().<List<ClassDetails>>getAttributeValue( "resultClasses" ) )
+				.extracting( ClassDetails::getName )
+				.containsExactly( Book.class.getName() );
+		assertThat( findByTitle.getConfiguration().<List<AnnotationUsage<QueryHint>>>getAttributeValue( "hints" ) ).hasSize( 1 );
+
+		// not requested
+		assertThat( categorizedDomainModel.getPreparsedNamedQueries() ).isSameAs( PreparsedNamedQueries.NONE );
+	}
+
+	@Test
+	void testPreparsing() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Book.class )
+				.addXmlMappings( "mappings/query/named-queries.xml" )
+				.build();
+
+		final PreparsedNamedQueries preparsedNamedQueries = categorize( managedResources, true ).getPreparsedNamedQueries();
+		assertThat( preparsedNamedQueries.getNumberOfQueries() ).isEqualTo( 4 );
+		assertThat( preparsedNamedQueries.getParseTree( "Book.all" ) ).isNotNull();
+		assertThat( preparsedNamedQueries.getParseTree( "Book.byIsbn" ) ).isNotNull();
+		// the same HQL is only parsed once
+		assertThat( preparsedNamedQueries.getParseTree( "Book.byTitleAlias" ) )
+				.isSameAs( preparsedNamedQueries.getParseTree( "Book.byTitle" ) );
+		// native queries are not parsed
+		assertThat( preparsedNamedQueries.getParseTree( "Book.nativeAll" ) ).isNull();
+	}
+
+	@Test
+	void testXmlOverrides() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Book.class )
+				.addXmlMappings( "mappings/query/named-query-overrides.xml" )
+				.build();
+
+		final Map<String, NamedQueryRegistration> namedQueries = categorize( managedResources, false )
+				.getGlobalRegistrations()
+				.getNamedQueryRegistrations();
+		final NamedQueryRegistration nativeAll = namedQueries.get( "Book.nativeAll" );
+		assertThat( nativeAll.getQueryString() ).isEqualTo( "select * from books order by title" );
+		assertThat( nativeAll.getConfiguration().<String>getAttributeValue( "resultSetMapping" ) ).isEqualTo( "book-mapping" );
+	}
+
+	@Test
+	void testDuplicates() {
+		// the same name in two XML documents
+		final ManagedResources xmlDuplicates = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Book.class )
+				.addXmlMappings( "mappings/query/named-queries.xml" )
+				.addXmlMappings( "mappings/query/named-query-duplicates.xml" )
+				.build();
+		assertThatThrownBy( () -> categorize( xmlDuplicates, false ) )
+				.isInstanceOf( AnnotationException.class )
+				.hasMessageContaining( "Book.byIsbn" );
+
+		// the same name in two annotations
+		final ManagedResources annotationDuplicates = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Book.class, DuplicateQueryEntity.class )
+				.build();
+		assertThatThrownBy( () -> categorize( annotationDuplicates, false ) )
+				.isInstanceOf( AnnotationException.class )
+				.hasMessageContaining( "Book.byTitle" );
+	}
+
+	@Test
+	void testSyntaxErrors() {
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder()
+				.addLoadedClasses( Book.class, BrokenQueryEntity.class )
+				.build();
+
+		// only checked when pre-parsing
+		categorize( managedResources, false );
+
+		assertThatThrownBy( () -> categorize( managedResources, true ) )
+				.isInstanceOf( ModelsException.class )
+				.hasMessageContaining( "BrokenQueryEntity.broken" );
+	}
+
+	private static CategorizedDomainModel categorize(ManagedResources managedResources, boolean preparse) {
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( ModelsSettings.PREPARSE_NAMED_QUERIES, preparse )
+				.build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			return processManagedResources( managedResources, bootstrapContext );
+		}
+	}
+
+	@Entity
+	@NamedQuery(name = "Book.byTitle", query = "from Book b where b.title = :title")
+	public static class DuplicateQueryEntity {
+		@Id
+		private Integer id;
+	}
+
+	@Entity
+	@NamedQuery(name = "BrokenQueryEntity.broken", query = "select from where")
+	public static class BrokenQueryEntity {
+		@Id
+		private Integer id;
+	}
+}
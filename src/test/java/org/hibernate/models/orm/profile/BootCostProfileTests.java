@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.profile;
+
+import java.util.List;
+
+import org.hibernate.boot.models.ModelsSettings;
+import org.hibernate.boot.models.profile.spi.BootCostPhase;
+import org.hibernate.boot.models.profile.spi.BootCostProfile;
+import org.hibernate.models.orm.bind.SimpleEntity;
+import org.hibernate.models.orm.bind.union.UnionRoot;
+import org.hibernate.models.orm.bind.union.UnionSub;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.bind.BindingTestingHelper.checkDomainModel;
+
+/**
+ * Tests for {@linkplain BootCostProfile}
+ */
+public class BootCostProfileTests {
+	@Test
+	@ServiceRegistry( settings = {
+			@Setting( name = ModelsSettings.PROFILE_BOOT_COST, value = "true" ),
+			@Setting( name = ModelsSettings.BOOT_COST_REPORT_SIZE, value = "2" )
+	} )
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testProfile(ServiceRegistryScope scope) {
+		checkDomainModel(
+				(context) -> {
+					final BootCostProfile profile = context.getCategorizedDomainModel().getBootCostProfile();
+					assertThat( profile ).isNotNull();
+					assertThat( profile.getReportSize() ).isEqualTo( 2 );
+
+					final String unionHierarchyName = context.getCategorizedDomainModel()
+							.getEntityHierarchies()
+							.stream()
+							.filter( (hierarchy) -> hierarchy.getRoot().getClassDetails().getName().equals( UnionRoot.class.getName() ) )
+							.findFirst()
+							.orElseThrow()
+							.getRoot()
+							.getEntityName();
+
+					final List<BootCostProfile.TypeCost> typeCosts = profile.getTypeCosts();
+					assertThat( typeCosts ).extracting( BootCostProfile.TypeCost::typeName )
+							.contains( SimpleEntity.class.getName(), UnionRoot.class.getName(), UnionSub.class.getName() );
+					// most expensive first
+					for ( int i = 1; i < typeCosts.size(); i++ ) {
+						assertThat( typeCosts.get( i - 1 ).getTotal().nanos() )
+								.isGreaterThanOrEqualTo( typeCosts.get( i ).getTotal().nanos() );
+					}
+
+					final BootCostProfile.TypeCost subCost = typeCosts.stream()
+							.filter( (typeCost) -> typeCost.typeName().equals( UnionSub.class.getName() ) )
+							.findFirst()
+							.orElseThrow();
+					assertThat( subCost.hierarchyName() ).isEqualTo( unionHierarchyName );
+					assertThat( subCost.getCost( BootCostPhase.CATEGORIZATION ).nanos() ).isPositive();
+					assertThat( subCost.getCost( BootCostPhase.TYPE_BINDING ).nanos() ).isPositive();
+					assertThat( subCost.phases() ).containsKey( BootCostPhase.SECOND_PASSES );
+					// attribute binding is part of type binding
+					assertThat( subCost.getCost( BootCostPhase.ATTRIBUTE_BINDING ).nanos() )
+							.isLessThanOrEqualTo( subCost.getCost( BootCostPhase.TYPE_BINDING ).nanos() );
+
+					final List<BootCostProfile.HierarchyCost> hierarchyCosts = profile.getHierarchyCosts();
+					assertThat( hierarchyCosts ).hasSize( 2 );
+					final BootCostProfile.HierarchyCost unionCost = hierarchyCosts.stream()
+							.filter( (hierarchyCost) -> hierarchyCost.hierarchyName().equals( unionHierarchyName ) )
+							.findFirst()
+							.orElseThrow();
+					assertThat( unionCost.types() ).extracting( BootCostProfile.TypeCost::typeName )
+							.containsExactlyInAnyOrder( UnionRoot.class.getName(), UnionSub.class.getName() );
+					assertThat( unionCost.getTotal().nanos() ).isGreaterThanOrEqualTo( unionCost.categorization().nanos() );
+
+					assertThat( profile.getMostExpensiveTypes( 1 ) ).hasSize( 1 );
+					assertThat( profile.getMostExpensiveHierarchies( 5 ) ).hasSize( 2 );
+
+					final String report = profile.renderReport();
+					assertThat( report ).contains( "Most expensive types (2 of " + typeCosts.size() + ")" );
+					assertThat( report ).contains( typeCosts.get( 0 ).typeName() );
+				},
+				scope.getRegistry(),
+				SimpleEntity.class,
+				UnionRoot.class,
+				UnionSub.class
+		);
+	}
+
+	@Test
+	@ServiceRegistry
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	void testNoProfile(ServiceRegistryScope scope) {
+		checkDomainModel(
+				(context) -> assertThat( context.getCategorizedDomainModel().getBootCostProfile() ).isNull(),
+				scope.getRegistry(),
+				SimpleEntity.class
+		);
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures bytes allocated by the current thread, using
+ * {@linkplain com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}.
+ * <p/>
+ * Budgets are defined, per boot phase and per entity, in {@value #BUDGETS_RESOURCE}.
+ * When the {@value #CALIBRATION_PROPERTY} system property names a budgets file, budgets
+ * are not checked; instead the measured per-entity allocation, plus a
+ * {@value #CALIBRATION_MARGIN_PERCENT}% margin, is written to that file for each phase.
+ * Phases without a budget are skipped until calibrated.
+ */
+public class AllocationTracker {
+	public static final String BUDGETS_RESOURCE = "allocation-budgets.properties";
+	public static final String CALIBRATION_PROPERTY = "hibernate.models.test.allocation.calibrate";
+	public static final int CALIBRATION_MARGIN_PERCENT = 25;
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+	private static com.sun.management.ThreadMXBean resolveThreadMXBean() {
+		if ( ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+				&& threadMXBean.isThreadAllocatedMemorySupported() ) {
+			if ( !threadMXBean.isThreadAllocatedMemoryEnabled() ) {
+				threadMXBean.setThreadAllocatedMemoryEnabled( true );
+			}
+			return threadMXBean;
+		}
+		return null;
+	}
+
+	/**
+	 * Whether the JVM supports measuring per-thread allocations
+	 */
+	public static boolean isSupported() {
+		return THREAD_MX_BEAN != null;
+	}
+
+	/**
+	 * Measures the bytes allocated by the work produced by {@code setup}, which is
+	 * itself not measured.  The work is run {@code iterations} times (the first being
+	 * a warm-up, absorbing class-loading and one-time initialization) and the smallest
+	 * measurement is returned.
+	 */
+	public static long measure(int iterations, Supplier<Runnable> setup) {
+		assert isSupported();
+		assert iterations > 1;
+
+		long minimum = Long.MAX_VALUE;
+		for ( int i = 0; i < iterations; i++ ) {
+			final Runnable work = setup.get();
+
+			final long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+			work.run();
+			final long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - before;
+
+			if ( i > 0 ) {
+				minimum = Math.min( minimum, allocated );
+			}
+		}
+		return minimum;
+	}
+
+	/**
+	 * Asserts that the bytes allocated by a phase stay within its checked-in per-entity budget,
+	 * aborting (skipping) the calling test if the phase has not been calibrated
+	 */
+	public static void assertWithinBudget(String phase, int entityCount, long allocatedBytes) {
+		final String calibrationFile = System.getProperty( CALIBRATION_PROPERTY );
+		if ( calibrationFile != null ) {
+			calibrate( Path.of( calibrationFile ), phase, entityCount, allocatedBytes );
+			return;
+		}
+
+		final Long perEntityBudget = loadBudgets().getPerEntityBudget( phase );
+		assumeTrue(
+				perEntityBudget != null,
+				"No allocation budget calibrated for phase `" + phase + "` - see " + BUDGETS_RESOURCE
+		);
+
+		final long budget = perEntityBudget * entityCount;
+		assertThat( allocatedBytes )
+				.as( "Bytes allocated during `%s` for %s entities (budget %s)", phase, entityCount, budget )
+				.isLessThanOrEqualTo( budget );
+	}
+
+	/**
+	 * Replaces the budget of {@code phase} in {@code budgetsFile} with the measured per-entity allocation plus
+	 * the {@value #CALIBRATION_MARGIN_PERCENT}% margin, leaving the rest of the file (comments included) as-is
+	 */
+	private static synchronized void calibrate(Path budgetsFile, String phase, int entityCount, long allocatedBytes) {
+		final long perEntity = ( allocatedBytes + entityCount - 1 ) / entityCount;
+		final long budget = perEntity + perEntity * CALIBRATION_MARGIN_PERCENT / 100;
+		try {
+			final List<String> lines = new ArrayList<>( Files.readAllLines( budgetsFile, StandardCharsets.UTF_8 ) );
+			boolean replaced = false;
+			for ( int i = 0; i < lines.size(); i++ ) {
+				if ( lines.get( i ).startsWith( phase + "=" ) ) {
+					lines.set( i, phase + "=" + budget );
+					replaced = true;
+				}
+			}
+			if ( !replaced ) {
+				lines.add( phase + "=" + budget );
+			}
+			Files.write( budgetsFile, lines, StandardCharsets.UTF_8 );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Could not calibrate " + budgetsFile, e );
+		}
+	}
+
+	private static Budgets budgets;
+
+	private static synchronized Budgets loadBudgets() {
+		if ( budgets == null ) {
+			final Properties properties = new Properties();
+			try (InputStream stream = AllocationTracker.class.getClassLoader().getResourceAsStream( BUDGETS_RESOURCE )) {
+				if ( stream == null ) {
+					throw new IllegalStateException( "Could not locate " + BUDGETS_RESOURCE );
+				}
+				properties.load( stream );
+			}
+			catch (IOException e) {
+				throw new IllegalStateException( "Could not read " + BUDGETS_RESOURCE, e );
+			}
+			budgets = new Budgets( properties );
+		}
+		return budgets;
+	}
+
+	private record Budgets(Properties properties) {
+		Long getPerEntityBudget(String phase) {
+			final String value = properties.getProperty( phase );
+			return value == null ? null : Long.parseLong( value.trim() );
+		}
+	}
+}
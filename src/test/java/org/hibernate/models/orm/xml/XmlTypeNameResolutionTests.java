@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.xml;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.hibernate.boot.models.categorize.xml.internal.XmlAnnotationHelper;
+import org.hibernate.models.ModelsException;
+import org.hibernate.type.SqlTypes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class XmlTypeNameResolutionTests {
+	@Test
+	void testJavaTypeNames() {
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( null ) ).isEqualTo( Object.class.getName() );
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "" ) ).isEqualTo( Object.class.getName() );
+
+		// primitives are matched exactly
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "int" ) ).isEqualTo( "int" );
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "boolean" ) ).isEqualTo( "boolean" );
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "BOOLEAN" ) ).isEqualTo( Boolean.class.getName() );
+
+		// aliases are case-insensitive
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "integer" ) ).isEqualTo( Integer.class.getName() );
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "String" ) ).isEqualTo( String.class.getName() );
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "bigdecimal" ) ).isEqualTo( BigDecimal.class.getName() );
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "uuid" ) ).isEqualTo( UUID.class.getName() );
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "UUID" ) ).isEqualTo( UUID.class.getName() );
+
+		// anything else is taken as a class name
+		assertThat( XmlAnnotationHelper.resolveJavaTypeName( "com.acme.Thing" ) ).isEqualTo( "com.acme.Thing" );
+	}
+
+	@Test
+	void testJdbcTypeNames() {
+		assertThat( XmlAnnotationHelper.resolveJdbcTypeName( "VARCHAR" ) ).isEqualTo( SqlTypes.VARCHAR );
+		assertThat( XmlAnnotationHelper.resolveJdbcTypeName( "varchar" ) ).isEqualTo( SqlTypes.VARCHAR );
+		assertThat( XmlAnnotationHelper.resolveJdbcTypeName( "Uuid" ) ).isEqualTo( SqlTypes.UUID );
+
+		assertThatThrownBy( () -> XmlAnnotationHelper.resolveJdbcTypeName( "not_a_type" ) )
+				.isInstanceOf( ModelsException.class );
+	}
+}
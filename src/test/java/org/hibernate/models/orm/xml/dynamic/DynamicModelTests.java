@@ -6,8 +6,12 @@
  */
 package org.hibernate.models.orm.xml.dynamic;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Set;
 
+import org.hibernate.annotations.AttributeAccessor;
 import org.hibernate.annotations.JavaType;
 import org.hibernate.boot.internal.BootstrapContextImpl;
 import org.hibernate.boot.internal.MetadataBuilderImpl;
@@ -16,18 +20,28 @@ import org.hibernate.boot.model.process.spi.ManagedResources;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.models.orm.process.ManagedResourcesImpl;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.BasicKeyMapping;
+import org.hibernate.boot.models.categorize.spi.CategorizationListener;
 import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.DynamicEntityRegistrations;
+import org.hibernate.boot.models.categorize.spi.DynamicEntityTemplate;
 import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
 import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
+import org.hibernate.models.ModelsException;
 import org.hibernate.models.spi.AnnotationUsage;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
 
 import org.junit.jupiter.api.Test;
 
+import jakarta.persistence.Entity;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hibernate.boot.models.categorize.spi.ManagedResourcesProcessor.processManagedResources;
 
 /**
@@ -130,4 +144,82 @@ public class DynamicModelTests {
 								.getName() ).isEqualTo( EmployeePK.class.getName() );
 		}
 	}
+
+	@Test
+	void testBulkDynamicModel() {
+		final int entityCount = 10_000;
+		final DynamicEntityTemplate template = DynamicEntityTemplate.builder()
+				.id( "id", Integer.class )
+				.basic( "name", String.class )
+				.basic( "quantity", int.class )
+				.build();
+		final DynamicEntityRegistrations registrations = new DynamicEntityRegistrations( entityCount );
+		for ( int i = 0; i < entityCount; i++ ) {
+			registrations.register( "TenantEntity" + i, template );
+		}
+
+		final ManagedResources managedResources = new ManagedResourcesImpl.Builder().build();
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			final CategorizedDomainModel categorizedDomainModel = processManagedResources(
+					managedResources,
+					bootstrapContext,
+					registrations,
+					new CategorizationListener() {
+					}
+			);
+
+			assertThat( categorizedDomainModel.getEntityHierarchies() ).hasSize( entityCount );
+
+			final Set<String> entityNames = new HashSet<>();
+			final Set<MemberDetails> members = Collections.newSetFromMap( new IdentityHashMap<>() );
+			for ( EntityHierarchy hierarchy : categorizedDomainModel.getEntityHierarchies() ) {
+				final EntityTypeMetadata rootEntity = hierarchy.getRoot();
+				final ClassDetails classDetails = rootEntity.getClassDetails();
+				assertThat( classDetails.getClassName() ).isNull();
+				assertThat( classDetails.getName() ).startsWith( "TenantEntity" );
+
+				// each entity has its own name and so, without @Table, its own (implicitly named) table
+				assertThat( rootEntity.getEntityName() ).isEqualTo( classDetails.getName() );
+				assertThat( classDetails.getAnnotationUsage( Entity.class ).getString( "name" ) ).isEqualTo( classDetails.getName() );
+				assertThat( classDetails.getAnnotationUsage( Table.class ) ).isNull();
+				assertThat( entityNames.add( rootEntity.getEntityName() ) ).isTrue();
+
+				// each entity has its own members, even though their types are resolved once per template
+				assertThat( rootEntity.getAttributes() )
+						.extracting( AttributeMetadata::getName )
+						.containsExactlyInAnyOrder( "id", "name", "quantity" );
+				rootEntity.forEachAttribute( (index, attribute) -> {
+					assertThat( attribute.getMember() ).isSameAs( classDetails.findFieldByName( attribute.getName() ) );
+					assertThat( members.add( attribute.getMember() ) ).isTrue();
+					assertThat( attribute.getMember().getAnnotationUsage( AttributeAccessor.class ) ).isNotNull();
+				} );
+				assertThat( hierarchy.getIdMapping() ).isInstanceOf( BasicKeyMapping.class );
+				assertThat( ( (BasicKeyMapping) hierarchy.getIdMapping() ).getAttributeName() ).isEqualTo( "id" );
+
+				final FieldDetails idField = classDetails.findFieldByName( "id" );
+				assertThat( idField.getType().getClassName() ).isEqualTo( Integer.class.getName() );
+
+				final FieldDetails nameField = classDetails.findFieldByName( "name" );
+				assertThat( nameField.getType().getClassName() ).isEqualTo( String.class.getName() );
+
+				final FieldDetails qtyField = classDetails.findFieldByName( "quantity" );
+				assertThat( qtyField.getType().getClassName() ).isEqualTo( int.class.getName() );
+			}
+			assertThat( entityNames ).hasSize( entityCount );
+			assertThat( members ).hasSize( 3 * entityCount );
+		}
+	}
+
+	@Test
+	void testDuplicateDynamicRegistration() {
+		final DynamicEntityTemplate template = DynamicEntityTemplate.builder().id( "id", Integer.class ).build();
+		final DynamicEntityRegistrations registrations = new DynamicEntityRegistrations();
+		registrations.register( "TenantEntity", template );
+		assertThatThrownBy( () -> registrations.register( "TenantEntity", template ) ).isInstanceOf( ModelsException.class );
+		assertThatThrownBy( () -> DynamicEntityTemplate.builder().basic( "name", String.class ).build() ).isInstanceOf( ModelsException.class );
+	}
 }